@@ -18,92 +18,190 @@
 
 package boofcv.alg.descriptor;
 
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.PackedTupleArray_B64;
 import boofcv.struct.feature.TupleDesc_B;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Compares different ways to compute the Hamming distance. Most benchmarks compute the pairwise distance between
+ * the i-th descriptors in the two sets. The "oneToMany" benchmarks compute the distance between the first
+ * descriptor in set A and every descriptor in set B, writing the scores into an array, which is how the distances
+ * are used by association.
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkDescriptorDistance {
 
-	static final long TEST_TIME = 1000;
-	static Random rand = new Random(234234);
-	static int NUM_FEATURES = 5000;
+	@Param({"256","512"})
+	int numBits;
+
+	int NUM_FEATURES = 5000;
+
+	Random rand = new Random(234234);
+
+	List<TupleDesc_B> binaryA = new ArrayList<>();
+	List<TupleDesc_B> binaryB = new ArrayList<>();
+
+	PackedTupleArray_B packedA32, packedB32;
+	PackedTupleArray_B64 packedA64, packedB64;
+
+	HammingTable16 table = new HammingTable16();
 
-	static List<TupleDesc_B>  binaryA = new ArrayList<>();
-	static List<TupleDesc_B>  binaryB = new ArrayList<>();
+	double[] scores = new double[NUM_FEATURES];
 
-	static {
+	@Setup
+	public void setup() {
+		binaryA.clear();
+		binaryB.clear();
+		packedA32 = new PackedTupleArray_B(numBits);
+		packedB32 = new PackedTupleArray_B(numBits);
+		packedA64 = new PackedTupleArray_B64(numBits);
+		packedB64 = new PackedTupleArray_B64(numBits);
 		for (int i = 0; i < NUM_FEATURES; i++) {
-			binaryA.add(randomFeature());
-			binaryB.add(randomFeature());
+			TupleDesc_B a = randomFeature();
+			TupleDesc_B b = randomFeature();
+			binaryA.add(a);
+			binaryB.add(b);
+			packedA32.append(a);
+			packedB32.append(b);
+			packedA64.append(a);
+			packedB64.append(b);
 		}
 	}
 
-	public static class HammingTable extends PerformerBase {
+	@Benchmark
+	public int table() {
+		int total = 0;
+		for (int i = 0; i < binaryA.size(); i++) {
+			total += tableScore(binaryA.get(i),binaryB.get(i));
+		}
+		return total;
+	}
 
-		HammingTable16 table = new HammingTable16();
+	private int tableScore(TupleDesc_B a, TupleDesc_B b) {
+		int score = 0;
 
-		@Override
-		public void process() {
-			for (int i = 0; i < binaryA.size(); i++) {
-				tableScore(binaryA.get(i),binaryB.get(i));
-			}
+		for( int i = 0; i < a.data.length; i++ ) {
+			int dataA = a.data[i];
+			int dataB = b.data[i];
+
+			score += table.lookup( (short)dataA , (short)dataB );
+			score += table.lookup( (short)(dataA >> 16) , (short)(dataB >> 16) );
 		}
 
-		private int tableScore(TupleDesc_B a, TupleDesc_B b) {
-			int score = 0;
+		return score;
+	}
 
-			for( int i = 0; i < a.data.length; i++ ) {
-				int dataA = a.data[i];
-				int dataB = b.data[i];
+	@Benchmark
+	public int equationOld() {
+		int total = 0;
+		for (int i = 0; i < binaryA.size(); i++) {
+			total += ExperimentalDescriptorDistance.hamming(binaryA.get(i),binaryB.get(i));
+		}
+		return total;
+	}
 
-				score += table.lookup( (short)dataA , (short)dataB );
-				score += table.lookup( (short)(dataA >> 16) , (short)(dataB >> 16) );
+	/**
+	 * The previous implementation which used bit twiddling to count the bits in each int
+	 */
+	@Benchmark
+	public int swar32() {
+		int total = 0;
+		for (int i = 0; i < binaryA.size(); i++) {
+			int[] a = binaryA.get(i).data;
+			int[] b = binaryB.get(i).data;
+			for (int j = 0; j < a.length; j++) {
+				total += DescriptorDistance.hamming(a[j] ^ b[j]);
 			}
+		}
+		return total;
+	}
 
-			return score;
+	@Benchmark
+	public int bitCount32() {
+		int total = 0;
+		for (int i = 0; i < binaryA.size(); i++) {
+			total += DescriptorDistance.hamming(binaryA.get(i),binaryB.get(i));
 		}
+		return total;
 	}
 
-	public static class HammingEquationOld extends PerformerBase {
-		@Override
-		public void process() {
-			for (int i = 0; i < binaryA.size(); i++) {
-				ExperimentalDescriptorDistance.hamming(binaryA.get(i),binaryB.get(i));
-			}
+	@Benchmark
+	public int packed32() {
+		int total = 0;
+		for (int i = 0; i < packedA32.size(); i++) {
+			total += DescriptorDistance.hamming(packedA32.data,packedA32.offset(i),
+					packedB32.data,packedB32.offset(i),packedA32.numInts);
 		}
+		return total;
 	}
 
-	public static class HammingEquation extends PerformerBase {
-		@Override
-		public void process() {
-			for (int i = 0; i < binaryA.size(); i++) {
-				DescriptorDistance.hamming(binaryA.get(i),binaryB.get(i));
+	@Benchmark
+	public int packed64() {
+		int total = 0;
+		for (int i = 0; i < packedA64.size(); i++) {
+			total += DescriptorDistance.hamming(packedA64.data,packedA64.offset(i),
+					packedB64.data,packedB64.offset(i),packedA64.numLongs);
+		}
+		return total;
+	}
+
+	/**
+	 * Baseline for {@link #packed64_oneToMany()}. Same work and memory layout but using the previous
+	 * bit twiddling approach on packed ints.
+	 */
+	@Benchmark
+	public double[] swar32_oneToMany() {
+		int numInts = packedA32.numInts;
+		int[] a = packedA32.data;
+		int[] b = packedB32.data;
+		for (int i = 0; i < packedB32.size(); i++) {
+			int indexB = packedB32.offset(i);
+			int total = 0;
+			for (int j = 0; j < numInts; j++) {
+				total += DescriptorDistance.hamming(a[j] ^ b[indexB+j]);
 			}
+			scores[i] = total;
 		}
+		return scores;
+	}
+
+	@Benchmark
+	public double[] packed64_oneToMany() {
+		DescriptorDistance.hamming(packedA64.data,0,packedB64.data,0,packedA64.numLongs,
+				packedB64.size(),scores,0);
+		return scores;
 	}
 
-	private static TupleDesc_B randomFeature() {
-		TupleDesc_B feat = new TupleDesc_B(512);
+	private TupleDesc_B randomFeature() {
+		TupleDesc_B feat = new TupleDesc_B(numBits);
 		for (int j = 0; j < feat.data.length; j++) {
 			feat.data[j] = rand.nextInt();
 		}
 		return feat;
 	}
 
-	public static void main(String[] args) {
-		System.out.println("Larger numbers are better");
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkDescriptorDistance.class.getSimpleName())
+				.build();
 
-		ProfileOperation.printOpsPerSec(new HammingTable(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HammingEquationOld(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HammingEquation(),TEST_TIME);
+		new Runner(opt).run();
 	}
-
-
 }
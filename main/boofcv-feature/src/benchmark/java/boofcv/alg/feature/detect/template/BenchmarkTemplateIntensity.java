@@ -75,6 +75,46 @@ public class BenchmarkTemplateIntensity<T extends ImageGray<T>> {
 		}
 	}
 
+	public class FftPerformer implements Performer {
+
+		TemplateMatchingIntensity<GrayF32> alg;
+		String name;
+
+		public FftPerformer(TemplateScoreType type) {
+			this.alg = FactoryTemplateMatching.createIntensityFFT(type);
+			this.name = "FFT "+type.toString();
+		}
+
+		@Override
+		public void process() {
+			alg.setInputImage((GrayF32)image);
+			alg.process((GrayF32)template);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Compares direct and FFT computation for templates of different sizes. Used to select
+	 * {@link FactoryTemplateMatching#FFT_RELATIVE_COST}
+	 */
+	public void evaluateFFT() {
+		System.out.println("=========  Direct vs FFT " + width + " x " + height + " ==========");
+		for( int size : new int[]{5,10,20,40,80} ) {
+			template = GeneralizedImageOps.createSingleBand(imageType,size,size);
+			GImageMiscOps.fillUniform(template, rand, 0, 200);
+			for( TemplateScoreType type : new TemplateScoreType[]{TemplateScoreType.SUM_DIFF_SQ,TemplateScoreType.NCC}) {
+				System.out.println("template "+size+" x "+size+" FFT selected = "+
+						FactoryTemplateMatching.isFftFaster(type,size*size,width*height));
+				ProfileOperation.printOpsPerSec(new TemplatePerformer(type), TEST_TIME);
+				ProfileOperation.printOpsPerSec(new FftPerformer(type), TEST_TIME);
+			}
+		}
+	}
+
 	public void evaluateAll() {
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ========== "+imageType.getSimpleName());
 		System.out.println();
@@ -93,5 +133,6 @@ public class BenchmarkTemplateIntensity<T extends ImageGray<T>> {
 				benchmark_F32 = new BenchmarkTemplateIntensity<>(GrayF32.class);
 
 		benchmark_F32.evaluateAll();
+		benchmark_F32.evaluateFFT();
 	}
 }
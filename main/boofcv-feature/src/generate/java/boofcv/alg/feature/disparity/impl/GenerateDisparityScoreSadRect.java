@@ -32,6 +32,7 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 	String dataAbr;
 	String bitWise;
 	String sumType;
+	boolean isFloat;
 
 	@Override
 	public void generate() throws FileNotFoundException {
@@ -45,6 +46,7 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 		typeInput = image.getSingleBandName();
 		bitWise = image.getBitWise();
 		sumType = image.getSumType();
+		isFloat = !image.isInteger();
 
 		dataAbr = image.isInteger() ? "S32" : "F32";
 
@@ -53,6 +55,8 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 		printProcess();
 		printComputeFirstRow();
 		printComputeRemainingRows();
+		if( isFloat )
+			printSumVertical();
 		printTheRest();
 
 		out.println("}");
@@ -93,6 +97,12 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t// summed scores along vertical axis\n" +
 				"\t// This is simply the sum of like elements in horizontal score\n" +
 				"\t"+sumType+" verticalScore[];\n\n");
+		if( isFloat ) {
+			out.print("\t// The vertical score is summed from scratch at the first row of each block instead of being updated.\n" +
+					"\t// This prevents round off error from accumulating and makes the output independent of how the\n" +
+					"\t// concurrent implementation splits up the rows\n" +
+					"\tpublic static final int ROW_BLOCK = 32;\n\n");
+		}
 	}
 
 	private void printConstructor() {
@@ -138,21 +148,29 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\t// compute score for the top possible row\n" +
-				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
-				"\t\t\t"+sumType+" sum = 0;\n" +
-				"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
-				"\t\t\t\tsum += horizontalScore[row][i];\n" +
-				"\t\t\t}\n" +
-				"\t\t\tverticalScore[i] = sum;\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t\t// compute score for the top possible row\n");
+		if( isFloat ) {
+			out.print("\t\tsumVertical(horizontalScore, radiusY, verticalScore);\n");
+		} else {
+			out.print("\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t"+sumType+" sum = 0;\n" +
+					"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
+					"\t\t\t\tsum += horizontalScore[row][i];\n" +
+					"\t\t\t}\n" +
+					"\t\t\tverticalScore[i] = sum;\n" +
+					"\t\t}\n");
+		}
+		out.print("\n" +
 				"\t\t// compute disparity\n" +
 				"\t\tcomputeDisparity.process(radiusY, verticalScore);\n" +
 				"\t}\n\n");
 	}
 
 	private void printComputeRemainingRows() {
+		if( isFloat ) {
+			printComputeRemainingRowsBlocks();
+			return;
+		}
 		out.print("\t/**\n" +
 				"\t * Using previously computed results it efficiently finds the disparity in the remaining rows.\n" +
 				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
@@ -183,6 +201,59 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printComputeRemainingRowsBlocks() {
+		out.print("\t/**\n" +
+				"\t * Using previously computed results it efficiently finds the disparity in the remaining rows.\n" +
+				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
+				"\t * added.\n" +
+				"\t */\n" +
+				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right )\n" +
+				"\t{\n" +
+				"\t\tfor( int row = regionHeight; row < left.height; row++ ) {\n" +
+				"\t\t\tint oldRow = row%regionHeight;\n" +
+				"\t\t\tint center = row - regionHeight + 1 + radiusY;\n" +
+				"\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
+				"\n" +
+				"\t\t\tif( (center-radiusY) % ROW_BLOCK == 0 ) {\n" +
+				"\t\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+				"\t\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\t\t\t\tsumVertical(horizontalScore, center, verticalScore);\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\t// subtract first row from vertical score\n" +
+				"\t\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t\t\tverticalScore[i] -= scores[i];\n" +
+				"\t\t\t\t}\n" +
+				"\n" +
+				"\t\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+				"\t\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\n" +
+				"\t\t\t\t// add the new score\n" +
+				"\t\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t\t\tverticalScore[i] += scores[i];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\t// compute disparity\n" +
+				"\t\t\tcomputeDisparity.process(center, verticalScore);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printSumVertical() {
+		out.print("\t/**\n" +
+				"\t * Sums the horizontal scores of every row in the region centered at 'center', from top to bottom\n" +
+				"\t */\n" +
+				"\tprotected void sumVertical( "+sumType+" horizontalScore[][] , int center , "+sumType+" verticalScore[] ) {\n" +
+				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t"+sumType+" sum = 0;\n" +
+				"\t\t\tfor( int row = center-radiusY; row <= center+radiusY; row++ ) {\n" +
+				"\t\t\t\tsum += horizontalScore[row%regionHeight][i];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tverticalScore[i] = sum;\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printTheRest() {
 		out.print("\t@Override\n" +
 				"\tpublic Class<"+typeInput+"> getInputType() {\n" +
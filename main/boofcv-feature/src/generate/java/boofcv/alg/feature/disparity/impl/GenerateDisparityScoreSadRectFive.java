@@ -32,6 +32,7 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 	String dataAbr;
 	String bitWise;
 	String sumType;
+	boolean isFloat;
 
 	@Override
 	public void generate() throws FileNotFoundException {
@@ -45,6 +46,7 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 		typeInput = image.getSingleBandName();
 		bitWise = image.getBitWise();
 		sumType = image.getSumType();
+		isFloat = !image.isInteger();
 
 		dataAbr = image.isInteger() ? "S32" : "F32";
 
@@ -52,6 +54,8 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 		printProcess();
 		printFirstRow();
 		printComputeRemainingRows();
+		if( isFloat )
+			printSumVertical();
 		printScoreFive();
 		printTheRest();
 
@@ -95,8 +99,14 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\tint activeVerticalScore;\n" +
 				"\t// Where the final score it stored that has been computed from five regions\n" +
 				"\t"+sumType+" fiveScore[];\n" +
-				"\n" +
-				"\tpublic "+className+"(int minDisparity, int maxDisparity,\n" +
+				"\n");
+		if( isFloat ) {
+			out.print("\t// The vertical score is summed from scratch at the first row of each block instead of being updated.\n" +
+					"\t// See ImplDisparityScoreSadRect_F32.ROW_BLOCK\n" +
+					"\tpublic static final int ROW_BLOCK = ImplDisparityScoreSadRect_F32.ROW_BLOCK;\n" +
+					"\n");
+		}
+		out.print("\tpublic "+className+"(int minDisparity, int maxDisparity,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\tint regionRadiusX, int regionRadiusY,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\tDisparitySelect<"+sumType+"[], Disparity> computeDisparity) {\n" +
 				"\t\tsuper(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);\n" +
@@ -141,15 +151,19 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t\t\t\tminDisparity, maxDisparity, regionWidth, elementScore);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\t// compute score for the top possible row\n" +
-				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
-				"\t\t\t"+sumType+" sum = 0;\n" +
-				"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
-				"\t\t\t\tsum += horizontalScore[row][i];\n" +
-				"\t\t\t}\n" +
-				"\t\t\tfirstRow[i] = sum;\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t// compute score for the top possible row\n");
+		if( isFloat ) {
+			out.print("\t\tsumVertical(horizontalScore, radiusY, firstRow);\n");
+		} else {
+			out.print("\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t"+sumType+" sum = 0;\n" +
+					"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
+					"\t\t\t\tsum += horizontalScore[row][i];\n" +
+					"\t\t\t}\n" +
+					"\t\t\tfirstRow[i] = sum;\n" +
+					"\t\t}\n");
+		}
+		out.print("\t}\n\n");
 	}
 
 	private void printComputeRemainingRows() {
@@ -164,21 +178,44 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t\tint oldRow = row%regionHeight;\n" +
 				"\t\t\t"+sumType+" previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];\n" +
 				"\t\t\t"+sumType+" active[] = verticalScore[ activeVerticalScore % regionHeight ];\n" +
-				"\n" +
-				"\t\t\t// subtract first row from vertical score\n" +
-				"\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
-				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
-				"\t\t\t\tactive[i] = previous[i] - scores[i];\n" +
-				"\t\t\t}\n" +
-				"\n" +
-				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
-				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
-				"\n" +
-				"\t\t\t// add the new score\n" +
-				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
-				"\t\t\t\tactive[i] += scores[i];\n" +
-				"\t\t\t}\n" +
-				"\n" +
+				"\n");
+		if( isFloat ) {
+			out.print("\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
+					"\n" +
+					"\t\t\tif( activeVerticalScore % ROW_BLOCK == 0 ) {\n" +
+					"\t\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+					"\t\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+					"\t\t\t\tsumVertical(horizontalScore, activeVerticalScore+radiusY, active);\n" +
+					"\t\t\t} else {\n" +
+					"\t\t\t\t// subtract first row from vertical score\n" +
+					"\t\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t\t\tactive[i] = previous[i] - scores[i];\n" +
+					"\t\t\t\t}\n" +
+					"\n" +
+					"\t\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+					"\t\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+					"\n" +
+					"\t\t\t\t// add the new score\n" +
+					"\t\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t\t\tactive[i] += scores[i];\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n");
+		} else {
+			out.print("\t\t\t// subtract first row from vertical score\n" +
+					"\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
+					"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t\tactive[i] = previous[i] - scores[i];\n" +
+					"\t\t\t}\n" +
+					"\n" +
+					"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+					"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+					"\n" +
+					"\t\t\t// add the new score\n" +
+					"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+					"\t\t\t\tactive[i] += scores[i];\n" +
+					"\t\t\t}\n");
+		}
+		out.print("\n" +
 				"\t\t\tif( activeVerticalScore >= regionHeight-1 ) {\n" +
 				"\t\t\t\t"+sumType+" top[] = verticalScore[ (activeVerticalScore -2*radiusY) % regionHeight ];\n" +
 				"\t\t\t\t"+sumType+" middle[] = verticalScore[ (activeVerticalScore -radiusY) % regionHeight ];\n" +
@@ -191,6 +228,21 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printSumVertical() {
+		out.print("\t/**\n" +
+				"\t * Sums the horizontal scores of every row in the region centered at 'center', from top to bottom\n" +
+				"\t */\n" +
+				"\tprotected void sumVertical( "+sumType+" horizontalScore[][] , int center , "+sumType+" verticalScore[] ) {\n" +
+				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t"+sumType+" sum = 0;\n" +
+				"\t\t\tfor( int row = center-radiusY; row <= center+radiusY; row++ ) {\n" +
+				"\t\t\t\tsum += horizontalScore[row%regionHeight][i];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tverticalScore[i] = sum;\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printScoreFive() {
 		out.print("\t/**\n" +
 				"\t * Compute the final score by sampling the 5 regions.  Four regions are sampled around the center\n" +
@@ -20,21 +20,56 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.PackedTupleArray_B64;
 import boofcv.struct.feature.TupleDesc_B;
 
 /**
  * Score association between two BRIEF features.  Scoring is done using the Hamming distance.
- * Hamming distance is the number of bits in the descriptor which do not have the same value.
+ * Hamming distance is the number of bits in the descriptor which do not have the same value. Packed
+ * descriptors can be stored in either a {@link PackedTupleArray_B} or the faster {@link PackedTupleArray_B64}.
  *
  * @author Peter Abeles
  */
-public class ScoreAssociateHamming_B implements ScoreAssociation<TupleDesc_B>{
+public class ScoreAssociateHamming_B implements ScoreAssociationPacked<TupleDesc_B>{
 
 	@Override
 	public double score(TupleDesc_B a, TupleDesc_B b) {
 		return DescriptorDistance.hamming(a,b);
 	}
 
+	@Override
+	public double score(PackedTupleArray<TupleDesc_B> a, int indexA, PackedTupleArray<TupleDesc_B> b, int indexB) {
+		if( a instanceof PackedTupleArray_B64 ) {
+			PackedTupleArray_B64 pa = (PackedTupleArray_B64)a;
+			PackedTupleArray_B64 pb = (PackedTupleArray_B64)b;
+			return DescriptorDistance.hamming(pa.data,pa.offset(indexA),pb.data,pb.offset(indexB),pa.numLongs);
+		} else {
+			PackedTupleArray_B pa = (PackedTupleArray_B)a;
+			PackedTupleArray_B pb = (PackedTupleArray_B)b;
+			return DescriptorDistance.hamming(pa.data,pa.offset(indexA),pb.data,pb.offset(indexB),pa.numInts);
+		}
+	}
+
+	@Override
+	public void scoreAll(PackedTupleArray<TupleDesc_B> a, int indexA, PackedTupleArray<TupleDesc_B> b,
+						 double[] scores, int offsetScores) {
+		if( a instanceof PackedTupleArray_B64 ) {
+			PackedTupleArray_B64 pa = (PackedTupleArray_B64)a;
+			PackedTupleArray_B64 pb = (PackedTupleArray_B64)b;
+			DescriptorDistance.hamming(pa.data,pa.offset(indexA),pb.data,0,pa.numLongs,pb.numElements,
+					scores,offsetScores);
+		} else {
+			PackedTupleArray_B pa = (PackedTupleArray_B)a;
+			PackedTupleArray_B pb = (PackedTupleArray_B)b;
+			final int offsetA = pa.offset(indexA);
+			for (int i = 0; i < pb.numElements; i++) {
+				scores[offsetScores+i] = DescriptorDistance.hamming(pa.data,offsetA,pb.data,pb.offset(i),pa.numInts);
+			}
+		}
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
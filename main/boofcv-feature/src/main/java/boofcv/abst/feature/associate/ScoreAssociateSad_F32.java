@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F32;
 import boofcv.struct.feature.TupleDesc_F32;
 
 /**
@@ -27,13 +29,31 @@ import boofcv.struct.feature.TupleDesc_F32;
  *
  * @author Peter Abeles
  */
-public class ScoreAssociateSad_F32 implements ScoreAssociation<TupleDesc_F32>{
+public class ScoreAssociateSad_F32 implements ScoreAssociationPacked<TupleDesc_F32>{
 	@Override
 	public double score(TupleDesc_F32 a, TupleDesc_F32 b) {
 
 		return DescriptorDistance.sad(a, b);
 	}
 
+	@Override
+	public double score(PackedTupleArray<TupleDesc_F32> a, int indexA, PackedTupleArray<TupleDesc_F32> b, int indexB) {
+		PackedTupleArray_F32 pa = (PackedTupleArray_F32)a;
+		PackedTupleArray_F32 pb = (PackedTupleArray_F32)b;
+		return DescriptorDistance.sad(pa.data,pa.offset(indexA),pb.data,pb.offset(indexB),pa.dof);
+	}
+
+	@Override
+	public void scoreAll(PackedTupleArray<TupleDesc_F32> a, int indexA, PackedTupleArray<TupleDesc_F32> b,
+						 double[] scores, int offsetScores) {
+		PackedTupleArray_F32 pa = (PackedTupleArray_F32)a;
+		PackedTupleArray_F32 pb = (PackedTupleArray_F32)b;
+		final int offsetA = pa.offset(indexA);
+		for (int i = 0; i < pb.numElements; i++) {
+			scores[offsetScores+i] = DescriptorDistance.sad(pa.data,offsetA,pb.data,pb.offset(i),pa.dof);
+		}
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
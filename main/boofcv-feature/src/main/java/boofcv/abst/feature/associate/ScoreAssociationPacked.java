@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.struct.feature.PackedTupleArray;
+
+/**
+ * Extension of {@link ScoreAssociation} which can also score descriptors while they are inside of a
+ * {@link PackedTupleArray}, without copying them out first.
+ *
+ * @param <Desc> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public interface ScoreAssociationPacked<Desc> extends ScoreAssociation<Desc> {
+
+	/**
+	 * Compute the fit score between two features inside of packed arrays.  A better fit score will have a lower value.
+	 *
+	 * @param a Array containing the first feature
+	 * @param indexA Index of the first feature
+	 * @param b Array containing the second feature
+	 * @param indexB Index of the second feature
+	 * @return Quality of fit score.  Lower is better.
+	 */
+	double score( PackedTupleArray<Desc> a , int indexA , PackedTupleArray<Desc> b , int indexB );
+
+	/**
+	 * Computes the fit score between one feature and every feature in 'b'. Equivalent to calling
+	 * {@link #score(PackedTupleArray, int, PackedTupleArray, int)} for each feature in 'b', but allows
+	 * the query to be loaded once and the features in 'b' to be traversed in order.
+	 *
+	 * @param a Array containing the first feature
+	 * @param indexA Index of the first feature
+	 * @param b Array containing all the features it's compared against
+	 * @param scores (Output) Score for each feature in 'b'
+	 * @param offsetScores Index in scores that the score of the first feature in 'b' is written to
+	 */
+	void scoreAll( PackedTupleArray<Desc> a , int indexA , PackedTupleArray<Desc> b , double[] scores , int offsetScores );
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.BoofDefaults;
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * Concurrent implementation of {@link WrapDetectDescribeSurf}. Detected points are split into blocks and
+ * the orientation and description of each block is computed in a different thread. Each thread has its own
+ * copy of the orientation and description algorithms. Output is identical to the single threaded version.
+ *
+ * @param <T> Input image type
+ * @param <II> Integral image type
+ *
+ * @author Peter Abeles
+ */
+public class WrapDetectDescribeSurf_MT
+		<T extends ImageGray<T>, II extends ImageGray<II>>
+		extends WrapDetectDescribeSurf<T,II>
+{
+	// storage for orientation and describe algorithms used by each thread
+	private RecycleStack<Helper> helpers;
+
+	public WrapDetectDescribeSurf_MT(FastHessianFeatureDetector<II> detector,
+									 OrientationIntegral<II> orientation,
+									 DescribePointSurf<II> describe)
+	{
+		super(detector, orientation, describe);
+
+		helpers = new RecycleStack<>(()->new Helper(
+				(OrientationIntegral<II>)orientation.copy(), describe.copy()));
+	}
+
+	@Override
+	protected void computeDescriptors() {
+		BoofConcurrency.loopBlocks(0,foundPoints.size(),(idx0,idx1)->{
+			Helper helper = helpers.pop();
+			helper.orientation.setImage(ii);
+			helper.describe.setImage(ii);
+
+			for( int i = idx0; i < idx1; i++ ) {
+				ScalePoint p = foundPoints.get(i);
+				double radius = p.scale* BoofDefaults.SURF_SCALE_TO_RADIUS;
+
+				helper.orientation.setObjectRadius(radius);
+				double angle = helper.orientation.compute(p.x,p.y);
+				helper.describe.describe(p.x,p.y, angle, p.scale, features.get(i));
+				featureAngles.set(i,angle);
+			}
+
+			helpers.recycle(helper);
+		});
+	}
+
+	private class Helper {
+		OrientationIntegral<II> orientation;
+		DescribePointSurf<II> describe;
+
+		public Helper(OrientationIntegral<II> orientation, DescribePointSurf<II> describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
+}
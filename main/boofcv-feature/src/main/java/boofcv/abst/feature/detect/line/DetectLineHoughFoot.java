@@ -24,8 +24,10 @@ import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.edge.GGradientToEdgeFeatures;
 import boofcv.alg.feature.detect.line.HoughTransformLineFootOfNorm;
+import boofcv.alg.feature.detect.line.HoughTransformLineFootOfNorm_MT;
 import boofcv.alg.feature.detect.line.ImageLinePruneMerge;
 import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -101,7 +103,11 @@ public class DetectLineHoughFoot <I extends ImageGray<I>, D extends ImageGray<D>
 		this.maxLines = maxLines;
 		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmaxCandidate(
 				new ConfigExtract(localMaxRadius, minCounts, 0, false));
-		alg = new HoughTransformLineFootOfNorm(extractor,minDistanceFromOrigin);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new HoughTransformLineFootOfNorm_MT(extractor,minDistanceFromOrigin);
+		} else {
+			alg = new HoughTransformLineFootOfNorm(extractor,minDistanceFromOrigin);
+		}
 		derivX = gradient.getDerivativeType().createImage(1,1);
 		derivY = gradient.getDerivativeType().createImage(1, 1);
 	}
@@ -24,8 +24,10 @@ import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.edge.GGradientToEdgeFeatures;
 import boofcv.alg.feature.detect.line.HoughTransformLinePolar;
+import boofcv.alg.feature.detect.line.HoughTransformLinePolar_MT;
 import boofcv.alg.feature.detect.line.ImageLinePruneMerge;
 import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -137,7 +139,11 @@ public class DetectLineHoughPolar<I extends ImageGray<I>, D extends ImageGray<D>
 			int numBinsRange = (int)Math.ceil(r/resolutionRange);
 			int numBinsAngle = (int)Math.ceil(Math.PI/resolutionAngle);
 
-			alg = new HoughTransformLinePolar(extractor,numBinsRange,numBinsAngle);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				alg = new HoughTransformLinePolar_MT(extractor,numBinsRange,numBinsAngle);
+			} else {
+				alg = new HoughTransformLinePolar(extractor,numBinsRange,numBinsAngle);
+			}
 			derivX.reshape(input.width,input.height);
 			derivY.reshape(input.width,input.height);
 			intensity.reshape(input.width,input.height);
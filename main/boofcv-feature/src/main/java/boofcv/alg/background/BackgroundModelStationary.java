@@ -18,6 +18,7 @@
 
 package boofcv.alg.background;
 
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -58,4 +59,15 @@ public abstract class BackgroundModelStationary<T extends ImageBase<T>> extends
 	 * @param segmented (output) Segmented image. 0 = background, 1 = foreground/moving
 	 */
 	public abstract void segment( T frame , GrayU8 segmented );
+
+	/**
+	 * Processes rows 0 to height-1 in the image. Concurrent implementations override this function and split
+	 * the rows between threads. Each row must only be modified by the consumer which is processing it.
+	 *
+	 * @param height Number of rows in the image
+	 * @param consumer Processes a range of rows
+	 */
+	protected void processRows( int height , IntRangeConsumer consumer ) {
+		consumer.accept(0,height);
+	}
 }
@@ -79,20 +79,22 @@ public class BackgroundStationaryBasic_IL<T extends ImageInterleaved<T>>
 		int numBands = background.getNumBands();
 		float minusLearn = 1.0f - learnRate;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int end = indexInput + frame.width*numBands;
-			while( indexInput < end ) {
-				int endIndexBG = indexBG + numBands;
-				while( indexBG < endIndexBG ) {
-					float valueBG = background.data[indexBG];
-					background.data[indexBG] = minusLearn*valueBG + learnRate*inputWrapper.getF(indexInput);
-					indexBG++;
-					indexInput++;
+		processRows(frame.height,(y0,y1)->{
+			int indexBG = y0*frame.width*numBands;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int end = indexInput + frame.width*numBands;
+				while( indexInput < end ) {
+					int endIndexBG = indexBG + numBands;
+					while( indexBG < endIndexBG ) {
+						float valueBG = background.data[indexBG];
+						background.data[indexBG] = minusLearn*valueBG + learnRate*inputWrapper.getF(indexInput);
+						indexBG++;
+						indexInput++;
+					}
 				}
 			}
-		}
+		});
 	}
 
 	@Override
@@ -107,28 +109,30 @@ public class BackgroundStationaryBasic_IL<T extends ImageInterleaved<T>>
 		int numBands = background.getNumBands();
 		float thresholdSq = numBands*threshold*threshold;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
-
-			int end = indexInput + frame.width*numBands;
-			while( indexInput < end ) {
-				float sumErrorSq = 0;
-				int endIndexBG = indexBG + numBands;
-				while( indexBG < endIndexBG ) {
-					float diff = background.data[indexBG++] - inputWrapper.getF(indexInput++);
-					sumErrorSq += diff*diff;
-				}
-
-				if (sumErrorSq <= thresholdSq) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					segmented.data[indexSegmented] = 1;
+		processRows(frame.height,(y0,y1)->{
+			int indexBG = y0*frame.width*numBands;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
+
+				int end = indexInput + frame.width*numBands;
+				while( indexInput < end ) {
+					float sumErrorSq = 0;
+					int endIndexBG = indexBG + numBands;
+					while( indexBG < endIndexBG ) {
+						float diff = background.data[indexBG++] - inputWrapper.getF(indexInput++);
+						sumErrorSq += diff*diff;
+					}
+
+					if (sumErrorSq <= thresholdSq) {
+						segmented.data[indexSegmented] = 0;
+					} else {
+						segmented.data[indexSegmented] = 1;
+					}
+					indexSegmented++;
 				}
-				indexSegmented++;
 			}
-		}
+		});
 	}
 
 
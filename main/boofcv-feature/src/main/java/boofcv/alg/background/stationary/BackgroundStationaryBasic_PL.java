@@ -20,6 +20,7 @@ package boofcv.alg.background.stationary;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.FWorkArrays;
 import boofcv.core.image.FactoryGImageMultiBand;
 import boofcv.core.image.GConvertImage;
 import boofcv.core.image.GImageMultiBand;
@@ -39,7 +40,8 @@ public class BackgroundStationaryBasic_PL<T extends ImageGray<T>>
 	// wrapper which provides abstraction across image types
 	protected GImageMultiBand inputWrapper;
 
-	protected float inputPixels[];
+	// storage for multi-band pixel values
+	protected FWorkArrays workArrays;
 
 	public BackgroundStationaryBasic_PL(float learnRate, float threshold,
 										ImageType<Planar<T>> imageType) {
@@ -51,7 +53,7 @@ public class BackgroundStationaryBasic_PL<T extends ImageGray<T>>
 
 		inputWrapper = FactoryGImageMultiBand.create(imageType);
 
-		inputPixels = new float[numBands];
+		workArrays = new FWorkArrays(numBands);
 	}
 
 	/**
@@ -83,22 +85,26 @@ public class BackgroundStationaryBasic_PL<T extends ImageGray<T>>
 		int numBands = background.getNumBands();
 		float minusLearn = 1.0f - learnRate;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixels);
-
-				for (int band = 0; band < numBands; band++) {
-					GrayF32 backgroundBand = background.getBand(band);
-					backgroundBand.data[indexBG] = minusLearn*backgroundBand.data[indexBG] + learnRate*inputPixels[band];
+		processRows(frame.height,(y0,y1)->{
+			float[] inputPixels = workArrays.pop();
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixels);
+
+					for (int band = 0; band < numBands; band++) {
+						GrayF32 backgroundBand = background.getBand(band);
+						backgroundBand.data[indexBG] = minusLearn*backgroundBand.data[indexBG] + learnRate*inputPixels[band];
+					}
+
+					indexInput++;
+					indexBG++;
 				}
-
-				indexInput++;
-				indexBG++;
 			}
-		}
+			workArrays.recycle(inputPixels);
+		});
 	}
 
 	@Override
@@ -113,32 +119,36 @@ public class BackgroundStationaryBasic_PL<T extends ImageGray<T>>
 		int numBands = background.getNumBands();
 		float thresholdSq = numBands*threshold*threshold;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
-
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixels);
-
-				double sumErrorSq = 0;
-				for (int band = 0; band < numBands; band++) {
-					float diff = background.getBand(band).data[indexBG] - inputPixels[band];
-					sumErrorSq += diff*diff;
+		processRows(frame.height,(y0,y1)->{
+			float[] inputPixels = workArrays.pop();
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
+
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixels);
+
+					double sumErrorSq = 0;
+					for (int band = 0; band < numBands; band++) {
+						float diff = background.getBand(band).data[indexBG] - inputPixels[band];
+						sumErrorSq += diff*diff;
+					}
+
+					if (sumErrorSq <= thresholdSq) {
+						segmented.data[indexSegmented] = 0;
+					} else {
+						segmented.data[indexSegmented] = 1;
+					}
+
+					indexInput++;
+					indexSegmented++;
+					indexBG++;
 				}
-
-				if (sumErrorSq <= thresholdSq) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					segmented.data[indexSegmented] = 1;
-				}
-
-				indexInput++;
-				indexSegmented++;
-				indexBG++;
 			}
-		}
+			workArrays.recycle(inputPixels);
+		});
 	}
 
 
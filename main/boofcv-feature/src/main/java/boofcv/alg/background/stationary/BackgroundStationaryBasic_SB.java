@@ -74,17 +74,19 @@ public class BackgroundStationaryBasic_SB<T extends ImageGray<T>>
 
 		float minusLearn = 1.0f - learnRate;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				float value = inputWrapper.getF(indexInput++);
-				float bg = background.data[indexBG];
-
-				background.data[indexBG++] = minusLearn*bg + learnRate*value;
+		processRows(frame.height,(y0,y1)->{
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					float value = inputWrapper.getF(indexInput++);
+					float bg = background.data[indexBG];
+
+					background.data[indexBG++] = minusLearn*bg + learnRate*value;
+				}
 			}
-		}
+		});
 	}
 
 	@Override
@@ -98,28 +100,30 @@ public class BackgroundStationaryBasic_SB<T extends ImageGray<T>>
 
 		float thresholdSq = threshold*threshold;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
-
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				float bg = background.data[indexBG];
-				float pixelFrame = inputWrapper.getF(indexInput);
-
-				float diff = bg - pixelFrame;
-				if (diff * diff <= thresholdSq) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					segmented.data[indexSegmented] = 1;
+		processRows(frame.height,(y0,y1)->{
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
+
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					float bg = background.data[indexBG];
+					float pixelFrame = inputWrapper.getF(indexInput);
+
+					float diff = bg - pixelFrame;
+					if (diff * diff <= thresholdSq) {
+						segmented.data[indexSegmented] = 0;
+					} else {
+						segmented.data[indexSegmented] = 1;
+					}
+
+					indexInput++;
+					indexSegmented++;
+					indexBG++;
 				}
-
-				indexInput++;
-				indexSegmented++;
-				indexBG++;
 			}
-		}
+		});
 	}
 
 
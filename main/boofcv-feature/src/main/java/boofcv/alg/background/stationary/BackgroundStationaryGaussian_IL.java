@@ -20,6 +20,7 @@ package boofcv.alg.background.stationary;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.FWorkArrays;
 import boofcv.core.image.FactoryGImageMultiBand;
 import boofcv.core.image.GImageMultiBand;
 import boofcv.struct.image.GrayU8;
@@ -43,6 +44,7 @@ public class BackgroundStationaryGaussian_IL<T extends ImageInterleaved<T>>
 	// storage for multi-band pixel values
 	protected float[] inputPixel;
 	protected float[] bgPixel;
+	protected FWorkArrays workArrays;
 
 	// background is composed of bands*2 channels.  even = mean, odd = variance
 	InterleavedF32 background;
@@ -69,6 +71,7 @@ public class BackgroundStationaryGaussian_IL<T extends ImageInterleaved<T>>
 		inputWrapper = FactoryGImageMultiBand.create(imageType);
 
 		inputPixel = new float[numBands];
+		workArrays = new FWorkArrays(numBands);
 		bgPixel = new float[numBands*2];
 	}
 
@@ -102,27 +105,31 @@ public class BackgroundStationaryGaussian_IL<T extends ImageInterleaved<T>>
 		int numBands = background.getNumBands()/2;
 		float minusLearn = 1.0f - learnRate;
 
-		int indexBG = 0;
-		for (int y = 0; y < background.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int end = indexInput + frame.width*numBands;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixel);
+		processRows(background.height,(y0,y1)->{
+			float[] inputPixel = workArrays.pop();
+			int indexBG = y0*background.width*background.numBands;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int end = indexInput + frame.width*numBands;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixel);
 
-				for (int band = 0; band < numBands; band++) {
+					for (int band = 0; band < numBands; band++) {
 
-					float inputValue = inputPixel[band];
-					float meanBG = background.data[indexBG];
-					float varianceBG = background.data[indexBG+1];
+						float inputValue = inputPixel[band];
+						float meanBG = background.data[indexBG];
+						float varianceBG = background.data[indexBG+1];
 
-					float diff = meanBG-inputValue;
-					background.data[indexBG++] = minusLearn*meanBG + learnRate*inputValue;
-					background.data[indexBG++] = minusLearn*varianceBG + learnRate*diff*diff;
-				}
+						float diff = meanBG-inputValue;
+						background.data[indexBG++] = minusLearn*meanBG + learnRate*inputValue;
+						background.data[indexBG++] = minusLearn*varianceBG + learnRate*diff*diff;
+					}
 
-				indexInput += frame.numBands;
+					indexInput += frame.numBands;
+				}
 			}
-		}
+			workArrays.recycle(inputPixel);
+		});
 	}
 
 	@Override
@@ -137,49 +144,53 @@ public class BackgroundStationaryGaussian_IL<T extends ImageInterleaved<T>>
 
 		float adjustedMinimumDifference = minimumDifference*numBands;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
+		processRows(frame.height,(y0,y1)->{
+			float[] inputPixel = workArrays.pop();
+			int indexBG = y0*background.width*background.numBands;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
 
-			int end = indexInput + frame.width*frame.numBands;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixel);
+				int end = indexInput + frame.width*frame.numBands;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixel);
 
-				float mahalanobis = 0;
-				for (int band = 0; band < numBands; band++) {
+					float mahalanobis = 0;
+					for (int band = 0; band < numBands; band++) {
 
-					int indexBG_band = indexBG + band*2;
+						int indexBG_band = indexBG + band*2;
 
-					float meanBG = background.data[indexBG_band];
-					float varBG  = background.data[indexBG_band+1];
+						float meanBG = background.data[indexBG_band];
+						float varBG  = background.data[indexBG_band+1];
 
-					float diff = meanBG - inputPixel[band];
-					mahalanobis += diff * diff / varBG;
-				}
+						float diff = meanBG - inputPixel[band];
+						mahalanobis += diff * diff / varBG;
+					}
 
-				if (mahalanobis <= threshold) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					if( minimumDifference == 0) {
-						segmented.data[indexSegmented] = 1;
+					if (mahalanobis <= threshold) {
+						segmented.data[indexSegmented] = 0;
 					} else {
-						float sumAbsDiff = 0;
-						for (int band = 0; band < numBands; band++) {
-							int indexBG_band = indexBG + band*2;
-							sumAbsDiff += Math.abs(background.data[indexBG_band] - inputPixel[band]);
-						}
-						if (sumAbsDiff >= adjustedMinimumDifference)
+						if( minimumDifference == 0) {
 							segmented.data[indexSegmented] = 1;
-						else
-							segmented.data[indexSegmented] = 0;
+						} else {
+							float sumAbsDiff = 0;
+							for (int band = 0; band < numBands; band++) {
+								int indexBG_band = indexBG + band*2;
+								sumAbsDiff += Math.abs(background.data[indexBG_band] - inputPixel[band]);
+							}
+							if (sumAbsDiff >= adjustedMinimumDifference)
+								segmented.data[indexSegmented] = 1;
+							else
+								segmented.data[indexSegmented] = 0;
+						}
 					}
-				}
 
-				indexInput     += frame.numBands;
-				indexSegmented += 1;
-				indexBG        += background.numBands;
+					indexInput     += frame.numBands;
+					indexSegmented += 1;
+					indexBG        += background.numBands;
+				}
 			}
-		}
+			workArrays.recycle(inputPixel);
+		});
 	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.background.stationary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Concurrent implementation of {@link BackgroundStationaryGaussian_IL}. Rows are split up between threads.
+ *
+ * @author Peter Abeles
+ */
+public class BackgroundStationaryGaussian_IL_MT<T extends ImageInterleaved<T>>
+		extends BackgroundStationaryGaussian_IL<T>
+{
+	public BackgroundStationaryGaussian_IL_MT(float learnRate, float threshold, ImageType<T> imageType) {
+		super(learnRate, threshold, imageType);
+	}
+
+	@Override
+	protected void processRows(int height, IntRangeConsumer consumer) {
+		BoofConcurrency.loopBlocks(0,height,consumer);
+	}
+}
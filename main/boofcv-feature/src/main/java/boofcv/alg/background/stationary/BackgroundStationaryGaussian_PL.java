@@ -21,6 +21,7 @@ package boofcv.alg.background.stationary;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.FWorkArrays;
 import boofcv.core.image.FactoryGImageMultiBand;
 import boofcv.core.image.GConvertImage;
 import boofcv.core.image.GImageMultiBand;
@@ -40,7 +41,7 @@ public class BackgroundStationaryGaussian_PL<T extends ImageGray<T>>
 	protected GImageMultiBand bgWrapper;
 
 	// storage for multi-band pixel values
-	protected float[] inputPixel;
+	protected FWorkArrays workArrays;
 
 	// background is composed of bands*2 channels.  even = mean, odd = variance
 	Planar<GrayF32> background;
@@ -66,7 +67,7 @@ public class BackgroundStationaryGaussian_PL<T extends ImageGray<T>>
 
 		inputWrapper = FactoryGImageMultiBand.create(imageType);
 
-		inputPixel = new float[numBands];
+		workArrays = new FWorkArrays(numBands);
 	}
 
 	@Override
@@ -94,30 +95,34 @@ public class BackgroundStationaryGaussian_PL<T extends ImageGray<T>>
 		float minusLearn = 1.0f - learnRate;
 
 
-		int indexBG = 0;
-		for (int y = 0; y < background.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixel);
+		processRows(background.height,(y0,y1)->{
+			float[] inputPixel = workArrays.pop();
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixel);
 
-				for (int band = 0; band < numBands; band++) {
-					GrayF32 backgroundMean = background.getBand(band*2);
-					GrayF32 backgroundVar = background.getBand(band*2+1);
+					for (int band = 0; band < numBands; band++) {
+						GrayF32 backgroundMean = background.getBand(band*2);
+						GrayF32 backgroundVar = background.getBand(band*2+1);
 
-					float inputValue = inputPixel[band];
-					float meanBG = backgroundMean.data[indexBG];
-					float varianceBG = backgroundVar.data[indexBG];
+						float inputValue = inputPixel[band];
+						float meanBG = backgroundMean.data[indexBG];
+						float varianceBG = backgroundVar.data[indexBG];
 
-					float diff = meanBG-inputValue;
-					backgroundMean.data[indexBG] = minusLearn*meanBG + learnRate*inputValue;
-					backgroundVar.data[indexBG] = minusLearn*varianceBG + learnRate*diff*diff;
-				}
+						float diff = meanBG-inputValue;
+						backgroundMean.data[indexBG] = minusLearn*meanBG + learnRate*inputValue;
+						backgroundVar.data[indexBG] = minusLearn*varianceBG + learnRate*diff*diff;
+					}
 
-				indexInput++;
-				indexBG++;
+					indexInput++;
+					indexBG++;
+				}
 			}
-		}
+			workArrays.recycle(inputPixel);
+		});
 	}
 
 	@Override
@@ -132,50 +137,54 @@ public class BackgroundStationaryGaussian_PL<T extends ImageGray<T>>
 
 		float adjustedMinimumDifference = minimumDifference*numBands;
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
+		processRows(frame.height,(y0,y1)->{
+			float[] inputPixel = workArrays.pop();
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
 
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				inputWrapper.getF(indexInput, inputPixel);
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					inputWrapper.getF(indexInput, inputPixel);
 
-				float mahalanobis = 0;
-				for (int band = 0; band < numBands; band++) {
+					float mahalanobis = 0;
+					for (int band = 0; band < numBands; band++) {
 
-					GrayF32 backgroundMean = background.getBand(band*2);
-					GrayF32 backgroundVar = background.getBand(band*2+1);
+						GrayF32 backgroundMean = background.getBand(band*2);
+						GrayF32 backgroundVar = background.getBand(band*2+1);
 
-					float meanBG = backgroundMean.data[indexBG];
-					float varBG = backgroundVar.data[indexBG];
+						float meanBG = backgroundMean.data[indexBG];
+						float varBG = backgroundVar.data[indexBG];
 
-					float diff = meanBG - inputPixel[band];
-					mahalanobis += diff * diff / varBG;
-				}
+						float diff = meanBG - inputPixel[band];
+						mahalanobis += diff * diff / varBG;
+					}
 
-				if (mahalanobis <= threshold) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					if( minimumDifference == 0) {
-						segmented.data[indexSegmented] = 1;
+					if (mahalanobis <= threshold) {
+						segmented.data[indexSegmented] = 0;
 					} else {
-						float sumAbsDiff = 0;
-						for (int band = 0; band < numBands; band++) {
-							GrayF32 backgroundMean = background.getBand(band*2);
-							sumAbsDiff += Math.abs(backgroundMean.data[indexBG] - inputPixel[band]);
-						}
-						if (sumAbsDiff >= adjustedMinimumDifference)
+						if( minimumDifference == 0) {
 							segmented.data[indexSegmented] = 1;
-						else
-							segmented.data[indexSegmented] = 0;
+						} else {
+							float sumAbsDiff = 0;
+							for (int band = 0; band < numBands; band++) {
+								GrayF32 backgroundMean = background.getBand(band*2);
+								sumAbsDiff += Math.abs(backgroundMean.data[indexBG] - inputPixel[band]);
+							}
+							if (sumAbsDiff >= adjustedMinimumDifference)
+								segmented.data[indexSegmented] = 1;
+							else
+								segmented.data[indexSegmented] = 0;
+						}
 					}
-				}
 
-				indexInput++;
-				indexSegmented++;
-				indexBG++;
+					indexInput++;
+					indexSegmented++;
+					indexBG++;
+				}
 			}
-		}
+			workArrays.recycle(inputPixel);
+		});
 	}
 }
@@ -78,24 +78,26 @@ public class BackgroundStationaryGaussian_SB<T extends ImageGray<T>>
 		GrayF32 backgroundMean = background.getBand(0);
 		GrayF32 backgroundVar = background.getBand(1);
 
-		int indexBG = 0;
-		for (int y = 0; y < background.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				float inputValue = inputWrapper.getF(indexInput);
-				float meanBG = backgroundMean.data[indexBG];
-				float varianceBG = backgroundVar.data[indexBG];
-
-				float diff = meanBG-inputValue;
-				backgroundMean.data[indexBG] = minusLearn*meanBG + learnRate*inputValue;
-				backgroundVar.data[indexBG] = minusLearn*varianceBG + learnRate*diff*diff;
-
-				indexBG++;
-				indexInput++;
+		processRows(background.height,(y0,y1)->{
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					float inputValue = inputWrapper.getF(indexInput);
+					float meanBG = backgroundMean.data[indexBG];
+					float varianceBG = backgroundVar.data[indexBG];
+
+					float diff = meanBG-inputValue;
+					backgroundMean.data[indexBG] = minusLearn*meanBG + learnRate*inputValue;
+					backgroundVar.data[indexBG] = minusLearn*varianceBG + learnRate*diff*diff;
+
+					indexBG++;
+					indexInput++;
+				}
 			}
-		}
+		});
 	}
 
 	@Override
@@ -110,34 +112,36 @@ public class BackgroundStationaryGaussian_SB<T extends ImageGray<T>>
 		GrayF32 backgroundMean = background.getBand(0);
 		GrayF32 backgroundVar = background.getBand(1);
 
-		int indexBG = 0;
-		for (int y = 0; y < frame.height; y++) {
-			int indexInput = frame.startIndex + y*frame.stride;
-			int indexSegmented = segmented.startIndex + y*segmented.stride;
+		processRows(frame.height,(y0,y1)->{
+			int indexBG = y0*frame.width;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = frame.startIndex + y*frame.stride;
+				int indexSegmented = segmented.startIndex + y*segmented.stride;
 
-			int end = indexInput + frame.width;
-			while( indexInput < end ) {
-				float pixelFrame = inputWrapper.getF(indexInput);
+				int end = indexInput + frame.width;
+				while( indexInput < end ) {
+					float pixelFrame = inputWrapper.getF(indexInput);
 
-				float meanBG = backgroundMean.data[indexBG];
-				float varBG = backgroundVar.data[indexBG];
+					float meanBG = backgroundMean.data[indexBG];
+					float varBG = backgroundVar.data[indexBG];
 
-				float diff = meanBG - pixelFrame;
-				float chisq = diff*diff/varBG;
+					float diff = meanBG - pixelFrame;
+					float chisq = diff*diff/varBG;
 
-				if (chisq <= threshold) {
-					segmented.data[indexSegmented] = 0;
-				} else {
-					if( diff >= minimumDifference || -diff >= minimumDifference )
-						segmented.data[indexSegmented] = 1;
-					else
+					if (chisq <= threshold) {
 						segmented.data[indexSegmented] = 0;
+					} else {
+						if( diff >= minimumDifference || -diff >= minimumDifference )
+							segmented.data[indexSegmented] = 1;
+						else
+							segmented.data[indexSegmented] = 0;
+					}
+
+					indexInput++;
+					indexSegmented++;
+					indexBG++;
 				}
-
-				indexInput++;
-				indexSegmented++;
-				indexBG++;
 			}
-		}
+		});
 	}
 }
@@ -18,9 +18,12 @@
 
 package boofcv.alg.background.stationary;
 
+import boofcv.alg.InputSanityCheck;
 import boofcv.alg.background.BackgroundAlgorithmGmm;
 import boofcv.alg.background.BackgroundGmmCommon;
 import boofcv.alg.background.BackgroundModelStationary;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -30,6 +33,11 @@ import javax.annotation.Nullable;
 /**
  * <p>Implementation of {@link BackgroundAlgorithmGmm} for stationary images.</p>
  *
+ * <p>The cost of updating every pixel's mixture can be reduced in two ways. An update region can be specified
+ * and only pixels inside of it are modeled, all others are marked as unknown. A change threshold can also be
+ * specified. Pixels which have changed by no more than this amount since their mixture was last updated are
+ * skipped and are assigned the same label as they had at that update.</p>
+ *
  * @see BackgroundModelStationary
  *
  * @author Peter Abeles
@@ -39,6 +47,16 @@ public abstract class BackgroundStationaryGmm< T extends ImageBase<T>>
 {
 	BackgroundGmmCommon common;
 
+	// (Optional) Only pixels with a non-zero value in this image are modeled
+	@Nullable GrayU8 updateRegion;
+
+	// Pixels which have changed by this amount or less since their last update are skipped. Disabled if &le; 0
+	float changeThreshold = 0;
+	// pixel value at the last update. Each row has width*numBands elements
+	GrayF32 reference = new GrayF32(0,0);
+	// label assigned at the last update
+	GrayU8 referenceLabel = new GrayU8(0,0);
+
 	public BackgroundStationaryGmm(float learningPeriod, float decayCoef,
 								   int maxGaussians, ImageType<T> imageType) {
 		super(imageType);
@@ -64,17 +82,67 @@ public abstract class BackgroundStationaryGmm< T extends ImageBase<T>>
 	public void updateBackground( T frame , @Nullable GrayU8 mask ) {
 
 		// if the image size has changed it's safe to assume it needs to be re-initialized
+		boolean initialized = false;
 		if( common.imageWidth != frame.width || common.imageHeight != frame.height ) {
 			common.imageWidth = frame.width;
 			common.imageHeight = frame.height;
 
 			common.model.reshape(frame.height, frame.width*common.modelStride);
 			common.model.zero();
+			initialized = true;
 		}
 
 		if( mask != null ) {
 			mask.reshape(frame.width,frame.height);
 		}
+
+		if( updateRegion != null ) {
+			InputSanityCheck.checkSameShape(frame,updateRegion);
+		}
+
+		// NaN will fail every comparison forcing the first update of each pixel
+		if( changeThreshold > 0 && (initialized || reference.height != frame.height ) ) {
+			reference.reshape(frame.width*common.numBands, frame.height);
+			referenceLabel.reshape(frame.width, frame.height);
+			ImageMiscOps.fill(reference,Float.NaN);
+		}
+	}
+
+	/**
+	 * Returns true if the mixture of every pixel is updated
+	 */
+	protected boolean isUpdateAll() {
+		return updateRegion == null && changeThreshold <= 0;
+	}
+
+	/**
+	 * Specifies a region which is to be modeled. Only pixels which have a non-zero value inside the region
+	 * are updated. All other pixels are marked as unknown when segmented. Must be the same shape as the input.
+	 *
+	 * @param updateRegion Binary image specifying the region. If null then the entire image is modeled.
+	 */
+	public void setUpdateRegion( @Nullable GrayU8 updateRegion ) {
+		this.updateRegion = updateRegion;
+	}
+
+	public @Nullable GrayU8 getUpdateRegion() {
+		return updateRegion;
+	}
+
+	/**
+	 * Pixels which have changed by this amount or less, in every band, since their mixture was last updated
+	 * will not be updated. This is a cheap test which can skip most of the pixels in a static scene.
+	 *
+	 * @param changeThreshold Maximum absolute difference. If &le; 0 then every pixel is updated.
+	 */
+	public void setChangeThreshold( float changeThreshold ) {
+		this.changeThreshold = changeThreshold;
+		// force the reference to be recomputed
+		reference.reshape(0,0);
+	}
+
+	public float getChangeThreshold() {
+		return changeThreshold;
 	}
 
 	@Override
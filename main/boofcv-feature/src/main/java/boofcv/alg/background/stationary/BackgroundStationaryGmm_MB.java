@@ -20,6 +20,7 @@ package boofcv.alg.background.stationary;
 
 import boofcv.alg.background.BackgroundAlgorithmGmm;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.FWorkArrays;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageMultiBand;
 import boofcv.struct.image.ImageType;
@@ -34,6 +35,9 @@ import javax.annotation.Nullable;
 public class BackgroundStationaryGmm_MB<T extends ImageMultiBand<T>>
 		extends BackgroundStationaryGmm<T>
 {
+	// storage for multi-band pixel values
+	protected FWorkArrays workArrays;
+
 	/**
 	 *
 	 * @param learningPeriod Specifies how fast it will adjust to changes in the image. Must be greater than zero.
@@ -45,6 +49,7 @@ public class BackgroundStationaryGmm_MB<T extends ImageMultiBand<T>>
 									  int maxGaussians, ImageType<T> imageType )
 	{
 		super(learningPeriod, decayCoef, maxGaussians, imageType);
+		workArrays = new FWorkArrays(imageType.getNumBands());
 	}
 
 	/**
@@ -56,28 +61,90 @@ public class BackgroundStationaryGmm_MB<T extends ImageMultiBand<T>>
 		super.updateBackground(frame, mask);
 
 		common.inputWrapperMB.wrap(frame);
+		if( !isUpdateAll() ) {
+			processRows(common.imageHeight,(row0,row1)->updateSelected(frame,mask,row0,row1));
+			return;
+		}
+
+		final int pixelStride = common.inputWrapperMB.getPixelStride();
+		processRows(common.imageHeight,(row0,row1)->{
+			float[] inputPixel = workArrays.pop();
+			for (int row = row0; row < row1; row++) {
+				int inputIndex = frame.getIndex(0,row);
+				float[] dataRow = common.model.data[row];
+
+				if( mask == null ) {
+					for (int col = 0; col < common.imageWidth; col++, inputIndex += pixelStride) {
+						common.inputWrapperMB.getF(inputIndex,inputPixel);
+						int modelIndex = col * common.modelStride;
+
+						common.updateMixture(inputPixel, dataRow, modelIndex);
+					}
+				} else {
+					int indexMask = mask.startIndex + row*mask.stride;
+					for (int col = 0; col < common.imageWidth; col++, inputIndex += pixelStride) {
+						common.inputWrapperMB.getF(inputIndex,inputPixel);
+						int modelIndex = col * common.modelStride;
+
+						mask.data[indexMask++] = (byte)common.updateMixture(inputPixel, dataRow, modelIndex);
+					}
+				}
+			}
+			workArrays.recycle(inputPixel);
+		});
+	}
+
+	/**
+	 * Only updates pixels inside the update region and which have changed since their last update
+	 */
+	private void updateSelected( T frame , @Nullable GrayU8 mask , int row0 , int row1 ) {
+		final int numBands = common.numBands;
 		final int pixelStride = common.inputWrapperMB.getPixelStride();
-		for (int row = 0; row < common.imageHeight; row++) {
+		final boolean checkChange = changeThreshold > 0;
+		float[] inputPixel = workArrays.pop();
+
+		for (int row = row0; row < row1; row++) {
 			int inputIndex = frame.getIndex(0,row);
+			int indexRegion = updateRegion == null ? 0 : updateRegion.startIndex + row*updateRegion.stride;
+			int indexRef = row*reference.width;
+			int indexLabel = row*referenceLabel.width;
 			float[] dataRow = common.model.data[row];
 
-			if( mask == null ) {
-				for (int col = 0; col < common.imageWidth; col++, inputIndex += pixelStride) {
-					common.inputWrapperMB.getF(inputIndex,common.inputPixel);
-					int modelIndex = col * common.modelStride;
-
-					common.updateMixture(common.inputPixel, dataRow, modelIndex);
+			for (int col = 0; col < common.imageWidth; col++, inputIndex += pixelStride, indexRef += numBands, indexLabel++) {
+				if( updateRegion != null && updateRegion.data[indexRegion++] == 0 ) {
+					if( mask != null )
+						mask.data[mask.startIndex + row*mask.stride + col] = unknownValue;
+					continue;
 				}
-			} else {
-				int indexMask = mask.startIndex + row*mask.stride;
-				for (int col = 0; col < common.imageWidth; col++, inputIndex += pixelStride) {
-					common.inputWrapperMB.getF(inputIndex,common.inputPixel);
-					int modelIndex = col * common.modelStride;
+				common.inputWrapperMB.getF(inputIndex,inputPixel);
 
-					mask.data[indexMask++] = (byte)common.updateMixture(common.inputPixel, dataRow, modelIndex);
+				int label;
+				if( checkChange && isUnchanged(inputPixel,indexRef) ) {
+					label = referenceLabel.data[indexLabel];
+				} else {
+					label = common.updateMixture(inputPixel, dataRow, col * common.modelStride);
+					if( checkChange ) {
+						System.arraycopy(inputPixel,0,reference.data,indexRef,numBands);
+						referenceLabel.data[indexLabel] = (byte)label;
+					}
 				}
+
+				if( mask != null )
+					mask.data[mask.startIndex + row*mask.stride + col] = (byte)label;
 			}
 		}
+		workArrays.recycle(inputPixel);
+	}
+
+	/**
+	 * Returns true if no band has changed by more than the threshold
+	 */
+	private boolean isUnchanged( float[] inputPixel , int indexRef ) {
+		for (int i = 0; i < common.numBands; i++) {
+			if( !(Math.abs(inputPixel[i]-reference.data[indexRef+i]) <= changeThreshold) )
+				return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -90,17 +157,26 @@ public class BackgroundStationaryGmm_MB<T extends ImageMultiBand<T>>
 		common.unknownValue = unknownValue;
 		common.inputWrapperMB.wrap(frame);
 		final int pixelStride = common.inputWrapperMB.getPixelStride();
-		for (int row = 0; row < common.imageHeight; row++) {
-			int indexIn = frame.getIndex(0,row);
-			int indexOut = segmented.startIndex + row*segmented.stride;
-			float[] dataRow = common.model.data[row];
+		processRows(common.imageHeight,(row0,row1)->{
+			float[] inputPixel = workArrays.pop();
+			for (int row = row0; row < row1; row++) {
+				int indexIn = frame.getIndex(0,row);
+				int indexOut = segmented.startIndex + row*segmented.stride;
+				int indexRegion = updateRegion == null ? 0 : updateRegion.startIndex + row*updateRegion.stride;
+				float[] dataRow = common.model.data[row];
 
-			for (int col = 0; col < common.imageWidth; col++, indexIn += pixelStride) {
-				common.inputWrapperMB.getF(indexIn,common.inputPixel);
-				int modelIndex = col * common.modelStride;
+				for (int col = 0; col < common.imageWidth; col++, indexIn += pixelStride) {
+					if( updateRegion != null && updateRegion.data[indexRegion++] == 0 ) {
+						segmented.data[indexOut++] = unknownValue;
+						continue;
+					}
+					common.inputWrapperMB.getF(indexIn,inputPixel);
+					int modelIndex = col * common.modelStride;
 
-				segmented.data[indexOut++] = (byte)common.checkBackground(common.inputPixel, dataRow, modelIndex);
+					segmented.data[indexOut++] = (byte)common.checkBackground(inputPixel, dataRow, modelIndex);
+				}
 			}
-		}
+			workArrays.recycle(inputPixel);
+		});
 	}
 }
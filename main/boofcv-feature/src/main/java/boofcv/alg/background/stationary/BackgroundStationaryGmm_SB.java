@@ -52,25 +52,67 @@ public class BackgroundStationaryGmm_SB<T extends ImageGray<T>>
 		super.updateBackground(frame, mask);
 
 		common.inputWrapperG.wrap(frame);
-		for (int row = 0; row < common.imageHeight; row++) {
+		if( !isUpdateAll() ) {
+			processRows(common.imageHeight,(row0,row1)->updateSelected(frame,mask,row0,row1));
+			return;
+		}
+
+		processRows(common.imageHeight,(row0,row1)->{
+			for (int row = row0; row < row1; row++) {
+				int inputIndex = frame.startIndex + row*frame.stride;
+				float[] dataRow = common.model.data[row];
+
+				if( mask == null ) {
+					for (int col = 0; col < common.imageWidth; col++) {
+						float pixelValue = common.inputWrapperG.getF(inputIndex++);
+						int modelIndex = col * common.modelStride;
+
+						common.updateMixture(pixelValue, dataRow, modelIndex);
+					}
+				} else {
+					int indexMask = mask.startIndex + row*mask.stride;
+					for (int col = 0; col < common.imageWidth; col++) {
+						float pixelValue = common.inputWrapperG.getF(inputIndex++);
+						int modelIndex = col * common.modelStride;
+
+						mask.data[indexMask++] = (byte)common.updateMixture(pixelValue, dataRow, modelIndex);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Only updates pixels inside the update region and which have changed since their last update
+	 */
+	private void updateSelected( T frame , @Nullable GrayU8 mask , int row0 , int row1 ) {
+		final boolean checkChange = changeThreshold > 0;
+
+		for (int row = row0; row < row1; row++) {
 			int inputIndex = frame.startIndex + row*frame.stride;
+			int indexRegion = updateRegion == null ? 0 : updateRegion.startIndex + row*updateRegion.stride;
+			int indexRef = row*reference.width;
+			int indexLabel = row*referenceLabel.width;
 			float[] dataRow = common.model.data[row];
 
-			if( mask == null ) {
-				for (int col = 0; col < common.imageWidth; col++) {
-					float pixelValue = common.inputWrapperG.getF(inputIndex++);
-					int modelIndex = col * common.modelStride;
+			for (int col = 0; col < common.imageWidth; col++, indexRef++, indexLabel++) {
+				float pixelValue = common.inputWrapperG.getF(inputIndex++);
 
-					common.updateMixture(pixelValue, dataRow, modelIndex);
+				int label;
+				if( updateRegion != null && updateRegion.data[indexRegion++] == 0 ) {
+					label = unknownValue;
+				} else if( checkChange && Math.abs(pixelValue-reference.data[indexRef]) <= changeThreshold ) {
+					label = referenceLabel.data[indexLabel];
+				} else {
+					label = common.updateMixture(pixelValue, dataRow, col * common.modelStride);
+					if( checkChange ) {
+						reference.data[indexRef] = pixelValue;
+						referenceLabel.data[indexLabel] = (byte)label;
+					}
 				}
-			} else {
-				int indexMask = mask.startIndex + row*mask.stride;
-				for (int col = 0; col < common.imageWidth; col++) {
-					float pixelValue = common.inputWrapperG.getF(inputIndex++);
-					int modelIndex = col * common.modelStride;
 
-					mask.data[indexMask++] = (byte)common.updateMixture(pixelValue, dataRow, modelIndex);
-				}
+				if( mask != null )
+					mask.data[mask.startIndex + row*mask.stride + col] = (byte)label;
 			}
 		}
 	}
@@ -85,17 +127,25 @@ public class BackgroundStationaryGmm_SB<T extends ImageGray<T>>
 
 		common.unknownValue = unknownValue;
 		common.inputWrapperG.wrap(frame);
-		for (int row = 0; row < common.imageHeight; row++) {
-			int indexIn = frame.startIndex + row*frame.stride;
-			int indexOut = segmented.startIndex + row*segmented.stride;
-			float[] dataRow = common.model.data[row];
+		processRows(common.imageHeight,(row0,row1)->{
+			for (int row = row0; row < row1; row++) {
+				int indexIn = frame.startIndex + row*frame.stride;
+				int indexOut = segmented.startIndex + row*segmented.stride;
+				int indexRegion = updateRegion == null ? 0 : updateRegion.startIndex + row*updateRegion.stride;
+				float[] dataRow = common.model.data[row];
 
-			for (int col = 0; col < common.imageWidth; col++) {
-				float pixelValue = common.inputWrapperG.getF(indexIn++);
-				int modelIndex = col * common.modelStride;
+				for (int col = 0; col < common.imageWidth; col++) {
+					if( updateRegion != null && updateRegion.data[indexRegion++] == 0 ) {
+						segmented.data[indexOut++] = unknownValue;
+						indexIn++;
+						continue;
+					}
+					float pixelValue = common.inputWrapperG.getF(indexIn++);
+					int modelIndex = col * common.modelStride;
 
-				segmented.data[indexOut++] = (byte)common.checkBackground(pixelValue, dataRow, modelIndex);
+					segmented.data[indexOut++] = (byte)common.checkBackground(pixelValue, dataRow, modelIndex);
+				}
 			}
-		}
+		});
 	}
 }
@@ -81,6 +81,27 @@ public class DescriptorDistance {
 		return total;
 	}
 
+	/**
+	 * Returns the Euclidean distance squared between two descriptors stored inside of arrays, such as
+	 * {@link boofcv.struct.feature.PackedTupleArray_F32}.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first element in the first descriptor
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the first element in the second descriptor
+	 * @param length Number of elements in a descriptor
+	 * @return Euclidean distance squared
+	 */
+	public static double euclideanSq(float[] a, int offsetA, float[] b, int offsetB, int length) {
+		float total = 0;
+		for( int i = 0; i < length; i++ ) {
+			double d = a[offsetA+i]-b[offsetB+i];
+			total += d*d;
+		}
+
+		return total;
+	}
+
 	/**
 	 * Correlation score
 	 *
@@ -170,6 +191,25 @@ public class DescriptorDistance {
 		return total;
 	}
 
+	/**
+	 * Sum of absolute difference (SAD) score between two descriptors stored inside of arrays
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first element in the first descriptor
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the first element in the second descriptor
+	 * @param length Number of elements in a descriptor
+	 * @return SAD score
+	 */
+	public static float sad(float[] a, int offsetA, float[] b, int offsetB, int length) {
+
+		float total = 0;
+		for( int i = 0; i < length; i++ ) {
+			total += Math.abs( a[offsetA+i] - b[offsetB+i]);
+		}
+		return total;
+	}
+
 	/**
 	 * Sum of absolute difference (SAD) score
 	 *
@@ -197,14 +237,88 @@ public class DescriptorDistance {
 		int score = 0;
 		final int N = a.data.length;
 		for( int i = 0; i < N; i++ ) {
-			score += hamming(a.data[i] ^ b.data[i]);
+			score += Integer.bitCount(a.data[i] ^ b.data[i]);
+		}
+		return score;
+	}
+
+	/**
+	 * Computes the hamming distance between two binary feature descriptors stored inside of arrays, such as
+	 * {@link boofcv.struct.feature.PackedTupleArray_B}.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first element in the first descriptor
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the first element in the second descriptor
+	 * @param length Number of ints in a descriptor
+	 * @return The hamming distance
+	 */
+	public static int hamming( int[] a, int offsetA, int[] b, int offsetB, int length ) {
+		int score = 0;
+		for( int i = 0; i < length; i++ ) {
+			score += Integer.bitCount(a[offsetA+i] ^ b[offsetB+i]);
 		}
 		return score;
 	}
 
+	/**
+	 * Computes the hamming distance between two binary feature descriptors stored inside of long arrays, such as
+	 * {@link boofcv.struct.feature.PackedTupleArray_B64}. {@link Long#bitCount} is an intrinsic which the JIT
+	 * replaces with a single instruction on most CPUs.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first element in the first descriptor
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the first element in the second descriptor
+	 * @param length Number of longs in a descriptor
+	 * @return The hamming distance
+	 */
+	public static int hamming( long[] a, int offsetA, long[] b, int offsetB, int length ) {
+		int score = 0;
+		for( int i = 0; i < length; i++ ) {
+			score += Long.bitCount(a[offsetA+i] ^ b[offsetB+i]);
+		}
+		return score;
+	}
+
+	/**
+	 * Computes the hamming distance between one descriptor and a block of descriptors which are stored one after
+	 * another, e.g. inside a {@link boofcv.struct.feature.PackedTupleArray_B64}. Scores are written as doubles so
+	 * that they can be used directly as association scores.
+	 *
+	 * @param query Array containing the query descriptor
+	 * @param offsetQuery Index of the first element in the query descriptor
+	 * @param candidates Array containing the candidate descriptors
+	 * @param offsetCandidates Index of the first element in the first candidate
+	 * @param length Number of longs in a descriptor
+	 * @param count Number of candidates
+	 * @param scores (Output) The hamming distance to each candidate
+	 * @param offsetScores Index in scores that the first candidate's distance is written to
+	 */
+	public static void hamming( long[] query, int offsetQuery,
+								long[] candidates, int offsetCandidates, int length, int count,
+								double[] scores, int offsetScores ) {
+		if( length == 4 ) {
+			// common case of a 256-bit descriptor. Keep the query in local variables
+			final long q0 = query[offsetQuery], q1 = query[offsetQuery+1];
+			final long q2 = query[offsetQuery+2], q3 = query[offsetQuery+3];
+			for( int i = 0, c = offsetCandidates; i < count; i++, c += 4 ) {
+				scores[offsetScores+i] =
+						Long.bitCount(q0 ^ candidates[c  ]) + Long.bitCount(q1 ^ candidates[c+1]) +
+						Long.bitCount(q2 ^ candidates[c+2]) + Long.bitCount(q3 ^ candidates[c+3]);
+			}
+		} else {
+			for( int i = 0, c = offsetCandidates; i < count; i++, c += length ) {
+				scores[offsetScores+i] = hamming(query,offsetQuery,candidates,c,length);
+			}
+		}
+	}
+
 	/**
 	 * <p>Computes the hamming distance.  A bit = 0 is a match and 1 is not match<p>
 	 *
+	 * Prefer {@link Integer#bitCount}, which the JIT replaces with a single instruction on most CPUs.
+	 *
 	 * Based on code snippet from <a href="http://graphics.stanford.edu/~seander/bithacks.html">Sean Eron Anderson Bit Twiddling Hacks</a>.
 	 *
 	 * @param val Hamming encoding
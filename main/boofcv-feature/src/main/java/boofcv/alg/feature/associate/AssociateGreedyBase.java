@@ -19,6 +19,8 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.ScoreAssociationPacked;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
@@ -77,6 +79,37 @@ public abstract class AssociateGreedyBase<D> {
 	 */
 	public abstract void associate( FastQueue<D> src , FastQueue<D> dst );
 
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score. Descriptors are scored
+	 * while inside the packed arrays, which requires the score to implement {@link ScoreAssociationPacked}.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	public abstract void associate( PackedTupleArray<D> src , PackedTupleArray<D> dst );
+
+	/**
+	 * Resets and resizes internal data structures for the number of source and destination objects
+	 */
+	void initialize( int sizeSrc , int sizeDst ) {
+		fitQuality.reset();
+		pairs.reset();
+		workBuffer.reset();
+
+		pairs.resize(sizeSrc);
+		fitQuality.resize(sizeSrc);
+		workBuffer.resize(sizeSrc*sizeDst);
+	}
+
+	/**
+	 * Returns the score as a {@link ScoreAssociationPacked} or throws an exception if it isn't one
+	 */
+	ScoreAssociationPacked<D> getPackedScore() {
+		if( !(score instanceof ScoreAssociationPacked) )
+			throw new IllegalArgumentException("Score must implement ScoreAssociationPacked to associate packed arrays");
+		return (ScoreAssociationPacked<D>)score;
+	}
+
 	/**
 	 * Returns a list of association pairs.  Each element in the returned list corresponds
 	 * to an element in the src list.  The value contained in the index indicate which element
@@ -19,7 +19,9 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.ScoreAssociationPacked;
 import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 
@@ -63,13 +65,7 @@ public class AssociateGreedy_MT<D> extends AssociateGreedyBase<D> {
 	@Override
 	public void associate( FastQueue<D> src , FastQueue<D> dst )
 	{
-		fitQuality.reset();
-		pairs.reset();
-		workBuffer.reset();
-
-		pairs.resize(src.size);
-		fitQuality.resize(src.size);
-		workBuffer.resize(src.size*dst.size);
+		initialize(src.size,dst.size);
 
 		BoofConcurrency.loopFor(0, src.size, i -> {
 			D a = src.data[i];
@@ -92,22 +88,64 @@ public class AssociateGreedy_MT<D> extends AssociateGreedyBase<D> {
 			fitQuality.set(i,bestScore);
 		});
 
-		if( backwardsValidation ) {
-			BoofConcurrency.loopFor(0, src.size, i -> {
-				int match = pairs.data[i];
-				if( match == -1 )
-					return;
+		if( backwardsValidation )
+			validateBackwards(src.size,dst.size);
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score. Descriptors are scored
+	 * while inside the packed arrays, which requires the score to implement {@link ScoreAssociationPacked}.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	@Override
+	public void associate( PackedTupleArray<D> src , PackedTupleArray<D> dst )
+	{
+		final ScoreAssociationPacked<D> packedScore = getPackedScore();
+		final int sizeDst = dst.size();
+		initialize(src.size(),sizeDst);
+
+		BoofConcurrency.loopFor(0, src.size(), i -> {
+			double bestScore = maxFitError;
+			int bestIndex = -1;
+
+			int workIdx = i*sizeDst;
+			packedScore.scoreAll(src,i,dst,workBuffer.data,workIdx);
+			for( int j = 0; j < sizeDst; j++ ) {
+				double fit = workBuffer.data[workIdx+j];
+
+				if( fit <= bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs.set(i,bestIndex);
+			fitQuality.set(i,bestScore);
+		});
+
+		if( backwardsValidation )
+			validateBackwards(src.size(),sizeDst);
+	}
 
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
+	/**
+	 * Removes associations which are not mutually the best match for each other
+	 */
+	private void validateBackwards( int sizeSrc , int sizeDst ) {
+		BoofConcurrency.loopFor(0, sizeSrc, i -> {
+			int match = pairs.data[i];
+			if( match == -1 )
+				return;
 
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
-					}
+			double scoreToBeat = workBuffer.data[i*sizeDst+match];
+
+			for( int j = 0; j < sizeSrc; j++ , match += sizeDst ) {
+				if( workBuffer.data[match] <= scoreToBeat && j != i) {
+					pairs.data[i] = -1;
+					fitQuality.data[i] = Double.MAX_VALUE;
+					break;
 				}
-			});
-		}
+			}
+		});
 	}
 }
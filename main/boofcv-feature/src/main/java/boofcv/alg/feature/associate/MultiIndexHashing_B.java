@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Nearest neighbor search for binary descriptors using Hamming distance and multi-index hashing [1]. Each
+ * descriptor is split into disjoint substrings and a hash table is built for each substring, where the key is
+ * the substring's value. When searching, buckets whose key is within a Hamming distance of 'r' from the query's
+ * substring are inspected for r = 0, 1, 2, ... Only descriptors found in an inspected bucket have their full
+ * distance computed. Since a descriptor which was not found must differ by more than r bits in every substring,
+ * the search stops once the best solution is less than numTables*(r+1), which guarantees the exact solution.
+ * </p>
+ *
+ * <p>
+ * Speed is traded for recall by limiting the maximum radius that's searched and the number of candidates
+ * considered. If either limit is hit then the returned solution is approximate. Distance is the number of bits
+ * which are different.
+ * </p>
+ *
+ * <p>
+ * [1] Norouzi, Mohammad, Ali Punjani, and David J. Fleet. "Fast search in hamming space with multi-index hashing."
+ * CVPR 2012
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultiIndexHashing_B implements NearestNeighbor<TupleDesc_B> {
+	// number of bits in each substring. The last substring can have fewer bits
+	int bitsPerTable;
+	// Maximum Hamming distance from the query's substring that buckets are searched
+	int maxProbeRadius;
+	// Maximum number of candidates whose distance is computed. If &le; 0 then there is no limit
+	int maxCandidates;
+
+	// the original descriptors
+	List<TupleDesc_B> points;
+	// copy of the descriptors packed into a single array
+	PackedTupleArray_B packed = new PackedTupleArray_B(0);
+
+	// number of substrings / hash tables
+	int numTables;
+	// number of bits in each table's key
+	int[] tableBits = new int[0];
+	// index of the first element in bucketPoints for each key. Has 2^bits + 1 elements
+	int[][] bucketStart = new int[0][];
+	// indexes of points in each bucket, ordered by key
+	int[][] bucketPoints = new int[0][];
+
+	/**
+	 * Configures the search.
+	 *
+	 * @param bitsPerTable Number of bits in each substring. Try 16. Each table has 2^bitsPerTable buckets.
+	 * @param maxProbeRadius Maximum Hamming distance from each of the query's substrings that's searched.
+	 *                       Larger values improve recall but are slower. Try 2.
+	 * @param maxCandidates Maximum number of descriptors that have their distance computed in a single search.
+	 *                      If &le; 0 then there is no limit.
+	 */
+	public MultiIndexHashing_B( int bitsPerTable , int maxProbeRadius , int maxCandidates ) {
+		if( bitsPerTable < 1 || bitsPerTable > 24 )
+			throw new IllegalArgumentException("bitsPerTable must be from 1 to 24");
+		if( maxProbeRadius < 0 )
+			throw new IllegalArgumentException("maxProbeRadius must be >= 0");
+		this.bitsPerTable = bitsPerTable;
+		this.maxProbeRadius = maxProbeRadius;
+		this.maxCandidates = maxCandidates;
+	}
+
+	@Override
+	public void setPoints(List<TupleDesc_B> points, boolean trackIndicies) {
+		this.points = points;
+
+		int numBits = points.isEmpty() ? 0 : points.get(0).numBits;
+		if( packed.numBits != numBits )
+			packed = new PackedTupleArray_B(numBits);
+		packed.reset();
+		packed.reserve(points.size());
+		for (int i = 0; i < points.size(); i++) {
+			packed.append(points.get(i));
+		}
+
+		numTables = (numBits + bitsPerTable - 1)/bitsPerTable;
+		if( tableBits.length < numTables ) {
+			tableBits = new int[numTables];
+			bucketStart = new int[numTables][];
+			bucketPoints = new int[numTables][];
+		}
+
+		final int N = points.size();
+		for (int table = 0; table < numTables; table++) {
+			int bit0 = table*bitsPerTable;
+			int bits = tableBits[table] = Math.min(bitsPerTable,numBits-bit0);
+			int numKeys = 1 << bits;
+
+			int[] start = bucketStart[table];
+			if( start == null || start.length != numKeys+1 )
+				start = bucketStart[table] = new int[numKeys+1];
+			else
+				Arrays.fill(start,0);
+			int[] members = bucketPoints[table];
+			if( members == null || members.length < N )
+				members = bucketPoints[table] = new int[N];
+
+			// count the number of points in each bucket then use that to find where each bucket starts
+			for (int i = 0; i < N; i++) {
+				start[extractKey(packed.data,packed.offset(i),bit0,bits)+1]++;
+			}
+			for (int key = 0; key < numKeys; key++) {
+				start[key+1] += start[key];
+			}
+			// 'start' is used as the insertion location then shifted back
+			for (int i = 0; i < N; i++) {
+				int key = extractKey(packed.data,packed.offset(i),bit0,bits);
+				members[start[key]++] = i;
+			}
+			System.arraycopy(start,0,start,1,numKeys);
+			start[0] = 0;
+		}
+	}
+
+	/**
+	 * Extracts the value of a substring from a binary descriptor.
+	 *
+	 * @param data Array containing the descriptor
+	 * @param offset First element of the descriptor in data
+	 * @param bit0 First bit in the substring
+	 * @param length Number of bits in the substring. &le; 24
+	 */
+	static int extractKey( int[] data , int offset , int bit0 , int length ) {
+		int index = offset + (bit0 >>> 5);
+		int shift = bit0 & 31;
+		long value = data[index] & 0xFFFFFFFFL;
+		if( shift + length > 32 )
+			value |= (data[index+1] & 0xFFFFFFFFL) << 32;
+		return (int)((value >>> shift) & ((1L << length)-1));
+	}
+
+	@Override
+	public Search<TupleDesc_B> createSearch() {
+		return new InternalSearch();
+	}
+
+	public int getBitsPerTable() {
+		return bitsPerTable;
+	}
+
+	public int getMaxProbeRadius() {
+		return maxProbeRadius;
+	}
+
+	public void setMaxProbeRadius(int maxProbeRadius) {
+		this.maxProbeRadius = maxProbeRadius;
+	}
+
+	public int getMaxCandidates() {
+		return maxCandidates;
+	}
+
+	public void setMaxCandidates(int maxCandidates) {
+		this.maxCandidates = maxCandidates;
+	}
+
+	/**
+	 * Search specific storage so that multiple searches can run at the same time
+	 */
+	private class InternalSearch implements Search<TupleDesc_B> {
+		// marks points which have already been considered in the current search
+		int[] visited = new int[0];
+		int stamp = 0;
+
+		// value of each substring in the query
+		int[] queryKeys = new int[0];
+		TupleDesc_B query;
+
+		// the best solutions found so far, sorted by distance
+		int[] bestIndex = new int[1];
+		int[] bestDistance = new int[1];
+		int numBest;
+		int maxNeighbors;
+
+		int threshold;
+		int candidates;
+		boolean done;
+
+		@Override
+		public boolean findNearest(TupleDesc_B point, double maxDistance, NnData<TupleDesc_B> result) {
+			search(point,maxDistance,1);
+			if( numBest == 0 )
+				return false;
+			result.index = bestIndex[0];
+			result.point = points.get(bestIndex[0]);
+			result.distance = bestDistance[0];
+			return true;
+		}
+
+		@Override
+		public void findNearest(TupleDesc_B point, double maxDistance, int numNeighbors,
+								FastQueue<NnData<TupleDesc_B>> results) {
+			results.reset();
+			search(point,maxDistance,numNeighbors);
+			for (int i = 0; i < numBest; i++) {
+				NnData<TupleDesc_B> r = results.grow();
+				r.index = bestIndex[i];
+				r.point = points.get(bestIndex[i]);
+				r.distance = bestDistance[i];
+			}
+		}
+
+		private void search( TupleDesc_B point , double maxDistance , int numNeighbors ) {
+			numBest = 0;
+			if( packed.size() == 0 )
+				return;
+			if( point.numBits != packed.numBits )
+				throw new IllegalArgumentException("Expected descriptor with "+packed.numBits+" bits not "+point.numBits);
+
+			initialize(numNeighbors);
+			query = point;
+			threshold = maxDistance < 0 || maxDistance >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)maxDistance;
+			candidates = 0;
+			done = false;
+
+			for (int table = 0; table < numTables; table++) {
+				queryKeys[table] = extractKey(point.data,0,table*bitsPerTable,tableBits[table]);
+			}
+
+			for (int radius = 0; radius <= maxProbeRadius && !done; radius++) {
+				for (int table = 0; table < numTables && !done; table++) {
+					probe(table,queryKeys[table],0,radius);
+				}
+
+				// all points which haven't been seen are at least this far away
+				long lowerBound = (long)numTables*(radius+1);
+				if( lowerBound > threshold )
+					break;
+				if( numBest == maxNeighbors && bestDistance[numBest-1] < lowerBound )
+					break;
+			}
+		}
+
+		private void initialize( int numNeighbors ) {
+			maxNeighbors = numNeighbors;
+			if( bestIndex.length < numNeighbors ) {
+				bestIndex = new int[numNeighbors];
+				bestDistance = new int[numNeighbors];
+			}
+			if( queryKeys.length < numTables )
+				queryKeys = new int[numTables];
+			if( visited.length < packed.size() ) {
+				visited = new int[packed.size()];
+				stamp = 0;
+			}
+			if( stamp == Integer.MAX_VALUE ) {
+				Arrays.fill(visited,0);
+				stamp = 0;
+			}
+			stamp++;
+		}
+
+		/**
+		 * Inspects all the buckets whose key differs from 'key' by exactly 'remaining' bits, flipping only bits
+		 * at or after 'firstBit'
+		 */
+		private void probe( int table , int key , int firstBit , int remaining ) {
+			if( remaining == 0 ) {
+				inspectBucket(table,key);
+				return;
+			}
+			for (int bit = firstBit; bit < tableBits[table] && !done; bit++) {
+				probe(table,key ^ (1 << bit),bit+1,remaining-1);
+			}
+		}
+
+		private void inspectBucket( int table , int key ) {
+			int[] start = bucketStart[table];
+			int[] members = bucketPoints[table];
+
+			for (int i = start[key]; i < start[key+1]; i++) {
+				int index = members[i];
+				if( visited[index] == stamp )
+					continue;
+				visited[index] = stamp;
+
+				int distance = DescriptorDistance.hamming(query.data,0,packed.data,packed.offset(index),packed.numInts);
+				if( distance <= threshold )
+					addSolution(index,distance);
+
+				if( maxCandidates > 0 && ++candidates >= maxCandidates ) {
+					done = true;
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Inserts the solution into the sorted list of best solutions
+		 */
+		private void addSolution( int index , int distance ) {
+			if( numBest == maxNeighbors ) {
+				if( distance >= bestDistance[numBest-1] )
+					return;
+				numBest--;
+			}
+			int i = numBest;
+			while( i > 0 && bestDistance[i-1] > distance ) {
+				bestIndex[i] = bestIndex[i-1];
+				bestDistance[i] = bestDistance[i-1];
+				i--;
+			}
+			bestIndex[i] = index;
+			bestDistance[i] = distance;
+			numBest++;
+		}
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.feature.dense;
 import boofcv.abst.feature.dense.DescribeImageDenseHoG;
 import boofcv.alg.feature.describe.DescribeSiftCommon;
 import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import georegression.metric.UtilAngle;
@@ -57,6 +58,10 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 	// number of cell rows and columns in the image
 	int cellRows,cellCols;
 
+	// storage for the gradient inside a region which has been updated
+	GrayF32 workX = new GrayF32(1,1);
+	GrayF32 workY = new GrayF32(1,1);
+
 	/**
 	 * Configures HOG descriptor computation
 	 *
@@ -73,28 +78,138 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 		super(orientationBins, pixelsPerCell, cellsPerBlockX, cellsPerBlockY, stepBlock, imageType);
 	}
 
+	/**
+	 * Specifies input image.  Gradient is computed immediately and all the cell histograms are marked as
+	 * being out of date.
+	 *
+	 * @param input input image
+	 */
+	@Override
+	public void setInput( Input input ) {
+		super.setInput(input);
+
+		// see if the cell array needs to grow for this image.  Recycle data when growing
+		growCellArray(input.width, input.height);
+		markDirty(0,cellRows,0,cellCols);
+	}
+
+	/**
+	 * Informs it that only a rectangular region inside the input image has changed since the last call to
+	 * {@link #setInput} or this function.  The gradient is only recomputed around the region and only cells
+	 * which are touched by the change will have their histogram recomputed.  Useful when processing video
+	 * from a stationary camera where most of the image is static.
+	 *
+	 * @param input The modified input image.  Must have the same shape as the previous image.
+	 * @param x0 Lower extent of changed region along x-axis, inclusive
+	 * @param y0 Lower extent of changed region along y-axis, inclusive
+	 * @param x1 Upper extent of changed region along x-axis, exclusive
+	 * @param y1 Upper extent of changed region along y-axis, exclusive
+	 */
+	public void updateInput( Input input , int x0 , int y0 , int x1 , int y1 ) {
+		if( input.width != derivX.width || input.height != derivX.height )
+			throw new IllegalArgumentException("Input image has a different shape. Call setInput() instead");
+
+		x0 = Math.max(0,x0); y0 = Math.max(0,y0);
+		x1 = Math.min(input.width,x1); y1 = Math.min(input.height,y1);
+		if( x0 >= x1 || y0 >= y1 )
+			return;
+
+		// The gradient kernel has a radius of one so pixels just outside the region are also modified.
+		// Add another pixel so that the image border of the sub-image doesn't influence the copied pixels
+		int ux0 = Math.max(0,x0-1), uy0 = Math.max(0,y0-1);
+		int ux1 = Math.min(input.width,x1+1), uy1 = Math.min(input.height,y1+1);
+		int ex0 = Math.max(0,x0-2), ey0 = Math.max(0,y0-2);
+		int ex1 = Math.min(input.width,x1+2), ey1 = Math.min(input.height,y1+2);
+
+		workX.reshape(ex1-ex0,ey1-ey0);
+		workY.reshape(ex1-ex0,ey1-ey0);
+		gradient.process(input.subimage(ex0,ey0,ex1,ey1),workX,workY);
+
+		int length = ux1-ux0;
+		for (int y = uy0; y < uy1; y++) {
+			int indexWork = (y-ey0)*workX.width + (ux0-ex0);
+			int indexDeriv = y*derivX.width + ux0;
+			System.arraycopy(workX.data,indexWork,derivX.data,indexDeriv,length);
+			System.arraycopy(workY.data,indexWork,derivY.data,indexDeriv,length);
+		}
+
+		// cells which contain a modified pixel
+		markDirty(uy0/pixelsPerCell,Math.min(cellRows,(uy1-1)/pixelsPerCell+1),
+				ux0/pixelsPerCell,Math.min(cellCols,(ux1-1)/pixelsPerCell+1));
+	}
+
+	/**
+	 * Marks the histogram in cells inside the specified range as being out of date
+	 */
+	void markDirty( int row0 , int row1 , int col0 , int col1 ) {
+		for (int row = row0; row < row1; row++) {
+			for (int col = col0; col < col1; col++) {
+				cells[row*cellCols + col].dirty = true;
+			}
+		}
+	}
+
 	/**
 	 * Computes the descriptor across the input image
 	 */
 	@Override
 	public void process() {
+		updateCellHistograms(0,cellRows,0,cellCols);
+
+		int cellRowMax = (cellRows - (cellsPerBlockY -1));
+		int cellColMax = (cellCols - (cellsPerBlockX -1));
+
+		int blockRows = cellRowMax > 0 ? (cellRowMax+stepBlock-1)/stepBlock : 0;
+		int blockCols = cellColMax > 0 ? (cellColMax+stepBlock-1)/stepBlock : 0;
+
+		locations.resize(blockRows*blockCols);
+		descriptions.resize(blockRows*blockCols);
+
+		computeDescriptors(blockRows,blockCols);
+	}
+
+	/**
+	 * Computes descriptors only for blocks which are entirely contained inside the specified region. Only
+	 * cell histograms inside the region which are out of date are recomputed. Blocks are sampled from the same grid
+	 * as in {@link #process()} so the descriptors will be identical.
+	 *
+	 * @param pixelX0 Pixel coordinate X-axis lower extent, inclusive
+	 * @param pixelY0 Pixel coordinate Y-axis lower extent, inclusive
+	 * @param pixelX1 Pixel coordinate X-axis upper extent, exclusive
+	 * @param pixelY1 Pixel coordinate Y-axis upper extent, exclusive
+	 */
+	public void processRegion( int pixelX0 , int pixelY0 , int pixelX1 , int pixelY1 ) {
 		locations.reset();
 		descriptions.reset();
 
-		// see if the cell array needs to grow for this image.  Recycle data when growing
-		growCellArray(derivX.width, derivX.height);
+		int cellRowMax = Math.min(cellRows,pixelY1/pixelsPerCell) - (cellsPerBlockY -1);
+		int cellColMax = Math.min(cellCols,pixelX1/pixelsPerCell) - (cellsPerBlockX -1);
 
-		computeCellHistograms();
+		// first block on the grid which is inside the region
+		int row0 = firstBlock(pixelY0);
+		int col0 = firstBlock(pixelX0);
 
-		int cellRowMax = (cellRows - (cellsPerBlockY -1));
-		int cellColMax = (cellCols - (cellsPerBlockX -1));
+		if( row0 >= cellRowMax || col0 >= cellColMax )
+			return;
 
-		for (int i = 0; i < cellRowMax; i += stepBlock) {
-			for (int j = 0; j < cellColMax; j += stepBlock) {
+		// only update cells which are used by the blocks
+		int lastRow = row0 + ((cellRowMax-1-row0)/stepBlock)*stepBlock;
+		int lastCol = col0 + ((cellColMax-1-col0)/stepBlock)*stepBlock;
+		updateCellHistograms(row0,lastRow+cellsPerBlockY,col0,lastCol+cellsPerBlockX);
+
+		for (int i = row0; i < cellRowMax; i += stepBlock) {
+			for (int j = col0; j < cellColMax; j += stepBlock) {
 				computeDescriptor(i,j);
 			}
 		}
+	}
 
+	/**
+	 * Index of the first cell on the block grid which is at or after the pixel coordinate
+	 */
+	private int firstBlock( int pixel ) {
+		int cell = (Math.max(0,pixel) + pixelsPerCell - 1)/pixelsPerCell;
+		return ((cell + stepBlock - 1)/stepBlock)*stepBlock;
 	}
 
 	/**
@@ -142,6 +257,31 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 		}
 	}
 
+	/**
+	 * Computes the descriptor for every block.  Blocks are processed in row-major order.
+	 *
+	 * @param blockRows Number of block rows
+	 * @param blockCols Number of block columns
+	 */
+	void computeDescriptors( int blockRows , int blockCols ) {
+		for (int i = 0; i < blockRows; i++) {
+			computeDescriptorRow(i,blockCols);
+		}
+	}
+
+	/**
+	 * Computes the descriptors for all the blocks in a single row of blocks
+	 */
+	void computeDescriptorRow( int blockRow , int blockCols ) {
+		int row = blockRow*stepBlock;
+		int index = blockRow*blockCols;
+		for (int j = 0; j < blockCols; j++, index++) {
+			int col = j*stepBlock;
+			locations.get(index).set(col* pixelsPerCell,row* pixelsPerCell);
+			computeDescriptor(row,col,descriptions.get(index));
+		}
+	}
+
 	/**
 	 * Compute the descriptor from the specified cells.  (row,col) to (row+w,col+w)
 	 * @param row Lower extent of cell rows
@@ -151,8 +291,18 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 		// set location to top-left pixel
 		locations.grow().set(col* pixelsPerCell,row* pixelsPerCell);
 
-		TupleDesc_F64 d = descriptions.grow();
+		computeDescriptor(row,col,descriptions.grow());
+	}
 
+	/**
+	 * Compute the descriptor from the specified cells and writes it into the provided storage.
+	 * Cell histograms must be up to date.
+	 *
+	 * @param row Lower extent of cell rows
+	 * @param col Lower extent of cell columns
+	 * @param d (Output) storage for the descriptor
+	 */
+	void computeDescriptor(int row, int col, TupleDesc_F64 d) {
 		int indexDesc = 0;
 		for (int i = 0; i < cellsPerBlockY; i++) {
 			for (int j = 0; j < cellsPerBlockX; j++) {
@@ -169,48 +319,82 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 	}
 
 	/**
-	 * Compute histograms for all the cells inside the image using precomputed derivative.
+	 * Computes the descriptor for a block at the specified location on demand. Out of date cell
+	 * histograms used by the block are recomputed first.
+	 *
+	 * @param row Lower extent of cell rows
+	 * @param col Lower extent of cell columns
+	 * @param output (Output) storage for the descriptor
+	 */
+	public void describeBlock( int row , int col , TupleDesc_F64 output ) {
+		if( row < 0 || col < 0 || row+cellsPerBlockY > cellRows || col+cellsPerBlockX > cellCols )
+			throw new IllegalArgumentException("Block is outside the image");
 
+		updateCellHistograms(row,row+cellsPerBlockY,col,col+cellsPerBlockX);
+		computeDescriptor(row,col,output);
+	}
+
+	/**
+	 * Compute histograms for all the cells inside the image using precomputed derivative.
 	 */
 	void computeCellHistograms() {
+		markDirty(0,cellRows,0,cellCols);
+		updateCellHistograms(0,cellRows,0,cellCols);
+	}
 
-		int width = cellCols* pixelsPerCell;
-		int height = cellRows* pixelsPerCell;
+	/**
+	 * Recomputes histograms for cells inside the specified range which are out of date
+	 *
+	 * @param row0 Lower extent of cell rows, inclusive
+	 * @param row1 Upper extent of cell rows, exclusive
+	 * @param col0 Lower extent of cell columns, inclusive
+	 * @param col1 Upper extent of cell columns, exclusive
+	 */
+	void updateCellHistograms( int row0 , int row1 , int col0 , int col1 ) {
+		for (int row = row0; row < row1; row++) {
+			updateCellHistogramRow(row,col0,col1);
+		}
+	}
 
+	/**
+	 * Recomputes histograms which are out of date in a single row of cells
+	 */
+	void updateCellHistogramRow( int row , int col0 , int col1 ) {
 		float angleBinSize = GrlConstants.F_PI/orientationBins;
 
-		int indexCell = 0;
-		for (int i = 0; i < height; i += pixelsPerCell) {
-			for (int j = 0; j < width; j += pixelsPerCell, indexCell++ ) {
-				Cell c = cells[indexCell];
-				c.reset();
+		int i = row*pixelsPerCell;
+		for (int col = col0; col < col1; col++) {
+			Cell c = cells[row*cellCols + col];
+			if( !c.dirty )
+				continue;
+			c.reset();
 
-				for (int k = 0; k < pixelsPerCell; k++) {
-					int indexPixel = (i+k)*derivX.width+j;
+			int j = col*pixelsPerCell;
+			for (int k = 0; k < pixelsPerCell; k++) {
+				int indexPixel = (i+k)*derivX.width+j;
 
-					for (int l = 0; l < pixelsPerCell; l++, indexPixel++ ) {
-						float pixelDX = this.derivX.data[indexPixel];
-						float pixelDY = this.derivY.data[indexPixel];
+				for (int l = 0; l < pixelsPerCell; l++, indexPixel++ ) {
+					float pixelDX = this.derivX.data[indexPixel];
+					float pixelDY = this.derivY.data[indexPixel];
 
-						// angle from 0 to pi radians
-						float angle = UtilAngle.atanSafe(pixelDY,pixelDX) + GrlConstants.F_PId2;
+					// angle from 0 to pi radians
+					float angle = UtilAngle.atanSafe(pixelDY,pixelDX) + GrlConstants.F_PId2;
 
-						// gradient magnitude
-						float magnitude = (float)Math.sqrt(pixelDX*pixelDX + pixelDY*pixelDY);
+					// gradient magnitude
+					float magnitude = (float)Math.sqrt(pixelDX*pixelDX + pixelDY*pixelDY);
 
-						// Add the weighted gradient using bilinear interpolation
-						float findex0 = angle/angleBinSize;
-						int index0 = (int)findex0;
-						float weight1 = findex0-index0;
-						index0 %= orientationBins;
-						int index1 = (index0+1)%orientationBins;
+					// Add the weighted gradient using bilinear interpolation
+					float findex0 = angle/angleBinSize;
+					int index0 = (int)findex0;
+					float weight1 = findex0-index0;
+					index0 %= orientationBins;
+					int index1 = (index0+1)%orientationBins;
 
-						c.histogram[index0] += magnitude*(1.0f-weight1);
-						c.histogram[index1] += magnitude*weight1;
-					}
+					c.histogram[index0] += magnitude*(1.0f-weight1);
+					c.histogram[index1] += magnitude*weight1;
 				}
-
 			}
+			c.dirty = false;
 		}
 	}
 
@@ -229,6 +413,8 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 	public static class Cell
 	{
 		public float histogram[];
+		// true if the histogram needs to be recomputed
+		boolean dirty = true;
 
 		public void reset() {
 			Arrays.fill(histogram,0);
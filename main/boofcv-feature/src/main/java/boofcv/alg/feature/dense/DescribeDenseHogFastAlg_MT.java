@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.dense;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Concurrent implementation of {@link DescribeDenseHogFastAlg}. Cell histograms and block descriptors are
+ * computed in parallel, one row at a time.
+ *
+ * @author Peter Abeles
+ */
+public class DescribeDenseHogFastAlg_MT<Input extends ImageBase<Input>> extends DescribeDenseHogFastAlg<Input> {
+
+	/**
+	 * @see DescribeDenseHogFastAlg
+	 */
+	public DescribeDenseHogFastAlg_MT(int orientationBins, int pixelsPerCell, int cellsPerBlockX, int cellsPerBlockY,
+									  int stepBlock, ImageType<Input> imageType) {
+		super(orientationBins, pixelsPerCell, cellsPerBlockX, cellsPerBlockY, stepBlock, imageType);
+	}
+
+	@Override
+	void updateCellHistograms( int row0 , int row1 , int col0 , int col1 ) {
+		BoofConcurrency.loopFor(row0,row1,row->updateCellHistogramRow(row,col0,col1));
+	}
+
+	@Override
+	void computeDescriptors( int blockRows , int blockCols ) {
+		BoofConcurrency.loopFor(0,blockRows,i->computeDescriptorRow(i,blockCols));
+	}
+}
@@ -59,6 +59,9 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 
 	// conversion from scale-space sigma to image pixels
 	double sigmaToPixels;
+	// used to create copies
+	double weightingSigmaFraction;
+	Class<Deriv> derivType;
 
 	// reference to user provided descriptor in which results are saved to
 	TupleDesc_F64 descriptor;
@@ -78,11 +81,21 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 							 double maxDescriptorElementValue , Class<Deriv> derivType ) {
 		super(widthSubregion,widthGrid,numHistogramBins,weightingSigmaFraction,maxDescriptorElementValue);
 		this.sigmaToPixels = sigmaToPixels;
+		this.weightingSigmaFraction = weightingSigmaFraction;
+		this.derivType = derivType;
 
 		imageDerivX = FactoryGImageGray.create(derivType);
 		imageDerivY = FactoryGImageGray.create(derivType);
 	}
 
+	/**
+	 * Creates a new instance with the same configuration. The image gradient is not copied.
+	 */
+	public DescribePointSift<Deriv> copy() {
+		return new DescribePointSift<>(widthSubregion,widthGrid,numHistogramBins,sigmaToPixels,
+				weightingSigmaFraction,maxDescriptorElementValue,derivType);
+	}
+
 	/**
 	 * Sets the image spacial derivatives.  These should be computed from an image at the appropriate scale
 	 * in scale-space.
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detect.extract.NonMaxLimiter;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.lists.RecycleStack;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Concurrent version of {@link CompleteSift}. Instead of describing each detection as soon as it's found, all the
+ * detections in a scale are collected first. Their orientations are then estimated in parallel, followed by their
+ * descriptors. Each thread has its own copy of the orientation and description algorithms. Features are saved
+ * in the same order as the single threaded version.
+ *
+ * The scale-space and non-maximum suppression are already concurrent when {@link BoofConcurrency#USE_CONCURRENT}
+ * is true.
+ *
+ * @author Peter Abeles
+ */
+public class CompleteSift_MT extends CompleteSift {
+
+	// detections in the current scale which have yet to be described
+	FastQueue<ScalePoint> pending = new FastQueue<>(ScalePoint.class, false);
+	// orientations found for each pending detection
+	FastQueue<GrowQueue_F64> pendingAngles = new FastQueue<>(GrowQueue_F64.class, true);
+	// index of the first feature for each pending detection
+	GrowQueue_I32 featureStart = new GrowQueue_I32();
+
+	// orientation and description algorithms for each thread
+	RecycleStack<Helper> helpers;
+
+	public CompleteSift_MT(SiftScaleSpace scaleSpace, double edgeR, NonMaxLimiter extractor,
+						   OrientationHistogramSift<GrayF32> orientation,
+						   DescribePointSift<GrayF32> describe) {
+		super(scaleSpace, edgeR, extractor, orientation, describe);
+
+		helpers = new RecycleStack<>(() -> new Helper(this.orientation.copy(),this.describe.copy()));
+	}
+
+	@Override
+	protected void detectFeatures(int scaleIndex) {
+		pending.reset();
+		super.detectFeatures(scaleIndex);
+		describePending();
+	}
+
+	@Override
+	protected void handleDetection(ScalePoint p) {
+		pending.add(p);
+	}
+
+	/**
+	 * Estimates the orientation of all pending detections, allocates a feature for each orientation, then
+	 * describes the features.
+	 */
+	void describePending() {
+		pendingAngles.resize(pending.size);
+		featureStart.resize(pending.size);
+
+		BoofConcurrency.loopBlocks(0,pending.size,(idx0,idx1)->{
+			Helper h = helpers.pop();
+			h.orientation.setImageGradient(derivX,derivY);
+			for (int i = idx0; i < idx1; i++) {
+				ScalePoint p = pending.get(i);
+				h.orientation.process(p.x/pixelScaleToInput,p.y/pixelScaleToInput,p.scale/pixelScaleToInput);
+				GrowQueue_F64 angles = pendingAngles.get(i);
+				GrowQueue_F64 found = h.orientation.getOrientations();
+				angles.reset();
+				for (int j = 0; j < found.size; j++) {
+					angles.add(found.data[j]);
+				}
+			}
+			helpers.recycle(h);
+		});
+
+		// add the features in the same order as the single threaded version
+		for (int i = 0; i < pending.size; i++) {
+			ScalePoint p = pending.get(i);
+			GrowQueue_F64 angles = pendingAngles.get(i);
+			featureStart.data[i] = features.size;
+			for (int j = 0; j < angles.size; j++) {
+				features.grow().white = p.white;
+				orientations.add(angles.get(j));
+				locations.add(p);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(0,pending.size,(idx0,idx1)->{
+			Helper h = helpers.pop();
+			h.describe.setImageGradient(derivX,derivY);
+			for (int i = idx0; i < idx1; i++) {
+				ScalePoint p = pending.get(i);
+				GrowQueue_F64 angles = pendingAngles.get(i);
+				int start = featureStart.data[i];
+				for (int j = 0; j < angles.size; j++) {
+					h.describe.process(p.x/pixelScaleToInput,p.y/pixelScaleToInput,p.scale/pixelScaleToInput,
+							angles.get(j),features.get(start+j));
+				}
+			}
+			helpers.recycle(h);
+		});
+	}
+
+	static class Helper {
+		OrientationHistogramSift<GrayF32> orientation;
+		DescribePointSift<GrayF32> describe;
+
+		Helper(OrientationHistogramSift<GrayF32> orientation, DescribePointSift<GrayF32> describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
+}
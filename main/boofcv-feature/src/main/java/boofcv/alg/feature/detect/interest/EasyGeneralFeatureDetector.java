@@ -25,6 +25,8 @@ import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageType;
 
 /**
  * Detects features using {@link GeneralFeatureDetector} but Handles all the derivative computations automatically.
@@ -47,6 +49,10 @@ public class EasyGeneralFeatureDetector<T extends ImageGray<T>, D extends ImageG
 	protected D derivYY; // second derivative y-y
 	protected D derivXY; // second derivative x-y
 
+	// If not null then derivative images are borrowed from this pool while detecting
+	protected ImagePool pool;
+	protected ImageType<D> derivType;
+
 	/**
 	 * Configures detector and uses default image derivatives.
 	 *
@@ -89,6 +95,8 @@ public class EasyGeneralFeatureDetector<T extends ImageGray<T>, D extends ImageG
 	 * Declare storage for image derivatives as needed
 	 */
 	private void declareDerivativeImages(ImageGradient<T, D> gradient, ImageHessian<D> hessian, Class<D> derivType) {
+		if( derivType != null )
+			this.derivType = ImageType.single(derivType);
 		if( gradient != null || hessian != null ) {
 			derivX = GeneralizedImageOps.createSingleBand(derivType, 1, 1);
 			derivY = GeneralizedImageOps.createSingleBand(derivType,1,1);
@@ -108,15 +116,62 @@ public class EasyGeneralFeatureDetector<T extends ImageGray<T>, D extends ImageG
 	 */
 	public void detect(T input, QueueCorner exclude ) {
 
-		initializeDerivatives(input);
+		if( pool != null )
+			borrowDerivatives(input);
+		else
+			initializeDerivatives(input);
+
+		try {
+			if (detector.getRequiresGradient() || detector.getRequiresHessian())
+				gradient.process(input, derivX, derivY);
+			if (detector.getRequiresHessian())
+				hessian.process(derivX, derivY, derivXX, derivYY, derivXY);
+
+			detector.setExcludeMaximum(exclude);
+			detector.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+		} finally {
+			if( pool != null )
+				recycleDerivatives();
+		}
+	}
+
+	private void borrowDerivatives(T input) {
+		if (detector.getRequiresGradient() || detector.getRequiresHessian()) {
+			derivX = pool.borrow(derivType, input.width, input.height);
+			derivY = pool.borrow(derivType, input.width, input.height);
+		}
+		if (detector.getRequiresHessian()) {
+			derivXX = pool.borrow(derivType, input.width, input.height);
+			derivYY = pool.borrow(derivType, input.width, input.height);
+			derivXY = pool.borrow(derivType, input.width, input.height);
+		}
+	}
+
+	private void recycleDerivatives() {
+		if (detector.getRequiresGradient() || detector.getRequiresHessian()) {
+			pool.recycle(derivX, derivY);
+			derivX = derivY = null;
+		}
+		if (detector.getRequiresHessian()) {
+			pool.recycle(derivXX, derivYY, derivXY);
+			derivXX = derivYY = derivXY = null;
+		}
+	}
 
-		if (detector.getRequiresGradient() || detector.getRequiresHessian())
-			gradient.process(input, derivX, derivY);
-		if (detector.getRequiresHessian())
-			hessian.process(derivX, derivY, derivXX, derivYY, derivXY);
+	/**
+	 * Specifies a pool that derivative images are borrowed from while detecting. If null then the derivative
+	 * images are owned by this class.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		if( pool != null && derivType == null )
+			throw new IllegalArgumentException("Derivative type is unknown");
+		this.pool = pool;
+		if( pool == null && derivType != null )
+			declareDerivativeImages(gradient, hessian, derivType.getImageClass());
+	}
 
-		detector.setExcludeMaximum(exclude);
-		detector.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+	public ImagePool getImagePool() {
+		return pool;
 	}
 
 	/**
@@ -85,33 +85,33 @@ import java.util.List;
 public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 
 	// finds features from 2D intensity image
-	private NonMaxSuppression extractor;
+	protected NonMaxSuppression extractor;
 	// sorts feature by their intensity
-	private SelectNBestFeatures sortBest;
+	protected SelectNBestFeatures sortBest;
 	// the maximum number of returned feature per scale
-	private int maxFeaturesPerScale;
+	protected int maxFeaturesPerScale;
 
 	// local sub-space
-	private GrayF32 intensity[];
-	private int spaceIndex = 0;
-	private QueueCorner foundFeatures = new QueueCorner(100);
+	protected GrayF32 intensity[];
+	protected int spaceIndex = 0;
+	protected QueueCorner foundFeatures = new QueueCorner(100);
 
 	// List of found feature points
-	private FastQueue<ScalePoint> foundPoints = new FastQueue<>(10, ScalePoint.class, true);
+	protected FastQueue<ScalePoint> foundPoints = new FastQueue<>(10, ScalePoint.class, true);
 
 	// size of detected feature at the smallest scale
-	private int initialSize;
+	protected int initialSize;
 	// increment between kernel sizes as it goes up in scale
-	private int scaleStepSize;
+	protected int scaleStepSize;
 	// the number of octaves it examines
-	private int numberOfOctaves;
+	protected int numberOfOctaves;
 
 	// local variables that are predeclared
-	private int sizes[];
+	protected int sizes[];
 
 	// how often the image is sampled in the first octave
 	// a value of 1 would mean every pixel is sampled
-	private int initialSampleRate;
+	protected int initialSampleRate;
 
 	/**
 	 * <p>
@@ -154,12 +154,6 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	 * @param integral Image transformed into an integral image.
 	 */
 	public void detect( II integral ) {
-		if( intensity == null ) {
-			intensity = new GrayF32[3];
-			for( int i = 0; i < intensity.length; i++ ) {
-				intensity[i] = new GrayF32(integral.width,integral.height);
-			}
-		}
 		foundPoints.reset();
 
 		// computes feature intensity every 'skip' pixels
@@ -201,8 +195,15 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 		int h = integral.height/skip;
 
 		// resize the output intensity image taking in account subsampling
-		for( int i = 0; i < intensity.length; i++ ) {
-			intensity[i].reshape(w,h);
+		if( intensity == null ) {
+			intensity = new GrayF32[3];
+			for( int i = 0; i < intensity.length; i++ ) {
+				intensity[i] = new GrayF32(w,h);
+			}
+		} else {
+			for( int i = 0; i < intensity.length; i++ ) {
+				intensity[i].reshape(w,h);
+			}
 		}
 
 		// compute feature intensity in each level
@@ -215,39 +216,52 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 
 			// find maximum in scale space
 			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+				int index0 = spaceIndex;
+				int index1 = (spaceIndex + 1) % 3;
+				int index2 = (spaceIndex + 2) % 3;
+
+				findLocalScaleSpaceMax(intensity[index0],intensity[index1],intensity[index2],
+						featureSize[i-1],featureSize[i-1]-featureSize[i-2],skip,
+						extractor,sortBest,foundFeatures,foundPoints);
 			}
 		}
 	}
 
 	/**
-	 * Looks for features which are local maximums in the image and scale-space.
+	 * Looks for features which are local maximums in the image and scale-space. All the workspace is passed
+	 * in so that different levels can be processed independently of each other.
 	 *
-	 * @param size Size of features in different scale-spaces.
-	 * @param level Which level in the scale-space
+	 * @param lower Intensity of the smaller feature size
+	 * @param middle Intensity of the feature size which is being searched
+	 * @param upper Intensity of the larger feature size
+	 * @param levelSize Size of features in the middle level
+	 * @param sizeStep Difference in size between the middle and lower levels
 	 * @param skip How many pixels are skipped over.
+	 * @param extractor Finds local maximums in 2D space
+	 * @param sortBest Selects the most intense features. Can be null.
+	 * @param foundFeatures (Workspace) Storage for local maximums in 2D space
+	 * @param foundPoints (Output) Features which are found are added to this list
 	 */
-	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
-
-		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
-		GrayF32 inten1 = intensity[index1];
-		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index2], 0);
+	protected void findLocalScaleSpaceMax( GrayF32 lower , GrayF32 middle , GrayF32 upper ,
+										   int levelSize , int sizeStep , int skip ,
+										   NonMaxSuppression extractor , SelectNBestFeatures sortBest ,
+										   QueueCorner foundFeatures , FastQueue<ScalePoint> foundPoints ) {
+		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(lower, 0);
+		GrayF32 inten1 = middle;
+		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(upper, 0);
 
 		// find local maximums in image 2D space.  Borders need to be ignored since
 		// false positives are found around them as an artifact of pixels outside being
 		// treated as being zero.
 		foundFeatures.reset();
-		extractor.setIgnoreBorder(size[level] / (2 * skip));
-		extractor.process(intensity[index1],null,null,null,foundFeatures);
+		extractor.setIgnoreBorder(levelSize / (2 * skip));
+		extractor.process(middle,null,null,null,foundFeatures);
 
 		// Can't consider feature which are right up against the border since they might not be a true local
 		// maximum when you consider the features on the other side of the ignore border
 		int ignoreRadius = extractor.getIgnoreBorder() + extractor.getSearchRadius();
-		int ignoreWidth = intensity[index1].width-ignoreRadius;
-		int ignoreHeight = intensity[index1].height-ignoreRadius;
+		int ignoreWidth = middle.width-ignoreRadius;
+		int ignoreHeight = middle.height-ignoreRadius;
 
 		// number of features which can be added
 		int numberRemaining;
@@ -255,7 +269,7 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 		// if configured to do so, only select the features with the highest intensity
 		QueueCorner features;
 		if( sortBest != null ) {
-			sortBest.process(intensity[index1],foundFeatures,true);
+			sortBest.process(middle,foundFeatures,true);
 			features = sortBest.getBestCorners();
 			numberRemaining = maxFeaturesPerScale;
 		} else {
@@ -263,9 +277,6 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 			numberRemaining = Integer.MAX_VALUE;
 		}
 
-		int levelSize = size[level];
-		int sizeStep = levelSize-size[level-1];
-
 		// see if these local maximums are also a maximum in scale-space
 		for( int i = 0; i < features.size && numberRemaining > 0; i++ ) {
 			Point2D_I16 f = features.get(i);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link FastHessianFeatureDetector}. The intensity of every scale inside an octave
+ * is computed in parallel and then each level is searched for local maximums in parallel. Features from each level
+ * are added in the same order as the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageGray<II>> extends FastHessianFeatureDetector<II> {
+
+	// intensity image for every scale inside an octave
+	private GrayF32 layers[];
+	// features found inside of each level
+	private FastQueue<ScalePoint> levelPoints[];
+
+	// workspace for each thread
+	private RecycleStack<Helper> helpers;
+
+	/**
+	 * See {@link FastHessianFeatureDetector} for a description of the parameters.
+	 *
+	 * @param factoryExtractor Creates a new feature extractor for each thread. Should not be concurrent itself.
+	 */
+	public FastHessianFeatureDetector_MT(RecycleStack.Factory<NonMaxSuppression> factoryExtractor,
+										 int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves, int scaleStepSize) {
+		super(factoryExtractor.newInstance(), maxFeaturesPerScale, initialSampleRate, initialSize,
+				numberScalesPerOctave, numberOfOctaves, scaleStepSize);
+
+		helpers = new RecycleStack<>(()->new Helper(factoryExtractor.newInstance()));
+
+		layers = new GrayF32[numberScalesPerOctave];
+		for( int i = 0; i < layers.length; i++ ) {
+			layers[i] = new GrayF32(1,1);
+		}
+		levelPoints = new FastQueue[numberScalesPerOctave];
+		for( int i = 0; i < levelPoints.length; i++ ) {
+			levelPoints[i] = new FastQueue<>(10, ScalePoint.class, true);
+		}
+	}
+
+	@Override
+	protected void detectOctave( II integral , int skip , int ...featureSize ) {
+		int w = integral.width/skip;
+		int h = integral.height/skip;
+
+		// compute feature intensity in each level
+		BoofConcurrency.loopFor(0,featureSize.length,i->{
+			layers[i].reshape(w,h);
+			GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],layers[i]);
+		});
+
+		// find maximums in scale space. Levels at the top and bottom are only used for comparison
+		BoofConcurrency.loopFor(1,featureSize.length-1,level->{
+			Helper helper = helpers.pop();
+			FastQueue<ScalePoint> found = levelPoints[level];
+			found.reset();
+			findLocalScaleSpaceMax(layers[level-1],layers[level],layers[level+1],
+					featureSize[level],featureSize[level]-featureSize[level-1],skip,
+					helper.extractor,helper.sortBest,helper.foundFeatures,found);
+			helpers.recycle(helper);
+		});
+
+		// add the features in the same order they would have been found in the single threaded version
+		for( int level = 1; level < featureSize.length-1; level++ ) {
+			FastQueue<ScalePoint> found = levelPoints[level];
+			for( int i = 0; i < found.size; i++ ) {
+				foundPoints.grow().set(found.get(i));
+			}
+		}
+	}
+
+	private class Helper {
+		NonMaxSuppression extractor;
+		SelectNBestFeatures sortBest;
+		QueueCorner foundFeatures = new QueueCorner(100);
+
+		public Helper( NonMaxSuppression extractor ) {
+			this.extractor = extractor;
+			if( maxFeaturesPerScale > 0 )
+				sortBest = new SelectNBestFeatures(maxFeaturesPerScale);
+		}
+	}
+}
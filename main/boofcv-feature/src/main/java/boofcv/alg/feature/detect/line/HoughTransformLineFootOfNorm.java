@@ -29,6 +29,8 @@ import georegression.struct.point.Point2D_I16;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F32;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>
  * Hough transform based line detector.  Lines are parameterized based upon the (x,y) coordinate
@@ -93,23 +95,90 @@ public class HoughTransformLineFootOfNorm {
 	{
 		InputSanityCheck.checkSameShape(derivX,derivY,binary);
 
-		transform.reshape(derivX.width,derivY.height);
+		initialize(derivX.width,derivX.height);
+
+		transformRows(derivX,derivY,binary,0,binary.height,transform,candidates);
+	}
+
+	/**
+	 * Computes the Hough transform using the image gradient and a list of edge pixels instead of a binary image.
+	 * When only a small fraction of the image's pixels are edges this avoids scanning through the entire image.
+	 *
+	 * @param derivX Image derivative along x-axis.
+	 * @param derivY Image derivative along y-axis.
+	 * @param points Location of edge pixels
+	 */
+	public <D extends ImageGray<D>> void transform(D derivX , D derivY , QueueCorner points )
+	{
+		InputSanityCheck.checkSameShape(derivX,derivY);
+
+		initialize(derivX.width,derivX.height);
+
+		transformPoints(derivX,derivY,points,0,points.size,transform,candidates);
+	}
+
+	/**
+	 * Resizes and zeros the transform and selects the origin of its coordinate system
+	 */
+	protected void initialize( int width , int height ) {
+		transform.reshape(width,height);
 		ImageMiscOps.fill(transform,0);
 
-		originX = derivX.width/2;
-		originY = derivX.height/2;
+		originX = width/2;
+		originY = height/2;
 		candidates.reset();
+	}
 
+	/**
+	 * Adds votes from edge pixels in rows y0 to y1-1, inclusive.
+	 *
+	 * @param accumulator Image that votes are added to
+	 * @param candidates (Optional) Points which have two votes are added to this list
+	 */
+	protected <D extends ImageGray<D>> void transformRows(D derivX , D derivY , GrayU8 binary , int y0 , int y1 ,
+														 GrayF32 accumulator , @Nullable QueueCorner candidates )
+	{
 		if( derivX instanceof GrayF32)
-			_transform((GrayF32)derivX,(GrayF32)derivY,binary);
+			_transform((GrayF32)derivX,(GrayF32)derivY,binary,y0,y1,accumulator,candidates);
 		else if( derivX instanceof GrayS16)
-			_transform((GrayS16)derivX,(GrayS16)derivY,binary);
+			_transform((GrayS16)derivX,(GrayS16)derivY,binary,y0,y1,accumulator,candidates);
 		else if( derivX instanceof GrayS32)
-			_transform((GrayS32)derivX,(GrayS32)derivY,binary);
+			_transform((GrayS32)derivX,(GrayS32)derivY,binary,y0,y1,accumulator,candidates);
 		else
 			throw new IllegalArgumentException("Unsupported derivative image type: "+derivX.getClass().getSimpleName());
 	}
 
+	/**
+	 * Adds votes from the edge pixels with index idx0 to idx1-1, inclusive.
+	 *
+	 * @param accumulator Image that votes are added to
+	 * @param candidates (Optional) Points which have two votes are added to this list
+	 */
+	protected <D extends ImageGray<D>> void transformPoints(D derivX , D derivY , QueueCorner points , int idx0 , int idx1 ,
+														   GrayF32 accumulator , @Nullable QueueCorner candidates )
+	{
+		if( derivX instanceof GrayF32) {
+			GrayF32 dx = (GrayF32)derivX, dy = (GrayF32)derivY;
+			for (int i = idx0; i < idx1; i++) {
+				Point2D_I16 p = points.data[i];
+				parameterize(p.x,p.y,dx.get(p.x,p.y),dy.get(p.x,p.y),accumulator,candidates);
+			}
+		} else if( derivX instanceof GrayS16) {
+			GrayS16 dx = (GrayS16)derivX, dy = (GrayS16)derivY;
+			for (int i = idx0; i < idx1; i++) {
+				Point2D_I16 p = points.data[i];
+				parameterize(p.x,p.y,dx.get(p.x,p.y),dy.get(p.x,p.y),accumulator,candidates);
+			}
+		} else if( derivX instanceof GrayS32) {
+			GrayS32 dx = (GrayS32)derivX, dy = (GrayS32)derivY;
+			for (int i = idx0; i < idx1; i++) {
+				Point2D_I16 p = points.data[i];
+				parameterize(p.x,p.y,dx.get(p.x,p.y),dy.get(p.x,p.y),accumulator,candidates);
+			}
+		} else
+			throw new IllegalArgumentException("Unsupported derivative image type: "+derivX.getClass().getSimpleName());
+	}
+
 	/**
 	 * Searches for local maximas and converts into lines.
 	 *
@@ -148,6 +217,18 @@ public class HoughTransformLineFootOfNorm {
 	 * @param derivY gradient of point.
 	 */
 	public void parameterize( int x , int y , float derivX , float derivY )
+	{
+		parameterize(x,y,derivX,derivY,transform,candidates);
+	}
+
+	/**
+	 * Same as {@link #parameterize(int, int, float, float)} but the vote is added to the specified image
+	 *
+	 * @param accumulator Image that the vote is added to
+	 * @param candidates (Optional) Point is added to this list when it has two votes
+	 */
+	protected void parameterize( int x , int y , float derivX , float derivY ,
+								 GrayF32 accumulator , @Nullable QueueCorner candidates )
 	{
 		// put the point in a new coordinate system centered at the image's origin
 		// this minimizes error, which is a function of distance from origin
@@ -160,11 +241,11 @@ public class HoughTransformLineFootOfNorm {
 		int x0 = (int)(v*derivX) + originX;
 		int y0 = (int)(v*derivY) + originY;
 
-		if( transform.isInBounds(x0,y0)) {
-			int index = transform.startIndex+y0*transform.stride+x0;
+		if( accumulator.isInBounds(x0,y0)) {
+			int index = accumulator.startIndex+y0*accumulator.stride+x0;
 			// keep track of candidate pixels so that a sparse search can be done
 			// to detect lines
-			if( transform.data[index]++ == 1 )
+			if( accumulator.data[index]++ == 1 && candidates != null )
 				candidates.add(x0,y0);
 		}
 	}
@@ -188,49 +269,49 @@ public class HoughTransformLineFootOfNorm {
 		return foundIntensity.data;
 	}
 
-	private void _transform(GrayF32 derivX , GrayF32 derivY , GrayU8 binary )
+	private void _transform(GrayF32 derivX , GrayF32 derivY , GrayU8 binary , int y0 , int y1 ,
+							GrayF32 accumulator , @Nullable QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
 	}
 
-	private void _transform(GrayS16 derivX , GrayS16 derivY , GrayU8 binary )
+	private void _transform(GrayS16 derivX , GrayS16 derivY , GrayU8 binary , int y0 , int y1 ,
+							GrayF32 accumulator , @Nullable QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
 	}
 
-	private void _transform(GrayS32 derivX , GrayS32 derivY , GrayU8 binary )
+	private void _transform(GrayS32 derivX , GrayS32 derivY , GrayU8 binary , int y0 , int y1 ,
+							GrayF32 accumulator , @Nullable QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
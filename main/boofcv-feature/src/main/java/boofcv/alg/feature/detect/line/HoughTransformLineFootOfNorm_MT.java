@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link HoughTransformLineFootOfNorm}. Where a pixel votes in the transform
+ * depends on its gradient, so the input is split between threads and each thread votes into its own private
+ * accumulator. The accumulators are then summed together in parallel. The transform is identical to the
+ * single threaded version, but candidates are found after all the votes have been cast and will be in
+ * a different order.
+ *
+ * @author Peter Abeles
+ */
+public class HoughTransformLineFootOfNorm_MT extends HoughTransformLineFootOfNorm {
+
+	// storage for each thread's accumulator
+	RecycleStack<GrayF32> workspace = new RecycleStack<>(()->new GrayF32(1,1));
+	// accumulators used in the most recent call
+	final List<GrayF32> accumulators = new ArrayList<>();
+
+	public HoughTransformLineFootOfNorm_MT(NonMaxSuppression extractor, int minDistanceFromOrigin) {
+		super(extractor, minDistanceFromOrigin);
+	}
+
+	@Override
+	public <D extends ImageGray<D>> void transform(D derivX, D derivY, GrayU8 binary) {
+		InputSanityCheck.checkSameShape(derivX,derivY,binary);
+
+		initialize(derivX.width,derivX.height);
+
+		vote(binary.height,(idx0,idx1,accumulator)->
+				transformRows(derivX,derivY,binary,idx0,idx1,accumulator,null));
+	}
+
+	@Override
+	public <D extends ImageGray<D>> void transform(D derivX, D derivY, QueueCorner points) {
+		InputSanityCheck.checkSameShape(derivX,derivY);
+
+		initialize(derivX.width,derivX.height);
+
+		vote(points.size,(idx0,idx1,accumulator)->
+				transformPoints(derivX,derivY,points,idx0,idx1,accumulator,null));
+	}
+
+	/**
+	 * Splits the input up into blocks which vote into their own accumulators, then sums them
+	 *
+	 * @param length Number of elements in the input
+	 */
+	private void vote( int length , Voter voter ) {
+		accumulators.clear();
+		BoofConcurrency.loopBlocks(0,length,(idx0,idx1)->{
+			GrayF32 accumulator = workspace.pop();
+			accumulator.reshape(transform.width,transform.height);
+			ImageMiscOps.fill(accumulator,0);
+
+			voter.vote(idx0,idx1,accumulator);
+
+			synchronized (accumulators) {
+				accumulators.add(accumulator);
+			}
+		});
+
+		// add the votes together
+		BoofConcurrency.loopBlocks(0,transform.height,(y0,y1)->{
+			for (int y = y0; y < y1; y++) {
+				int indexT = transform.startIndex + y*transform.stride;
+				for (int i = 0; i < accumulators.size(); i++) {
+					GrayF32 accumulator = accumulators.get(i);
+					int indexA = accumulator.startIndex + y*accumulator.stride;
+					for (int x = 0; x < transform.width; x++) {
+						transform.data[indexT+x] += accumulator.data[indexA+x];
+					}
+				}
+			}
+		});
+
+		for (int i = 0; i < accumulators.size(); i++) {
+			workspace.recycle(accumulators.get(i));
+		}
+		accumulators.clear();
+
+		// points with two or more votes are candidates, same as when processed in a single thread
+		for (int y = 0; y < transform.height; y++) {
+			int index = transform.startIndex + y*transform.stride;
+			for (int x = 0; x < transform.width; x++, index++) {
+				if( transform.data[index] >= 2 )
+					candidates.add(x,y);
+			}
+		}
+	}
+
+	private interface Voter {
+		void vote( int idx0 , int idx1 , GrayF32 accumulator );
+	}
+}
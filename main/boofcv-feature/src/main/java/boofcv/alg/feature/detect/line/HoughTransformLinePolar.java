@@ -115,9 +115,7 @@ public class HoughTransformLinePolar {
 	{
 		ImageMiscOps.fill(transform, 0);
 
-		originX = binary.width/2;
-		originY = binary.height/2;
-		r_max = Math.sqrt(originX*originX+originY*originY);
+		initialize(binary.width,binary.height);
 
 		for( int y = 0; y < binary.height; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
@@ -131,6 +129,42 @@ public class HoughTransformLinePolar {
 		}
 	}
 
+	/**
+	 * Computes the Hough transform from a list of edge pixels instead of a binary image. When only a small
+	 * fraction of the image's pixels are edges this avoids scanning through the entire image.
+	 *
+	 * @param points Location of edge pixels
+	 * @param width Width of the image the points came from
+	 * @param height Height of the image the points came from
+	 */
+	public void transform( QueueCorner points , int width , int height )
+	{
+		ImageMiscOps.fill(transform, 0);
+
+		initialize(width,height);
+
+		vote(points,0,transform.height);
+	}
+
+	/**
+	 * Selects the origin of the transform's coordinate system using the image's shape
+	 */
+	protected void initialize( int width , int height ) {
+		originX = width/2;
+		originY = height/2;
+		r_max = Math.sqrt(originX*originX+originY*originY);
+	}
+
+	/**
+	 * Adds votes from each point to the angle bins from angle0 to angle1-1, inclusive.
+	 */
+	protected void vote( QueueCorner points , int angle0 , int angle1 ) {
+		for (int i = 0; i < points.size; i++) {
+			Point2D_I16 p = points.data[i];
+			parameterize(p.x,p.y,angle0,angle1);
+		}
+	}
+
 	/**
 	 * Searches for local maximas and converts into lines.
 	 *
@@ -192,6 +226,15 @@ public class HoughTransformLinePolar {
 	 * Converts the pixel coordinate into a line in parameter space
 	 */
 	public void parameterize( int x , int y )
+	{
+		parameterize(x,y,0,transform.height);
+	}
+
+	/**
+	 * Converts the pixel coordinate into a line in parameter space, but only for angle bins
+	 * from angle0 to angle1-1, inclusive.
+	 */
+	protected void parameterize( int x , int y , int angle0 , int angle1 )
 	{
 		// put the point in a new coordinate system centered at the image's origin
 		x -= originX;
@@ -200,7 +243,7 @@ public class HoughTransformLinePolar {
 		int w2 = transform.width/2;
 
 		// The line's slope is encoded using the tangent angle.  Those bins are along the image's y-axis
-		for( int i = 0; i < transform.height; i++ ) {
+		for( int i = angle0; i < angle1; i++ ) {
 			// distance of closest point on line from a line defined by the point (x,y) and
 			// the tangent theta=PI*i/height
 			double p = x*tableTrig.c[i] + y*tableTrig.s[i];
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayU8;
+
+import java.util.Arrays;
+
+/**
+ * Concurrent implementation of {@link HoughTransformLinePolar}. The angle bins in the transform are split
+ * between the threads. Each thread then votes for every edge pixel but only inside its own rows, which
+ * avoids the need for a private copy of the transform and a reduction step. The output is identical to
+ * the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class HoughTransformLinePolar_MT extends HoughTransformLinePolar {
+
+	// location of edge pixels in the binary image
+	QueueCorner edgePixels = new QueueCorner(10);
+
+	public HoughTransformLinePolar_MT(NonMaxSuppression extractor, int numBinsRange, int numBinsAngle) {
+		super(extractor, numBinsRange, numBinsAngle);
+	}
+
+	@Override
+	public void transform(GrayU8 binary) {
+		edgePixels.reset();
+		for( int y = 0; y < binary.height; y++ ) {
+			int start = binary.startIndex + y*binary.stride;
+			int stop = start + binary.width;
+
+			for( int index = start; index < stop; index++ ) {
+				if( binary.data[index] != 0 ) {
+					edgePixels.add(index-start,y);
+				}
+			}
+		}
+
+		transform(edgePixels,binary.width,binary.height);
+	}
+
+	@Override
+	public void transform(QueueCorner points, int width, int height) {
+		initialize(width,height);
+
+		BoofConcurrency.loopBlocks(0,transform.height,(angle0,angle1)->{
+			for (int i = angle0; i < angle1; i++) {
+				int index = transform.startIndex + i*transform.stride;
+				Arrays.fill(transform.data,index,index+transform.width,0);
+			}
+			vote(points,angle0,angle1);
+		});
+	}
+}
@@ -0,0 +1,634 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedF64;
+import boofcv.struct.lists.RecycleStack;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Computes the same template matching scores as {@link TemplateDiffSquared} and {@link TemplateNCC} but using
+ * the Fourier transform to compute the correlation between the image and the template. The cost of the direct
+ * approach grows with the template's area while the FFT's cost is approximately independent of the template's size,
+ * making this much faster for large templates.  Local sums of the image needed by the scores are found
+ * using integral images.
+ * </p>
+ *
+ * <p>
+ * The input image's transform is computed once in {@link #setInputImage}. Each {@link View}, including the one
+ * used when this class is invoked directly, saves the transform of the last template it processed, which has been
+ * zero padded to the image's size. It's reused until the template, mask, or the image's shape changes. This allows
+ * the same template to be matched against a sequence of images while only transforming each image once. Templates
+ * passed to {@link #computeIntensity} are not saved and are transformed every time.
+ * </p>
+ *
+ * <p>
+ * Several templates can be processed in parallel against the same image using {@link #createView()} or
+ * by calling {@link #computeIntensity} from multiple threads. Computations are done using double precision
+ * and template transforms are saved using single precision.
+ * </p>
+ *
+ * <p>
+ * Memory usage for an image with N pixels: The image's transforms and integral images use 56*N bytes. Each
+ * view's saved template transform uses 8*N bytes, or 16*N for {@link DiffSquared} with a mask. Each thread
+ * computing an intensity image uses a workspace of 32*N bytes.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class TemplateIntensityFFT implements TemplateMatchingIntensity<GrayF32> {
+
+	// reference to the input image
+	protected GrayF32 image;
+
+	// Fourier transform of the input image
+	protected InterleavedF64 fftImage = new InterleavedF64(1,1,2);
+	// Fourier transform of the input image squared. Only computed when needed
+	protected InterleavedF64 fftImageSq = new InterleavedF64(1,1,2);
+	protected boolean fftImageSqValid;
+
+	// Integral image of pixel values and pixel values squared. One pixel larger than the input image
+	protected GrayF64 integral = new GrayF64(1,1);
+	protected GrayF64 integralSq = new GrayF64(1,1);
+
+	// used to transform the input image
+	protected DiscreteFourierTransform<GrayF64,InterleavedF64> dft = DiscreteFourierTransformOps.createTransformF64();
+	protected GrayF64 work = new GrayF64(1,1);
+
+	// storage used when computing the intensity of a template. One for each thread
+	protected RecycleStack<Workspace> workspaces = new RecycleStack<>(Workspace::new);
+
+	// used when this class is directly invoked through TemplateMatchingIntensity
+	protected View local = new View();
+
+	@Override
+	public void setInputImage(GrayF32 image) {
+		this.image = image;
+
+		int width = image.width;
+		int height = image.height;
+
+		work.reshape(width,height);
+		integral.reshape(width+1,height+1);
+		integralSq.reshape(width+1,height+1);
+
+		for (int x = 0; x <= width; x++) {
+			integral.data[x] = 0;
+			integralSq.data[x] = 0;
+		}
+
+		for (int y = 0; y < height; y++) {
+			int indexImage = image.startIndex + y*image.stride;
+			int indexWork = y*width;
+			int indexII = (y+1)*(width+1);
+			integral.data[indexII] = 0;
+			integralSq.data[indexII] = 0;
+			indexII++;
+
+			double rowSum = 0, rowSumSq = 0;
+			for (int x = 0; x < width; x++, indexII++) {
+				double v = image.data[indexImage++];
+				work.data[indexWork++] = v;
+				rowSum += v;
+				rowSumSq += v*v;
+				integral.data[indexII] = integral.data[indexII-width-1] + rowSum;
+				integralSq.data[indexII] = integralSq.data[indexII-width-1] + rowSumSq;
+			}
+		}
+
+		fftImage.reshape(width,height);
+		dft.forward(work,fftImage);
+		fftImageSqValid = false;
+	}
+
+	/**
+	 * Returns the transform of the input image squared, computing it if needed
+	 */
+	protected synchronized InterleavedF64 getFftImageSq() {
+		if( !fftImageSqValid ) {
+			for (int y = 0; y < image.height; y++) {
+				int indexImage = image.startIndex + y*image.stride;
+				int indexWork = y*image.width;
+				for (int x = 0; x < image.width; x++) {
+					double v = image.data[indexImage++];
+					work.data[indexWork++] = v*v;
+				}
+			}
+			fftImageSq.reshape(image.width,image.height);
+			dft.forward(work,fftImageSq);
+			fftImageSqValid = true;
+		}
+		return fftImageSq;
+	}
+
+	/**
+	 * Creates a new instance of {@link TemplateMatchingIntensity} which matches templates against this instance's
+	 * input image. Each view has its own intensity image and saves the transform of the last template it
+	 * processed, so that multiple templates can be processed at the same time. The input image must be passed
+	 * to this instance and not the view.
+	 */
+	public View createView() {
+		return new View();
+	}
+
+	/**
+	 * Computes the intensity image for the specified template.  Can be called from multiple threads at the same
+	 * time after {@link #setInputImage} has been called. The template's transform is not saved.
+	 *
+	 * @param template Template image. Not modified.
+	 * @param mask Optional mask. Can be null.
+	 * @param intensity (Output) Intensity image. Reshaped to be the same size as the input image.
+	 */
+	public void computeIntensity( GrayF32 template , @Nullable GrayF32 mask , GrayF32 intensity ) {
+		computeIntensity(template,mask,null,intensity);
+	}
+
+	/**
+	 * Computes the intensity image for the specified template.
+	 *
+	 * @param saved If not null, the template's saved transform. Recomputed if it doesn't match the template.
+	 */
+	protected void computeIntensity( GrayF32 template , @Nullable GrayF32 mask ,
+									 @Nullable TemplateSpectrum saved , GrayF32 intensity ) {
+		if( image == null )
+			throw new IllegalArgumentException("Must call setInputImage() first");
+		if( template.width > image.width || template.height > image.height )
+			throw new IllegalArgumentException("Template must be smaller than the image");
+
+		Workspace ws = workspaces.pop();
+		ws.reshape(image.width,image.height);
+
+		TemplateSpectrum ts;
+		if( saved == null ) {
+			// the transforms are correlated inside the workspace and discarded
+			ts = ws.statistics;
+			setupTemplate(template,mask,ts);
+			transformTemplate(template,mask,ts,ws);
+			correlate(fftImage,ws.fftMult,ws,ws.correlation);
+			if( ts.maskCorrelated ) {
+				transformMask(mask,ws);
+				correlate(getFftImageSq(),ws.fftMult,ws,ws.correlationMask);
+			}
+		} else {
+			ts = saved;
+			if( !ts.matches(template,mask,image.width,image.height) ) {
+				computeSpectrum(template,mask,ts,ws);
+			}
+			correlate(fftImage,ts.fft,ws,ws.correlation);
+			if( ts.maskCorrelated ) {
+				correlate(getFftImageSq(),ts.fftMask,ws,ws.correlationMask);
+			}
+		}
+
+		intensity.reshape(image.width,image.height);
+
+		int w = image.width - template.width;
+		int h = image.height - template.height;
+		int borderX0 = template.width / 2;
+		int borderY0 = template.height / 2;
+
+		for (int y = 0; y < h; y++) {
+			int index = intensity.startIndex + (y + borderY0) * intensity.stride + borderX0;
+			for (int x = 0; x < w; x++) {
+				intensity.data[index++] = score(x,y,template.width,template.height,ts,ws);
+			}
+		}
+
+		workspaces.recycle(ws);
+	}
+
+	/**
+	 * Computes the template's statistics and transforms, which are saved at single precision
+	 */
+	private void computeSpectrum( GrayF32 template , @Nullable GrayF32 mask , TemplateSpectrum ts , Workspace ws ) {
+		setupTemplate(template,mask,ts);
+		transformTemplate(template,mask,ts,ws);
+		convert(ws.fftMult,ts.fft);
+		if( ts.maskCorrelated ) {
+			transformMask(mask,ws);
+			if( ts.fftMask == null )
+				ts.fftMask = new InterleavedF32(1,1,2);
+			convert(ws.fftMult,ts.fftMask);
+		} else {
+			ts.fftMask = null;
+		}
+
+		ts.template = template.clone();
+		ts.mask = mask == null ? null : mask.clone();
+		ts.imageWidth = image.width;
+		ts.imageHeight = image.height;
+	}
+
+	/**
+	 * Zero pads the template to the image's size and computes its Fourier transform, which is written to
+	 * the workspace's fftMult
+	 */
+	protected void transformTemplate( GrayF32 template , @Nullable GrayF32 mask , TemplateSpectrum ts , Workspace ws ) {
+		pad(template,mask,ts.offset,ws.padded);
+		ws.dft.forward(ws.padded,ws.fftMult);
+	}
+
+	/**
+	 * Zero pads the mask to the image's size and computes its Fourier transform, which is written to
+	 * the workspace's fftMult
+	 */
+	protected void transformMask( GrayF32 mask , Workspace ws ) {
+		Arrays.fill(ws.padded.data,0,ws.padded.width*ws.padded.height,0);
+		for (int y = 0; y < mask.height; y++) {
+			int indexM = mask.startIndex + y*mask.stride;
+			int indexP = y*ws.padded.width;
+			for (int x = 0; x < mask.width; x++) {
+				ws.padded.data[indexP++] = mask.data[indexM++];
+			}
+		}
+		ws.dft.forward(ws.padded,ws.fftMult);
+	}
+
+	private static void convert( InterleavedF64 src , InterleavedF32 dst ) {
+		dst.reshape(src.width,src.height);
+		int N = src.width*src.height*2;
+		for (int i = 0; i < N; i++) {
+			dst.data[i] = (float)src.data[i];
+		}
+	}
+
+	/**
+	 * Computes the correlation of the image with the template, with the template's top-left corner at each pixel.
+	 * Done by multiplying the image's transform by the complex conjugate of the template's transform.
+	 * fftB can be the workspace's fftMult.
+	 */
+	protected void correlate( InterleavedF64 fftA , InterleavedF64 fftB , Workspace ws , GrayF64 output ) {
+		int N = fftA.width*fftA.height*2;
+		double[] a = fftA.data;
+		double[] b = fftB.data;
+		double[] c = ws.fftMult.data;
+
+		for (int i = 0; i < N; i += 2) {
+			double realA = a[i], imgA = a[i+1];
+			double realB = b[i], imgB = b[i+1];
+
+			c[i]   = realA*realB + imgA*imgB;
+			c[i+1] = imgA*realB - realA*imgB;
+		}
+
+		ws.dft.inverse(ws.fftMult,output);
+	}
+
+	/**
+	 * Same as {@link #correlate(InterleavedF64, InterleavedF64, Workspace, GrayF64)} but for a saved transform
+	 */
+	protected void correlate( InterleavedF64 fftA , InterleavedF32 fftB , Workspace ws , GrayF64 output ) {
+		int N = fftA.width*fftA.height*2;
+		double[] a = fftA.data;
+		float[] b = fftB.data;
+		double[] c = ws.fftMult.data;
+
+		for (int i = 0; i < N; i += 2) {
+			double realA = a[i], imgA = a[i+1];
+			double realB = b[i], imgB = b[i+1];
+
+			c[i]   = realA*realB + imgA*imgB;
+			c[i+1] = imgA*realB - realA*imgB;
+		}
+
+		ws.dft.inverse(ws.fftMult,output);
+	}
+
+	/**
+	 * Sum of pixel values inside the rectangle using the provided integral image
+	 */
+	protected double sum( GrayF64 ii , int x0 , int y0 , int width , int height ) {
+		int stride = ii.width;
+		int x1 = x0+width, y1 = y0+height;
+		double[] d = ii.data;
+		return d[y1*stride+x1] - d[y0*stride+x1] - d[y1*stride+x0] + d[y0*stride+x0];
+	}
+
+	/**
+	 * Computes the template's statistics, the offset applied to its pixels before it's transformed, and if
+	 * the image squared needs to be correlated with the mask
+	 *
+	 * @param template Template image
+	 * @param mask Optional mask. Can be null
+	 * @param ts (Output) Storage for the template's statistics
+	 */
+	protected abstract void setupTemplate( GrayF32 template , @Nullable GrayF32 mask , TemplateSpectrum ts );
+
+	/**
+	 * Computes the score for the template with its top-left corner at the specified pixel
+	 */
+	protected abstract float score( int tl_x , int tl_y , int templateWidth , int templateHeight ,
+									TemplateSpectrum ts , Workspace ws );
+
+	/**
+	 * Fills the padded image with zeros and copies the template weighted by the mask into the top-left corner.
+	 * Each template pixel is offset by the specified amount before being multiplied by the mask
+	 */
+	protected static void pad( GrayF32 template , @Nullable GrayF32 mask , double offset , GrayF64 padded ) {
+		Arrays.fill(padded.data,0,padded.width*padded.height,0);
+
+		for (int y = 0; y < template.height; y++) {
+			int indexT = template.startIndex + y*template.stride;
+			int indexP = y*padded.width;
+			if( mask == null ) {
+				for (int x = 0; x < template.width; x++) {
+					padded.data[indexP++] = template.data[indexT++] - offset;
+				}
+			} else {
+				int indexM = mask.startIndex + y*mask.stride;
+				for (int x = 0; x < template.width; x++) {
+					padded.data[indexP++] = mask.data[indexM++]*(template.data[indexT++] - offset);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Template matching using the sum of difference squared error.  See {@link TemplateDiffSquared}.
+	 *
+	 * <p> error = -1*Sum<sub>(o,u)</sub> [I(x,y) - T(x-o,y-u)]^2 = -1*(Sum I<sup>2</sup> - 2*Sum I*T + Sum T<sup>2</sup>)</p>
+	 */
+	public static class DiffSquared extends TemplateIntensityFFT {
+		@Override
+		protected void setupTemplate(GrayF32 template, @Nullable GrayF32 mask, TemplateSpectrum ts) {
+			double total = 0;
+			for (int y = 0; y < template.height; y++) {
+				for (int x = 0; x < template.width; x++) {
+					double v = template.unsafe_get(x,y);
+					total += mask == null ? v*v : mask.unsafe_get(x,y)*v*v;
+				}
+			}
+			ts.sum = total;
+			ts.offset = 0;
+			// the image squared is correlated with the mask to find the weighted sum
+			ts.maskCorrelated = mask != null;
+		}
+
+		@Override
+		protected float score(int tl_x, int tl_y, int templateWidth, int templateHeight,
+							  TemplateSpectrum ts, Workspace ws) {
+			int index = tl_y*ws.correlation.width + tl_x;
+			double imageSq;
+			if( !ts.maskCorrelated )
+				imageSq = sum(integralSq,tl_x,tl_y,templateWidth,templateHeight);
+			else
+				imageSq = ws.correlationMask.data[index];
+
+			return (float)-(imageSq - 2.0*ws.correlation.data[index] + ts.sum);
+		}
+	}
+
+	/**
+	 * Template matching using normalized cross correlation.  See {@link TemplateNCC}.
+	 */
+	public static class NCC extends TemplateIntensityFFT {
+		@Override
+		protected void setupTemplate(GrayF32 template, @Nullable GrayF32 mask, TemplateSpectrum ts) {
+			double area = template.width*template.height;
+
+			double mean = 0;
+			for (int y = 0; y < template.height; y++) {
+				for (int x = 0; x < template.width; x++) {
+					mean += template.unsafe_get(x,y);
+				}
+			}
+			mean /= area;
+
+			double sigma = 0;
+			double weightedSum = 0;
+			for (int y = 0; y < template.height; y++) {
+				for (int x = 0; x < template.width; x++) {
+					double diff = template.unsafe_get(x,y) - mean;
+					sigma += diff*diff;
+					if( mask != null )
+						weightedSum += mask.unsafe_get(x,y)*diff;
+				}
+			}
+			ts.sigma = Math.sqrt(sigma/area);
+			// the weighted sum is only needed to remove the image mean when there's a mask. Otherwise it's zero
+			ts.sum = weightedSum;
+			ts.offset = mean;
+			ts.maskCorrelated = false;
+		}
+
+		@Override
+		protected float score(int tl_x, int tl_y, int templateWidth, int templateHeight,
+							  TemplateSpectrum ts, Workspace ws) {
+			double area = templateWidth*templateHeight;
+			double imageMean = sum(integral,tl_x,tl_y,templateWidth,templateHeight)/area;
+			double imageSq = sum(integralSq,tl_x,tl_y,templateWidth,templateHeight);
+			double imageSigma = Math.sqrt(Math.max(0,imageSq/area - imageMean*imageMean));
+
+			double top = ws.correlation.data[tl_y*ws.correlation.width + tl_x] - imageMean*ts.sum;
+
+			// technically top should be divided by area, but that won't change the solution
+			return (float)(top/(imageSigma*ts.sigma));
+		}
+	}
+
+	/**
+	 * Matches templates against the input image of the instance which created it. The transform of the last
+	 * template processed is saved.
+	 */
+	public class View implements TemplateMatchingIntensity<GrayF32> {
+		GrayF32 intensity = new GrayF32(1,1);
+		int borderX0,borderY0,borderX1,borderY1;
+
+		// transform of the last template which was processed
+		TemplateSpectrum spectrum = new TemplateSpectrum();
+
+		/**
+		 * Only checks to see if the image is the same as the one that the transform was computed from
+		 */
+		@Override
+		public void setInputImage(GrayF32 image) {
+			if( image != TemplateIntensityFFT.this.image )
+				throw new IllegalArgumentException("The image must first be passed to the instance which created the view");
+		}
+
+		@Override
+		public void process(GrayF32 template) {
+			process(template,null);
+		}
+
+		@Override
+		public void process(GrayF32 template, @Nullable GrayF32 mask) {
+			computeIntensity(template,mask,spectrum,intensity);
+
+			borderX0 = template.width / 2;
+			borderY0 = template.height / 2;
+			borderX1 = template.width-borderX0;
+			borderY1 = template.height-borderY0;
+		}
+
+		@Override
+		public GrayF32 getIntensity() {
+			return intensity;
+		}
+
+		@Override
+		public boolean isBorderProcessed() {
+			return false;
+		}
+
+		@Override
+		public int getBorderX0() {
+			return borderX0;
+		}
+
+		@Override
+		public int getBorderX1() {
+			return borderX1;
+		}
+
+		@Override
+		public int getBorderY0() {
+			return borderY0;
+		}
+
+		@Override
+		public int getBorderY1() {
+			return borderY1;
+		}
+	}
+
+	@Override
+	public void process(GrayF32 template) {
+		local.process(template,null);
+	}
+
+	@Override
+	public void process(GrayF32 template, @Nullable GrayF32 mask) {
+		local.process(template,mask);
+	}
+
+	@Override
+	public GrayF32 getIntensity() {
+		return local.intensity;
+	}
+
+	@Override
+	public boolean isBorderProcessed() {
+		return false;
+	}
+
+	@Override
+	public int getBorderX0() {
+		return local.borderX0;
+	}
+
+	@Override
+	public int getBorderX1() {
+		return local.borderX1;
+	}
+
+	@Override
+	public int getBorderY0() {
+		return local.borderY0;
+	}
+
+	@Override
+	public int getBorderY1() {
+		return local.borderY1;
+	}
+
+	/**
+	 * Transform and statistics of a template
+	 */
+	protected static class TemplateSpectrum {
+		// copy of the template and mask that the transform was computed from
+		GrayF32 template;
+		GrayF32 mask;
+		// shape of the image the template was padded to
+		int imageWidth, imageHeight;
+		// transform of the template after being padded
+		InterleavedF32 fft = new InterleavedF32(1,1,2);
+		// transform of the mask. Only used if maskCorrelated is true
+		InterleavedF32 fftMask;
+		// if true the image squared is correlated with the mask
+		boolean maskCorrelated;
+		// value subtracted from each template pixel before it's padded
+		double offset;
+		// score specific statistics
+		double sum;
+		double sigma;
+
+		/**
+		 * Returns true if the template, mask, and image shape are identical to the ones the transform was
+		 * computed from
+		 */
+		boolean matches( GrayF32 template , @Nullable GrayF32 mask , int imageWidth , int imageHeight ) {
+			if( this.template == null || this.imageWidth != imageWidth || this.imageHeight != imageHeight )
+				return false;
+			if( (mask == null) != (this.mask == null) )
+				return false;
+			return identical(this.template,template) && (mask == null || identical(this.mask,mask));
+		}
+
+		static boolean identical( GrayF32 a , GrayF32 b ) {
+			if( a.width != b.width || a.height != b.height )
+				return false;
+			for (int y = 0; y < a.height; y++) {
+				int indexA = a.startIndex + y*a.stride;
+				int indexB = b.startIndex + y*b.stride;
+				for (int x = 0; x < a.width; x++) {
+					if( a.data[indexA++] != b.data[indexB++] )
+						return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Storage used while computing the intensity. Each thread has its own instance
+	 */
+	protected static class Workspace {
+		DiscreteFourierTransform<GrayF64,InterleavedF64> dft = DiscreteFourierTransformOps.createTransformF64();
+		// zero padded template or mask
+		GrayF64 padded = new GrayF64(1,1);
+		// product of two transforms
+		InterleavedF64 fftMult = new InterleavedF64(1,1,2);
+		GrayF64 correlation = new GrayF64(1,1);
+		// The mask is correlated after the padded image has been transformed for the last time, so the
+		// same memory is used
+		GrayF64 correlationMask = padded;
+		// statistics of templates which are not saved
+		TemplateSpectrum statistics = new TemplateSpectrum();
+
+		Workspace() {
+			// fftMult is recomputed every time so the inverse transform can modify it instead of copying it
+			dft.setModifyInputs(true);
+		}
+
+		void reshape( int width , int height ) {
+			padded.reshape(width,height);
+			fftMult.reshape(width,height);
+			correlation.reshape(width,height);
+		}
+	}
+}
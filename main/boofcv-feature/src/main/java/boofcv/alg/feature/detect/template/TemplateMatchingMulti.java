@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.struct.feature.Match;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Searches for multiple templates inside the same image. The image's Fourier transform is computed once and shared
+ * by all the templates, while each template's transform is computed once and reused for every image with
+ * the same shape. Each template has its own {@link TemplateMatching}, which uses its own
+ * {@link TemplateIntensityFFT.View} to save the template's transform, and its own set of results.
+ *
+ * @see TemplateIntensityFFT
+ *
+ * @author Peter Abeles
+ */
+public class TemplateMatchingMulti {
+
+	// computes the image's transform
+	protected TemplateIntensityFFT intensity;
+
+	// matcher for each template
+	protected List<TemplateMatching<GrayF32>> matchers = new ArrayList<>();
+
+	// minimum separation between matches. if <= 0 the default is used
+	protected int minimumSeparation = -1;
+
+	public TemplateMatchingMulti(TemplateIntensityFFT intensity) {
+		this.intensity = intensity;
+	}
+
+	/**
+	 * Adjust how close to objects can be found to each other
+	 *
+	 * @param radius Distance in pixels.  Try using the template's radius or 2
+	 */
+	public void setMinimumSeparation(int radius) {
+		this.minimumSeparation = radius;
+		for (int i = 0; i < matchers.size(); i++) {
+			matchers.get(i).setMinimumSeparation(radius);
+		}
+	}
+
+	/**
+	 * Adds a new template which will be searched for
+	 *
+	 * @param template   Template being searched for. Must not be modified after being added
+	 * @param mask       Optional mask.  Same size as template.  Can be null.
+	 * @param maxMatches The maximum number of matches it will return
+	 * @return Index of the template
+	 */
+	public int addTemplate( GrayF32 template , @Nullable GrayF32 mask , int maxMatches ) {
+		TemplateMatching<GrayF32> matcher = new TemplateMatching<>(intensity.createView());
+		if( minimumSeparation > 0 )
+			matcher.setMinimumSeparation(minimumSeparation);
+		matcher.setTemplate(template,mask,maxMatches);
+		matchers.add(matcher);
+		return matchers.size()-1;
+	}
+
+	/**
+	 * Removes all templates and their saved transforms
+	 */
+	public void removeAllTemplates() {
+		matchers.clear();
+	}
+
+	/**
+	 * Specifies the input image which the templates are to be found inside.
+	 *
+	 * @param image Image being processed
+	 */
+	public void setImage( GrayF32 image ) {
+		intensity.setInputImage(image);
+		for (int i = 0; i < matchers.size(); i++) {
+			matchers.get(i).setImage(image);
+		}
+	}
+
+	/**
+	 * Searches for every template inside the image
+	 */
+	public void process() {
+		for (int i = 0; i < matchers.size(); i++) {
+			matchers.get(i).process();
+		}
+	}
+
+	/**
+	 * Returns the found matches for the specified template
+	 *
+	 * @param which Index of the template
+	 * @return List of found matches
+	 */
+	public FastQueue<Match> getResults( int which ) {
+		return matchers.get(which).getResults();
+	}
+
+	public int getNumberOfTemplates() {
+		return matchers.size();
+	}
+}
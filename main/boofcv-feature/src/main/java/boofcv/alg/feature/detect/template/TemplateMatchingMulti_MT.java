@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.concurrency.BoofConcurrency;
+
+/**
+ * Concurrent implementation of {@link TemplateMatchingMulti}. Each template is processed in a different thread.
+ *
+ * @author Peter Abeles
+ */
+public class TemplateMatchingMulti_MT extends TemplateMatchingMulti {
+
+	public TemplateMatchingMulti_MT(TemplateIntensityFFT intensity) {
+		super(intensity);
+	}
+
+	@Override
+	public void process() {
+		BoofConcurrency.loopFor(0,matchers.size(),i->matchers.get(i).process());
+	}
+}
@@ -58,6 +58,14 @@ public interface DisparitySelect<Array , T extends ImageGray> {
 	 */
 	public void process(int row, Array scoresArray);
 
+	/**
+	 * Creates a new instance with the same configuration but independent internal state, allowing
+	 * different rows to be processed in parallel. {@link #configure} must still be called on the copy.
+	 *
+	 * @return A new instance
+	 */
+	public DisparitySelect<Array,T> concurrentCopy();
+
 	/**
 	 * Type of image the disparity is
 	 *
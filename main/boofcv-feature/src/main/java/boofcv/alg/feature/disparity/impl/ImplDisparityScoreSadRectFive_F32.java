@@ -54,6 +54,10 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 	// Where the final score it stored that has been computed from five regions
 	float fiveScore[];
 
+	// The vertical score is summed from scratch at the first row of each block instead of being updated.
+	// See ImplDisparityScoreSadRect_F32.ROW_BLOCK
+	public static final int ROW_BLOCK = ImplDisparityScoreSadRect_F32.ROW_BLOCK;
+
 	public ImplDisparityScoreSadRectFive_F32(int minDisparity, int maxDisparity,
 											int regionRadiusX, int regionRadiusY,
 											DisparitySelect<float[], DI> computeDisparity) {
@@ -96,13 +100,7 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 		}
 
 		// compute score for the top possible row
-		for( int i = 0; i < lengthHorizontal; i++ ) {
-			float sum = 0;
-			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
-			}
-			firstRow[i] = sum;
-		}
+		sumVertical(horizontalScore, radiusY, firstRow);
 	}
 
 	/**
@@ -117,18 +115,25 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 			float previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];
 			float active[] = verticalScore[ activeVerticalScore % regionHeight ];
 
-			// subtract first row from vertical score
 			float scores[] = horizontalScore[oldRow];
-			for( int i = 0; i < lengthHorizontal; i++ ) {
-				active[i] = previous[i] - scores[i];
-			}
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+			if( activeVerticalScore % ROW_BLOCK == 0 ) {
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,elementScore);
+				sumVertical(horizontalScore, activeVerticalScore+radiusY, active);
+			} else {
+				// subtract first row from vertical score
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					active[i] = previous[i] - scores[i];
+				}
+
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,elementScore);
 
-			// add the new score
-			for( int i = 0; i < lengthHorizontal; i++ ) {
-				active[i] += scores[i];
+				// add the new score
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					active[i] += scores[i];
+				}
 			}
 
 			if( activeVerticalScore >= regionHeight-1 ) {
@@ -142,6 +147,19 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 		}
 	}
 
+	/**
+	 * Sums the horizontal scores of every row in the region centered at 'center', from top to bottom
+	 */
+	protected void sumVertical( float horizontalScore[][] , int center , float verticalScore[] ) {
+		for( int i = 0; i < lengthHorizontal; i++ ) {
+			float sum = 0;
+			for( int row = center-radiusY; row <= center+radiusY; row++ ) {
+				sum += horizontalScore[row%regionHeight][i];
+			}
+			verticalScore[i] = sum;
+		}
+	}
+
 	/**
 	 * Compute the final score by sampling the 5 regions.  Four regions are sampled around the center
 	 * region.  Out of those four only the two with the smallest score are used.
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplDisparityScoreSadRectFive_F32}. The output rows are split into horizontal
+ * bands which are processed in parallel, each with its own rolling window of scores and a copy of the
+ * {@link DisparitySelect}. A band needs the region scores 2*radiusY rows above and below it, which are
+ * computed again by each band. Bands start at the same blocks of {@link #ROW_BLOCK} rows where the single
+ * threaded version sums the vertical score from scratch, so the output is identical to the single threaded
+ * version for any number of threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplDisparityScoreSadRectFive_F32_MT<DI extends ImageGray<DI>>
+		extends ImplDisparityScoreSadRectFive_F32<DI>
+{
+	RecycleStack<Workspace> workspaces = new RecycleStack<>(Workspace::new);
+
+	public ImplDisparityScoreSadRectFive_F32_MT(int minDisparity, int maxDisparity,
+											   int regionRadiusX, int regionRadiusY,
+											   DisparitySelect<float[], DI> computeDisparity) {
+		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
+	@Override
+	public void _process(GrayF32 left , GrayF32 right , DI disparity ) {
+		// same range of output rows as the single threaded implementation
+		int rowStart = Math.max(1,2*radiusY);
+		int rowEnd = left.height-2*radiusY;
+		if( rowEnd <= rowStart )
+			return;
+
+		// bands are made out of whole blocks so that the sums are restarted at the same rows. The first
+		// output row in a block is 2*radiusY after the center of its first region
+		int firstRow = 2*radiusY;
+		int numBlocks = (rowEnd-firstRow+ROW_BLOCK-1)/ROW_BLOCK;
+		BoofConcurrency.loopBlocks(0,numBlocks,(block0,block1)->{
+			Workspace w = workspaces.pop();
+			w.initialize(left.width,disparity);
+			int row0 = firstRow+block0*ROW_BLOCK;
+			int row1 = Math.min(rowEnd,firstRow+block1*ROW_BLOCK);
+			computeBand(left,right,row0,row1,rowStart,w);
+			workspaces.recycle(w);
+		});
+	}
+
+	/**
+	 * Computes the disparity for output rows from max(row0,rowStart) to row1-1, inclusive. The rolling window of
+	 * vertical scores is indexed by the row the center of the region is at.
+	 */
+	private void computeBand(GrayF32 left , GrayF32 right , int row0 , int row1 , int rowStart , Workspace w ) {
+		int centerStart = row0-radiusY;
+
+		for( int center = centerStart; center < row1+radiusY; center++ ) {
+			float active[] = w.verticalScore[center%regionHeight];
+
+			if( center == centerStart ) {
+				// compute the first region in the band from scratch
+				for( int row = center-radiusY; row <= center+radiusY; row++ ) {
+					UtilDisparityScore.computeScoreRow(left, right, row, w.horizontalScore[row%regionHeight],
+							minDisparity, maxDisparity, regionWidth, w.elementScore);
+				}
+				sumVertical(w.horizontalScore, center, active);
+			} else {
+				// the row being added replaces the row which is no longer inside the region
+				int row = center+radiusY;
+				float scores[] = w.horizontalScore[row%regionHeight];
+
+				if( (center-radiusY) % ROW_BLOCK == 0 ) {
+					UtilDisparityScore.computeScoreRow(left, right, row, scores,
+							minDisparity,maxDisparity,regionWidth,w.elementScore);
+					sumVertical(w.horizontalScore, center, active);
+				} else {
+					float previous[] = w.verticalScore[(center-1)%regionHeight];
+					for( int i = 0; i < lengthHorizontal; i++ ) {
+						active[i] = previous[i] - scores[i];
+					}
+
+					UtilDisparityScore.computeScoreRow(left, right, row, scores,
+							minDisparity,maxDisparity,regionWidth,w.elementScore);
+
+					for( int i = 0; i < lengthHorizontal; i++ ) {
+						active[i] += scores[i];
+					}
+				}
+			}
+
+			if( center-centerStart >= 2*radiusY && center-radiusY >= rowStart ) {
+				float top[] = w.verticalScore[(center-2*radiusY)%regionHeight];
+				float middle[] = w.verticalScore[(center-radiusY)%regionHeight];
+
+				computeScoreFive(top,middle,active,w.fiveScore,left.width);
+				w.computeDisparity.process(center-radiusY, w.fiveScore);
+			}
+		}
+	}
+
+	/**
+	 * Memory used by a single band
+	 */
+	class Workspace {
+		float elementScore[];
+		float horizontalScore[][];
+		float verticalScore[][];
+		float fiveScore[];
+		DisparitySelect<float[], DI> computeDisparity = ImplDisparityScoreSadRectFive_F32_MT.this.computeDisparity.concurrentCopy();
+
+		void initialize( int width , DI disparity ) {
+			if( horizontalScore == null || verticalScore[0].length < lengthHorizontal ) {
+				horizontalScore = new float[regionHeight][lengthHorizontal];
+				verticalScore = new float[regionHeight][lengthHorizontal];
+				elementScore = new float[ width ];
+				fiveScore = new float[ lengthHorizontal ];
+			}
+			computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+		}
+	}
+}
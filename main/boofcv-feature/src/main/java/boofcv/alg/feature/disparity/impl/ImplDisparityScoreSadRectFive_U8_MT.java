@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplDisparityScoreSadRectFive_U8}. The output rows are split into horizontal
+ * bands which are processed in parallel, each with its own rolling window of scores and a copy of the
+ * {@link DisparitySelect}. A band needs the region scores 2*radiusY rows above and below it, which are
+ * computed again by each band. The output is identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplDisparityScoreSadRectFive_U8_MT<DI extends ImageGray<DI>>
+		extends ImplDisparityScoreSadRectFive_U8<DI>
+{
+	RecycleStack<Workspace> workspaces = new RecycleStack<>(Workspace::new);
+
+	public ImplDisparityScoreSadRectFive_U8_MT(int minDisparity, int maxDisparity,
+											   int regionRadiusX, int regionRadiusY,
+											   DisparitySelect<int[], DI> computeDisparity) {
+		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
+	@Override
+	public void _process(GrayU8 left , GrayU8 right , DI disparity ) {
+		// same range of output rows as the single threaded implementation
+		int rowStart = Math.max(1,2*radiusY);
+		int rowEnd = left.height-2*radiusY;
+		if( rowEnd <= rowStart )
+			return;
+
+		BoofConcurrency.loopBlocks(rowStart,rowEnd,regionHeight,(row0,row1)->{
+			Workspace w = workspaces.pop();
+			w.initialize(left.width,disparity);
+			computeBand(left,right,row0,row1,w);
+			workspaces.recycle(w);
+		});
+	}
+
+	/**
+	 * Computes the disparity for output rows from row0 to row1-1, inclusive. The rolling window of
+	 * vertical scores is indexed by the row the center of the region is at.
+	 */
+	private void computeBand(GrayU8 left , GrayU8 right , int row0 , int row1 , Workspace w ) {
+		int centerStart = row0-radiusY;
+
+		for( int center = centerStart; center < row1+radiusY; center++ ) {
+			int active[] = w.verticalScore[center%regionHeight];
+
+			if( center == centerStart ) {
+				// compute the first region in the band from scratch
+				for( int row = center-radiusY; row <= center+radiusY; row++ ) {
+					UtilDisparityScore.computeScoreRow(left, right, row, w.horizontalScore[row%regionHeight],
+							minDisparity, maxDisparity, regionWidth, w.elementScore);
+				}
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					int sum = 0;
+					for( int row = 0; row < regionHeight; row++ ) {
+						sum += w.horizontalScore[row][i];
+					}
+					active[i] = sum;
+				}
+			} else {
+				int previous[] = w.verticalScore[(center-1)%regionHeight];
+
+				// the row being added replaces the row which is no longer inside the region
+				int row = center+radiusY;
+				int scores[] = w.horizontalScore[row%regionHeight];
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					active[i] = previous[i] - scores[i];
+				}
+
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,w.elementScore);
+
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					active[i] += scores[i];
+				}
+			}
+
+			if( center-centerStart >= 2*radiusY ) {
+				int top[] = w.verticalScore[(center-2*radiusY)%regionHeight];
+				int middle[] = w.verticalScore[(center-radiusY)%regionHeight];
+
+				computeScoreFive(top,middle,active,w.fiveScore,left.width);
+				w.computeDisparity.process(center-radiusY, w.fiveScore);
+			}
+		}
+	}
+
+	/**
+	 * Memory used by a single band
+	 */
+	class Workspace {
+		int elementScore[];
+		int horizontalScore[][];
+		int verticalScore[][];
+		int fiveScore[];
+		DisparitySelect<int[], DI> computeDisparity = ImplDisparityScoreSadRectFive_U8_MT.this.computeDisparity.concurrentCopy();
+
+		void initialize( int width , DI disparity ) {
+			if( horizontalScore == null || verticalScore[0].length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[regionHeight][lengthHorizontal];
+				elementScore = new int[ width ];
+				fiveScore = new int[ lengthHorizontal ];
+			}
+			computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+		}
+	}
+}
@@ -52,6 +52,11 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	// This is simply the sum of like elements in horizontal score
 	float verticalScore[];
 
+	// The vertical score is summed from scratch at the first row of each block instead of being updated.
+	// This prevents round off error from accumulating and makes the output independent of how the
+	// concurrent implementation splits up the rows
+	public static final int ROW_BLOCK = 32;
+
 	public ImplDisparityScoreSadRect_F32( int minDisparity , int maxDisparity,
 										int regionRadiusX, int regionRadiusY,
 										DisparitySelect<float[], DI> computeDisparity) {
@@ -91,13 +96,7 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 		}
 
 		// compute score for the top possible row
-		for( int i = 0; i < lengthHorizontal; i++ ) {
-			float sum = 0;
-			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
-			}
-			verticalScore[i] = sum;
-		}
+		sumVertical(horizontalScore, radiusY, verticalScore);
 
 		// compute disparity
 		computeDisparity.process(radiusY, verticalScore);
@@ -112,23 +111,43 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	{
 		for( int row = regionHeight; row < left.height; row++ ) {
 			int oldRow = row%regionHeight;
-
-			// subtract first row from vertical score
+			int center = row - regionHeight + 1 + radiusY;
 			float scores[] = horizontalScore[oldRow];
-			for( int i = 0; i < lengthHorizontal; i++ ) {
-				verticalScore[i] -= scores[i];
-			}
-
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
 
-			// add the new score
-			for( int i = 0; i < lengthHorizontal; i++ ) {
-				verticalScore[i] += scores[i];
+			if( (center-radiusY) % ROW_BLOCK == 0 ) {
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,elementScore);
+				sumVertical(horizontalScore, center, verticalScore);
+			} else {
+				// subtract first row from vertical score
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					verticalScore[i] -= scores[i];
+				}
+
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,elementScore);
+
+				// add the new score
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					verticalScore[i] += scores[i];
+				}
 			}
 
 			// compute disparity
-			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+			computeDisparity.process(center, verticalScore);
+		}
+	}
+
+	/**
+	 * Sums the horizontal scores of every row in the region centered at 'center', from top to bottom
+	 */
+	protected void sumVertical( float horizontalScore[][] , int center , float verticalScore[] ) {
+		for( int i = 0; i < lengthHorizontal; i++ ) {
+			float sum = 0;
+			for( int row = center-radiusY; row <= center+radiusY; row++ ) {
+				sum += horizontalScore[row%regionHeight][i];
+			}
+			verticalScore[i] = sum;
 		}
 	}
 
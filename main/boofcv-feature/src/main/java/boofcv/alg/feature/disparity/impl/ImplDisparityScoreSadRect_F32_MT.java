@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplDisparityScoreSadRect_F32}. The image is split into horizontal bands
+ * which are processed in parallel. Each band has its own running sum workspace and a copy of the
+ * {@link DisparitySelect}, which is created using {@link DisparitySelect#concurrentCopy()}. Bands start
+ * at the same blocks of {@link #ROW_BLOCK} rows where the single threaded version sums the vertical score from
+ * scratch, so the output is identical to the single threaded version for any number of threads. The only
+ * redundant work is regionHeight-1 rows per band.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplDisparityScoreSadRect_F32_MT<DI extends ImageGray<DI>>
+	extends ImplDisparityScoreSadRect_F32<DI>
+{
+	RecycleStack<Workspace> workspaces = new RecycleStack<>(Workspace::new);
+
+	public ImplDisparityScoreSadRect_F32_MT( int minDisparity , int maxDisparity,
+										   int regionRadiusX, int regionRadiusY,
+										   DisparitySelect<float[], DI> computeDisparity) {
+		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
+	@Override
+	public void _process(GrayF32 left , GrayF32 right , DI disparity ) {
+		// rows which the center of the region can be on
+		int rowStart = radiusY;
+		int rowEnd = left.height-radiusY;
+		if( rowEnd <= rowStart )
+			return;
+
+		// bands are made out of whole blocks so that the sums are restarted at the same rows
+		int numBlocks = (rowEnd-rowStart+ROW_BLOCK-1)/ROW_BLOCK;
+		BoofConcurrency.loopBlocks(0,numBlocks,(block0,block1)->{
+			Workspace w = workspaces.pop();
+			w.initialize(left.width,disparity);
+			computeBand(left,right,rowStart+block0*ROW_BLOCK,Math.min(rowEnd,rowStart+block1*ROW_BLOCK),w);
+			workspaces.recycle(w);
+		});
+	}
+
+	/**
+	 * Computes the disparity for all regions with centers from row0 to row1-1, inclusive. row0 must
+	 * be the first row in a block.
+	 */
+	private void computeBand(GrayF32 left , GrayF32 right , int row0 , int row1 , Workspace w ) {
+		// compute horizontal scores for the first block in the band
+		for( int row = row0-radiusY; row <= row0+radiusY; row++ ) {
+			UtilDisparityScore.computeScoreRow(left, right, row, w.horizontalScore[row%regionHeight],
+					minDisparity,maxDisparity,regionWidth,w.elementScore);
+		}
+		sumVertical(w.horizontalScore, row0, w.verticalScore);
+		w.computeDisparity.process(row0, w.verticalScore);
+
+		// slide the block down one row at a time until the end of the band
+		for( int row = row0+radiusY+1; row < row1+radiusY; row++ ) {
+			int center = row - radiusY;
+			float scores[] = w.horizontalScore[row%regionHeight];
+
+			if( (center-radiusY) % ROW_BLOCK == 0 ) {
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,w.elementScore);
+				sumVertical(w.horizontalScore, center, w.verticalScore);
+			} else {
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					w.verticalScore[i] -= scores[i];
+				}
+
+				UtilDisparityScore.computeScoreRow(left, right, row, scores,
+						minDisparity,maxDisparity,regionWidth,w.elementScore);
+
+				for( int i = 0; i < lengthHorizontal; i++ ) {
+					w.verticalScore[i] += scores[i];
+				}
+			}
+
+			w.computeDisparity.process(center, w.verticalScore);
+		}
+	}
+
+	/**
+	 * Memory used by a single band
+	 */
+	class Workspace {
+		float elementScore[];
+		float horizontalScore[][];
+		float verticalScore[];
+		DisparitySelect<float[], DI> computeDisparity = ImplDisparityScoreSadRect_F32_MT.this.computeDisparity.concurrentCopy();
+
+		void initialize( int width , DI disparity ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new float[regionHeight][lengthHorizontal];
+				verticalScore = new float[lengthHorizontal];
+				elementScore = new float[ width ];
+			}
+			computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+		}
+	}
+}
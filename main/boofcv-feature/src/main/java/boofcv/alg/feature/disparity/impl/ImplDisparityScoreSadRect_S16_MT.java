@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplDisparityScoreSadRect_S16}. The image is split into horizontal bands
+ * which are processed in parallel. Each band has its own running sum workspace and a copy of the
+ * {@link DisparitySelect}, which is created using {@link DisparitySelect#concurrentCopy()}. At the start of
+ * each band the scores for the first block of rows are computed from scratch, so the only redundant work
+ * is regionHeight-1 rows per band. The output is identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplDisparityScoreSadRect_S16_MT<DI extends ImageGray<DI>>
+	extends ImplDisparityScoreSadRect_S16<DI>
+{
+	RecycleStack<Workspace> workspaces = new RecycleStack<>(Workspace::new);
+
+	public ImplDisparityScoreSadRect_S16_MT( int minDisparity , int maxDisparity,
+										   int regionRadiusX, int regionRadiusY,
+										   DisparitySelect<int[], DI> computeDisparity) {
+		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
+	@Override
+	public void _process(GrayS16 left , GrayS16 right , DI disparity ) {
+		// rows which the center of the region can be on
+		int rowStart = radiusY;
+		int rowEnd = left.height-radiusY;
+		if( rowEnd <= rowStart )
+			return;
+
+		// bands must be large enough to make up for the rows which are computed twice
+		BoofConcurrency.loopBlocks(rowStart,rowEnd,regionHeight,(row0,row1)->{
+			Workspace w = workspaces.pop();
+			w.initialize(left.width,disparity);
+			computeBand(left,right,row0,row1,w);
+			workspaces.recycle(w);
+		});
+	}
+
+	/**
+	 * Computes the disparity for all regions with centers from row0 to row1-1, inclusive
+	 */
+	private void computeBand(GrayS16 left , GrayS16 right , int row0 , int row1 , Workspace w ) {
+		// compute horizontal scores for the first block in the band
+		for( int row = row0-radiusY; row <= row0+radiusY; row++ ) {
+			UtilDisparityScore.computeScoreRow(left, right, row, w.horizontalScore[row%regionHeight],
+					minDisparity,maxDisparity,regionWidth,w.elementScore);
+		}
+
+		for( int i = 0; i < lengthHorizontal; i++ ) {
+			int sum = 0;
+			for( int row = 0; row < regionHeight; row++ ) {
+				sum += w.horizontalScore[row][i];
+			}
+			w.verticalScore[i] = sum;
+		}
+		w.computeDisparity.process(row0, w.verticalScore);
+
+		// slide the block down one row at a time until the end of the band
+		for( int row = row0+radiusY+1; row < row1+radiusY; row++ ) {
+			int scores[] = w.horizontalScore[row%regionHeight];
+			for( int i = 0; i < lengthHorizontal; i++ ) {
+				w.verticalScore[i] -= scores[i];
+			}
+
+			UtilDisparityScore.computeScoreRow(left, right, row, scores,
+					minDisparity,maxDisparity,regionWidth,w.elementScore);
+
+			for( int i = 0; i < lengthHorizontal; i++ ) {
+				w.verticalScore[i] += scores[i];
+			}
+
+			w.computeDisparity.process(row - radiusY, w.verticalScore);
+		}
+	}
+
+	/**
+	 * Memory used by a single band
+	 */
+	class Workspace {
+		int elementScore[];
+		int horizontalScore[][];
+		int verticalScore[];
+		DisparitySelect<int[], DI> computeDisparity = ImplDisparityScoreSadRect_S16_MT.this.computeDisparity.concurrentCopy();
+
+		void initialize( int width , DI disparity ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[lengthHorizontal];
+				elementScore = new int[ width ];
+			}
+			computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+		}
+	}
+}
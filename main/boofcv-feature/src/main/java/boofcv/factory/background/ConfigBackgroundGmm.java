@@ -64,6 +64,12 @@ public class ConfigBackgroundGmm extends ConfigBackground {
 	 */
 	public float significantWeight = 0.01f;
 
+	/**
+	 * Stationary models only. Pixels which have changed by this amount or less since their last update are not
+	 * updated. Speeds up processing in static scenes. If &le; 0 then every pixel is updated.
+	 */
+	public float changeThreshold = 0;
+
 	@Override
 	public void checkValidity() {
 		if( learningPeriod <= 0 )
@@ -87,6 +93,7 @@ public class ConfigBackgroundGmm extends ConfigBackground {
 				", maxDistance=" + maxDistance +
 				", numberOfGaussian=" + numberOfGaussian +
 				", significantWeight=" + significantWeight +
+				", changeThreshold=" + changeThreshold +
 				", unknownValue=" + unknownValue +
 				'}';
 	}
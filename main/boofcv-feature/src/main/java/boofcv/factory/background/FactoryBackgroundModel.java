@@ -21,6 +21,7 @@ package boofcv.factory.background;
 import boofcv.alg.background.BackgroundModelStationary;
 import boofcv.alg.background.moving.*;
 import boofcv.alg.background.stationary.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.distort.Point2Transform2Model_F32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -51,13 +52,22 @@ public class FactoryBackgroundModel {
 
 		switch( imageType.getFamily() ) {
 			case GRAY:
-				return new BackgroundStationaryBasic_SB(config.learnRate,config.threshold,imageType.getImageClass());
+				if( BoofConcurrency.USE_CONCURRENT )
+					return new BackgroundStationaryBasic_SB_MT(config.learnRate,config.threshold,imageType.getImageClass());
+				else
+					return new BackgroundStationaryBasic_SB(config.learnRate,config.threshold,imageType.getImageClass());
 
 			case PLANAR:
-				return new BackgroundStationaryBasic_PL(config.learnRate,config.threshold,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					return new BackgroundStationaryBasic_PL_MT(config.learnRate,config.threshold,imageType);
+				else
+					return new BackgroundStationaryBasic_PL(config.learnRate,config.threshold,imageType);
 
 			case INTERLEAVED:
-				return new BackgroundStationaryBasic_IL(config.learnRate,config.threshold,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					return new BackgroundStationaryBasic_IL_MT(config.learnRate,config.threshold,imageType);
+				else
+					return new BackgroundStationaryBasic_IL(config.learnRate,config.threshold,imageType);
 		}
 
 		throw new IllegalArgumentException("Unknown image type");
@@ -118,15 +128,24 @@ public class FactoryBackgroundModel {
 
 		switch( imageType.getFamily() ) {
 			case GRAY:
-				ret = new BackgroundStationaryGaussian_SB(config.learnRate,config.threshold,imageType.getImageClass());
+				if( BoofConcurrency.USE_CONCURRENT )
+					ret = new BackgroundStationaryGaussian_SB_MT(config.learnRate,config.threshold,imageType.getImageClass());
+				else
+					ret = new BackgroundStationaryGaussian_SB(config.learnRate,config.threshold,imageType.getImageClass());
 				break;
 
 			case PLANAR:
-				ret =  new BackgroundStationaryGaussian_PL(config.learnRate,config.threshold,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					ret = new BackgroundStationaryGaussian_PL_MT(config.learnRate,config.threshold,imageType);
+				else
+					ret = new BackgroundStationaryGaussian_PL(config.learnRate,config.threshold,imageType);
 				break;
 
 			case INTERLEAVED:
-				ret =  new BackgroundStationaryGaussian_IL(config.learnRate,config.threshold,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					ret = new BackgroundStationaryGaussian_IL_MT(config.learnRate,config.threshold,imageType);
+				else
+					ret = new BackgroundStationaryGaussian_IL(config.learnRate,config.threshold,imageType);
 				break;
 
 			default:
@@ -202,14 +221,22 @@ public class FactoryBackgroundModel {
 
 		switch( imageType.getFamily() ) {
 			case GRAY:
-				ret = new BackgroundStationaryGmm_SB(config.learningPeriod,config.decayCoefient,
-						config.numberOfGaussian,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					ret = new BackgroundStationaryGmm_SB_MT(config.learningPeriod,config.decayCoefient,
+							config.numberOfGaussian,imageType);
+				else
+					ret = new BackgroundStationaryGmm_SB(config.learningPeriod,config.decayCoefient,
+							config.numberOfGaussian,imageType);
 				break;
 
 			case PLANAR:
 			case INTERLEAVED:
-				ret =  new BackgroundStationaryGmm_MB(config.learningPeriod,config.decayCoefient,
-						config.numberOfGaussian,imageType);
+				if( BoofConcurrency.USE_CONCURRENT )
+					ret = new BackgroundStationaryGmm_MB_MT(config.learningPeriod,config.decayCoefient,
+							config.numberOfGaussian,imageType);
+				else
+					ret = new BackgroundStationaryGmm_MB(config.learningPeriod,config.decayCoefient,
+							config.numberOfGaussian,imageType);
 				break;
 
 			default:
@@ -220,6 +247,7 @@ public class FactoryBackgroundModel {
 		ret.setMaxDistance(config.maxDistance);
 		ret.setSignificantWeight(config.significantWeight);
 		ret.setUnknownValue(config.unknownValue);
+		ret.setChangeThreshold(config.changeThreshold);
 
 		return ret;
 	}
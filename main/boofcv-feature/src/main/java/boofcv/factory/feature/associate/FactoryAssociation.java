@@ -111,16 +111,44 @@ public class FactoryAssociation {
 		return associateNearestNeighbor(configNN,nn);
 	}
 
-	public static AssociateNearestNeighbor<TupleDesc_F64>
+	/**
+	 * Approximate association for binary descriptors using multi-index hashing. The Hamming distance isn't
+	 * squared, so if no configuration is provided then {@link ConfigAssociateNearestNeighbor#distanceIsSquared}
+	 * is set to false.
+	 *
+	 * @see MultiIndexHashing_B
+	 *
+	 * @param configNN Configuration for association. Can be null.
+	 * @param bitsPerTable Number of bits in each hash table's key. Try 16.
+	 * @param maxProbeRadius Maximum Hamming distance from the query's key that's searched in each table.
+	 *                       Controls speed and accuracy. Try 2.
+	 * @param maxCandidates Maximum number of descriptors it will compute the distance of. If &le; 0 then
+	 *                      there is no limit.
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateDescription<TupleDesc_B> hammingMultiIndex( @Nullable ConfigAssociateNearestNeighbor configNN ,
+																	   int bitsPerTable,
+																	   int maxProbeRadius,
+																	   int maxCandidates ) {
+		if( configNN == null ) {
+			configNN = new ConfigAssociateNearestNeighbor();
+			configNN.distanceIsSquared = false;
+		}
+		NearestNeighbor<TupleDesc_B> nn = new MultiIndexHashing_B(bitsPerTable,maxProbeRadius,maxCandidates);
+
+		return associateNearestNeighbor(configNN,nn);
+	}
+
+	public static <D> AssociateNearestNeighbor<D>
 	associateNearestNeighbor( @Nullable ConfigAssociateNearestNeighbor config ,
-							  NearestNeighbor nn )
+							  NearestNeighbor<D> nn )
 	{
 		if( config == null )
 			config = new ConfigAssociateNearestNeighbor();
 
 		config.checkValidity();
 
-		AssociateNearestNeighbor<TupleDesc_F64> assoc;
+		AssociateNearestNeighbor<D> assoc;
 		if( BoofConcurrency.USE_CONCURRENT ) {
 			assoc = new AssociateNearestNeighbor_MT<>(nn);
 		} else {
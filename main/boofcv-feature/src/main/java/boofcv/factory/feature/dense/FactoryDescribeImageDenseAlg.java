@@ -20,6 +20,8 @@ package boofcv.factory.feature.dense;
 
 import boofcv.alg.feature.dense.DescribeDenseHogAlg;
 import boofcv.alg.feature.dense.DescribeDenseHogFastAlg;
+import boofcv.alg.feature.dense.DescribeDenseHogFastAlg_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
@@ -47,7 +49,12 @@ public class FactoryDescribeImageDenseAlg {
 	DescribeDenseHogFastAlg<T> hogFast(@Nonnull ConfigDenseHoG config , ImageType<T> imageType ) {
 		config.checkValidity();
 
-		return new DescribeDenseHogFastAlg(config.orientationBins,config.pixelsPerCell
-							,config.cellsPerBlockX,config.cellsPerBlockY,config.stepBlock, imageType);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new DescribeDenseHogFastAlg_MT(config.orientationBins,config.pixelsPerCell
+					,config.cellsPerBlockX,config.cellsPerBlockY,config.stepBlock, imageType);
+		} else {
+			return new DescribeDenseHogFastAlg(config.orientationBins,config.pixelsPerCell
+					,config.cellsPerBlockX,config.cellsPerBlockY,config.stepBlock, imageType);
+		}
 	}
 }
@@ -34,11 +34,13 @@ import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.describe.DescribePointSurfMod;
 import boofcv.alg.feature.describe.DescribePointSurfPlanar;
 import boofcv.alg.feature.detdesc.CompleteSift;
+import boofcv.alg.feature.detdesc.CompleteSift_MT;
 import boofcv.alg.feature.detdesc.DetectDescribeSurfPlanar;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
@@ -89,7 +91,12 @@ public class FactoryDetectDescribe {
 
 		NonMaxSuppression nns = FactoryFeatureExtractor.nonmax(configDetector.extract);
 		NonMaxLimiter nonMax = new NonMaxLimiter(nns,configDetector.maxFeaturesPerScale);
-		CompleteSift dds = new CompleteSift(scaleSpace,configDetector.edgeR,nonMax,orientation,describe);
+		CompleteSift dds;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			dds = new CompleteSift_MT(scaleSpace,configDetector.edgeR,nonMax,orientation,describe);
+		} else {
+			dds = new CompleteSift(scaleSpace,configDetector.edgeR,nonMax,orientation,describe);
+		}
 		return new DetectDescribe_CompleteSift<>(dds);
 	}
 
@@ -125,7 +132,11 @@ public class FactoryDetectDescribe {
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
 
-		return new WrapDetectDescribeSurf<>(detector, orientation, describe);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new WrapDetectDescribeSurf_MT<>(detector, orientation, describe);
+		} else {
+			return new WrapDetectDescribeSurf<>(detector, orientation, describe);
+		}
 	}
 
 	/**
@@ -203,7 +214,11 @@ public class FactoryDetectDescribe {
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
 
-		return new WrapDetectDescribeSurf( detector, orientation, describe );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new WrapDetectDescribeSurf_MT<>(detector, orientation, describe);
+		} else {
+			return new WrapDetectDescribeSurf<>(detector, orientation, describe);
+		}
 	}
 
 	/**
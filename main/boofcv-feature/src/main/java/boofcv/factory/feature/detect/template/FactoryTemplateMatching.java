@@ -19,6 +19,7 @@
 package boofcv.factory.feature.detect.template;
 
 import boofcv.alg.feature.detect.template.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -31,6 +32,17 @@ import boofcv.struct.image.ImageGray;
 @SuppressWarnings("unchecked")
 public class FactoryTemplateMatching {
 
+	/**
+	 * Cost of computing the score for a single pixel using the FFT relative to a single template pixel using
+	 * the direct approach, per power of two in the number of image pixels. Used to decide which approach is faster.
+	 *
+	 * <p>This value is provisional and has not been measured. To tune it, run
+	 * BenchmarkTemplateIntensity.evaluateFFT() and find the template width where the FFT and direct approaches
+	 * take the same time. For a square template of width w and an image with N pixels, the cost is then
+	 * w*w/log2(N) using the SUM_DIFF_SQ break even point, or 2*w*w/log2(N) using the NCC break even point.</p>
+	 */
+	public static final double FFT_RELATIVE_COST = 10.0;
+
 	/**
 	 * Creates {@link TemplateMatchingIntensity} of the specified type.  Likely
 	 * matches can be extracted using {@link boofcv.abst.feature.detect.extract.NonMaxSuppression}.
@@ -70,6 +82,101 @@ public class FactoryTemplateMatching {
 		throw new IllegalArgumentException("Type not found: " + type);
 	}
 
+	/**
+	 * Creates {@link TemplateMatchingIntensity} of the specified type and automatically selects between
+	 * computing the score directly or with the FFT based on the template's and image's size.  Both approaches
+	 * produce the same scores.  FFT is only available for {@link GrayF32} images.
+	 *
+	 * @see #isFftFaster
+	 *
+	 * @param type      Type of error function
+	 * @param templateWidth Width of the template
+	 * @param templateHeight Height of the template
+	 * @param imageWidth Width of images being processed
+	 * @param imageHeight Height of images being processed
+	 * @param imageType Image type being processed
+	 * @return {@link TemplateMatchingIntensity} of the specified type.
+	 */
+	public static <T extends ImageGray<T>>
+	TemplateMatchingIntensity<T> createIntensity(TemplateScoreType type,
+												 int templateWidth, int templateHeight,
+												 int imageWidth, int imageHeight,
+												 Class<T> imageType) {
+		if( imageType == GrayF32.class && isFftFaster(type,templateWidth*templateHeight,imageWidth*imageHeight) ) {
+			return (TemplateMatchingIntensity<T>) createIntensityFFT(type);
+		}
+		return createIntensity(type,imageType);
+	}
+
+	/**
+	 * Creates a {@link TemplateIntensityFFT} which computes the specified score using the FFT
+	 *
+	 * @param type Type of error function. {@link TemplateScoreType#SUM_DIFF_SQ} or {@link TemplateScoreType#NCC}
+	 * @return {@link TemplateIntensityFFT} of the specified type.
+	 */
+	public static TemplateIntensityFFT createIntensityFFT(TemplateScoreType type) {
+		switch (type) {
+			case SUM_DIFF_SQ: return new TemplateIntensityFFT.DiffSquared();
+			case NCC: return new TemplateIntensityFFT.NCC();
+			default: throw new IllegalArgumentException("Type not supported: " + type);
+		}
+	}
+
+	/**
+	 * Estimates if computing the score using FFT would be faster than computing it directly.  The cost of the
+	 * direct approach is proportional to the template's area while the FFT's cost for each template is dominated
+	 * by an inverse transform, which is proportional to the logarithm of the number of image pixels.
+	 *
+	 * @param type Type of error function
+	 * @param templateArea Number of pixels in the template
+	 * @param imagePixels Number of pixels in the image
+	 * @return true if the FFT approach is estimated to be faster
+	 */
+	public static boolean isFftFaster(TemplateScoreType type, int templateArea, int imagePixels) {
+		if( type == TemplateScoreType.CORRELATION )
+			return false;
+
+		// NCC goes through the template twice
+		double costDirect = type == TemplateScoreType.NCC ? 2.0*templateArea : templateArea;
+		double costFFT = FFT_RELATIVE_COST*Math.log(Math.max(2,imagePixels))/Math.log(2);
+
+		return costDirect > costFFT;
+	}
+
+	/**
+	 * Creates an instance of {@link TemplateMatching} which automatically selects between direct and FFT
+	 * computation of the score.
+	 *
+	 * @see #createIntensity(TemplateScoreType, int, int, int, int, Class)
+	 */
+	public static <T extends ImageGray<T>>
+	TemplateMatching<T> createMatcher(TemplateScoreType type,
+									  int templateWidth, int templateHeight,
+									  int imageWidth, int imageHeight,
+									  Class<T> imageType) {
+		TemplateMatchingIntensity<T> intensity = createIntensity(type,
+				templateWidth, templateHeight, imageWidth, imageHeight, imageType);
+
+		return new TemplateMatching<>(intensity);
+	}
+
+	/**
+	 * Creates an instance of {@link TemplateMatchingMulti} for searching for multiple templates inside the same
+	 * image using the FFT.
+	 *
+	 * @param type Type of error function. {@link TemplateScoreType#SUM_DIFF_SQ} or {@link TemplateScoreType#NCC}
+	 * @return {@link TemplateMatchingMulti} of the specified type.
+	 */
+	public static TemplateMatchingMulti createMatcherMulti(TemplateScoreType type) {
+		TemplateIntensityFFT intensity = createIntensityFFT(type);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new TemplateMatchingMulti_MT(intensity);
+		} else {
+			return new TemplateMatchingMulti(intensity);
+		}
+	}
+
 	/**
 	 * Creates an instance of {@link TemplateMatching} for the specified score type.
 	 *
@@ -20,6 +20,7 @@ package boofcv.factory.feature.disparity;
 
 import boofcv.alg.feature.disparity.*;
 import boofcv.alg.feature.disparity.impl.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
@@ -87,8 +88,13 @@ public class FactoryStereoDisparityAlgs {
 						   int regionRadiusX, int regionRadiusY,
 						   DisparitySelect<int[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRect_U8<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRect_U8_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRect_U8<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static <T extends ImageGray<T>> DisparityScoreSadRect<GrayS16,T>
@@ -96,8 +102,13 @@ public class FactoryStereoDisparityAlgs {
 							  int regionRadiusX, int regionRadiusY,
 							  DisparitySelect<int[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRect_S16<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRect_S16_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRect_S16<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static <T extends ImageGray<T>> DisparityScoreSadRect<GrayF32,T>
@@ -105,8 +116,13 @@ public class FactoryStereoDisparityAlgs {
 							  int regionRadiusX, int regionRadiusY,
 							  DisparitySelect<float[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRect_F32<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRect_F32_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRect_F32<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static <T extends ImageGray<T>> DisparityScoreWindowFive<GrayU8,T>
@@ -114,8 +130,13 @@ public class FactoryStereoDisparityAlgs {
 								  int regionRadiusX, int regionRadiusY,
 								  DisparitySelect<int[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRectFive_U8<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRectFive_U8_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRectFive_U8<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static <T extends ImageGray<T>> DisparityScoreWindowFive<GrayS16,T>
@@ -123,8 +144,13 @@ public class FactoryStereoDisparityAlgs {
 								  int regionRadiusX, int regionRadiusY,
 								  DisparitySelect<int[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRectFive_S16<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRectFive_S16_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRectFive_S16<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static <T extends ImageGray<T>> DisparityScoreWindowFive<GrayF32,T>
@@ -132,8 +158,13 @@ public class FactoryStereoDisparityAlgs {
 								   int regionRadiusX, int regionRadiusY,
 								   DisparitySelect<float[],T> computeDisparity)
 	{
-		return new ImplDisparityScoreSadRectFive_F32<>(minDisparity,
-				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplDisparityScoreSadRectFive_F32_MT<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		} else {
+			return new ImplDisparityScoreSadRectFive_F32<>(minDisparity,
+					maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+		}
 	}
 
 	public static DisparitySparseScoreSadRect<int[],GrayU8>
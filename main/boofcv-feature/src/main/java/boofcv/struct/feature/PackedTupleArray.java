@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Stores a set of descriptors in a single primitive array, with a fixed number of elements between the
+ * start of each descriptor. Compared to storing each descriptor as its own object this reduces memory
+ * overhead and allows descriptors to be compared without following a reference for each one.
+ *
+ * @param <D> Type of descriptor which is stored
+ *
+ * @author Peter Abeles
+ */
+public interface PackedTupleArray<D> {
+	/**
+	 * Removes all descriptors, but does not free memory
+	 */
+	void reset();
+
+	/**
+	 * Ensures there is enough memory to store the specified number of descriptors without declaring more memory
+	 *
+	 * @param numDescriptors Total number of descriptors
+	 */
+	void reserve( int numDescriptors );
+
+	/**
+	 * Adds a copy of the descriptor to the end of the array
+	 *
+	 * @param description The descriptor which is to be copied
+	 */
+	void append( D description );
+
+	/**
+	 * Copies the descriptor at the specified index into the provided descriptor
+	 *
+	 * @param index Index of the descriptor
+	 * @param dst (Output) storage for the descriptor
+	 */
+	void getCopy( int index , D dst );
+
+	/**
+	 * Number of descriptors which are stored
+	 */
+	int size();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import java.util.Arrays;
+
+/**
+ * Stores binary descriptors, {@link TupleDesc_B}, in a single int array. The bits of descriptor 'i' start
+ * at element i*numInts in {@link #data}.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B implements PackedTupleArray<TupleDesc_B> {
+	// number of bits in each descriptor
+	public final int numBits;
+	// number of ints used to store each descriptor
+	public final int numInts;
+
+	// storage for all the descriptors
+	public int[] data = new int[0];
+	// number of descriptors stored
+	public int numElements;
+
+	public PackedTupleArray_B( int numBits ) {
+		this.numBits = numBits;
+		this.numInts = numBits/32 + (numBits % 32 != 0 ? 1 : 0);
+	}
+
+	@Override
+	public void reset() {
+		numElements = 0;
+	}
+
+	@Override
+	public void reserve( int numDescriptors ) {
+		if( data.length < numDescriptors*numInts )
+			data = Arrays.copyOf(data,numDescriptors*numInts);
+	}
+
+	@Override
+	public void append( TupleDesc_B description ) {
+		if( description.numBits != numBits )
+			throw new IllegalArgumentException("Expected descriptor with "+numBits+" bits not "+description.numBits);
+		if( data.length < (numElements+1)*numInts )
+			reserve(Math.max(16,numElements*2));
+
+		System.arraycopy(description.data,0,data,numElements*numInts,numInts);
+		numElements++;
+	}
+
+	@Override
+	public void getCopy( int index , TupleDesc_B dst ) {
+		dst.numBits = numBits;
+		System.arraycopy(data,index*numInts,dst.data,0,numInts);
+	}
+
+	/**
+	 * Index of the first element in {@link #data} for the specified descriptor
+	 */
+	public int offset( int index ) {
+		return index*numInts;
+	}
+
+	@Override
+	public int size() {
+		return numElements;
+	}
+}
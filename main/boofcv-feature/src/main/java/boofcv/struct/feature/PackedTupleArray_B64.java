@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+import java.util.Arrays;
+
+/**
+ * Stores binary descriptors, {@link TupleDesc_B}, in a single long array. Pairs of ints in the original descriptor
+ * are combined into a single long, with the first int in the lower bits. Compared to {@link PackedTupleArray_B}
+ * half as many elements need to be processed when computing the Hamming distance. The bits of descriptor 'i' start
+ * at element i*numLongs in {@link #data}.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B64 implements PackedTupleArray<TupleDesc_B> {
+	// number of bits in each descriptor
+	public final int numBits;
+	// number of longs used to store each descriptor
+	public final int numLongs;
+
+	// storage for all the descriptors
+	public long[] data = new long[0];
+	// number of descriptors stored
+	public int numElements;
+
+	public PackedTupleArray_B64( int numBits ) {
+		this.numBits = numBits;
+		this.numLongs = numBits/64 + (numBits % 64 != 0 ? 1 : 0);
+	}
+
+	@Override
+	public void reset() {
+		numElements = 0;
+	}
+
+	@Override
+	public void reserve( int numDescriptors ) {
+		if( data.length < numDescriptors*numLongs )
+			data = Arrays.copyOf(data,numDescriptors*numLongs);
+	}
+
+	@Override
+	public void append( TupleDesc_B description ) {
+		if( description.numBits != numBits )
+			throw new IllegalArgumentException("Expected descriptor with "+numBits+" bits not "+description.numBits);
+		if( data.length < (numElements+1)*numLongs )
+			reserve(Math.max(16,numElements*2));
+
+		int[] src = description.data;
+		int index = numElements*numLongs;
+		for (int i = 0; i < numLongs; i++) {
+			long lower = src[i*2] & 0xFFFFFFFFL;
+			long upper = i*2+1 < src.length ? (long)src[i*2+1] << 32 : 0;
+			data[index++] = lower | upper;
+		}
+		numElements++;
+	}
+
+	@Override
+	public void getCopy( int index , TupleDesc_B dst ) {
+		dst.numBits = numBits;
+		int[] out = dst.data;
+		int start = index*numLongs;
+		for (int i = 0; i < numLongs; i++) {
+			long value = data[start+i];
+			out[i*2] = (int)value;
+			if( i*2+1 < out.length )
+				out[i*2+1] = (int)(value >>> 32);
+		}
+	}
+
+	/**
+	 * Index of the first element in {@link #data} for the specified descriptor
+	 */
+	public int offset( int index ) {
+		return index*numLongs;
+	}
+
+	@Override
+	public int size() {
+		return numElements;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import java.util.Arrays;
+
+/**
+ * Stores descriptors of type {@link TupleDesc_F32} in a single float array. The elements of descriptor 'i'
+ * start at element i*dof in {@link #data}.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_F32 implements PackedTupleArray<TupleDesc_F32> {
+	// number of elements in each descriptor
+	public final int dof;
+
+	// storage for all the descriptors
+	public float[] data = new float[0];
+	// number of descriptors stored
+	public int numElements;
+
+	public PackedTupleArray_F32( int dof ) {
+		this.dof = dof;
+	}
+
+	@Override
+	public void reset() {
+		numElements = 0;
+	}
+
+	@Override
+	public void reserve( int numDescriptors ) {
+		if( data.length < numDescriptors*dof )
+			data = Arrays.copyOf(data,numDescriptors*dof);
+	}
+
+	@Override
+	public void append( TupleDesc_F32 description ) {
+		if( description.value.length != dof )
+			throw new IllegalArgumentException("Expected descriptor with "+dof+" elements not "+description.value.length);
+		if( data.length < (numElements+1)*dof )
+			reserve(Math.max(16,numElements*2));
+
+		System.arraycopy(description.value,0,data,numElements*dof,dof);
+		numElements++;
+	}
+
+	@Override
+	public void getCopy( int index , TupleDesc_F32 dst ) {
+		System.arraycopy(data,index*dof,dst.value,0,dof);
+	}
+
+	/**
+	 * Index of the first element in {@link #data} for the specified descriptor
+	 */
+	public int offset( int index ) {
+		return index*dof;
+	}
+
+	@Override
+	public int size() {
+		return numElements;
+	}
+}
@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.PackedTupleArray_B64;
 import boofcv.struct.feature.TupleDesc_B;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +58,40 @@ public class TestScoreAssociateHamming_B extends StandardScoreAssociationChecks<
 		}
 	}
 
+	/**
+	 * Scores computed using both packed formats should be the same as the unpacked score
+	 */
+	@Test
+	public void packed() {
+		ScoreAssociateHamming_B scorer = new ScoreAssociateHamming_B();
+
+		TupleDesc_B[] descs = new TupleDesc_B[6];
+		PackedTupleArray_B packed32 = new PackedTupleArray_B(300);
+		PackedTupleArray_B64 packed64 = new PackedTupleArray_B64(300);
+		for (int i = 0; i < descs.length; i++) {
+			descs[i] = new TupleDesc_B(300);
+			for (int j = 0; j < descs[i].data.length; j++) {
+				descs[i].data[j] = rand.nextInt();
+			}
+			packed32.append(descs[i]);
+			packed64.append(descs[i]);
+		}
+
+		double[] scores32 = new double[descs.length+1];
+		double[] scores64 = new double[descs.length+1];
+		for (int i = 0; i < descs.length; i++) {
+			scorer.scoreAll(packed32,i,packed32,scores32,1);
+			scorer.scoreAll(packed64,i,packed64,scores64,1);
+			for (int j = 0; j < descs.length; j++) {
+				double expected = scorer.score(descs[i],descs[j]);
+				assertEquals(expected,scorer.score(packed32,i,packed32,j));
+				assertEquals(expected,scorer.score(packed64,i,packed64,j));
+				assertEquals(expected,scores32[j+1]);
+				assertEquals(expected,scores64[j+1]);
+			}
+		}
+	}
+
 	@Override
 	public ScoreAssociation<TupleDesc_B> createScore() {
 		return new ScoreAssociateHamming_B();
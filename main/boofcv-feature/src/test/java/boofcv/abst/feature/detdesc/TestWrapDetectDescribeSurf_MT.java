@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestWrapDetectDescribeSurf_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	void compareToSingleThread_fast() {
+		compareToSingleThread(false);
+	}
+
+	@Test
+	void compareToSingleThread_stable() {
+		compareToSingleThread(true);
+	}
+
+	/**
+	 * The same features should be found in the same order as the single threaded version
+	 */
+	private void compareToSingleThread( boolean stable ) {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		DetectDescribePoint<GrayF32,BrightFeature> expected, found;
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			expected = create(stable);
+			BoofConcurrency.USE_CONCURRENT = true;
+			found = create(stable);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+		assertTrue(found instanceof WrapDetectDescribeSurf_MT);
+
+		// process twice to make sure the internal state is correctly reset
+		for (int trial = 0; trial < 2; trial++) {
+			expected.detect(image);
+			found.detect(image);
+
+			int N = expected.getNumberOfFeatures();
+			assertTrue(N > 10);
+			assertEquals(N, found.getNumberOfFeatures());
+
+			for (int i = 0; i < N; i++) {
+				assertEquals(expected.getLocation(i).x, found.getLocation(i).x);
+				assertEquals(expected.getLocation(i).y, found.getLocation(i).y);
+				assertEquals(expected.getRadius(i), found.getRadius(i));
+				assertEquals(expected.getOrientation(i), found.getOrientation(i));
+
+				BrightFeature de = expected.getDescription(i);
+				BrightFeature df = found.getDescription(i);
+				assertEquals(de.white, df.white);
+				assertArrayEquals(de.value, df.value);
+			}
+		}
+	}
+
+	private DetectDescribePoint<GrayF32,BrightFeature> create( boolean stable ) {
+		if( stable )
+			return FactoryDetectDescribe.surfStable(null,null,null, GrayF32.class);
+		else
+			return FactoryDetectDescribe.surfFast(null,null,null, GrayF32.class);
+	}
+}
@@ -18,10 +18,17 @@
 
 package boofcv.alg.background.stationary;
 
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * @author Peter Abeles
  */
@@ -49,4 +56,98 @@ public abstract class GenericBackgroundStationaryGmmChecks extends GenericBackgr
 //			checkLearnRate_fast(type);
 		}
 	}
+
+	/**
+	 * Only pixels inside the update region should be modeled. Everything else is unknown
+	 */
+	@Test
+	public void updateRegion() {
+		for( ImageType type : imageTypes ) {
+			updateRegion(type);
+		}
+	}
+
+	private <T extends ImageBase<T>> void updateRegion( ImageType<T> imageType ) {
+		BackgroundStationaryGmm<T> alg = (BackgroundStationaryGmm<T>)create(imageType);
+		alg.setUnknownValue(2);
+		T frame = imageType.createImage(width,height);
+
+		// left side of the image is not modeled
+		GrayU8 region = new GrayU8(width,height);
+		ImageMiscOps.fillRectangle(region,1,20,0,width-20,height);
+		alg.setUpdateRegion(region);
+
+		GrayU8 mask = new GrayU8(width,height);
+		for (int i = 0; i < 30; i++) {
+			noise(100, 2, frame);
+			alg.updateBackground(frame,mask);
+		}
+
+		int x0 = 10, y0 = 12, x1 = 40, y1 = 38;
+		noise(100,2,frame);
+		GImageMiscOps.fillRectangle(frame, 200, x0, y0, x1 - x0, y1 - y0);
+
+		GrayU8 segmented = new GrayU8(width,height);
+		alg.segment(frame, segmented);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( x < 20 ) {
+					assertEquals(2,mask.get(x,y));
+					assertEquals(2,segmented.get(x,y));
+				} else if( x < x1 && y >= y0 && y < y1 ) {
+					assertEquals(1,segmented.get(x,y));
+				} else {
+					assertEquals(0,segmented.get(x,y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pixels which haven't changed should not have their model updated and should have the same label
+	 */
+	@Test
+	public void changeThreshold() {
+		for( ImageType type : imageTypes ) {
+			changeThreshold(type);
+		}
+	}
+
+	private <T extends ImageBase<T>> void changeThreshold( ImageType<T> imageType ) {
+		BackgroundStationaryGmm<T> alg = (BackgroundStationaryGmm<T>)create(imageType);
+		alg.setChangeThreshold(5);
+		T frame = imageType.createImage(width,height);
+
+		GrayU8 mask = new GrayU8(width,height);
+		for (int i = 0; i < 30; i++) {
+			noise(100, 2, frame);
+			alg.updateBackground(frame,mask);
+		}
+
+		// the previous frame is well within the threshold so nothing should change
+		float[][] before = new float[height][];
+		for (int row = 0; row < height; row++) {
+			before[row] = alg.common.model.data[row].clone();
+		}
+		GrayU8 expectedMask = mask.clone();
+		alg.updateBackground(frame,mask);
+		for (int row = 0; row < height; row++) {
+			assertArrayEquals(before[row],alg.common.model.data[row],0.0f);
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(expectedMask.get(x,y),mask.get(x,y));
+			}
+		}
+
+		// large change and every pixel should be updated
+		GImageMiscOps.fill(frame,200);
+		alg.updateBackground(frame,mask);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(1,mask.get(x,y));
+			}
+		}
+	}
 }
@@ -24,7 +24,7 @@ import boofcv.struct.image.*;
 /**
  * @author Peter Abeles
  */
-public class TestBackgroundStationaryGmm_MB extends GenericBackgroundModelStationaryChecks {
+public class TestBackgroundStationaryGmm_MB extends GenericBackgroundStationaryGmmChecks {
 
 	public TestBackgroundStationaryGmm_MB() {
 		imageTypes.add(ImageType.il(3,InterleavedU8.class));
@@ -27,7 +27,7 @@ import boofcv.struct.image.ImageType;
 /**
  * @author Peter Abeles
  */
-public class TestBackgroundStationaryGmm_SB extends GenericBackgroundModelStationaryChecks {
+public class TestBackgroundStationaryGmm_SB extends GenericBackgroundStationaryGmmChecks {
 
 	ImageType<GrayU8> imageType = ImageType.single(GrayU8.class);
 
@@ -67,6 +67,14 @@ public class TestDescriptorDistance {
 		assertEquals(195, DescriptorDistance.euclideanSq(a, b), 1e-4);
 	}
 
+	@Test
+	public void euclideanSq_F32_array() {
+		float[] a = new float[]{0,0,1,2,3,4,5};
+		float[] b = new float[]{0,2,-1,7,-8,10};
+
+		assertEquals(195, DescriptorDistance.euclideanSq(a,2,b,1,5), 1e-4);
+	}
+
 	@Test
 	public void correlation() {
 		TupleDesc_F64 a = new TupleDesc_F64(5);
@@ -151,6 +159,14 @@ public class TestDescriptorDistance {
 		assertEquals(56.51,DescriptorDistance.sad(a, b),1e-2);
 	}
 
+	@Test
+	public void sad_F32_array() {
+		float[] a = new float[]{ 0.1f ,2     ,3 ,-4.9f ,5};
+		float[] b = new float[]{99, -1    ,45.5f ,6 ,3     ,6.01f};
+
+		assertEquals(56.51,DescriptorDistance.sad(a,0,b,1,5),1e-2);
+	}
+
 	@Test
 	public void sad_F64() {
 		TupleDesc_F64 a = new TupleDesc_F64(5);
@@ -177,6 +193,82 @@ public class TestDescriptorDistance {
 		}
 	}
 
+	@Test
+	public void hamming_I32_array() {
+		TupleDesc_B a = new TupleDesc_B(512);
+		TupleDesc_B b = new TupleDesc_B(512);
+
+		for( int i = 0; i < a.data.length; i++ ) {
+			a.data[i] = rand.nextInt();
+			b.data[i] = rand.nextInt();
+		}
+
+		// place the descriptors at different offsets inside of larger arrays
+		int[] arrayA = new int[a.data.length+3];
+		int[] arrayB = new int[b.data.length+5];
+		System.arraycopy(a.data,0,arrayA,3,a.data.length);
+		System.arraycopy(b.data,0,arrayB,5,b.data.length);
+
+		assertEquals(hamming(a,b),DescriptorDistance.hamming(arrayA,3,arrayB,5,a.data.length));
+	}
+
+	@Test
+	public void hamming_I64_array() {
+		for( int numBits : new int[]{256,100} ) {
+			TupleDesc_B a = randomBinary(numBits);
+			TupleDesc_B b = randomBinary(numBits);
+
+			PackedTupleArray_B64 packedA = new PackedTupleArray_B64(numBits);
+			PackedTupleArray_B64 packedB = new PackedTupleArray_B64(numBits);
+			packedA.append(randomBinary(numBits));
+			packedA.append(a);
+			packedB.append(b);
+
+			assertEquals(hamming(a,b),DescriptorDistance.hamming(
+					packedA.data,packedA.offset(1),packedB.data,0,packedA.numLongs));
+		}
+	}
+
+	/**
+	 * Compares one descriptor against many and checks the results against the single pair function
+	 */
+	@Test
+	public void hamming_I64_oneToMany() {
+		// 256 bits has a special case
+		for( int numBits : new int[]{256,512,70} ) {
+			PackedTupleArray_B64 candidates = new PackedTupleArray_B64(numBits);
+			TupleDesc_B query = randomBinary(numBits);
+			for (int i = 0; i < 15; i++) {
+				candidates.append(randomBinary(numBits));
+			}
+			long[] queryArray = new long[candidates.numLongs+2];
+			PackedTupleArray_B64 packedQuery = new PackedTupleArray_B64(numBits);
+			packedQuery.append(query);
+			System.arraycopy(packedQuery.data,0,queryArray,2,candidates.numLongs);
+
+			// skip the first candidate and offset the output
+			double[] scores = new double[20];
+			DescriptorDistance.hamming(queryArray,2,candidates.data,candidates.offset(1),candidates.numLongs,
+					14,scores,3);
+
+			TupleDesc_B c = new TupleDesc_B(numBits);
+			for (int i = 0; i < 14; i++) {
+				candidates.getCopy(i+1,c);
+				assertEquals(hamming(query,c),scores[i+3]);
+			}
+			assertEquals(0,scores[2]);
+			assertEquals(0,scores[17]);
+		}
+	}
+
+	private TupleDesc_B randomBinary( int numBits ) {
+		TupleDesc_B a = new TupleDesc_B(numBits);
+		for( int i = 0; i < a.data.length; i++ ) {
+			a.data[i] = rand.nextInt();
+		}
+		return a;
+	}
+
 	@Test
 	public void hamming_int() {
 		assertEquals(0,DescriptorDistance.hamming(0));
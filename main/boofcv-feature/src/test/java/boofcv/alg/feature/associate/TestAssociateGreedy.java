@@ -18,13 +18,18 @@
 
 package boofcv.alg.feature.associate;
 
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F32;
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
 import boofcv.abst.feature.associate.ScoreAssociation;
-import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.feature.*;
 import org.ddogleg.struct.FastQueue;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 /**
@@ -101,6 +106,99 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	/**
+	 * Packed arrays should produce the same results as lists of descriptors
+	 */
+	@Test
+	public void packed() {
+		for( boolean backwards : new boolean[]{false,true}) {
+			FastQueue<TupleDesc_F32> a = createData_F32(1,2,3,8);
+			FastQueue<TupleDesc_F32> b = createData_F32(3,4,1,10);
+
+			PackedTupleArray_F32 packedA = new PackedTupleArray_F32(1);
+			PackedTupleArray_F32 packedB = new PackedTupleArray_F32(1);
+			for (int i = 0; i < a.size; i++) {
+				packedA.append(a.get(i));
+				packedB.append(b.get(i));
+			}
+
+			AssociateGreedy<TupleDesc_F32> expected = new AssociateGreedy<>(new ScoreAssociateEuclideanSq_F32(), backwards);
+			AssociateGreedy<TupleDesc_F32> found = new AssociateGreedy<>(new ScoreAssociateEuclideanSq_F32(), backwards);
+			expected.setMaxFitError(10);
+			found.setMaxFitError(10);
+
+			expected.associate(a,b);
+			found.associate(packedA,packedB);
+
+			for (int i = 0; i < a.size; i++) {
+				assertEquals(expected.getPairs()[i],found.getPairs()[i]);
+				assertEquals(expected.getFitQuality()[i],found.getFitQuality()[i]);
+			}
+		}
+	}
+
+	/**
+	 * Binary descriptors in both packed formats should produce the same results as unpacked descriptors
+	 */
+	@Test
+	public void packed_binary() {
+		Random rand = new Random(234);
+		FastQueue<TupleDesc_B> a = new FastQueue<>(10,TupleDesc_B.class, ()-> new TupleDesc_B(256));
+		FastQueue<TupleDesc_B> b = new FastQueue<>(10,TupleDesc_B.class, ()-> new TupleDesc_B(256));
+		PackedTupleArray_B packedA32 = new PackedTupleArray_B(256);
+		PackedTupleArray_B packedB32 = new PackedTupleArray_B(256);
+		PackedTupleArray_B64 packedA64 = new PackedTupleArray_B64(256);
+		PackedTupleArray_B64 packedB64 = new PackedTupleArray_B64(256);
+		for (int i = 0; i < 30; i++) {
+			TupleDesc_B da = a.grow();
+			TupleDesc_B db = b.grow();
+			for (int j = 0; j < da.data.length; j++) {
+				da.data[j] = rand.nextInt();
+				db.data[j] = rand.nextInt();
+			}
+			packedA32.append(da); packedB32.append(db);
+			packedA64.append(da); packedB64.append(db);
+		}
+
+		for( boolean backwards : new boolean[]{false,true}) {
+			AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(new ScoreAssociateHamming_B(), backwards);
+			AssociateGreedy<TupleDesc_B> found32 = new AssociateGreedy<>(new ScoreAssociateHamming_B(), backwards);
+			AssociateGreedy<TupleDesc_B> found64 = new AssociateGreedy<>(new ScoreAssociateHamming_B(), backwards);
+
+			expected.associate(a,b);
+			found32.associate(packedA32,packedB32);
+			found64.associate(packedA64,packedB64);
+
+			for (int i = 0; i < a.size; i++) {
+				assertEquals(expected.getPairs()[i],found32.getPairs()[i]);
+				assertEquals(expected.getFitQuality()[i],found32.getFitQuality()[i]);
+				assertEquals(expected.getPairs()[i],found64.getPairs()[i]);
+				assertEquals(expected.getFitQuality()[i],found64.getFitQuality()[i]);
+			}
+		}
+	}
+
+	/**
+	 * The score must support packed arrays
+	 */
+	@Test
+	public void packed_unsupportedScore() {
+		AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<>(score, false);
+		assertThrows(IllegalArgumentException.class, ()->alg.associate(
+				(PackedTupleArray<TupleDesc_F64>)null,(PackedTupleArray<TupleDesc_F64>)null));
+	}
+
+	private FastQueue<TupleDesc_F32> createData_F32( float ...values )
+	{
+		FastQueue<TupleDesc_F32> ret = new FastQueue<>(10,TupleDesc_F32.class, ()-> new TupleDesc_F32(1));
+
+		for( int i = 0; i < values.length; i++ ) {
+			ret.grow().set(values[i]);
+		}
+
+		return ret;
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<>(10,TupleDesc_F64.class, ()-> new TupleDesc_F64(1));
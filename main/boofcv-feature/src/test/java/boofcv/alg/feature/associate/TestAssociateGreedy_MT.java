@@ -18,7 +18,10 @@
 
 package boofcv.alg.feature.associate;
 
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F32;
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
+import boofcv.struct.feature.PackedTupleArray_F32;
+import boofcv.struct.feature.TupleDesc_F32;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.junit.jupiter.api.Test;
@@ -58,6 +61,41 @@ class TestAssociateGreedy_MT {
 		}
 	}
 
+	@Test
+	void compare_packed() {
+		compare_packed(false);
+		compare_packed(true);
+	}
+	void compare_packed( boolean backwards ) {
+		PackedTupleArray_F32 a = createPacked(200);
+		PackedTupleArray_F32 b = createPacked(200);
+
+		AssociateGreedy<TupleDesc_F32> sequentialAlg = new AssociateGreedy<>( new ScoreAssociateEuclideanSq_F32(), backwards);
+		sequentialAlg.setMaxFitError(0.5);
+		sequentialAlg.associate(a,b);
+
+		AssociateGreedy_MT<TupleDesc_F32> parallelAlg = new AssociateGreedy_MT<>( new ScoreAssociateEuclideanSq_F32(), backwards);
+		parallelAlg.setMaxFitError(0.5);
+		parallelAlg.associate(a,b);
+
+		for (int i = 0; i < a.size(); i++) {
+			assertEquals(sequentialAlg.getPairs()[i],parallelAlg.getPairs()[i]);
+			assertEquals(sequentialAlg.getFitQuality()[i],parallelAlg.getFitQuality()[i]);
+		}
+	}
+
+	public static PackedTupleArray_F32 createPacked( int count ) {
+		Random rand = new Random(234);
+
+		PackedTupleArray_F32 ret = new PackedTupleArray_F32(2);
+		TupleDesc_F32 d = new TupleDesc_F32(2);
+		for( int i = 0; i < count; i++ ) {
+			d.set(rand.nextFloat()*10,rand.nextFloat()*10);
+			ret.append(d);
+		}
+		return ret;
+	}
+
 	public static FastQueue<TupleDesc_F64> createData( int count )
 	{
 		Random rand = new Random(234);
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMultiIndexHashing_B {
+	Random rand = new Random(234);
+
+	@Test
+	void extractKey() {
+		TupleDesc_B desc = random(100);
+
+		for (int bit0 : new int[]{0,5,28,32,90}) {
+			for (int length : new int[]{1,4,10}) {
+				if( bit0+length > 100 )
+					continue;
+				int expected = 0;
+				for (int i = 0; i < length; i++) {
+					if( desc.isBitTrue(bit0+i) )
+						expected |= 1 << i;
+				}
+				assertEquals(expected, MultiIndexHashing_B.extractKey(desc.data,0,bit0,length));
+			}
+		}
+	}
+
+	/**
+	 * If the search radius isn't limited then the solution should be exact
+	 */
+	@Test
+	void findNearest_exact() {
+		List<TupleDesc_B> points = randomList(300,60);
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(8,8,-1);
+		alg.setPoints(points,true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		NnData<TupleDesc_B> found = new NnData<>();
+		for (int trial = 0; trial < 50; trial++) {
+			TupleDesc_B query = random(60);
+			assertTrue(search.findNearest(query,-1,found));
+			assertEquals(bruteForce(points,query)[0],(int)found.distance);
+			assertSame(points.get(found.index),found.point);
+			assertEquals(DescriptorDistance.hamming(query,found.point),(int)found.distance);
+		}
+	}
+
+	@Test
+	void findNearest_N_exact() {
+		List<TupleDesc_B> points = randomList(300,60);
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(8,8,-1);
+		alg.setPoints(points,true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		FastQueue<NnData<TupleDesc_B>> found = new FastQueue(NnData.class,true);
+		for (int trial = 0; trial < 20; trial++) {
+			TupleDesc_B query = random(60);
+			search.findNearest(query,-1,3,found);
+			int[] expected = bruteForce(points,query);
+			assertEquals(3,found.size);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(expected[i],(int)found.get(i).distance);
+				assertSame(points.get(found.get(i).index),found.get(i).point);
+			}
+		}
+	}
+
+	@Test
+	void findNearest_maxDistance() {
+		List<TupleDesc_B> points = randomList(100,64);
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(16,16,-1);
+		alg.setPoints(points,true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		TupleDesc_B query = random(64);
+		int best = bruteForce(points,query)[0];
+
+		NnData<TupleDesc_B> found = new NnData<>();
+		assertFalse(search.findNearest(query,best-1,found));
+		assertTrue(search.findNearest(query,best,found));
+		assertEquals(best,(int)found.distance);
+	}
+
+	/**
+	 * Near duplicates should be found when the search is approximate
+	 */
+	@Test
+	void findNearest_approximate() {
+		List<TupleDesc_B> points = randomList(2000,256);
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(16,1,-1);
+		alg.setPoints(points,true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		NnData<TupleDesc_B> found = new NnData<>();
+		for (int trial = 0; trial < 50; trial++) {
+			int target = rand.nextInt(points.size());
+			TupleDesc_B query = points.get(target).copy();
+			for (int i = 0; i < 10; i++) {
+				int bit = rand.nextInt(256);
+				query.data[bit/32] ^= 1 << (bit%32);
+			}
+			assertTrue(search.findNearest(query,-1,found));
+			assertEquals(target,found.index);
+		}
+	}
+
+	/**
+	 * Limiting the number of candidates should still return a valid but possibly worse solution
+	 */
+	@Test
+	void maxCandidates() {
+		List<TupleDesc_B> points = randomList(300,64);
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(8,8,1);
+		alg.setPoints(points,true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		NnData<TupleDesc_B> found = new NnData<>();
+		TupleDesc_B query = random(64);
+		assertTrue(search.findNearest(query,-1,found));
+		assertEquals(DescriptorDistance.hamming(query,found.point),(int)found.distance);
+		assertTrue(found.distance >= bruteForce(points,query)[0]);
+	}
+
+	/**
+	 * Searches should not interfere with each other and the index can be rebuilt
+	 */
+	@Test
+	void multipleSearches_setPoints() {
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(8,8,-1);
+		NearestNeighbor.Search<TupleDesc_B> searchA = alg.createSearch();
+		NearestNeighbor.Search<TupleDesc_B> searchB = alg.createSearch();
+
+		NnData<TupleDesc_B> found = new NnData<>();
+		for (int size : new int[]{50,200,20}) {
+			List<TupleDesc_B> points = randomList(size,40);
+			alg.setPoints(points,true);
+			for (int trial = 0; trial < 10; trial++) {
+				TupleDesc_B query = random(40);
+				int expected = bruteForce(points,query)[0];
+				assertTrue(searchA.findNearest(query,-1,found));
+				assertEquals(expected,(int)found.distance);
+				assertTrue(searchB.findNearest(query,-1,found));
+				assertEquals(expected,(int)found.distance);
+			}
+		}
+
+		alg.setPoints(new ArrayList<>(),true);
+		assertFalse(searchA.findNearest(random(40),-1,found));
+	}
+
+	/**
+	 * Returns the sorted distance to all the points
+	 */
+	private int[] bruteForce( List<TupleDesc_B> points , TupleDesc_B query ) {
+		int[] distances = new int[points.size()];
+		for (int i = 0; i < points.size(); i++) {
+			distances[i] = DescriptorDistance.hamming(query,points.get(i));
+		}
+		Arrays.sort(distances);
+		return distances;
+	}
+
+	private List<TupleDesc_B> randomList( int total , int numBits ) {
+		List<TupleDesc_B> list = new ArrayList<>();
+		for (int i = 0; i < total; i++) {
+			list.add(random(numBits));
+		}
+		return list;
+	}
+
+	private TupleDesc_B random( int numBits ) {
+		TupleDesc_B desc = new TupleDesc_B(numBits);
+		for (int i = 0; i < desc.data.length; i++) {
+			desc.data[i] = rand.nextInt();
+		}
+		// unused bits are always zero
+		if( numBits % 32 != 0 )
+			desc.data[desc.data.length-1] &= (1 << (numBits%32))-1;
+		return desc;
+	}
+}
@@ -30,15 +30,16 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
  */
 public class TestDescribeDenseHogFastAlg {
 
+	Random rand = new Random(234);
 	ImageType<GrayF32> imageType = ImageType.single(GrayF32.class);
 
 	int imgWidth = 60;
@@ -187,6 +188,103 @@ public class TestDescribeDenseHogFastAlg {
 		}
 	}
 
+	/**
+	 * Modify a region inside the image and see if the results are identical to processing the entire image
+	 */
+	@Test
+	public void updateInput() {
+		GrayF32 input = new GrayF32(imgWidth,imgHeight);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		DescribeDenseHogFastAlg<GrayF32> alg = new DescribeDenseHogFastAlg<>(10,8,2,2,1,imageType);
+		alg.setInput(input);
+		alg.process();
+
+		// change regions at the image border and inside the image
+		int[][] regions = new int[][]{{9,13,30,27},{0,0,5,7},{50,70,60,80}};
+		for( int[] r : regions ) {
+			ImageMiscOps.fillUniform(input.subimage(r[0],r[1],r[2],r[3]),rand,0,200);
+			alg.updateInput(input,r[0],r[1],r[2],r[3]);
+			alg.process();
+
+			DescribeDenseHogFastAlg<GrayF32> expected = new DescribeDenseHogFastAlg<>(10,8,2,2,1,imageType);
+			expected.setInput(input);
+			expected.process();
+
+			assertEquals(expected.getDescriptions().size,alg.getDescriptions().size);
+			for (int i = 0; i < expected.getDescriptions().size; i++) {
+				assertArrayEquals(expected.getDescriptions().get(i).value,alg.getDescriptions().get(i).value,1e-8);
+			}
+		}
+	}
+
+	@Test
+	public void updateInput_differentShape() {
+		DescribeDenseHogFastAlg<GrayF32> alg = new DescribeDenseHogFastAlg<>(10,8,2,2,1,imageType);
+		alg.setInput(new GrayF32(imgWidth,imgHeight));
+		assertThrows(IllegalArgumentException.class,()->alg.updateInput(new GrayF32(imgWidth+1,imgHeight),0,0,5,5));
+	}
+
+	/**
+	 * Descriptors computed inside a region should be identical to the ones computed across the whole image
+	 */
+	@Test
+	public void processRegion() {
+		GrayF32 input = new GrayF32(imgWidth,imgHeight);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		for( int step : new int[]{1,2}) {
+			DescribeDenseHogFastAlg<GrayF32> expected = new DescribeDenseHogFastAlg<>(10,8,2,3,step,imageType);
+			expected.setInput(input);
+			expected.process();
+
+			DescribeDenseHogFastAlg<GrayF32> alg = new DescribeDenseHogFastAlg<>(10,8,2,3,step,imageType);
+			alg.setInput(input);
+
+			int x0 = 5, y0 = 9, x1 = 51, y1 = 70;
+			alg.processRegion(x0,y0,x1,y1);
+			assertTrue(alg.getDescriptions().size > 0);
+
+			// every block inside the region should have been found
+			int total = 0;
+			for (int i = 0; i < expected.getLocations().size; i++) {
+				Point2D_I32 p = expected.getLocations().get(i);
+				if( p.x >= x0 && p.y >= y0 && p.x+alg.getRegionWidthPixelX() <= x1 && p.y+alg.getRegionWidthPixelY() <= y1 ) {
+					Point2D_I32 f = alg.getLocations().get(total);
+					assertEquals(p.x,f.x);
+					assertEquals(p.y,f.y);
+					assertArrayEquals(expected.getDescriptions().get(i).value,alg.getDescriptions().get(total).value,1e-8);
+					total++;
+				}
+			}
+			assertEquals(total,alg.getDescriptions().size);
+
+			// cells outside the region should not have been computed
+			assertTrue(alg.getCell(alg.getCellRows()-1,alg.getCellCols()-1).dirty);
+		}
+	}
+
+	@Test
+	public void describeBlock() {
+		GrayF32 input = new GrayF32(imgWidth,imgHeight);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		DescribeDenseHogFastAlg<GrayF32> expected = new DescribeDenseHogFastAlg<>(10,8,2,2,1,imageType);
+		expected.setInput(input);
+		expected.process();
+
+		DescribeDenseHogFastAlg<GrayF32> alg = new DescribeDenseHogFastAlg<>(10,8,2,2,1,imageType);
+		alg.setInput(input);
+
+		TupleDesc_F64 found = alg.createDescription();
+		alg.describeBlock(3,2,found);
+
+		int index = 3*(alg.getCellCols()-1) + 2;
+		assertArrayEquals(expected.getDescriptions().get(index).value,found.value,1e-8);
+
+		assertThrows(IllegalArgumentException.class,()->alg.describeBlock(alg.getCellRows()-1,0,found));
+	}
+
 	@Test
 	public void getRegionWidthPixel() {
 		DescribeDenseHogFastAlg helper = new DescribeDenseHogFastAlg(10,8,3,2,1,imageType);
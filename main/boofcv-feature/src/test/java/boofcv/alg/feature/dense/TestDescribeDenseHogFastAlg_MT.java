@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.dense;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestDescribeDenseHogFastAlg_MT {
+
+	Random rand = new Random(234);
+	ImageType<GrayF32> imageType = ImageType.single(GrayF32.class);
+
+	@Test
+	void compareToSingleThread() {
+		GrayF32 input = new GrayF32(120,95);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		for( int step : new int[]{1,2}) {
+			DescribeDenseHogFastAlg<GrayF32> expected = new DescribeDenseHogFastAlg<>(10,8,2,3,step,imageType);
+			DescribeDenseHogFastAlg<GrayF32> found = new DescribeDenseHogFastAlg_MT<>(10,8,2,3,step,imageType);
+
+			expected.setInput(input);
+			expected.process();
+			found.setInput(input);
+			found.process();
+
+			assertEquals(expected.getDescriptions().size, found.getDescriptions().size);
+			for (int i = 0; i < expected.getDescriptions().size; i++) {
+				assertEquals(expected.getLocations().get(i).x, found.getLocations().get(i).x);
+				assertEquals(expected.getLocations().get(i).y, found.getLocations().get(i).y);
+				assertArrayEquals(expected.getDescriptions().get(i).value, found.getDescriptions().get(i).value);
+			}
+		}
+	}
+}
@@ -71,6 +71,10 @@ public class TestCompleteSift {
 	}
 
 	private CompleteSift createAlg() {
+		return createAlg(false);
+	}
+
+	static CompleteSift createAlg( boolean concurrent ) {
 
 		SiftScaleSpace ss = new SiftScaleSpace(-1,4,3,1.6);
 
@@ -81,6 +85,9 @@ public class TestCompleteSift {
 		DescribePointSift<GrayF32> describe =
 				new DescribePointSift<>(4,4,8,1.5,0.5,0.2,GrayF32.class);
 
-		return new CompleteSift(ss,10,limiter,ori,describe);
+		if( concurrent )
+			return new CompleteSift_MT(ss,10,limiter,ori,describe);
+		else
+			return new CompleteSift(ss,10,limiter,ori,describe);
 	}
 }
\ No newline at end of file
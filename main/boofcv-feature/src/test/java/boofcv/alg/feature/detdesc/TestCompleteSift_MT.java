@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCompleteSift_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * The same features should be found in the same order as the single threaded version
+	 */
+	@Test
+	void compareToSingleThread() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		// the order of detections from concurrent non-maximum suppression isn't deterministic
+		CompleteSift expected, found;
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			expected = TestCompleteSift.createAlg(false);
+			found = TestCompleteSift.createAlg(true);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+
+		// process twice to make sure the internal state is correctly reset
+		for (int trial = 0; trial < 2; trial++) {
+			expected.process(image);
+			found.process(image);
+
+			int N = expected.getOrientations().size;
+			assertTrue(N > 10);
+			assertEquals(N, found.getOrientations().size);
+			assertEquals(N, found.getLocations().size);
+			assertEquals(N, found.getDescriptions().size);
+
+			for (int i = 0; i < N; i++) {
+				assertEquals(expected.getOrientations().get(i), found.getOrientations().get(i));
+
+				ScalePoint e = expected.getLocations().get(i);
+				ScalePoint f = found.getLocations().get(i);
+				assertEquals(e.x, f.x);
+				assertEquals(e.y, f.y);
+				assertEquals(e.scale, f.scale);
+
+				BrightFeature de = expected.getDescriptions().get(i);
+				BrightFeature df = found.getDescriptions().get(i);
+				assertEquals(de.white, df.white);
+				assertArrayEquals(de.value, df.value);
+			}
+		}
+	}
+}
@@ -22,10 +22,10 @@ import boofcv.struct.QueueCorner;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
@@ -84,12 +84,51 @@ public class TestEasyGeneralFeatureDetector {
 		assertFalse(detector.excludeIsNull);
 	}
 
+	/**
+	 * Derivatives should be borrowed from the pool while detecting and all of them returned afterwards
+	 */
+	@Test
+	public void setImagePool() {
+		for( boolean hessian : new boolean[]{false,true}) {
+			Helper<GrayU8,GrayS16> detector = new Helper<>(true, hessian);
+			EasyGeneralFeatureDetector<GrayU8,GrayS16> alg =
+					new EasyGeneralFeatureDetector<>(detector, GrayU8.class, GrayS16.class);
+
+			ImagePool pool = new ImagePool();
+			alg.setImagePool(pool);
+			assertSame(pool,alg.getImagePool());
+
+			int expected = hessian ? 5 : 2;
+			alg.detect(image,null);
+			assertEquals(width,detector.derivX.width);
+			assertEquals(height,detector.derivX.height);
+			assertEquals(0,pool.sizeBorrowed());
+			assertEquals(expected,pool.sizeAvailable());
+			assertNull(alg.derivX);
+
+			// recycled images should be reused on the next call
+			GrayS16 previous = detector.derivX;
+			alg.detect(image,null);
+			assertEquals(expected,pool.sizeAvailable());
+			assertSame(previous,detector.derivX);
+
+			// derivatives are owned by the detector again
+			alg.setImagePool(null);
+			alg.detect(image,null);
+			assertNotNull(alg.derivX);
+			assertSame(alg.derivX,detector.derivX);
+			assertEquals(expected,pool.sizeAvailable());
+		}
+	}
+
 	private static class Helper<I extends ImageGray<I>, D extends ImageGray<D>>
 			extends GeneralFeatureDetector<I,D> {
 
 		boolean gradient;
 		boolean hessian;
 		boolean excludeIsNull;
+		// derivative which was passed in to the most recent call to process
+		D derivX;
 
 		private Helper(boolean gradient, boolean hessian) {
 			this.gradient = gradient;
@@ -103,6 +142,7 @@ public class TestEasyGeneralFeatureDetector {
 
 		@Override
 		public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY) {
+			this.derivX = derivX;
 			if( gradient ) {
 				assertTrue(derivX != null );
 				assertTrue(derivY != null );
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.extract.WrapperNonMaximumBlock;
+import boofcv.alg.feature.detect.extract.NonMaxBlock;
+import boofcv.alg.feature.detect.extract.NonMaxBlockSearchStrict;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT extends GenericFeatureDetectorTests {
+
+	Random rand = new Random(234);
+
+	public TestFastHessianFeatureDetector_MT() {
+		this.scaleTolerance = 0.3;
+	}
+
+	@Override
+	protected Object createDetector( int maxFeatures ) {
+		return new FastHessianFeatureDetector_MT(TestFastHessianFeatureDetector_MT::createExtractor,
+				maxFeatures, 1, 9,4,4, 6);
+	}
+
+	/**
+	 * Single threaded extractor so that the order of detections is deterministic
+	 */
+	private static NonMaxSuppression createExtractor() {
+		NonMaxBlock alg = new NonMaxBlock(new NonMaxBlockSearchStrict.Max());
+		alg.setSearchRadius(1);
+		alg.setThresholdMax(1);
+		alg.setThresholdMin(-1);
+		alg.setBorder(5);
+		return new WrapperNonMaximumBlock(alg);
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	protected int detectFeature(GrayF32 input, Object detector) {
+		FastHessianFeatureDetector<GrayF32> alg = (FastHessianFeatureDetector<GrayF32>)detector;
+		GrayF32 integral = IntegralImageOps.transform(input,null);
+		alg.detect(integral);
+
+		return alg.getFoundPoints().size();
+	}
+
+	/**
+	 * The same features should be found in the same order as the single threaded version
+	 */
+	@Test
+	void compareToSingleThread() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		GrayF32 integral = IntegralImageOps.transform(image,null);
+
+		for( int maxFeatures : new int[]{-1,20}) {
+			FastHessianFeatureDetector<GrayF32> expected =
+					new FastHessianFeatureDetector<>(createExtractor(),maxFeatures, 1, 9,4,4, 6);
+			FastHessianFeatureDetector<GrayF32> found = (FastHessianFeatureDetector<GrayF32>)createDetector(maxFeatures);
+
+			// process twice to make sure the internal state is correctly reset
+			for (int trial = 0; trial < 2; trial++) {
+				expected.detect(integral);
+				found.detect(integral);
+
+				List<ScalePoint> listE = expected.getFoundPoints();
+				List<ScalePoint> listF = found.getFoundPoints();
+
+				assertTrue(listE.size() > 10);
+				assertEquals(listE.size(), listF.size());
+				for (int i = 0; i < listE.size(); i++) {
+					ScalePoint e = listE.get(i);
+					ScalePoint f = listF.get(i);
+					assertEquals(e.x, f.x);
+					assertEquals(e.y, f.y);
+					assertEquals(e.scale, f.scale);
+				}
+			}
+		}
+	}
+}
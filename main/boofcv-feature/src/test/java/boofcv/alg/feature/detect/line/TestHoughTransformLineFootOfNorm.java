@@ -20,13 +20,19 @@ package boofcv.alg.feature.detect.line;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.QueueCorner;
 import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
 import georegression.struct.line.LineParametric2D_F32;
 import org.ddogleg.struct.FastQueue;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
@@ -74,4 +80,37 @@ public class TestHoughTransformLineFootOfNorm {
 		assertEquals(0,Math.abs(l.slope.x),1e-16);
 		assertEquals(1,Math.abs(l.slope.y), 0.1);
 	}
+
+	/**
+	 * Voting with a list of points should produce the same transform as a binary image
+	 */
+	@Test
+	public void transform_points() {
+		Random rand = new Random(234);
+		GrayU8 binary = new GrayU8(width,height);
+		GrayS16 derivX = new GrayS16(width,height);
+		GrayS16 derivY = new GrayS16(width,height);
+		ImageMiscOps.fillUniform(binary,rand,0,2);
+		GImageMiscOps.fillUniform(derivX,rand,-20,20);
+		GImageMiscOps.fillUniform(derivY,rand,-20,20);
+
+		QueueCorner points = new QueueCorner();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( binary.get(x,y) != 0 )
+					points.add(x,y);
+			}
+		}
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4, 2, 0, true));
+		HoughTransformLineFootOfNorm alg = new HoughTransformLineFootOfNorm(extractor,2);
+
+		alg.transform(derivX,derivY,binary);
+		GrayF32 expected = alg.getTransform().clone();
+		int numCandidates = alg.candidates.size;
+		alg.transform(derivX,derivY,points);
+
+		BoofTesting.assertEquals(expected,alg.getTransform(),1e-8);
+		assertEquals(numCandidates,alg.candidates.size);
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I16;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestHoughTransformLineFootOfNorm_MT {
+
+	Random rand = new Random(234);
+	int width = 100, height = 90;
+
+	GrayU8 binary = new GrayU8(width,height);
+	GrayF32 derivX = new GrayF32(width,height);
+	GrayF32 derivY = new GrayF32(width,height);
+
+	NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4, 2, 0, true));
+	HoughTransformLineFootOfNorm single = new HoughTransformLineFootOfNorm(extractor,2);
+	HoughTransformLineFootOfNorm_MT multi = new HoughTransformLineFootOfNorm_MT(extractor,2);
+
+	TestHoughTransformLineFootOfNorm_MT() {
+		ImageMiscOps.fillUniform(binary,rand,0,2);
+		GImageMiscOps.fillUniform(derivX,rand,-20,20);
+		GImageMiscOps.fillUniform(derivY,rand,-20,20);
+	}
+
+	@Test
+	void compare_binary() {
+		// call it twice to make sure the transform is zeroed correctly
+		for (int trial = 0; trial < 2; trial++) {
+			single.transform(derivX,derivY,binary);
+			multi.transform(derivX,derivY,binary);
+			checkIdentical();
+		}
+	}
+
+	@Test
+	void compare_points() {
+		QueueCorner points = new QueueCorner();
+		for (int i = 0; i < 500; i++) {
+			points.add(rand.nextInt(width),rand.nextInt(height));
+		}
+
+		single.transform(derivX,derivY,points);
+		multi.transform(derivX,derivY,points);
+		checkIdentical();
+	}
+
+	private void checkIdentical() {
+		BoofTesting.assertEquals(single.getTransform(),multi.getTransform(),1e-8);
+
+		// candidates will be the same set but the order can be different
+		assertEquals(single.candidates.size,multi.candidates.size);
+		for (int i = 0; i < multi.candidates.size; i++) {
+			Point2D_I16 p = multi.candidates.get(i);
+			assertTrue(single.getTransform().get(p.x,p.y) >= 2);
+		}
+	}
+}
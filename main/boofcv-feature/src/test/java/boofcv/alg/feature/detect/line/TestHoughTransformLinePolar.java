@@ -20,12 +20,18 @@ package boofcv.alg.feature.detect.line;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
 import georegression.struct.line.LineParametric2D_F32;
 import org.ddogleg.struct.FastQueue;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -65,4 +71,30 @@ public class TestHoughTransformLinePolar {
 			assertEquals(Math.abs(l.slope.y),1,0.1);
 		}
 	}
+
+	/**
+	 * Voting with a list of points should produce the same transform as a binary image
+	 */
+	@Test
+	public void transform_points() {
+		GrayU8 image = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(image,new Random(234),0,2);
+
+		QueueCorner points = new QueueCorner();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( image.get(x,y) != 0 )
+					points.add(x,y);
+			}
+		}
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4,5,0, true));
+		HoughTransformLinePolar alg = new HoughTransformLinePolar(extractor,40,180);
+
+		alg.transform(image);
+		GrayF32 expected = alg.getTransform().clone();
+		alg.transform(points,width,height);
+
+		BoofTesting.assertEquals(expected,alg.getTransform(),1e-8);
+	}
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+class TestHoughTransformLinePolar_MT {
+	@Test
+	void compare() {
+		GrayU8 image = new GrayU8(100,90);
+		ImageMiscOps.fillUniform(image,new Random(234),0,2);
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4,5,0, true));
+		HoughTransformLinePolar single = new HoughTransformLinePolar(extractor,80,180);
+		HoughTransformLinePolar_MT multi = new HoughTransformLinePolar_MT(extractor,80,180);
+
+		// call it twice to make sure the transform is zeroed correctly
+		for (int trial = 0; trial < 2; trial++) {
+			single.transform(image);
+			multi.transform(image);
+
+			BoofTesting.assertEquals(single.getTransform(),multi.getTransform(),1e-8);
+		}
+	}
+}
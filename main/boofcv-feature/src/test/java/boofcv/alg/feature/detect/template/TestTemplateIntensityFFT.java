@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTemplateIntensityFFT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void instanceDiffSquared() {
+		new GeneralTemplateMatchTests<GrayF32>(new TemplateIntensityFFT.DiffSquared(), GrayF32.class) {
+		}.allTests();
+	}
+
+	@Test
+	public void instanceNCC() {
+		new GeneralTemplateMatchTests<GrayF32>(new TemplateIntensityFFT.NCC(), GrayF32.class) {
+		}.allTests();
+	}
+
+	/**
+	 * Scores should be the same as computing them directly
+	 */
+	@Test
+	public void compareToDirect() {
+		compareToDirect(new TemplateIntensityFFT.DiffSquared(), new TemplateDiffSquared.F32());
+		compareToDirect(new TemplateIntensityFFT.NCC(), new TemplateNCC.F32());
+	}
+
+	private void compareToDirect( TemplateIntensityFFT alg , BaseTemplateIntensity<GrayF32> direct ) {
+		GrayF32 image = new GrayF32(60,50);
+		GrayF32 template = new GrayF32(9,7);
+		GrayF32 mask = new GrayF32(9,7);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		GImageMiscOps.fillUniform(template,rand,0,200);
+		GImageMiscOps.fillUniform(mask,rand,0,1);
+
+		alg.setInputImage(image);
+		direct.setInputImage(image);
+
+		alg.process(template);
+		direct.process(template);
+		checkIdentical(template,alg,direct);
+
+		alg.process(template,mask);
+		direct.process(template,mask);
+		checkIdentical(template,alg,direct);
+	}
+
+	/**
+	 * Match a template against a sequence of images and see if the saved transform is used and is correct
+	 */
+	@Test
+	public void savedTemplate() {
+		TemplateIntensityFFT alg = new TemplateIntensityFFT.DiffSquared();
+		TemplateDiffSquared.F32 direct = new TemplateDiffSquared.F32();
+
+		GrayF32 image = new GrayF32(60,50);
+		GrayF32 template = new GrayF32(9,7);
+		GImageMiscOps.fillUniform(template,rand,0,200);
+
+		GrayF32 saved = null;
+		for (int trial = 0; trial < 3; trial++) {
+			GImageMiscOps.fillUniform(image,rand,0,200);
+			alg.setInputImage(image);
+			direct.setInputImage(image);
+
+			alg.process(template);
+			direct.process(template);
+			checkIdentical(template,alg,direct);
+			// same shape so the same transform should be used
+			if( trial == 0 )
+				saved = alg.local.spectrum.template;
+			else
+				assertSame(saved,alg.local.spectrum.template);
+		}
+
+		// the template has been modified so it needs to be recomputed
+		template.set(2,3,15);
+		alg.process(template);
+		direct.process(template);
+		checkIdentical(template,alg,direct);
+		assertNotSame(saved,alg.local.spectrum.template);
+		saved = alg.local.spectrum.template;
+
+		// different shape so it needs to be recomputed
+		image = new GrayF32(40,30);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		alg.setInputImage(image);
+		direct.setInputImage(image);
+		alg.process(template);
+		direct.process(template);
+		checkIdentical(template,alg,direct);
+		assertNotSame(saved,alg.local.spectrum.template);
+	}
+
+	/**
+	 * Templates passed directly to computeIntensity() aren't saved and should produce the same results
+	 */
+	@Test
+	public void computeIntensity_notSaved() {
+		TemplateIntensityFFT alg = new TemplateIntensityFFT.DiffSquared();
+
+		GrayF32 image = new GrayF32(60,50);
+		GrayF32 template = new GrayF32(9,7);
+		GrayF32 mask = new GrayF32(9,7);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		GImageMiscOps.fillUniform(template,rand,0,200);
+		GImageMiscOps.fillUniform(mask,rand,0,1);
+		alg.setInputImage(image);
+
+		GrayF32 found = new GrayF32(1,1);
+		for( GrayF32 m : new GrayF32[]{null,mask}) {
+			alg.process(template,m);
+			alg.computeIntensity(template,m,found);
+			checkValidRegion(template,alg.getIntensity(),found,1e-4);
+		}
+		assertNull(alg.createView().spectrum.template);
+	}
+
+	/**
+	 * Multiple views should produce the same results as the original instance
+	 */
+	@Test
+	public void createView() {
+		TemplateIntensityFFT alg = new TemplateIntensityFFT.NCC();
+
+		GrayF32 image = new GrayF32(60,50);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		GrayF32 templateA = new GrayF32(9,7);
+		GrayF32 templateB = new GrayF32(5,11);
+		GImageMiscOps.fillUniform(templateA,rand,0,200);
+		GImageMiscOps.fillUniform(templateB,rand,0,200);
+
+		TemplateIntensityFFT.View viewA = alg.createView();
+		TemplateIntensityFFT.View viewB = alg.createView();
+
+		alg.setInputImage(image);
+		viewA.setInputImage(image);
+		viewB.setInputImage(image);
+		viewA.process(templateA);
+		viewB.process(templateB);
+
+		alg.process(templateA);
+		assertEquals(alg.getBorderX0(),viewA.getBorderX0());
+		assertEquals(alg.getBorderY1(),viewA.getBorderY1());
+		checkValidRegion(templateA,alg.getIntensity(),viewA.getIntensity(),0);
+		alg.process(templateB);
+		checkValidRegion(templateB,alg.getIntensity(),viewB.getIntensity(),0);
+
+		// views can't be given a different image
+		assertThrows(IllegalArgumentException.class,()->viewA.setInputImage(image.clone()));
+	}
+
+	private void checkIdentical( GrayF32 template , TemplateMatchingIntensity<GrayF32> alg ,
+								 TemplateMatchingIntensity<GrayF32> direct ) {
+		assertEquals(direct.getBorderX0(),alg.getBorderX0());
+		assertEquals(direct.getBorderY0(),alg.getBorderY0());
+		assertEquals(direct.getBorderX1(),alg.getBorderX1());
+		assertEquals(direct.getBorderY1(),alg.getBorderY1());
+
+		checkValidRegion(template,direct.getIntensity(),alg.getIntensity(),1e-4);
+	}
+
+	private void checkValidRegion( GrayF32 template , GrayF32 expected , GrayF32 found , double tol ) {
+		int x0 = template.width/2;
+		int y0 = template.height/2;
+		int x1 = expected.width - (template.width - x0);
+		int y1 = expected.height - (template.height - y0);
+
+		for (int y = y0; y < y1; y++) {
+			for (int x = x0; x < x1; x++) {
+				float e = expected.get(x,y);
+				assertEquals(e,found.get(x,y),tol*Math.max(1,Math.abs(e)));
+			}
+		}
+	}
+}
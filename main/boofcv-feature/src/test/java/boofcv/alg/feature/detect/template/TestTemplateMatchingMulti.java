@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.feature.Match;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTemplateMatchingMulti {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Place several templates inside the image and see if they are all found
+	 */
+	@Test
+	public void multipleTemplates() {
+		checkMultipleTemplates(new TemplateMatchingMulti(new TemplateIntensityFFT.DiffSquared()));
+	}
+
+	public void checkMultipleTemplates( TemplateMatchingMulti alg ) {
+		GrayF32 image = new GrayF32(80,70);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		int[][] locations = new int[][]{{5,6},{40,10},{20,45},{55,50}};
+		GrayF32[] templates = new GrayF32[locations.length];
+		for (int i = 0; i < locations.length; i++) {
+			templates[i] = new GrayF32(8+i,9);
+			GImageMiscOps.fillUniform(templates[i],rand,0,200);
+			int x = locations[i][0], y = locations[i][1];
+			image.subimage(x,y,x+templates[i].width,y+templates[i].height).setTo(templates[i]);
+			alg.addTemplate(templates[i],null,1);
+		}
+		assertEquals(locations.length,alg.getNumberOfTemplates());
+
+		// process multiple times to make sure the cached transforms are handled correctly
+		for (int trial = 0; trial < 2; trial++) {
+			alg.setImage(image);
+			alg.process();
+
+			for (int i = 0; i < locations.length; i++) {
+				FastQueue<Match> found = alg.getResults(i);
+				assertEquals(1,found.size);
+				assertEquals(locations[i][0],found.get(0).x);
+				assertEquals(locations[i][1],found.get(0).y);
+				// template transforms are saved as floats. The error is tiny relative to typical scores, ~1e6
+				assertTrue(Math.abs(found.get(0).score) < 1 );
+			}
+		}
+
+		alg.removeAllTemplates();
+		assertEquals(0,alg.getNumberOfTemplates());
+	}
+}
@@ -18,9 +18,11 @@
 
 package boofcv.alg.feature.disparity.impl;
 
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -30,6 +32,7 @@ import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Peter Abeles
@@ -133,4 +136,58 @@ public abstract class ChecksImplDisparityScoreSadRect<I extends ImageGray<I>, DI
 
 		BoofTesting.assertEquals(found, expected, 1);
 	}
+
+	/**
+	 * Output of a concurrent implementation should be identical to the single threaded version for any number of
+	 * threads. An image with many rows is used so that it's split into several bands. Floating point images
+	 * have non-integer pixel values and the disparity is found to sub-pixel accuracy, so any change in the order
+	 * the scores are summed will change the output.
+	 *
+	 * @param imageType Type of input image
+	 * @param single Creates the single threaded implementation
+	 * @param concurrent Creates the concurrent implementation
+	 */
+	static void compareToSingleThread( Class imageType , CreateAlg single , CreateAlg concurrent ) {
+		Random rand = new Random(234);
+		ImageGray left = GeneralizedImageOps.createSingleBand(imageType,40,150);
+		ImageGray right = GeneralizedImageOps.createSingleBand(imageType,40,150);
+		GImageMiscOps.fillUniform(left,rand,0,30);
+		GImageMiscOps.fillUniform(right,rand,0,30);
+
+		boolean isFloat = imageType == GrayF32.class;
+		Class disparityType = isFloat ? GrayF32.class : GrayU8.class;
+
+		int[] numThreads = new int[]{2,3,5};
+		ForkJoinPool[] pools = new ForkJoinPool[numThreads.length];
+		for (int i = 0; i < numThreads.length; i++) {
+			pools[i] = new ForkJoinPool(numThreads[i]);
+		}
+
+		try {
+			for( int radiusY : new int[]{0,1,3} ) {
+				DisparitySelect select = isFloat ? new SelectRectSubpixel.F32_F32(-1,2,0.1) :
+						new ImplSelectRectStandard_S32_U8(-1,2,0.1);
+
+				ImageGray expected = GeneralizedImageOps.createSingleBand(disparityType,left.width,left.height);
+				single.create(2,15,2,radiusY,select).process(left,right,expected);
+
+				for( ForkJoinPool pool : pools ) {
+					DisparityScoreRowFormat alg = concurrent.create(2,15,2,radiusY,select.concurrentCopy());
+					ImageGray found = GeneralizedImageOps.createSingleBand(disparityType,left.width,left.height);
+					BoofConcurrency.runWith(pool,()->alg.process(left,right,found));
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		} finally {
+			for( ForkJoinPool pool : pools ) {
+				pool.shutdown();
+			}
+		}
+	}
+
+	interface CreateAlg {
+		DisparityScoreRowFormat create( int minDisparity , int maxDisparity , int radiusX, int radiusY,
+										DisparitySelect compDisp );
+	}
 }
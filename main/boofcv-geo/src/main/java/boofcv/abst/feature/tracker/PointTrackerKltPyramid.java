@@ -27,6 +27,7 @@ import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import georegression.struct.point.Point2D_I16;
+import org.ddogleg.struct.GrowQueue_B;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -69,6 +70,11 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 	// the tracker
 	protected PyramidKltTracker<I, D> tracker;
+	// interpolation used by the tracker
+	protected InterpolateRectangle<I> interpInput;
+	protected InterpolateRectangle<D> interpDeriv;
+	// true if the active feature with the same index was successfully tracked in the current image
+	protected GrowQueue_B trackSuccess = new GrowQueue_B();
 
 	// selects point features
 	private GeneralFeatureDetector<I, D> detector;
@@ -104,6 +110,8 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		this.gradient = gradient;
 		this.basePyramid = pyramid;
 		this.derivType = derivType;
+		this.interpInput = interpInput;
+		this.interpDeriv = interpDeriv;
 
 		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
 		tracker = new PyramidKltTracker<>(klt);
@@ -240,28 +248,51 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 		// track features
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < active.size(); ) {
-			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					i++;
-					success = true;
-				}
-			}
+		trackSuccess.resize(active.size());
+		trackActive();
 
-			if( !success ) {
-				active.remove(i);
+		// drop tracks which failed. Done after tracking so that the order is always the same
+		int total = 0;
+		for( int i = 0; i < active.size(); i++ ) {
+			PyramidKltFeature t = active.get(i);
+			if( trackSuccess.data[i] ) {
+				active.set(total++, t);
+			} else {
 				dropped.add( t );
 				unused.add( t );
 			}
 		}
+		while( active.size() > total ) {
+			active.remove(active.size()-1);
+		}
+	}
+
+	/**
+	 * Tracks all the active features and saves if each one was successfully tracked in {@link #trackSuccess}
+	 */
+	protected void trackActive() {
+		for( int i = 0; i < active.size(); i++ ) {
+			trackSuccess.data[i] = trackFeature(tracker,active.get(i));
+		}
+	}
+
+	/**
+	 * Tracks a single feature and updates its description. Only the feature is modified, so features
+	 * can be tracked in parallel if each thread has its own tracker.
+	 *
+	 * @return true if successful or false if it should be dropped
+	 */
+	protected boolean trackFeature( PyramidKltTracker<I,D> tracker , PyramidKltFeature t ) {
+		if( tracker.track(t) != KltTrackFault.SUCCESS )
+			return false;
+
+		// discard a track if its center drifts outside the image.
+		if( !input.isInBounds((int)t.x,(int)t.y) || !tracker.setDescription(t) )
+			return false;
+
+		PointTrack p = t.getCookie();
+		p.set(t.x,t.y);
+		return true;
 	}
 
 	protected void declareOutput() {
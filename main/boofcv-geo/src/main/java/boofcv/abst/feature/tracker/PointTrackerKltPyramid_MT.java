@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.tracker;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.alg.tracker.klt.KltConfig;
+import boofcv.alg.tracker.klt.KltTracker;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+import boofcv.struct.pyramid.PyramidDiscrete;
+
+/**
+ * Concurrent version of {@link PointTrackerKltPyramid}. Active features are split into blocks which are tracked
+ * in parallel, with each thread using its own {@link PyramidKltTracker}. Tracks are spawned and dropped in a
+ * single thread, so the results are identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class PointTrackerKltPyramid_MT<I extends ImageGray<I>,D extends ImageGray<D>>
+		extends PointTrackerKltPyramid<I,D>
+{
+	// trackers which are used by each thread
+	RecycleStack<PyramidKltTracker<I,D>> trackers;
+
+	public PointTrackerKltPyramid_MT(KltConfig config,
+									 int templateRadius ,
+									 PyramidDiscrete<I> pyramid,
+									 GeneralFeatureDetector<I, D> detector,
+									 ImageGradient<I, D> gradient,
+									 InterpolateRectangle<I> interpInput,
+									 InterpolateRectangle<D> interpDeriv,
+									 Class<D> derivType ) {
+		super(config, templateRadius, pyramid, detector, gradient, interpInput, interpDeriv, derivType);
+
+		trackers = new RecycleStack<>(() -> new PyramidKltTracker<>(
+				new KltTracker<>(this.interpInput.copy(), this.interpDeriv.copy(), this.config)));
+	}
+
+	@Override
+	protected void trackActive() {
+		BoofConcurrency.loopBlocks(0,active.size(),(idx0,idx1)->{
+			PyramidKltTracker<I,D> tracker = trackers.pop();
+			tracker.setImage(basePyramid,derivX,derivY);
+			for( int i = idx0; i < idx1; i++ ) {
+				trackSuccess.data[i] = trackFeature(tracker,active.get(i));
+			}
+			trackers.recycle(tracker);
+		});
+	}
+}
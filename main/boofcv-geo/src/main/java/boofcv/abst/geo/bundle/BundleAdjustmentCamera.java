@@ -59,6 +59,9 @@ public interface BundleAdjustmentCamera {
 	 * reference frame and camera intrinsic parameters. <code>[x',y'] </code> is the projected pixel coordinate of
 	 * the 3D point in camera reference frame.
 	 *
+	 * Concurrent implementations of bundle adjustment will call this function from multiple threads at the same
+	 * time, so it must not modify the camera's state.
+	 *
 	 * @param camX (Input) 3D point in camera reference frame
 	 * @param camY (Input) 3D point in camera reference frame
 	 * @param camZ (Input) 3D point in camera reference frame
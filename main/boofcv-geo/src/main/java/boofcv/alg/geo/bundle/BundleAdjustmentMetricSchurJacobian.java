@@ -229,6 +229,15 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	 * @param rightView Storage for right Jacobian
 	 */
 	public void internalProcess( double[] input, DMatrix leftPoint, DMatrix rightView) {
+		initializeJacobian(leftPoint,rightView);
+		setCameraIntrinsics(input);
+		computeViews(input,leftPoint,rightView,0,structure.views.length,0);
+	}
+
+	/**
+	 * Reshapes the Jacobian matrices to their expected size and sets all the elements to zero
+	 */
+	protected void initializeJacobian( DMatrix leftPoint, DMatrix rightView ) {
 		int numRows = getNumOfOutputsM();
 		// number of parameters on left. All points
 		int numPointParam = structure.points.length*lengthPoint + numRigidUnknown*lengthSE3;
@@ -239,7 +248,32 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		((ReshapeMatrix)rightView).reshape(numRows,numViewParam);
 		leftPoint.zero();
 		rightView.zero();
+	}
+
+	/**
+	 * Updates the intrinsic parameters of cameras which are being optimized. This modifies the scene so
+	 * it must be called before views are processed and not while views are being processed.
+	 */
+	protected void setCameraIntrinsics( double[] input ) {
+		for (int cameraIndex = 0; cameraIndex < structure.cameras.length; cameraIndex++) {
+			SceneStructureMetric.Camera camera = structure.cameras[cameraIndex];
+			if( !camera.known ) {
+				camera.model.setIntrinsic(input,indexLastView+cameraParameterIndexes[cameraIndex]);
+			}
+		}
+	}
 
+	/**
+	 * Computes the Jacobian for observations in a range of views. Only the rows for those observations are
+	 * modified and the scene is only read from, allowing different ranges to be computed at the same time
+	 * using different instances. Camera intrinsics must have already been set.
+	 *
+	 * @param viewStart First view which is processed
+	 * @param viewEnd Last view which is processed, exclusive
+	 * @param observationIndex Index of the first observation in viewStart
+	 */
+	protected void computeViews( double[] input, DMatrix leftPoint, DMatrix rightView,
+								 int viewStart , int viewEnd , int observationIndex ) {
 		// parse parameters for rigid bodies. the translation + rotation is the same for all views
 		for (int rigidIndex = 0; rigidIndex < structure.rigids.length; rigidIndex++) {
 			if( !structure.rigids[rigidIndex].known ) {
@@ -247,9 +281,8 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			}
 		}
 
-		int observationIndex = 0;
 		// first decode the transformation
-		for( int viewIndex = 0; viewIndex < structure.views.length; viewIndex++ ) {
+		for( int viewIndex = viewStart; viewIndex < viewEnd; viewIndex++ ) {
 			SceneStructureMetric.View view = structure.views[viewIndex];
 			SceneStructureMetric.Camera camera = structure.cameras[view.camera];
 
@@ -267,9 +300,6 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				worldToView.set(view.worldToView);
 			}
 			int cameraParamStartIndex = cameraParameterIndexes[view.camera];
-			if( !camera.known ) {
-				camera.model.setIntrinsic(input,indexLastView+cameraParamStartIndex);
-			}
 
 			observationIndex = computeGeneralPoints(leftPoint,rightView, input, observationIndex, viewIndex, view, camera, cameraParamStartIndex);
 			if( observations.viewsRigid != null )
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.concurrency.BoofConcurrency;
+import org.ejml.data.DMatrixRMaj;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricSchurJacobian_DDRM}. Views are split into blocks
+ * with about the same number of observations and each block is processed by a worker with its own work space.
+ * Workers write directly into the dense matrices since each observation has its own rows.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricSchurJacobian_DDRM_MT
+		extends BundleAdjustmentMetricSchurJacobian_DDRM
+{
+	ViewBlocks blocks = new ViewBlocks();
+	List<BundleAdjustmentMetricSchurJacobian_DDRM> workers = new ArrayList<>();
+
+	SceneStructureMetric structure;
+	SceneObservations observations;
+
+	@Override
+	public void configure(SceneStructureMetric structure, SceneObservations observations) {
+		super.configure(structure, observations);
+		this.structure = structure;
+		this.observations = observations;
+		workers.clear();
+	}
+
+	@Override
+	public void process(double[] input, DMatrixRMaj left, DMatrixRMaj right) {
+		initializeJacobian(left,right);
+		setCameraIntrinsics(input);
+
+		blocks.split(observations,BoofConcurrency.getMaxThreads());
+		while( workers.size() < blocks.size() ) {
+			BundleAdjustmentMetricSchurJacobian_DDRM w = new BundleAdjustmentMetricSchurJacobian_DDRM();
+			w.configure(structure,observations);
+			workers.add(w);
+		}
+
+		BoofConcurrency.loopFor(0,blocks.size(),i->
+			workers.get(i).computeViews(input,left,right,
+					blocks.views.get(i),blocks.views.get(i+1),blocks.observations.get(i)));
+	}
+}
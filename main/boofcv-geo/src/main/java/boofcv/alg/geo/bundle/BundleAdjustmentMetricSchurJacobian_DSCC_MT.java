@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.concurrency.BoofConcurrency;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.ops.ConvertDMatrixStruct;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricSchurJacobian_DSCC}. Views are split into blocks
+ * with about the same number of observations. Each block is processed by a worker with its own work space
+ * and triplet matrices, which are then merged in order. The output is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricSchurJacobian_DSCC_MT
+		extends BundleAdjustmentMetricSchurJacobian_DSCC
+{
+	ViewBlocks blocks = new ViewBlocks();
+	List<BundleAdjustmentMetricSchurJacobian_DSCC> workers = new ArrayList<>();
+
+	SceneStructureMetric structure;
+	SceneObservations observations;
+
+	@Override
+	public void configure(SceneStructureMetric structure, SceneObservations observations) {
+		super.configure(structure, observations);
+		this.structure = structure;
+		this.observations = observations;
+		workers.clear();
+	}
+
+	@Override
+	public void process(double[] input, DMatrixSparseCSC left, DMatrixSparseCSC right) {
+		initializeJacobian(leftTriplet,rightTriplet);
+		setCameraIntrinsics(input);
+
+		blocks.split(observations,BoofConcurrency.getMaxThreads());
+		while( workers.size() < blocks.size() ) {
+			BundleAdjustmentMetricSchurJacobian_DSCC w = new BundleAdjustmentMetricSchurJacobian_DSCC();
+			w.configure(structure,observations);
+			workers.add(w);
+		}
+
+		BoofConcurrency.loopFor(0,blocks.size(),i->{
+			BundleAdjustmentMetricSchurJacobian_DSCC w = workers.get(i);
+			w.initializeJacobian(w.leftTriplet,w.rightTriplet);
+			w.computeViews(input,w.leftTriplet,w.rightTriplet,
+					blocks.views.get(i),blocks.views.get(i+1),blocks.observations.get(i));
+		});
+
+		for (int i = 0; i < blocks.size(); i++) {
+			BundleAdjustmentMetricSchurJacobian_DSCC w = workers.get(i);
+			ViewBlocks.append(w.leftTriplet,leftTriplet);
+			ViewBlocks.append(w.rightTriplet,rightTriplet);
+		}
+
+		ConvertDMatrixStruct.convert(leftTriplet,left);
+		ConvertDMatrixStruct.convert(rightTriplet,right);
+	}
+}
@@ -116,6 +116,14 @@ public abstract class BundleAdjustmentProjectiveSchurJacobian<M extends DMatrix>
 	 * @param rightView Storage for right Jacobian
 	 */
 	public void processInternal( double[] input, DMatrix leftPoint, DMatrix rightView) {
+		initializeJacobian(leftPoint,rightView);
+		computeViews(input,leftPoint,rightView,0,structure.views.length,0);
+	}
+
+	/**
+	 * Reshapes the Jacobian matrices to their expected size and sets all the elements to zero
+	 */
+	protected void initializeJacobian( DMatrix leftPoint, DMatrix rightView ) {
 		int numRows = getNumOfOutputsM();
 		int numPointParam = structure.points.length*lengthPoint;
 		int numViewParam = numParameters-numPointParam; // view + camera
@@ -124,10 +132,20 @@ public abstract class BundleAdjustmentProjectiveSchurJacobian<M extends DMatrix>
 		((ReshapeMatrix)rightView).reshape(numRows,numViewParam);
 		leftPoint.zero();
 		rightView.zero();
+	}
 
-		int observationIndex = 0;
+	/**
+	 * Computes the Jacobian for observations in a range of views. Only the rows for those observations are
+	 * modified, allowing different ranges to be computed at the same time using different instances.
+	 *
+	 * @param viewStart First view which is processed
+	 * @param viewEnd Last view which is processed, exclusive
+	 * @param observationIndex Index of the first observation in viewStart
+	 */
+	protected void computeViews( double[] input, DMatrix leftPoint, DMatrix rightView,
+								 int viewStart , int viewEnd , int observationIndex ) {
 		// first decode the transformation
-		for( int viewIndex = 0; viewIndex < structure.views.length; viewIndex++ ) {
+		for( int viewIndex = viewStart; viewIndex < viewEnd; viewIndex++ ) {
 			SceneStructureProjective.View view = structure.views[viewIndex];
 
 			if( !view.known ) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.ejml.data.DMatrixSparseTriplet;
+
+/**
+ * Splits views into contiguous blocks which have approximately the same number of observations. Used to
+ * divide up the work when the Jacobian is computed concurrently.
+ *
+ * @author Peter Abeles
+ */
+class ViewBlocks {
+	// index of the first view in each block. The last element is the total number of views
+	GrowQueue_I32 views = new GrowQueue_I32();
+	// index of the first observation in each block
+	GrowQueue_I32 observations = new GrowQueue_I32();
+
+	/**
+	 * Splits the views up
+	 *
+	 * @param obs Observations. The order of views and observations must be the same as in the Jacobian.
+	 * @param maxBlocks Maximum number of blocks
+	 */
+	void split( SceneObservations obs , int maxBlocks ) {
+		views.reset();
+		observations.reset();
+
+		int numViews = obs.views.length;
+		long total = obs.getObservationCount();
+		int numBlocks = Math.max(1,Math.min(maxBlocks,numViews));
+
+		views.add(0);
+		observations.add(0);
+		int count = 0;
+		for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+			count += obs.views[viewIdx].size();
+			if( obs.viewsRigid != null )
+				count += obs.viewsRigid[viewIdx].size();
+
+			// start a new block once this one has its share of the observations
+			int block = views.size;
+			if( viewIdx+1 < numViews && block < numBlocks && count >= total*block/numBlocks ) {
+				views.add(viewIdx+1);
+				observations.add(count);
+			}
+		}
+		views.add(numViews);
+	}
+
+	/**
+	 * Number of blocks
+	 */
+	int size() {
+		return views.size-1;
+	}
+
+	/**
+	 * Adds all the elements in src to the end of dst
+	 */
+	static void append( DMatrixSparseTriplet src , DMatrixSparseTriplet dst ) {
+		for (int i = 0; i < src.nz_length; i++) {
+			dst.addItem(src.nz_rowcol.data[i*2],src.nz_rowcol.data[i*2+1],src.nz_value.data[i]);
+		}
+	}
+}
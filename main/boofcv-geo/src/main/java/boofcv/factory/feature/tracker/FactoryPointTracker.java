@@ -50,6 +50,7 @@ import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.combined.CombinedTrackerScalePoint;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
@@ -108,7 +109,8 @@ public class FactoryPointTracker {
 	}
 
 	/**
-	 * Pyramid KLT feature tracker.
+	 * Pyramid KLT feature tracker. If {@link BoofConcurrency#USE_CONCURRENT} is true then features are tracked
+	 * in parallel.
 	 *
 	 * @see boofcv.alg.tracker.klt.PyramidKltTracker
 	 *
@@ -140,8 +142,13 @@ public class FactoryPointTracker {
 
 		PyramidDiscrete<I> pyramid = FactoryPyramid.discreteGaussian(config.pyramidScaling,-1,2,true, ImageType.single(imageType));
 
-		return new PointTrackerKltPyramid<>(config.config, config.templateRadius, pyramid, detector,
-				gradient, interpInput, interpDeriv, derivType);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new PointTrackerKltPyramid_MT<>(config.config, config.templateRadius, pyramid, detector,
+					gradient, interpInput, interpDeriv, derivType);
+		} else {
+			return new PointTrackerKltPyramid<>(config.config, config.templateRadius, pyramid, detector,
+					gradient, interpInput, interpDeriv, derivType);
+		}
 	}
 
 	/**
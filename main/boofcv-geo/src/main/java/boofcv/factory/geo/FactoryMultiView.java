@@ -43,6 +43,7 @@ import boofcv.alg.geo.pose.PoseFromPairLinear6;
 import boofcv.alg.geo.triangulate.*;
 import boofcv.alg.geo.trifocal.RefineThreeViewProjectiveGeometric;
 import boofcv.alg.geo.trifocal.TrifocalAlgebraicPoint7;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.ConfigConverge;
 import boofcv.struct.geo.AssociatedPair;
 import georegression.fitting.MotionTransformPoint;
@@ -90,7 +91,9 @@ public class FactoryMultiView {
 
 		return new BundleAdjustmentSchur_DSCC<>(minimizer,
 				new BundleAdjustmentMetricResidualFunction(),
-				new BundleAdjustmentMetricSchurJacobian_DSCC(),
+				BoofConcurrency.USE_CONCURRENT ?
+						new BundleAdjustmentMetricSchurJacobian_DSCC_MT() :
+						new BundleAdjustmentMetricSchurJacobian_DSCC(),
 				new CodecSceneStructureMetric());
 	}
 
@@ -114,7 +117,9 @@ public class FactoryMultiView {
 
 		return new BundleAdjustmentSchur_DSCC<>(minimizer,
 				new BundleAdjustmentProjectiveResidualFunction(),
-				new BundleAdjustmentProjectiveSchurJacobian_DSCC(),
+				BoofConcurrency.USE_CONCURRENT ?
+						new BundleAdjustmentProjectiveSchurJacobian_DSCC_MT() :
+						new BundleAdjustmentProjectiveSchurJacobian_DSCC(),
 				new CodecSceneStructureProjective());
 	}
 
@@ -140,7 +145,9 @@ public class FactoryMultiView {
 
 		return new BundleAdjustmentSchur_DDRM<>(minimizer,
 				new BundleAdjustmentMetricResidualFunction(),
-				new BundleAdjustmentMetricSchurJacobian_DDRM(),
+				BoofConcurrency.USE_CONCURRENT ?
+						new BundleAdjustmentMetricSchurJacobian_DDRM_MT() :
+						new BundleAdjustmentMetricSchurJacobian_DDRM(),
 				new CodecSceneStructureMetric());
 	}
 
@@ -167,7 +174,9 @@ public class FactoryMultiView {
 
 		return new BundleAdjustmentSchur_DDRM<>(minimizer,
 				new BundleAdjustmentProjectiveResidualFunction(),
-				new BundleAdjustmentProjectiveSchurJacobian_DDRM(),
+				BoofConcurrency.USE_CONCURRENT ?
+						new BundleAdjustmentProjectiveSchurJacobian_DDRM_MT() :
+						new BundleAdjustmentProjectiveSchurJacobian_DDRM(),
 				new CodecSceneStructureProjective());
 	}
 
@@ -21,6 +21,7 @@ package boofcv.abst.feature.tracker;
 import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.tracker.FactoryPointTracker;
 import boofcv.struct.image.GrayF32;
 import org.junit.jupiter.api.Test;
@@ -42,9 +43,19 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<GrayF32> {
 
 	@Override
 	public PointTracker<GrayF32> createTracker() {
+		return createTracker(false);
+	}
+
+	PointTracker<GrayF32> createTracker( boolean concurrent ) {
 		config = new PkltConfig();
-		return FactoryPointTracker.klt(config, new ConfigGeneralDetector(200, 3, 1000, 0, true),
-				GrayF32.class, GrayF32.class);
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			return FactoryPointTracker.klt(config, new ConfigGeneralDetector(200, 3, 1000, 0, true),
+					GrayF32.class, GrayF32.class);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
 	}
 
 	/**
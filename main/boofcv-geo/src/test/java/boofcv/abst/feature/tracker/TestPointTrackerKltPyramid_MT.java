@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.tracker;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPointTrackerKltPyramid_MT extends StandardPointTracker<GrayF32> {
+
+	TestPointTrackerKltPyramid helper = new TestPointTrackerKltPyramid();
+
+	public TestPointTrackerKltPyramid_MT() {
+		super(false, true);
+	}
+
+	@Override
+	public PointTracker<GrayF32> createTracker() {
+		PointTracker<GrayF32> tracker = helper.createTracker(true);
+		assertTrue(tracker instanceof PointTrackerKltPyramid_MT);
+		return tracker;
+	}
+
+	/**
+	 * Process a sequence where the scene moves and tracks are dropped. Results should be identical to
+	 * the single threaded version, including the order of tracks.
+	 */
+	@Test
+	void compareToSingleThread() {
+		PointTrackerKltPyramid<GrayF32,GrayF32> expected =
+				(PointTrackerKltPyramid<GrayF32,GrayF32>)helper.createTracker(false);
+		PointTrackerKltPyramid<GrayF32,GrayF32> found =
+				(PointTrackerKltPyramid<GrayF32,GrayF32>)createTracker();
+
+		GrayF32 scene = new GrayF32(width+20,height+20);
+		ImageMiscOps.fillUniform(scene, rand, 0, 100);
+
+		for (int frame = 0; frame < 5; frame++) {
+			GrayF32 frameImage = scene.subimage(frame*2,frame,frame*2+width,frame+height).clone();
+			// remove the texture from part of the image so that some tracks are dropped
+			if( frame == 3 )
+				ImageMiscOps.fillRectangle(frameImage,0,0,0,width/2,height/2);
+
+			expected.process(frameImage);
+			found.process(frameImage);
+			compare(expected.active, found.active);
+			compare(expected.dropped, found.dropped);
+
+			expected.spawnTracks();
+			found.spawnTracks();
+			compare(expected.active, found.active);
+		}
+		assertTrue(expected.active.size() > 10);
+	}
+
+	private void compare( List<PyramidKltFeature> expected , List<PyramidKltFeature> found ) {
+		assertEquals(expected.size(),found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			PointTrack e = expected.get(i).getCookie();
+			PointTrack f = found.get(i).getCookie();
+			assertEquals(e.featureId,f.featureId);
+			assertEquals(e.x,f.x);
+			assertEquals(e.y,f.y);
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.ops.ConvertDMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.geo.bundle.TestBundleAdjustmentMetricResidualFunction.createObservations;
+import static boofcv.alg.geo.bundle.TestCodecSceneStructureMetric.createScene;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBundleAdjustmentMetricSchurJacobian_DSCC_MT {
+	Random rand = new Random(48854);
+
+	@Test
+	void compareToSingleThread() {
+		compareToSingleThread(true,false);
+		compareToSingleThread(false,false);
+		compareToSingleThread(true,true);
+		compareToSingleThread(false,true);
+	}
+
+	void compareToSingleThread(boolean homogenous , boolean hasRigid) {
+		SceneStructureMetric structure = createScene(rand,homogenous, hasRigid);
+		SceneObservations observations = createObservations(rand,structure);
+
+		double param[] = new double[structure.getParameterCount()];
+		new CodecSceneStructureMetric().encode(structure,param);
+
+		BundleAdjustmentMetricSchurJacobian_DSCC single = new BundleAdjustmentMetricSchurJacobian_DSCC();
+		BundleAdjustmentMetricSchurJacobian_DSCC_MT alg = new BundleAdjustmentMetricSchurJacobian_DSCC_MT();
+		single.configure(structure,observations);
+		alg.configure(structure,observations);
+
+		DMatrixSparseCSC expectedL = new DMatrixSparseCSC(1,1,0), expectedR = new DMatrixSparseCSC(1,1,0);
+		DMatrixSparseCSC foundL = new DMatrixSparseCSC(1,1,0), foundR = new DMatrixSparseCSC(1,1,0);
+
+		// call it twice to make sure the workers are correctly reset
+		for (int trial = 0; trial < 2; trial++) {
+			single.process(param,expectedL,expectedR);
+			alg.process(param,foundL,foundR);
+
+			assertTrue(isIdentical(expectedL,foundL));
+			assertTrue(isIdentical(expectedR,foundR));
+		}
+	}
+
+	static boolean isIdentical( DMatrixSparseCSC expected , DMatrixSparseCSC found ) {
+		DMatrixRMaj a = ConvertDMatrixStruct.convert(expected,(DMatrixRMaj)null);
+		DMatrixRMaj b = ConvertDMatrixStruct.convert(found,(DMatrixRMaj)null);
+		return MatrixFeatures_DDRM.isIdentical(a,b,0.0);
+	}
+}
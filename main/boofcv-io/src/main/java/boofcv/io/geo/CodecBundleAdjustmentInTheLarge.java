@@ -22,26 +22,65 @@ import boofcv.abst.geo.bundle.SceneObservations;
 import boofcv.abst.geo.bundle.SceneObservations.View;
 import boofcv.abst.geo.bundle.SceneStructureMetric;
 import boofcv.alg.geo.bundle.cameras.BundlePinholeSnavely;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.io.UtilIO;
-import boofcv.struct.geo.PointIndex2D_F64;
 import georegression.geometry.ConvertRotation3D_F64;
-import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
 import georegression.struct.so.Rodrigues_F64;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
 
 /**
  * Reading and writing data in the Bundle Adjustment in the Large format.
  *
+ * <p>Local text files are memory mapped and split into chunks along line boundaries. The chunks are
+ * parsed concurrently into primitive arrays which are then copied into the scene. A compact binary
+ * format is also supported, see {@link #saveBinary(File)}, which can be loaded much faster than text
+ * since the arrays are copied directly out of the mapped file.</p>
+ *
  * @author Peter Abeles
  */
 public class CodecBundleAdjustmentInTheLarge {
+    // Identifies the binary format. "BALB" in ASCII
+    static final int BINARY_MAGIC = 0x42414C42;
+    static final int BINARY_VERSION = 1;
+
+    // Number of parameters which describe each camera. rodrigues (3), translation (3), f, k1, k2
+    static final int CAMERA_PARAM = 9;
+
+    // Approximate number of bytes in each chunk of text which is parsed by a thread
+    static int CHUNK_SIZE = 1 << 22;
+    // Lines can't be longer than this. Used to find the end of a line which crosses a chunk boundary
+    static int MAX_LINE_LENGTH = 1 << 12;
+    // Size of each region when mapping a binary file. Must be a multiple of 8
+    static int SEGMENT_SIZE = 1 << 30;
+
     public SceneStructureMetric scene;
     public SceneObservations observations;
 
+    /**
+     * Reads a BAL text file. If the file is on the local file system then it's memory mapped and
+     * parsed using multiple threads, otherwise it's read sequentially as a stream.
+     */
     public void parse( File file ) throws IOException {
+        if( file.isFile() ) {
+            parseMapped(file);
+        } else {
+            parseStream(file);
+        }
+    }
+
+    private void parseStream( File file ) throws IOException {
         InputStream stream = UtilIO.openStream(file.getPath());
+        if( stream == null )
+            throw new FileNotFoundException(file.getPath());
         BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
 
         String words[] = reader.readLine().split("\\s+");
@@ -53,69 +92,274 @@ public class CodecBundleAdjustmentInTheLarge {
         int numPoints = Integer.parseInt(words[1]);
         int numObservations = Integer.parseInt(words[2]);
 
-        scene = new SceneStructureMetric(false);
-        scene.initialize(numCameras,numCameras,numPoints);
-
-        observations = new SceneObservations(numCameras);
+        ParsedValues values = new ParsedValues(numCameras,numPoints,numObservations);
 
         for (int i = 0; i < numObservations; i++) {
             words = reader.readLine().split("\\s+");
             if (words.length != 4)
                 throw new IOException("Unexpected number of words in obs");
-            int cameraID = Integer.parseInt(words[0]);
-            int pointID = Integer.parseInt(words[1]);
-            float pixelX = Float.parseFloat(words[2]);
-            float pixelY = Float.parseFloat(words[3]);
+            values.obsCamera[i] = Integer.parseInt(words[0]);
+            values.obsPoint[i] = Integer.parseInt(words[1]);
+            values.obsPixels[i*2] = Float.parseFloat(words[2]);
+            values.obsPixels[i*2+1] = Float.parseFloat(words[3]);
+        }
 
-            if( pointID >= numPoints ) {
-                throw new RuntimeException("Out of bounds pointID");
+        for (int i = 0; i < values.cameras.length; i++) {
+            values.cameras[i] = Double.parseDouble(reader.readLine());
+        }
+        for (int i = 0; i < values.points.length; i++) {
+            values.points[i] = Float.parseFloat(reader.readLine());
+        }
+        reader.close();
+
+        createScene(values);
+    }
+
+    /**
+     * Memory maps the file and parses it using multiple threads. First every chunk counts the number of lines
+     * it contains so that the index of each line is known. Then each chunk parses its lines into the
+     * array element which the line's index maps to.
+     */
+    private void parseMapped( File file ) throws IOException {
+        try( RandomAccessFile raf = new RandomAccessFile(file,"r") ) {
+            FileChannel channel = raf.getChannel();
+            long length = channel.size();
+            int numChunks = (int)Math.max(1,(length+CHUNK_SIZE-1)/CHUNK_SIZE);
+
+            // exceptions are saved instead of thrown so that the one from the first bad chunk is reported
+            TextChunk[] chunks = new TextChunk[numChunks];
+            Exception[] errors = new Exception[numChunks];
+            forEachChunk(numChunks,i->{
+                try {
+                    chunks[i] = new TextChunk(channel,length,i);
+                } catch (IOException | RuntimeException e) {
+                    errors[i] = e;
+                }
+            });
+            throwFirst(errors);
+
+            long totalLines = 0;
+            for (int i = 0; i < numChunks; i++) {
+                chunks[i].firstLine = totalLines;
+                totalLines += chunks[i].numLines;
             }
-            if( cameraID >= numCameras ) {
-                throw new RuntimeException("Out of bounds cameraID");
+
+            LineTokenizer header = new LineTokenizer();
+            header.setLine(chunks[0].buffer,chunks[0].start);
+            if( totalLines == 0 || header.countTokens() != 3 )
+                throw new IOException("Unexpected number of words on first line");
+            int numCameras = header.nextInt();
+            int numPoints = header.nextInt();
+            int numObservations = header.nextInt();
+
+            ParsedValues values = new ParsedValues(numCameras,numPoints,numObservations);
+            if( totalLines < 1L+numObservations+values.cameras.length+values.points.length )
+                throw new IOException("Unexpected end of file");
+
+            forEachChunk(numChunks,i->{
+                try {
+                    chunks[i].parse(values);
+                } catch (IOException | RuntimeException e) {
+                    errors[i] = e;
+                }
+            });
+            throwFirst(errors);
+
+            createScene(values);
+        }
+    }
+
+    /**
+     * Processes every chunk, concurrently if {@link BoofConcurrency#USE_CONCURRENT} is true
+     */
+    private static void forEachChunk( int numChunks , IntConsumer op ) {
+        if( BoofConcurrency.USE_CONCURRENT ) {
+            BoofConcurrency.loopFor(0,numChunks,op);
+        } else {
+            for (int i = 0; i < numChunks; i++) {
+                op.accept(i);
             }
+        }
+    }
 
-            observations.getView(cameraID).add(pointID,pixelX,pixelY);
+    private static void throwFirst( Exception[] errors ) throws IOException {
+        for( Exception e : errors ) {
+            if( e instanceof IOException )
+                throw (IOException)e;
+            if( e != null )
+                throw (RuntimeException)e;
         }
+    }
 
-        Se3_F64 worldToCameraGL = new Se3_F64();
-        Rodrigues_F64 rod = new Rodrigues_F64();
-        for (int i = 0; i < numCameras; i++) {
-            rod.unitAxisRotation.x = Double.parseDouble(reader.readLine());
-            rod.unitAxisRotation.y = Double.parseDouble(reader.readLine());
-            rod.unitAxisRotation.z = Double.parseDouble(reader.readLine());
+    /**
+     * Reads a scene which was saved using {@link #saveBinary(File)}. The file is memory mapped and
+     * each array is copied directly into the scene without any parsing.
+     */
+    public void parseBinary( File file ) throws IOException {
+        try( MappedFile mapped = new MappedFile(file,false,0) ) {
+            int[] header = new int[5];
+            mapped.readInts(header,0,header.length);
+            if( header[0] != BINARY_MAGIC )
+                throw new IOException("Not a binary BAL file");
+            if( header[1] != BINARY_VERSION )
+                throw new IOException("Unsupported version "+header[1]);
+            int numCameras = header[2];
+            int numPoints = header[3];
+
+            scene = new SceneStructureMetric(false);
+            scene.initialize(numCameras,numCameras,numPoints);
+            observations = new SceneObservations(numCameras);
+
+            int[] counts = new int[numCameras];
+            mapped.readInts(counts,0,numCameras);
+            for (int viewIdx = 0; viewIdx < numCameras; viewIdx++) {
+                View v = observations.getView(viewIdx);
+                v.point.resize(counts[viewIdx]);
+                mapped.readInts(v.point.data,0,v.point.size);
+            }
+            for (int viewIdx = 0; viewIdx < numCameras; viewIdx++) {
+                View v = observations.getView(viewIdx);
+                v.observations.resize(counts[viewIdx]*2);
+                mapped.readFloats(v.observations.data,0,v.observations.size);
+            }
+
+            mapped.align8();
+            double[] cameras = new double[numCameras*CAMERA_PARAM];
+            mapped.readDoubles(cameras,0,cameras.length);
+            for (int i = 0; i < numCameras; i++) {
+                setCamera(i,cameras,i*CAMERA_PARAM);
+            }
+
+            for (int i = 0; i < numPoints; i++) {
+                mapped.readDoubles(scene.points[i].coordinate,0,3);
+            }
+        }
+        connectPointsToViews();
+    }
 
-            rod.theta = rod.unitAxisRotation.norm();
-            if( rod.theta != 0 )
-                rod.unitAxisRotation.divide(rod.theta);
+    public void save( File file ) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file),StandardCharsets.US_ASCII),1 << 16);
 
-            worldToCameraGL.T.x = Double.parseDouble(reader.readLine());
-            worldToCameraGL.T.y = Double.parseDouble(reader.readLine());
-            worldToCameraGL.T.z = Double.parseDouble(reader.readLine());
+        writer.write(scene.views.length+" "+scene.points.length+" "+observations.getObservationCount()+"\n");
 
-            ConvertRotation3D_F64.rodriguesToMatrix(rod,worldToCameraGL.R);
+        // Float and Double.toString() are much faster than printf and exactly describe the value
+        for (int viewIdx = 0; viewIdx < observations.views.length; viewIdx++) {
+            SceneObservations.View view = observations.views[viewIdx];
 
-            BundlePinholeSnavely camera = new BundlePinholeSnavely();
+            for (int obsIdx = 0; obsIdx < view.size(); obsIdx++) {
+                writer.write(Integer.toString(viewIdx));
+                writer.write(' ');
+                writer.write(Integer.toString(view.point.data[obsIdx]));
+                writer.write(' ');
+                writer.write(Float.toString(view.observations.data[obsIdx*2]));
+                writer.write(' ');
+                writer.write(Float.toString(view.observations.data[obsIdx*2+1]));
+                writer.write('\n');
+            }
+        }
 
-            camera.f = Double.parseDouble(reader.readLine());
-            camera.k1 = Double.parseDouble(reader.readLine());
-            camera.k2 = Double.parseDouble(reader.readLine());
+        double[] parameters = new double[CAMERA_PARAM];
+        for (int viewIdx = 0; viewIdx < scene.views.length; viewIdx++) {
+            getCamera(viewIdx,parameters,0);
+            for (int i = 0; i < CAMERA_PARAM; i++) {
+                writer.write(Double.toString(parameters[i]));
+                writer.write('\n');
+            }
+        }
 
-            scene.setCamera(i,false,camera);
-            scene.setView(i,false,worldToCameraGL);
-            scene.connectViewToCamera(i,i);
+        for (int pointId = 0; pointId < scene.points.length; pointId++) {
+            SceneStructureMetric.Point p = scene.points[pointId];
+            for (int i = 0; i < 3; i++) {
+                writer.write(Double.toString(p.coordinate[i]));
+                writer.write('\n');
+            }
         }
+        writer.close();
+    }
 
-        Point3D_F64 P = new Point3D_F64();
-        for (int i = 0; i < numPoints; i++) {
-            P.x = Float.parseFloat(reader.readLine());
-            P.y = Float.parseFloat(reader.readLine());
-            P.z = Float.parseFloat(reader.readLine());
+    /**
+     * Saves the scene in a compact binary format which can be read using {@link #parseBinary(File)}.
+     * Values are saved at full precision in little endian byte order. The file contains:
+     * a header (magic, version, cameras, points, observations), number of observations in each view,
+     * point ID of each observation, pixel coordinates of each observation, padding to 8-bytes,
+     * the 9 parameters of each camera, and the 3D coordinate of each point.
+     */
+    public void saveBinary( File file ) throws IOException {
+        int numViews = scene.views.length;
+        int numObservations = observations.getObservationCount();
+
+        long length = 4L*(5+numViews) + 12L*numObservations;
+        length = (length+7)/8*8 + 8L*(numViews*CAMERA_PARAM + 3L*scene.points.length);
+
+        try( MappedFile mapped = new MappedFile(file,true,length) ) {
+            int[] header = new int[]{BINARY_MAGIC,BINARY_VERSION,numViews,scene.points.length,numObservations};
+            mapped.writeInts(header,0,header.length);
+            int[] counts = new int[numViews];
+            for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+                counts[viewIdx] = observations.getView(viewIdx).size();
+            }
+            mapped.writeInts(counts,0,numViews);
+            for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+                View v = observations.getView(viewIdx);
+                mapped.writeInts(v.point.data,0,v.point.size);
+            }
+            for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+                View v = observations.getView(viewIdx);
+                mapped.writeFloats(v.observations.data,0,v.point.size*2);
+            }
 
-//            GeometryMath_F64.mult(glToCv.R,P,P);
+            mapped.align8();
+            double[] cameras = new double[numViews*CAMERA_PARAM];
+            for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+                getCamera(viewIdx,cameras,viewIdx*CAMERA_PARAM);
+            }
+            mapped.writeDoubles(cameras,0,cameras.length);
 
-            scene.setPoint(i,P.x,P.y,P.z);
+            for (int pointId = 0; pointId < scene.points.length; pointId++) {
+                mapped.writeDoubles(scene.points[pointId].coordinate,0,3);
+            }
         }
+    }
+
+    /**
+     * Creates the scene and observations from the parsed arrays
+     */
+    private void createScene( ParsedValues values ) {
+        int numCameras = values.cameras.length/CAMERA_PARAM;
+        int numPoints = values.points.length/3;
+
+        scene = new SceneStructureMetric(false);
+        scene.initialize(numCameras,numCameras,numPoints);
+
+        observations = new SceneObservations(numCameras);
 
+        for (int i = 0; i < values.obsCamera.length; i++) {
+            int cameraID = values.obsCamera[i];
+            int pointID = values.obsPoint[i];
+
+            if( pointID >= numPoints ) {
+                throw new RuntimeException("Out of bounds pointID");
+            }
+            if( cameraID >= numCameras ) {
+                throw new RuntimeException("Out of bounds cameraID");
+            }
+
+            observations.getView(cameraID).add(pointID,values.obsPixels[i*2],values.obsPixels[i*2+1]);
+        }
+
+        for (int i = 0; i < numCameras; i++) {
+            setCamera(i,values.cameras,i*CAMERA_PARAM);
+        }
+
+        for (int i = 0; i < numPoints; i++) {
+            scene.setPoint(i,values.points[i*3],values.points[i*3+1],values.points[i*3+2]);
+        }
+
+        connectPointsToViews();
+    }
+
+    private void connectPointsToViews() {
         for (int i = 0; i < observations.views.length; i++) {
             View v = observations.getView(i);
 
@@ -123,47 +367,314 @@ public class CodecBundleAdjustmentInTheLarge {
                 scene.connectPointToView(v.getPointId(j),i);
             }
         }
-        reader.close();
 
         observations.checkOneObservationPerView();
     }
 
-    public void save( File file ) throws IOException {
-        PrintStream writer = new PrintStream(file);
+    /**
+     * Creates camera and view 'which' from the BAL parameters: rodrigues, translation, f, k1, k2
+     */
+    private void setCamera( int which , double[] parameters , int offset ) {
+        Rodrigues_F64 rod = new Rodrigues_F64();
+        rod.unitAxisRotation.x = parameters[offset];
+        rod.unitAxisRotation.y = parameters[offset+1];
+        rod.unitAxisRotation.z = parameters[offset+2];
 
-        writer.println(scene.views.length+" "+scene.points.length+" "+observations.getObservationCount());
+        rod.theta = rod.unitAxisRotation.norm();
+        if( rod.theta != 0 )
+            rod.unitAxisRotation.divide(rod.theta);
 
-        PointIndex2D_F64 o = new PointIndex2D_F64();
-        for (int viewIdx = 0; viewIdx < observations.views.length; viewIdx++) {
-            SceneObservations.View view = observations.views[viewIdx];
+        Se3_F64 worldToCameraGL = new Se3_F64();
+        worldToCameraGL.T.x = parameters[offset+3];
+        worldToCameraGL.T.y = parameters[offset+4];
+        worldToCameraGL.T.z = parameters[offset+5];
 
-            for (int obsIdx = 0; obsIdx < view.size(); obsIdx++) {
-                view.get(obsIdx,o);
-                writer.printf("%d %d %.8f %.8f\n",viewIdx,o.index,o.x,o.y);
+        ConvertRotation3D_F64.rodriguesToMatrix(rod,worldToCameraGL.R);
+
+        BundlePinholeSnavely camera = new BundlePinholeSnavely();
+
+        camera.f = parameters[offset+6];
+        camera.k1 = parameters[offset+7];
+        camera.k2 = parameters[offset+8];
+
+        scene.setCamera(which,false,camera);
+        scene.setView(which,false,worldToCameraGL);
+        scene.connectViewToCamera(which,which);
+    }
+
+    /**
+     * Writes the BAL parameters of view 'which' into the array
+     */
+    private void getCamera( int which , double[] parameters , int offset ) {
+        SceneStructureMetric.View view = scene.views[which];
+        BundlePinholeSnavely camera = scene.cameras[view.camera].getModel();
+
+        Rodrigues_F64 axisAngle = new Rodrigues_F64();
+        ConvertRotation3D_F64.matrixToRodrigues(view.worldToView.R,axisAngle);
+
+        parameters[offset]   = axisAngle.unitAxisRotation.x*axisAngle.theta;
+        parameters[offset+1] = axisAngle.unitAxisRotation.y*axisAngle.theta;
+        parameters[offset+2] = axisAngle.unitAxisRotation.z*axisAngle.theta;
+        parameters[offset+3] = view.worldToView.T.x;
+        parameters[offset+4] = view.worldToView.T.y;
+        parameters[offset+5] = view.worldToView.T.z;
+        parameters[offset+6] = camera.f;
+        parameters[offset+7] = camera.k1;
+        parameters[offset+8] = camera.k2;
+    }
+
+    /**
+     * Values read from the file before the scene is constructed
+     */
+    private static class ParsedValues {
+        int[] obsCamera;
+        int[] obsPoint;
+        float[] obsPixels;
+        double[] cameras;
+        // stored as double but parsed as float for consistency with the original parser
+        double[] points;
+
+        ParsedValues( int numCameras , int numPoints , int numObservations ) {
+            obsCamera = new int[numObservations];
+            obsPoint = new int[numObservations];
+            obsPixels = new float[numObservations*2];
+            cameras = new double[numCameras*CAMERA_PARAM];
+            points = new double[numPoints*3];
+        }
+    }
+
+    /**
+     * A region of the text file which contains all the lines that start inside of it
+     */
+    private static class TextChunk {
+        ByteBuffer buffer;
+        // location in the buffer of the first line and the end of the last line
+        int start, end;
+        int numLines;
+        // index of the first line in the file
+        long firstLine;
+
+        TextChunk( FileChannel channel , long fileLength , int index ) throws IOException {
+            long chunkStart = (long)index*CHUNK_SIZE;
+            long chunkEnd = Math.min(fileLength,chunkStart+CHUNK_SIZE);
+            // map the byte before so that it's possible to tell if the first byte starts a line
+            long mapStart = Math.max(0,chunkStart-1);
+            long mapEnd = Math.min(fileLength,chunkEnd+MAX_LINE_LENGTH);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY,mapStart,mapEnd-mapStart);
+
+            int limit = buffer.limit();
+            start = findLineStart((int)(chunkStart-mapStart));
+            if( start >= chunkEnd-mapStart ) {
+                start = end = 0;
+                return;
+            }
+            // the last chunk ends at the end of the file instead of at the start of a line
+            end = chunkEnd == fileLength ? limit : findLineStart((int)(chunkEnd-mapStart));
+            if( end > limit ) {
+                // the last line in the file can start inside of an earlier chunk and not end with a new line
+                if( mapEnd != fileLength )
+                    throw new IOException("Line is longer than "+MAX_LINE_LENGTH);
+                end = limit;
             }
+
+            for (int i = start; i < end; i++) {
+                if( buffer.get(i) == '\n' )
+                    numLines++;
+            }
+            // last line in the file might not end with a new line
+            if( mapEnd == fileLength && end == limit && end > start && buffer.get(end-1) != '\n' )
+                numLines++;
         }
 
-        Rodrigues_F64 axisAngle = new Rodrigues_F64();
-        for (int viewIdx = 0; viewIdx < scene.views.length; viewIdx++) {
-            SceneStructureMetric.View view = scene.views[viewIdx];
-            BundlePinholeSnavely camera = scene.cameras[view.camera].getModel();
+        /**
+         * Returns the first location at or after 'location' which is the start of a line. If none is found
+         * then the buffer's limit + 1 is returned
+         */
+        private int findLineStart( int location ) {
+            if( location == 0 )
+                return 0;
+            int limit = buffer.limit();
+            for (int i = location; i <= limit; i++) {
+                if( buffer.get(i-1) == '\n' )
+                    return i;
+            }
+            return limit+1;
+        }
 
-            ConvertRotation3D_F64.matrixToRodrigues(view.worldToView.R,axisAngle);
+        /**
+         * Parses every line in the chunk into the arrays
+         */
+        void parse( ParsedValues values ) throws IOException {
+            int numObservations = values.obsCamera.length;
+            long firstCamera = 1L + numObservations;
+            long firstPoint = firstCamera + values.cameras.length;
+            long lastPoint = firstPoint + values.points.length;
+
+            LineTokenizer tokenizer = new LineTokenizer();
+            int location = start;
+            for (int i = 0; i < numLines; i++) {
+                long line = firstLine + i;
+                if( line >= lastPoint )
+                    break;
+                location = tokenizer.setLine(buffer,location);
+                if( line == 0 )
+                    continue;
+                if( line < firstCamera ) {
+                    int obs = (int)(line-1);
+                    if( tokenizer.countTokens() != 4 )
+                        throw new IOException("Unexpected number of words in obs");
+                    values.obsCamera[obs] = tokenizer.nextInt();
+                    values.obsPoint[obs] = tokenizer.nextInt();
+                    values.obsPixels[obs*2] = Float.parseFloat(tokenizer.nextToken());
+                    values.obsPixels[obs*2+1] = Float.parseFloat(tokenizer.nextToken());
+                } else if( line < firstPoint ) {
+                    values.cameras[(int)(line-firstCamera)] = Double.parseDouble(tokenizer.nextToken());
+                } else {
+                    values.points[(int)(line-firstPoint)] = Float.parseFloat(tokenizer.nextToken());
+                }
+            }
+        }
+    }
 
-            double axisX = axisAngle.unitAxisRotation.x*axisAngle.theta;
-            double axisY = axisAngle.unitAxisRotation.y*axisAngle.theta;
-            double axisZ = axisAngle.unitAxisRotation.z*axisAngle.theta;
+    /**
+     * Splits a single line of ASCII text inside of a buffer into white space separated tokens
+     */
+    private static class LineTokenizer {
+        ByteBuffer buffer;
+        int location, lineEnd;
+        char[] work = new char[64];
+
+        /**
+         * Specifies the line which starts at 'start' and returns the start of the next line
+         */
+        int setLine( ByteBuffer buffer , int start ) {
+            this.buffer = buffer;
+            this.location = start;
+            int limit = buffer.limit();
+            int i = start;
+            while( i < limit && buffer.get(i) != '\n' )
+                i++;
+            lineEnd = i;
+            return i+1;
+        }
 
-            writer.printf("%.10f\n%.10f\n%.10f\n",axisX,axisY,axisZ);
-            writer.printf("%.10f\n%.10f\n%.10f\n",view.worldToView.T.x,view.worldToView.T.y,view.worldToView.T.z);
-            writer.printf("%.10f\n%.10f\n%.10f\n",camera.f,camera.k1,camera.k2);
+        int countTokens() {
+            int total = 0;
+            boolean inside = false;
+            for (int i = location; i < lineEnd; i++) {
+                boolean white = isWhite(buffer.get(i));
+                if( !white && !inside )
+                    total++;
+                inside = !white;
+            }
+            return total;
         }
 
-        for (int pointId = 0; pointId < scene.points.length; pointId++) {
-            SceneStructureMetric.Point p = scene.points[pointId];
-            writer.printf("%.10f\n%.10f\n%.10f\n",p.coordinate[0],p.coordinate[1],p.coordinate[2]);
+        String nextToken() throws IOException {
+            while( location < lineEnd && isWhite(buffer.get(location)) )
+                location++;
+            if( location == lineEnd )
+                throw new IOException("Expected another word");
+            int length = 0;
+            while( location < lineEnd && !isWhite(buffer.get(location)) ) {
+                if( length == work.length )
+                    work = Arrays.copyOf(work,length*2);
+                work[length++] = (char)buffer.get(location++);
+            }
+            return new String(work,0,length);
         }
-        writer.close();
+
+        int nextInt() throws IOException {
+            return Integer.parseInt(nextToken());
+        }
+
+        private static boolean isWhite( byte b ) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+
+    /**
+     * Reads or writes arrays of primitives from a memory mapped file. The file is mapped in segments
+     * to support files larger than 2 GB. Elements are never split between segments since
+     * arrays of doubles are aligned to 8-bytes and segments are a multiple of 8.
+     */
+    private static class MappedFile implements Closeable {
+        RandomAccessFile file;
+        MappedByteBuffer[] segments;
+        long position;
+
+        MappedFile( File file , boolean write , long length ) throws IOException {
+            this.file = new RandomAccessFile(file,write ? "rw" : "r");
+            FileChannel channel = this.file.getChannel();
+            if( write ) {
+                this.file.setLength(length);
+            } else {
+                length = channel.size();
+            }
+            FileChannel.MapMode mode = write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+
+            int numSegments = (int)((length+SEGMENT_SIZE-1)/SEGMENT_SIZE);
+            segments = new MappedByteBuffer[numSegments];
+            for (int i = 0; i < numSegments; i++) {
+                long location = (long)i*SEGMENT_SIZE;
+                segments[i] = channel.map(mode,location,Math.min(SEGMENT_SIZE,length-location));
+            }
+        }
+
+        void align8() {
+            position = (position+7)/8*8;
+        }
+
+        void readInts( int[] dst , int offset , int length ) throws IOException {
+            transfer(4,offset,length,(b,o,n)->b.asIntBuffer().get(dst,o,n));
+        }
+
+        void readFloats( float[] dst , int offset , int length ) throws IOException {
+            transfer(4,offset,length,(b,o,n)->b.asFloatBuffer().get(dst,o,n));
+        }
+
+        void readDoubles( double[] dst , int offset , int length ) throws IOException {
+            transfer(8,offset,length,(b,o,n)->b.asDoubleBuffer().get(dst,o,n));
+        }
+
+        void writeInts( int[] src , int offset , int length ) throws IOException {
+            transfer(4,offset,length,(b,o,n)->b.asIntBuffer().put(src,o,n));
+        }
+
+        void writeFloats( float[] src , int offset , int length ) throws IOException {
+            transfer(4,offset,length,(b,o,n)->b.asFloatBuffer().put(src,o,n));
+        }
+
+        void writeDoubles( double[] src , int offset , int length ) throws IOException {
+            transfer(8,offset,length,(b,o,n)->b.asDoubleBuffer().put(src,o,n));
+        }
+
+        private void transfer( int bytesPerElement , int offset , int length , BulkTransfer op ) throws IOException {
+            while( length > 0 ) {
+                int segIdx = (int)(position/SEGMENT_SIZE);
+                if( segIdx >= segments.length )
+                    throw new IOException("Unexpected end of file");
+                ByteBuffer segment = segments[segIdx].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                segment.position((int)(position-(long)segIdx*SEGMENT_SIZE));
+                int count = Math.min(length,segment.remaining()/bytesPerElement);
+                if( count == 0 )
+                    throw new IOException("Unexpected end of file");
+                op.process(segment.slice().order(ByteOrder.LITTLE_ENDIAN),offset,count);
+                position += (long)count*bytesPerElement;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            segments = null;
+            file.close();
+        }
+    }
+
+    private interface BulkTransfer {
+        void process( ByteBuffer buffer , int offset , int count );
     }
 
     public static void main(String[] args) throws IOException {
@@ -19,11 +19,14 @@
 package boofcv.io.video;
 
 import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.wrapper.images.MjpegMappedSequence;
 import boofcv.io.wrapper.images.MjpegStreamSequence;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 
 /**
  * @author Peter Abeles
@@ -32,6 +35,16 @@ public class BoofMjpegVideo implements VideoInterface {
 	@Override
 	public <T extends ImageBase<T>> SimpleImageSequence<T> load(String fileName, ImageType<T> imageType) {
 
+		// Files on disk are memory mapped and decoded on demand
+		File file = new File(fileName);
+		if( file.isFile() ) {
+			try {
+				return new MjpegMappedSequence<>(file, imageType);
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
 		try {
 			return new MjpegStreamSequence(fileName,imageType);
 		} catch (FileNotFoundException e) {
@@ -25,6 +25,7 @@ import boofcv.io.wrapper.images.JpegByteImageSequence;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -65,6 +66,12 @@ public class DynamicVideoInterface implements VideoInterface {
 			// Use built in movie readers for these file types
 			if( fileName.endsWith("mjpeg") || fileName.endsWith("MJPEG") ||
 					fileName.endsWith("mjpg") || fileName.endsWith("MJPG") ) {
+				// Avoid loading the whole file into memory when it can be memory mapped instead
+				if( url.getProtocol().equals("file") ) {
+					SimpleImageSequence<T> sequence = mjpeg.load(new File(url.getPath()).getAbsolutePath(), imageType);
+					if( sequence != null )
+						return sequence;
+				}
 				VideoMjpegCodec codec = new VideoMjpegCodec();
 				List<byte[]> data = codec.read(stream);
 				return new JpegByteImageSequence<>(imageType, data, false);
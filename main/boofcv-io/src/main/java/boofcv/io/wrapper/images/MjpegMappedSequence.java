@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.VideoMjpegCodec;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+/**
+ * Reads a MJPEG file by memory mapping it and decoding frames on demand. When opened the location of
+ * each frame is found by searching for the start (SOI) and end (EOI) of image markers. After that only the
+ * frames which are being read are decoded, which allows random access and keeps memory usage independent
+ * of the file's length. Optionally, the next frame can be decoded in a background thread while the current
+ * frame is being processed.
+ *
+ * @author Peter Abeles
+ */
+public class MjpegMappedSequence<T extends ImageBase<T>>
+		implements SimpleImageSequence<T>
+{
+	// Size of each mapped region. Files larger than this are mapped using multiple regions
+	static int SEGMENT_SIZE = 1 << 30;
+
+	RandomAccessFile file;
+	MappedByteBuffer[] segments;
+	long fileLength;
+
+	// location of the first byte (SOI marker) and last byte (EOI marker) + 1 of each frame
+	long[] frameStart = new long[16];
+	long[] frameEnd = new long[16];
+	int numFrames;
+
+	// index of the frame which will be returned by next()
+	int nextIndex;
+	// index of the frame which was returned by next()
+	int frameNumber = -1;
+	boolean loop = false;
+
+	BufferedImage original;
+	// decoded image for the frame at nextIndex
+	BufferedImage next;
+	T image;
+	ImageType<T> imageType;
+
+	// used to decode images in the background
+	ExecutorService prefetch;
+	Future<BufferedImage> pending;
+	int pendingIndex = -1;
+
+	public MjpegMappedSequence( File file , ImageType<T> imageType ) throws IOException {
+		this.imageType = imageType;
+		this.image = imageType.createImage(1,1);
+		this.file = new RandomAccessFile(file,"r");
+
+		FileChannel channel = this.file.getChannel();
+		long length = fileLength = channel.size();
+		int numSegments = (int)((length+SEGMENT_SIZE-1)/SEGMENT_SIZE);
+		segments = new MappedByteBuffer[numSegments];
+		for (int i = 0; i < numSegments; i++) {
+			long position = (long)i*SEGMENT_SIZE;
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,position,Math.min(SEGMENT_SIZE,length-position));
+		}
+
+		indexFrames();
+	}
+
+	public MjpegMappedSequence( String fileName , ImageType<T> imageType ) throws IOException {
+		this(new File(fileName),imageType);
+	}
+
+	/**
+	 * Finds the start and end of every frame in the file. Follows the same rules as {@link VideoMjpegCodec}.
+	 */
+	private void indexFrames() {
+		boolean foundFF = false;
+		boolean insideFrame = false;
+		long start = 0;
+
+		for (int segIdx = 0; segIdx < segments.length; segIdx++) {
+			ByteBuffer segment = segments[segIdx].duplicate();
+			long offset = (long)segIdx*SEGMENT_SIZE;
+			int length = segment.limit();
+
+			for (int i = 0; i < length; i++) {
+				byte b = segment.get(i);
+				if( foundFF ) {
+					if( !insideFrame && b == VideoMjpegCodec.SOI ) {
+						start = offset+i-1;
+						insideFrame = true;
+						foundFF = false;
+					} else if( insideFrame && b == VideoMjpegCodec.EOI ) {
+						addFrame(start,offset+i+1);
+						insideFrame = false;
+						foundFF = false;
+					} else if( b != (byte)0xFF ) {
+						foundFF = false;
+					}
+				} else if( b == (byte)0xFF ) {
+					foundFF = true;
+				}
+			}
+		}
+
+		// the last frame might have been truncated
+		if( insideFrame ) {
+			addFrame(start,fileLength);
+		}
+	}
+
+	private void addFrame( long start , long end ) {
+		if( numFrames == frameStart.length ) {
+			frameStart = Arrays.copyOf(frameStart,numFrames*2);
+			frameEnd = Arrays.copyOf(frameEnd,numFrames*2);
+		}
+		frameStart[numFrames] = start;
+		frameEnd[numFrames] = end;
+		numFrames++;
+	}
+
+	/**
+	 * Copies the compressed data for the specified frame out of the mapped file
+	 */
+	byte[] readFrameData( int index ) {
+		long start = frameStart[index];
+		int length = (int)(frameEnd[index]-start);
+		byte[] data = new byte[length];
+
+		int copied = 0;
+		while( copied < length ) {
+			long location = start+copied;
+			int segIdx = (int)(location/SEGMENT_SIZE);
+			// duplicate so that the shared buffer's position isn't modified, allowing multiple threads to read
+			ByteBuffer segment = segments[segIdx].duplicate();
+			segment.position((int)(location - (long)segIdx*SEGMENT_SIZE));
+			int amount = Math.min(length-copied,segment.remaining());
+			segment.get(data,copied,amount);
+			copied += amount;
+		}
+		return data;
+	}
+
+	BufferedImage decode( int index ) {
+		try {
+			return ImageIO.read(new ByteArrayInputStream(readFrameData(index)));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the decoded image for the frame at nextIndex, decoding it if needed
+	 */
+	private BufferedImage lookupNext() {
+		if( next != null )
+			return next;
+
+		if( pending != null && pendingIndex == nextIndex ) {
+			try {
+				next = pending.get();
+			} catch (InterruptedException | ExecutionException e) {
+				throw new RuntimeException(e);
+			}
+		} else {
+			if( pending != null )
+				pending.cancel(false);
+			next = decode(nextIndex);
+		}
+		pending = null;
+		pendingIndex = -1;
+		return next;
+	}
+
+	/**
+	 * Starts decoding the frame after the current one in a background thread
+	 */
+	private void startPrefetch() {
+		if( prefetch == null || pending != null || nextIndex >= numFrames )
+			return;
+		final int index = nextIndex;
+		pendingIndex = index;
+		pending = prefetch.submit(() -> decode(index));
+	}
+
+	/**
+	 * If true then the next frame is decoded in a background thread while the current frame is being processed.
+	 */
+	public void setPrefetch( boolean enabled ) {
+		if( enabled == (prefetch != null) )
+			return;
+		if( enabled ) {
+			prefetch = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r,"MJPEG Prefetch");
+				t.setDaemon(true);
+				return t;
+			});
+		} else {
+			if( pending != null )
+				pending.cancel(false);
+			pending = null;
+			pendingIndex = -1;
+			prefetch.shutdown();
+			prefetch = null;
+		}
+	}
+
+	public boolean isPrefetch() {
+		return prefetch != null;
+	}
+
+	/**
+	 * Changes the frame which will be returned by the next call to {@link #next()}
+	 *
+	 * @param index Index of the frame
+	 */
+	public void goToFrame( int index ) {
+		if( index < 0 || index >= numFrames )
+			throw new IllegalArgumentException("Frame index out of range. "+index+" total = "+numFrames);
+		if( index == nextIndex )
+			return;
+		nextIndex = index;
+		next = null;
+	}
+
+	/**
+	 * Total number of frames in the file
+	 */
+	public int getNumberOfFrames() {
+		return numFrames;
+	}
+
+	@Override
+	public int getNextWidth() {
+		return lookupNext().getWidth();
+	}
+
+	@Override
+	public int getNextHeight() {
+		return lookupNext().getHeight();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return nextIndex < numFrames;
+	}
+
+	@Override
+	public T next() {
+		original = lookupNext();
+		frameNumber = nextIndex;
+		next = null;
+		nextIndex++;
+		if( loop && nextIndex >= numFrames )
+			nextIndex = 0;
+		startPrefetch();
+
+		image.reshape(original.getWidth(),original.getHeight());
+		ConvertBufferedImage.convertFrom(original,image, true);
+		return image;
+	}
+
+	@Override
+	public BufferedImage getGuiImage() {
+		return original;
+	}
+
+	@Override
+	public void close() {
+		setPrefetch(false);
+		try {
+			file.close();
+		} catch (IOException ignore) {
+		}
+		segments = new MappedByteBuffer[0];
+		numFrames = 0;
+		next = null;
+	}
+
+	@Override
+	public int getFrameNumber() {
+		return frameNumber;
+	}
+
+	@Override
+	public void setLoop(boolean loop) {
+		this.loop = loop;
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	@Override
+	public void reset() {
+		frameNumber = -1;
+		if( numFrames > 0 )
+			goToFrame(0);
+	}
+}
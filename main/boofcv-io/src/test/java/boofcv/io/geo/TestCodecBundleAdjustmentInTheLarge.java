@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.alg.geo.bundle.cameras.BundlePinholeSnavely;
+import boofcv.concurrency.BoofConcurrency;
+import georegression.struct.se.Se3_F64;
+import georegression.struct.se.SpecialEuclideanOps_F64;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCodecBundleAdjustmentInTheLarge {
+    Random rand = new Random(234);
+
+    int numCameras = 4;
+    int numPoints = 30;
+
+    File file;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        file = File.createTempFile("boofcv_bal",".txt");
+    }
+
+    @AfterEach
+    void deleteFile() {
+        file.delete();
+    }
+
+    /**
+     * Saves the scene as text then reads it using the mapped and the streaming parser
+     */
+    @Test
+    void save_parse_text() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.save(file);
+
+        CodecBundleAdjustmentInTheLarge found = new CodecBundleAdjustmentInTheLarge();
+        found.parse(file);
+        checkIdentical(expected,found,1e-8);
+
+        // a path to a file which doesn't exist on the local file system is read as a stream
+        found = new CodecBundleAdjustmentInTheLarge();
+        found.parse(new File(file.toURI().toURL().toString()));
+        checkIdentical(expected,found,1e-8);
+    }
+
+    /**
+     * Use tiny chunks so that the file is split across many of them
+     */
+    @Test
+    void parse_manyChunks() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.save(file);
+
+        int original = CodecBundleAdjustmentInTheLarge.CHUNK_SIZE;
+        try {
+            for( int chunk : new int[]{1,7,64,500}) {
+                CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = chunk;
+                CodecBundleAdjustmentInTheLarge found = new CodecBundleAdjustmentInTheLarge();
+                found.parse(file);
+                checkIdentical(expected,found,1e-8);
+            }
+        } finally {
+            CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = original;
+        }
+    }
+
+    /**
+     * The file doesn't end with a new line and its last line starts inside of a chunk which isn't the last one
+     */
+    @Test
+    void parse_manyChunks_noNewLineAtEnd() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.save(file);
+        try( RandomAccessFile raf = new RandomAccessFile(file,"rw") ) {
+            raf.setLength(raf.length()-1);
+        }
+
+        int original = CodecBundleAdjustmentInTheLarge.CHUNK_SIZE;
+        try {
+            for( int chunk : new int[]{1,2,7,64,500}) {
+                CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = chunk;
+                CodecBundleAdjustmentInTheLarge found = new CodecBundleAdjustmentInTheLarge();
+                found.parse(file);
+                checkIdentical(expected,found,1e-8);
+            }
+        } finally {
+            CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = original;
+        }
+    }
+
+    /**
+     * A number which can't be parsed in a chunk after the first one should be thrown, with and without threads
+     */
+    @Test
+    void parse_malformedNumber() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.save(file);
+        try( RandomAccessFile raf = new RandomAccessFile(file,"rw") ) {
+            // replace the first character of the last line, a point coordinate, with a letter
+            long location = raf.length()-2;
+            raf.seek(location);
+            while( raf.read() != '\n' ) {
+                raf.seek(--location);
+            }
+            raf.write('x');
+        }
+
+        int original = CodecBundleAdjustmentInTheLarge.CHUNK_SIZE;
+        boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+        try {
+            CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = 64;
+            for( boolean useConcurrent : new boolean[]{true,false}) {
+                BoofConcurrency.USE_CONCURRENT = useConcurrent;
+                assertThrows(NumberFormatException.class,()->new CodecBundleAdjustmentInTheLarge().parse(file));
+            }
+        } finally {
+            CodecBundleAdjustmentInTheLarge.CHUNK_SIZE = original;
+            BoofConcurrency.USE_CONCURRENT = concurrent;
+        }
+    }
+
+    /**
+     * Windows line endings, extra spaces, and no new line at the end of the file
+     */
+    @Test
+    void parse_formatting() throws IOException {
+        try( PrintStream out = new PrintStream(file) ) {
+            out.print("2 2  3\r\n");
+            out.print("0 0 1.5 -2.5\r\n");
+            out.print("1  0   3 4\r\n");
+            out.print("1 1 5e1 6.0\r\n");
+            for (int i = 0; i < 18; i++) {
+                out.print((i%9 == 6 ? 500 : 0.01*i)+"\r\n");
+            }
+            for (int i = 0; i < 6; i++) {
+                out.print(" "+i);
+                if( i != 5 )
+                    out.print("\r\n");
+            }
+        }
+
+        CodecBundleAdjustmentInTheLarge alg = new CodecBundleAdjustmentInTheLarge();
+        alg.parse(file);
+
+        assertEquals(3,alg.observations.getObservationCount());
+        assertEquals(1,alg.observations.getView(0).size());
+        assertEquals(2,alg.observations.getView(1).size());
+        assertEquals(50.0f,alg.observations.getView(1).observations.get(2));
+        assertEquals(1,alg.observations.getView(1).getPointId(1));
+        assertEquals(500,((BundlePinholeSnavely)alg.scene.cameras[1].getModel()).f);
+        assertEquals(5.0,alg.scene.points[1].coordinate[2]);
+        assertEquals(2,alg.scene.points[0].views.size);
+    }
+
+    @Test
+    void parse_truncated() throws IOException {
+        try( PrintStream out = new PrintStream(file) ) {
+            out.println("1 1 1");
+            out.println("0 0 1 2");
+            out.println("1.0");
+        }
+        assertThrows(IOException.class,()->new CodecBundleAdjustmentInTheLarge().parse(file));
+    }
+
+    @Test
+    void save_parse_binary() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.saveBinary(file);
+
+        CodecBundleAdjustmentInTheLarge found = new CodecBundleAdjustmentInTheLarge();
+        found.parseBinary(file);
+        checkIdentical(expected,found,1e-12);
+
+        // a text file isn't a binary file
+        expected.save(file);
+        assertThrows(IOException.class,()->new CodecBundleAdjustmentInTheLarge().parseBinary(file));
+    }
+
+    /**
+     * Map the binary file using multiple small segments
+     */
+    @Test
+    void parseBinary_segments() throws IOException {
+        CodecBundleAdjustmentInTheLarge expected = createScene();
+        expected.saveBinary(file);
+
+        int original = CodecBundleAdjustmentInTheLarge.SEGMENT_SIZE;
+        try {
+            CodecBundleAdjustmentInTheLarge.SEGMENT_SIZE = 64;
+            CodecBundleAdjustmentInTheLarge found = new CodecBundleAdjustmentInTheLarge();
+            found.parseBinary(file);
+            checkIdentical(expected,found,1e-12);
+        } finally {
+            CodecBundleAdjustmentInTheLarge.SEGMENT_SIZE = original;
+        }
+    }
+
+    private CodecBundleAdjustmentInTheLarge createScene() {
+        CodecBundleAdjustmentInTheLarge alg = new CodecBundleAdjustmentInTheLarge();
+        alg.scene = new SceneStructureMetric(false);
+        alg.scene.initialize(numCameras,numCameras,numPoints);
+        alg.observations = new SceneObservations(numCameras);
+
+        for (int i = 0; i < numCameras; i++) {
+            BundlePinholeSnavely camera = new BundlePinholeSnavely();
+            camera.f = 400+rand.nextDouble()*100;
+            camera.k1 = rand.nextGaussian()*0.01;
+            camera.k2 = rand.nextGaussian()*0.001;
+            Se3_F64 worldToView = SpecialEuclideanOps_F64.eulerXyz(
+                    rand.nextGaussian(),rand.nextGaussian(),rand.nextGaussian(),
+                    rand.nextGaussian()*0.2,rand.nextGaussian()*0.2,rand.nextGaussian()*0.2,null);
+            alg.scene.setCamera(i,false,camera);
+            alg.scene.setView(i,false,worldToView);
+            alg.scene.connectViewToCamera(i,i);
+        }
+
+        for (int i = 0; i < numPoints; i++) {
+            // the text parser reads points as floats
+            alg.scene.setPoint(i,(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian());
+            for (int viewIdx = 0; viewIdx < numCameras; viewIdx++) {
+                if( rand.nextBoolean() ) {
+                    alg.observations.getView(viewIdx).add(i,rand.nextFloat()*600,rand.nextFloat()*400);
+                    alg.scene.connectPointToView(i,viewIdx);
+                }
+            }
+        }
+        return alg;
+    }
+
+    private void checkIdentical( CodecBundleAdjustmentInTheLarge expected ,
+                                 CodecBundleAdjustmentInTheLarge found , double tol ) {
+        assertEquals(expected.scene.views.length,found.scene.views.length);
+        for (int i = 0; i < numCameras; i++) {
+            SceneStructureMetric.View a = expected.scene.views[i];
+            SceneStructureMetric.View b = found.scene.views[i];
+            assertEquals(i,b.camera);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(a.worldToView.R,b.worldToView.R,tol));
+            assertEquals(0,a.worldToView.T.distance(b.worldToView.T),tol);
+
+            BundlePinholeSnavely ca = expected.scene.cameras[i].getModel();
+            BundlePinholeSnavely cb = found.scene.cameras[i].getModel();
+            assertEquals(ca.f,cb.f,tol);
+            assertEquals(ca.k1,cb.k1,tol);
+            assertEquals(ca.k2,cb.k2,tol);
+
+            SceneObservations.View oa = expected.observations.getView(i);
+            SceneObservations.View ob = found.observations.getView(i);
+            assertEquals(oa.size(),ob.size());
+            for (int j = 0; j < oa.size(); j++) {
+                assertEquals(oa.getPointId(j),ob.getPointId(j));
+                assertEquals(oa.observations.get(j*2),ob.observations.get(j*2));
+                assertEquals(oa.observations.get(j*2+1),ob.observations.get(j*2+1));
+            }
+        }
+
+        assertEquals(expected.scene.points.length,found.scene.points.length);
+        for (int i = 0; i < numPoints; i++) {
+            SceneStructureMetric.Point a = expected.scene.points[i];
+            SceneStructureMetric.Point b = found.scene.points[i];
+            assertArrayEquals(a.coordinate,b.coordinate,tol);
+            assertEquals(a.views.size,b.views.size);
+            for (int j = 0; j < a.views.size; j++) {
+                assertEquals(a.views.get(j),b.views.get(j));
+            }
+        }
+    }
+}
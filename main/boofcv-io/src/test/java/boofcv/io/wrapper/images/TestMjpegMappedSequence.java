@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMjpegMappedSequence {
+
+	File file;
+	int numFrames = 5;
+
+	/**
+	 * Creates a MJPEG file where each frame has a different width
+	 */
+	@BeforeEach
+	void createFile() throws IOException {
+		file = File.createTempFile("boofcv_mjpeg",".mjpeg");
+		try( FileOutputStream out = new FileOutputStream(file) ) {
+			for (int i = 0; i < numFrames; i++) {
+				BufferedImage image = new BufferedImage(20+i,15,BufferedImage.TYPE_INT_RGB);
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				ImageIO.write(image,"jpg",bytes);
+				out.write(bytes.toByteArray());
+			}
+		}
+	}
+
+	@AfterEach
+	void deleteFile() {
+		file.delete();
+	}
+
+	@Test
+	void readAll() throws IOException {
+		MjpegMappedSequence<GrayU8> alg = new MjpegMappedSequence<>(file, ImageType.single(GrayU8.class));
+		assertEquals(numFrames,alg.getNumberOfFrames());
+
+		checkSequence(alg);
+		alg.close();
+	}
+
+	@Test
+	void prefetch() throws IOException {
+		MjpegMappedSequence<GrayU8> alg = new MjpegMappedSequence<>(file, ImageType.single(GrayU8.class));
+		alg.setPrefetch(true);
+		checkSequence(alg);
+		alg.close();
+		assertFalse(alg.isPrefetch());
+	}
+
+	/**
+	 * Make the segments tiny so that frames are split across multiple mapped regions
+	 */
+	@Test
+	void multipleSegments() throws IOException {
+		int original = MjpegMappedSequence.SEGMENT_SIZE;
+		try {
+			MjpegMappedSequence.SEGMENT_SIZE = 101;
+			MjpegMappedSequence<GrayU8> alg = new MjpegMappedSequence<>(file, ImageType.single(GrayU8.class));
+			assertTrue(alg.segments.length > 1);
+			assertEquals(numFrames,alg.getNumberOfFrames());
+			checkSequence(alg);
+			alg.close();
+		} finally {
+			MjpegMappedSequence.SEGMENT_SIZE = original;
+		}
+	}
+
+	@Test
+	void goToFrame_reset_loop() throws IOException {
+		MjpegMappedSequence<GrayU8> alg = new MjpegMappedSequence<>(file, ImageType.single(GrayU8.class));
+
+		alg.goToFrame(3);
+		assertEquals(23,alg.getNextWidth());
+		assertEquals(23,alg.next().width);
+		assertEquals(3,alg.getFrameNumber());
+
+		alg.reset();
+		assertEquals(20,alg.next().width);
+
+		alg.setLoop(true);
+		alg.goToFrame(numFrames-1);
+		alg.next();
+		assertTrue(alg.hasNext());
+		assertEquals(20,alg.next().width);
+		assertEquals(0,alg.getFrameNumber());
+		alg.close();
+	}
+
+	private void checkSequence(MjpegMappedSequence<GrayU8> alg) {
+		int total = 0;
+		while( alg.hasNext() ) {
+			assertEquals(20+total,alg.getNextWidth());
+			GrayU8 image = alg.next();
+			assertEquals(total,alg.getFrameNumber());
+			assertEquals(20+total,image.width);
+			assertEquals(15,image.height);
+			assertEquals(20+total,((BufferedImage)alg.getGuiImage()).getWidth());
+			total++;
+		}
+		assertEquals(numFrames,total);
+	}
+}
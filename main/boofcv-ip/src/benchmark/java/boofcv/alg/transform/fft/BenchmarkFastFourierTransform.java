@@ -20,46 +20,94 @@ package boofcv.alg.transform.fft;
 
 import boofcv.abst.transform.fft.DiscreteFourierTransform;
 import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedF64;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkFastFourierTransform {
 
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
+	@Param({"true","false"})
+	public boolean concurrent;
 
-	static GrayF32 input = new GrayF32(width,height);
-	static InterleavedF32 fourier = new InterleavedF32(width,height,2);
-	static GrayF32 output = new GrayF32(width,height);
+	@Param({"512","1024","2048","4096"})
+	public int size;
 
+	GrayF32 input_F32 = new GrayF32(1,1);
+	InterleavedF32 fourier_F32 = new InterleavedF32(1,1,2);
+	GrayF32 output_F32 = new GrayF32(1,1);
 
-	public static class ComputeFFT extends PerformerBase {
+	GrayF64 input_F64 = new GrayF64(1,1);
+	InterleavedF64 fourier_F64 = new InterleavedF64(1,1,2);
+	GrayF64 output_F64 = new GrayF64(1,1);
 
-		DiscreteFourierTransform dft = DiscreteFourierTransformOps.createTransformF32();
+	DiscreteFourierTransform<GrayF32,InterleavedF32> dft_F32;
+	DiscreteFourierTransform<GrayF64,InterleavedF64> dft_F64;
 
-		@Override
-		public void process() {
-			dft.forward(input,fourier);
-			dft.inverse(fourier,output);
-		}
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		input_F32.reshape(size, size);
+		fourier_F32.reshape(size, size);
+		output_F32.reshape(size, size);
+		input_F64.reshape(size, size);
+		fourier_F64.reshape(size, size);
+		output_F64.reshape(size, size);
+
+		ImageMiscOps.fillUniform(input_F32, rand, 0, 100);
+		ImageMiscOps.fillUniform(input_F64, rand, 0, 100);
+
+		dft_F32 = DiscreteFourierTransformOps.createTransformF32();
+		dft_F64 = DiscreteFourierTransformOps.createTransformF64();
 	}
 
-	public static void main( String args[] ) {
+	@Benchmark
+	public void forward_F32() {
+		dft_F32.forward(input_F32,fourier_F32);
+	}
 
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
+	@Benchmark
+	public void forwardInverse_F32() {
+		dft_F32.forward(input_F32,fourier_F32);
+		dft_F32.inverse(fourier_F32,output_F32);
+	}
+
+	@Benchmark
+	public void forward_F64() {
+		dft_F64.forward(input_F64,fourier_F64);
+	}
+
+	@Benchmark
+	public void forwardInverse_F64() {
+		dft_F64.forward(input_F64,fourier_F64);
+		dft_F64.inverse(fourier_F64,output_F64);
+	}
 
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
+	public static void main( String args[] ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkFastFourierTransform.class.getSimpleName())
+				.build();
 
-		ProfileOperation.printOpsPerSec(new ComputeFFT(), TEST_TIME);
+		new Runner(opt).run();
 	}
 }
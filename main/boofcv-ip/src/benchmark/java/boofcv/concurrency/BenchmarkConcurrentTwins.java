@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.impl.ImplPixelMath_MT;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Automatically pairs each concurrent "_MT" class with its single threaded twin and benchmarks every static
+ * function they have in common. Sweeps across image size and number of threads so that the speed up curve
+ * can be found. A thread count of zero indicates that the single threaded twin is being benchmarked.
+ *
+ * Arguments for each function are created by reflection. Functions with arguments which can't be
+ * automatically created or which throw an exception with the automatically created arguments are skipped.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkConcurrentTwins {
+
+	// Overridden in main() with every concurrent class which could be found
+	@Param({"boofcv.alg.filter.convolve.noborder.ImplConvolveMean_MT"})
+	public String kernel;
+
+	// VGA, 720p, 1080p, and 4K
+	@Param({"640x480","1280x720","1920x1080","3840x2160"})
+	public String size;
+
+	@Param({"0","1","2","4","8"})
+	public int threads;
+
+	// Radius of kernels and value of any other integer arguments
+	public static final int RADIUS = 2;
+
+	List<Invocation> invocations = new ArrayList<>();
+	ForkJoinPool pool;
+
+	// images are recycled between functions to keep memory usage under control
+	Map<String,List<ImageBase>> images = new HashMap<>();
+	Random rand = new Random(234);
+
+	@Setup
+	public void setup() throws ClassNotFoundException {
+		String[] words = size.split("x");
+		int width = Integer.parseInt(words[0]);
+		int height = Integer.parseInt(words[1]);
+
+		Class<?> typeMT = Class.forName(kernel);
+		Class<?> typeSerial = Class.forName(serialName(kernel));
+
+		invocations.clear();
+		images.clear();
+		for( Method m : typeMT.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != typeMT )
+				continue;
+			Method serial;
+			try {
+				serial = typeSerial.getMethod(m.getName(),m.getParameterTypes());
+			} catch (NoSuchMethodException e) {
+				continue;
+			}
+
+			Object[] arguments;
+			try {
+				arguments = createArguments(m,width,height);
+			} catch( RuntimeException e ) {
+				// most likely an abstract image type which can't be created
+				continue;
+			}
+			if( arguments == null )
+				continue;
+
+			Invocation invocation = new Invocation();
+			invocation.method = threads == 0 ? serial : m;
+			invocation.arguments = arguments;
+
+			// make sure it can be called with these arguments
+			try {
+				invocation.invoke();
+			} catch( RuntimeException e ) {
+				System.err.println("Skipping "+typeMT.getSimpleName()+"."+m.getName()+" "+e.getCause());
+				continue;
+			}
+			invocations.add(invocation);
+		}
+
+		pool = threads > 0 ? new ForkJoinPool(threads) : null;
+	}
+
+	@TearDown
+	public void tearDown() {
+		if( pool != null )
+			pool.shutdown();
+	}
+
+	@Benchmark
+	public void process() {
+		if( pool == null ) {
+			processAll();
+		} else {
+			BoofConcurrency.runWith(pool,this::processAll);
+		}
+	}
+
+	private void processAll() {
+		for (int i = 0; i < invocations.size(); i++) {
+			invocations.get(i).invoke();
+		}
+	}
+
+	/**
+	 * Creates arguments for the function or returns null if it doesn't know how to
+	 */
+	private Object[] createArguments( Method m , int width , int height ) {
+		Class<?>[] types = m.getParameterTypes();
+		Type[] generic = m.getGenericParameterTypes();
+		Object[] arguments = new Object[types.length];
+
+		// number of times each image type has been used so far
+		Map<String,Integer> used = new HashMap<>();
+
+		for (int i = 0; i < types.length; i++) {
+			Class<?> type = types[i];
+			if( ImageBase.class.isAssignableFrom(type) ) {
+				String key;
+				if( type == Planar.class ) {
+					if( !(generic[i] instanceof ParameterizedType) )
+						return null;
+					Type band = ((ParameterizedType)generic[i]).getActualTypeArguments()[0];
+					if( !(band instanceof Class) )
+						return null;
+					key = "Planar"+((Class)band).getName();
+				} else {
+					key = type.getName();
+				}
+				int index = used.getOrDefault(key,0);
+				used.put(key,index+1);
+				arguments[i] = lookupImage(key,index,type,generic[i],width,height);
+			} else if( KernelBase.class.isAssignableFrom(type) ) {
+				if( Modifier.isAbstract(type.getModifiers()) )
+					return null;
+				arguments[i] = FactoryKernel.random(type,RADIUS,0,10,rand);
+			} else if( WorkArrays.class.isAssignableFrom(type) ) {
+				if( Modifier.isAbstract(type.getModifiers()) )
+					return null;
+				try {
+					arguments[i] = type.newInstance();
+				} catch (InstantiationException | IllegalAccessException e) {
+					return null;
+				}
+			} else if( type == int.class ) {
+				arguments[i] = RADIUS;
+			} else if( type == float.class ) {
+				arguments[i] = 1.0f;
+			} else if( type == double.class ) {
+				arguments[i] = 1.0;
+			} else if( type == boolean.class ) {
+				arguments[i] = false;
+			} else {
+				return null;
+			}
+		}
+		return arguments;
+	}
+
+	private ImageBase lookupImage( String key , int index , Class<?> type , Type generic , int width , int height ) {
+		List<ImageBase> list = images.computeIfAbsent(key, k -> new ArrayList<>());
+		while( list.size() <= index ) {
+			ImageBase image;
+			if( type == Planar.class ) {
+				Class band = (Class)((ParameterizedType)generic).getActualTypeArguments()[0];
+				image = new Planar(band,width,height,3);
+			} else {
+				image = GeneralizedImageOps.createImage((Class)type,width,height,3);
+			}
+			GImageMiscOps.fillUniform(image,rand,0,100);
+			list.add(image);
+		}
+		return list.get(index);
+	}
+
+	private static String serialName( String name ) {
+		return name.substring(0,name.length()-3);
+	}
+
+	static class Invocation {
+		Method method;
+		Object[] arguments;
+
+		public void invoke() {
+			try {
+				method.invoke(null,arguments);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Searches the same location as the image processing classes for every "_MT" class which has a single
+	 * threaded twin
+	 */
+	public static List<String> findConcurrentClasses() {
+		File location;
+		try {
+			location = new File(ImplPixelMath_MT.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		} catch (URISyntaxException e) {
+			throw new RuntimeException(e);
+		}
+
+		List<String> names = new ArrayList<>();
+		if( location.isDirectory() ) {
+			Path root = location.toPath();
+			try (Stream<Path> paths = Files.walk(root)) {
+				for( Path p : paths.collect(Collectors.toList()) ) {
+					String relative = root.relativize(p).toString();
+					if( relative.endsWith("_MT.class") && !relative.contains("$") )
+						names.add(relative.replace(File.separatorChar,'.'));
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		} else {
+			try (JarFile jar = new JarFile(location)) {
+				Enumeration<JarEntry> entries = jar.entries();
+				while( entries.hasMoreElements() ) {
+					String name = entries.nextElement().getName();
+					if( name.endsWith("_MT.class") && !name.contains("$") )
+						names.add(name.replace('/','.'));
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		List<String> found = new ArrayList<>();
+		for( String name : names ) {
+			name = name.substring(0,name.length()-".class".length());
+			try {
+				Class.forName(name);
+				Class.forName(serialName(name));
+				found.add(name);
+			} catch (ClassNotFoundException ignore) {}
+		}
+		Collections.sort(found);
+		return found;
+	}
+
+	/**
+	 * Prints the speed up of each concurrent class relative to its single threaded twin
+	 */
+	public static void printSpeedUp( Collection<RunResult> results ) {
+		Map<String,Double> serial = new HashMap<>();
+		for( RunResult r : results ) {
+			if( Integer.parseInt(r.getParams().getParam("threads")) == 0 ) {
+				String key = r.getParams().getParam("kernel")+" "+r.getParams().getParam("size");
+				serial.put(key,r.getPrimaryResult().getScore());
+			}
+		}
+
+		System.out.printf("%-40s %-10s %7s %10s %8s\n","Class","Size","Threads","Time (ms)","Speed Up");
+		for( RunResult r : results ) {
+			int threads = Integer.parseInt(r.getParams().getParam("threads"));
+			String kernel = r.getParams().getParam("kernel");
+			String size = r.getParams().getParam("size");
+			double score = r.getPrimaryResult().getScore();
+			Double reference = serial.get(kernel+" "+size);
+			double speedUp = reference == null ? Double.NaN : reference/score;
+			String name = kernel.substring(kernel.lastIndexOf('.')+1);
+			System.out.printf("%-40s %-10s %7d %10.3f %8.2f\n",name,size,threads,score,speedUp);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		List<String> kernels = findConcurrentClasses();
+		System.out.println("Found "+kernels.size()+" concurrent classes");
+
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkConcurrentTwins.class.getSimpleName())
+				.param("kernel",kernels.toArray(new String[0]))
+				.build();
+
+		printSpeedUp(new Runner(opt).run());
+	}
+}
@@ -116,7 +116,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 							"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
 							"\t\t\t\t\t\t\t   int rows , int cols )\n" +
 							"\t{\n" +
-							"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{\n" +
+							"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,rows,cols,y->{\n" +
 							"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
 							"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
 							"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
@@ -177,7 +177,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
 				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
 				"\t{\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,rows,cols,y->{\n" +
 				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
 				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
 				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
@@ -204,7 +204,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
 				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
 				"\t{\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,rows,cols,y->{\n" +
 				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
 				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
 				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
@@ -233,7 +233,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 				"\n" +
 				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
 				"\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,h,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,h,w,y->{\n" +
 				"\t\tfor (int y = 0; y < h; y++) {\n" +
 				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
 				"\t\t\tint indexEnd = index+w;\n" +
@@ -260,7 +260,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 				"\t\tfinal int h = imgA.getHeight();\n" +
 				"\t\tfinal int w = imgA.getWidth();\n" +
 				"\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,h,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,h,w,y->{\n" +
 				"\t\tfor (int y = 0; y < h; y++) {\n" +
 				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
 				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
@@ -303,7 +303,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 						"\t\tfinal int h = imgA.getHeight();\n" +
 						"\t\tfinal int w = imgA.getWidth();\n" +
 						"\n" +
-						"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,h,y->{\n" +
+						"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,h,w,y->{\n" +
 						"\t\tfor (int y = 0; y < h; y++) {\n" +
 						"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
 						"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
@@ -325,7 +325,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 
 		out.print(
 				"\tpublic static void log( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,input.height,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,input.height,input.width,y->{\n" +
 				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
 				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
 				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
@@ -346,7 +346,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 
 		out.print(
 				"\tpublic static void logSign( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-						"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,input.height,y->{\n" +
+						"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,input.height,input.width,y->{\n" +
 						"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
 						"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
 						"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
@@ -371,7 +371,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 		out.print(
 				"\tpublic static void pow2( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
 				"\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,input.height,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,input.height,input.width,y->{\n" +
 				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
 				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
 				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
@@ -393,7 +393,7 @@ public class GenerateImplPixelMath extends CodeGeneratorBase {
 		out.print(
 				"\tpublic static void sqrt( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
 				"\n" +
-				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0,input.height,y->{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopForWork(0,input.height,input.width,y->{\n" +
 				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
 				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
 				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * Writes interpolated values into an interleaved image. Multi-band version of {@link AssignPixelValue_SB}.
+ *
+ * @author Peter Abeles
+ */
+public interface AssignPixelValue_MB<T extends ImageInterleaved<T>> {
+
+	/**
+	 * Specifies the image which is being written to
+	 */
+	void setImage( T image );
+
+	/**
+	 * Assigns the values to the pixel at the specified array index
+	 *
+	 * @param indexDst Index of the pixel's first band in the image's data array
+	 * @param value Value of each band
+	 */
+	void assign( int indexDst , float[] value );
+
+	class F32 implements AssignPixelValue_MB<InterleavedF32> {
+		InterleavedF32 image;
+
+		@Override
+		public void setImage(InterleavedF32 image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float[] value) {
+			for( int i = 0; i < image.numBands; i++ ) {
+				image.data[indexDst+i] = value[i];
+			}
+		}
+	}
+
+	class U8 implements AssignPixelValue_MB<InterleavedU8> {
+		InterleavedU8 image;
+
+		@Override
+		public void setImage(InterleavedU8 image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float[] value) {
+			for( int i = 0; i < image.numBands; i++ ) {
+				image.data[indexDst+i] = (byte)value[i];
+			}
+		}
+	}
+}
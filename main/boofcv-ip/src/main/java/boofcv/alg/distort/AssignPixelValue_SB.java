@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.struct.image.*;
+
+/**
+ * Writes an interpolated value into a single band image. Used by the concurrent implementations of
+ * {@link ImageDistort} so that a single class can handle every output image type. Different threads
+ * write to different pixels so the same instance can be shared.
+ *
+ * @author Peter Abeles
+ */
+public interface AssignPixelValue_SB<T extends ImageGray<T>> {
+
+	/**
+	 * Specifies the image which is being written to
+	 */
+	void setImage( T image );
+
+	/**
+	 * Assigns the value to the pixel at the specified array index
+	 *
+	 * @param indexDst Index of the pixel in the image's data array
+	 * @param value The value
+	 */
+	void assign( int indexDst , float value );
+
+	class F32 implements AssignPixelValue_SB<GrayF32> {
+		GrayF32 image;
+
+		@Override
+		public void setImage(GrayF32 image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float value) {
+			image.data[indexDst] = value;
+		}
+	}
+
+	class S32 implements AssignPixelValue_SB<GrayS32> {
+		GrayS32 image;
+
+		@Override
+		public void setImage(GrayS32 image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float value) {
+			image.data[indexDst] = (int)value;
+		}
+	}
+
+	class I16<T extends GrayI16<T>> implements AssignPixelValue_SB<T> {
+		T image;
+
+		@Override
+		public void setImage(T image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float value) {
+			image.data[indexDst] = (short)value;
+		}
+	}
+
+	class I8<T extends GrayI8<T>> implements AssignPixelValue_SB<T> {
+		T image;
+
+		@Override
+		public void setImage(T image) {
+			this.image = image;
+		}
+
+		@Override
+		public void assign(int indexDst, float value) {
+			image.data[indexDst] = (byte)value;
+		}
+	}
+}
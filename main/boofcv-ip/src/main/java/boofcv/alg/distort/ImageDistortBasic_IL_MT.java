@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.lists.RecycleStack;
+import georegression.struct.point.Point2D_F32;
+
+/**
+ * Concurrent implementation of {@link ImageDistortBasic_IL}. Rows in the destination image are split up
+ * between threads. Each thread is given its own copy of the interpolation algorithm and of the pixel transform.
+ *
+ * @author Peter Abeles
+ */
+public class ImageDistortBasic_IL_MT<Input extends ImageInterleaved<Input>,Output extends ImageInterleaved<Output>>
+		extends ImageDistortBasic_IL<Input,Output> {
+
+	// writes the pixel value into the output image
+	AssignPixelValue_MB<Output> assigner;
+
+	// storage for each thread
+	RecycleStack<Worker> workers = new RecycleStack<>(Worker::new);
+
+	/**
+	 * Specifies configuration parameters
+	 *
+	 * @param assigner Writes pixel values into the output image
+	 * @param interp Interpolation algorithm
+	 */
+	public ImageDistortBasic_IL_MT(AssignPixelValue_MB<Output> assigner, InterpolatePixelMB<Input> interp) {
+		super(interp);
+		this.assigner = assigner;
+	}
+
+	@Override
+	protected void init(Input srcImg, Output dstImg) {
+		super.init(srcImg, dstImg);
+		assigner.setImage(dstImg);
+	}
+
+	@Override
+	public void applyAll() {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+				for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
+					w.dstToSrc.compute(x,y,distorted);
+					w.interp.get(distorted.x, distorted.y, w.values);
+					assigner.assign(indexDst,w.values);
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyAll( GrayU8 mask ) {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+				int indexMsk = mask.startIndex + mask.stride*y + x0;
+
+				for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands , indexMsk++) {
+					w.dstToSrc.compute(x,y,distorted);
+					w.interp.get(distorted.x, distorted.y, w.values);
+
+					assigner.assign(indexDst,w.values);
+
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						mask.data[indexMsk] = 1;
+					} else {
+						mask.data[indexMsk] = 0;
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside() {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+				for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
+					w.dstToSrc.compute(x,y,distorted);
+
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						w.interp.get(distorted.x, distorted.y, w.values);
+						assigner.assign(indexDst,w.values);
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside( GrayU8 mask ) {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+				int indexMsk = mask.startIndex + mask.stride*y + x0;
+
+				for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands , indexMsk++) {
+					w.dstToSrc.compute(x,y,distorted);
+
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						w.interp.get(distorted.x, distorted.y, w.values);
+						assigner.assign(indexDst,w.values);
+						mask.data[indexMsk] = 1;
+					} else {
+						mask.data[indexMsk] = 0;
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	protected void assign(int indexDst, float[] value) {
+		assigner.assign(indexDst,value);
+	}
+
+	/**
+	 * Data which is local to a single thread
+	 */
+	class Worker {
+		InterpolatePixelMB<Input> interp = ImageDistortBasic_SB_MT.copyForThread(ImageDistortBasic_IL_MT.this.interp);
+		PixelTransform<Point2D_F32> dstToSrc;
+		Point2D_F32 distorted = new Point2D_F32();
+		float values[] = new float[0];
+
+		void setup() {
+			interp.setImage(srcImg);
+			dstToSrc = ImageDistortBasic_SB_MT.copyForThread(ImageDistortBasic_IL_MT.this.dstToSrc);
+			if( values.length != srcImg.getNumBands() ) {
+				values = new float[ srcImg.getNumBands() ];
+			}
+		}
+	}
+}
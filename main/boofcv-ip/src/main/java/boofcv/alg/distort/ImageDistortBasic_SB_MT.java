@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+import georegression.struct.point.Point2D_F32;
+
+/**
+ * Concurrent implementation of {@link ImageDistortBasic_SB}. Rows in the destination image are split up
+ * between threads. Each thread is given its own copy of the interpolation algorithm and of the pixel transform.
+ *
+ * @author Peter Abeles
+ */
+public class ImageDistortBasic_SB_MT<Input extends ImageGray<Input>,Output extends ImageGray<Output>>
+		extends ImageDistortBasic_SB<Input,Output> {
+
+	// writes the pixel value into the output image
+	AssignPixelValue_SB<Output> assigner;
+
+	// storage for each thread
+	RecycleStack<Worker> workers = new RecycleStack<>(Worker::new);
+
+	/**
+	 * Specifies configuration parameters
+	 *
+	 * @param assigner Writes pixel values into the output image
+	 * @param interp Interpolation algorithm
+	 */
+	public ImageDistortBasic_SB_MT(AssignPixelValue_SB<Output> assigner, InterpolatePixelS<Input> interp) {
+		super(interp);
+		this.assigner = assigner;
+	}
+
+	@Override
+	protected void init(Input srcImg, Output dstImg) {
+		super.init(srcImg, dstImg);
+		assigner.setImage(dstImg);
+	}
+
+	@Override
+	public void applyAll() {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+				for( int x = x0; x < x1; x++ , indexDst++ ) {
+					w.dstToSrc.compute(x,y,distorted);
+					assigner.assign(indexDst,w.interp.get(distorted.x,distorted.y));
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyAll( GrayU8 mask ) {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+				int indexMsk = mask.startIndex + mask.stride*y + x0;
+
+				for( int x = x0; x < x1; x++ , indexDst++, indexMsk++ ) {
+					w.dstToSrc.compute(x,y,distorted);
+					assigner.assign(indexDst,w.interp.get(distorted.x,distorted.y));
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						mask.data[indexMsk] = 1;
+					} else {
+						mask.data[indexMsk] = 0;
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside() {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+				for( int x = x0; x < x1; x++ , indexDst++ ) {
+					w.dstToSrc.compute(x,y,distorted);
+
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						assigner.assign(indexDst,w.interp.get(distorted.x, distorted.y));
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside( GrayU8 mask ) {
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			Worker w = workers.pop();
+			w.setup();
+			Point2D_F32 distorted = w.distorted;
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+				int indexMsk = mask.startIndex + mask.stride*y + x0;
+
+				for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
+					w.dstToSrc.compute(x,y,distorted);
+
+					if( distorted.x >= 0 && distorted.x <= maxWidth &&
+							distorted.y >= 0 && distorted.y <= maxHeight ) {
+						assigner.assign(indexDst,w.interp.get(distorted.x, distorted.y));
+						mask.data[indexMsk] = 1;
+					} else {
+						mask.data[indexMsk] = 0;
+					}
+				}
+			}
+			workers.recycle(w);
+		});
+	}
+
+	@Override
+	protected void assign(int indexDst, float value) {
+		assigner.assign(indexDst,value);
+	}
+
+	/**
+	 * Returns a transform which can be safely used by a single thread. Precomputed transforms are only read
+	 * from and are shared. All others are copied since they can have internal state and might have been
+	 * modified since the last time they were copied.
+	 */
+	static PixelTransform<Point2D_F32> copyForThread( PixelTransform<Point2D_F32> transform ) {
+		if( transform instanceof PixelTransformCached_F32 )
+			return transform;
+		return transform.copy();
+	}
+
+	/**
+	 * Copies the interpolation algorithm along with its border so that it can be used by another thread
+	 */
+	@SuppressWarnings("unchecked")
+	static <I extends InterpolatePixel> I copyForThread( I interp ) {
+		I copy = (I)interp.copy();
+		if( interp.getBorder() != null )
+			copy.setBorder(interp.getBorder().copy());
+		return copy;
+	}
+
+	/**
+	 * Data which is local to a single thread
+	 */
+	class Worker {
+		InterpolatePixelS<Input> interp = copyForThread(ImageDistortBasic_SB_MT.this.interp);
+		PixelTransform<Point2D_F32> dstToSrc;
+		Point2D_F32 distorted = new Point2D_F32();
+
+		void setup() {
+			interp.setImage(srcImg);
+			dstToSrc = copyForThread(ImageDistortBasic_SB_MT.this.dstToSrc);
+		}
+	}
+}
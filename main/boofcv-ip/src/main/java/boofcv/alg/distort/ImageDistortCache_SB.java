@@ -27,7 +27,8 @@ import georegression.struct.point.Point2D_F32;
 /**
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
- * again the save results are simply recalled and not computed again.
+ * again the save results are simply recalled and not computed again. The cache is stored in a single
+ * float array, which is read sequentially while rendering.
  *
  * @author Peter Abeles
  */
@@ -35,16 +36,17 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 		implements ImageDistort<Input,Output> {
 
 	// size of output image
-	private int width=-1,height=-1;
-	private Point2D_F32 map[];
+	protected int width=-1,height=-1;
+	// location of each destination pixel in the source image. Packed as interleaved (x,y) pairs
+	protected float map[] = new float[0];
 	// sub pixel interpolation
-	private InterpolatePixelS<Input> interp;
+	protected InterpolatePixelS<Input> interp;
 
 	// transform
-	private PixelTransform<Point2D_F32> dstToSrc;
+	protected PixelTransform<Point2D_F32> dstToSrc;
 
 	// crop boundary
-	private int x0,y0,x1,y1;
+	protected int x0,y0,x1,y1;
 
 	// should it render all pixels in the destination, even ones outside the input image
 	protected boolean renderAll = true;
@@ -104,21 +106,15 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 			applyOnlyInside();
 	}
 
-	private void init(Input srcImg, Output dstImg) {
+	protected void init(Input srcImg, Output dstImg) {
 		if( dirty || width != dstImg.width || height != dstImg.height) {
 			width = dstImg.width;
 			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			// only declare new memory if the image has grown
+			if( map.length < 2*width*height )
+				map = new float[2*width*height];
 
-			int index = 0;
-			for( int y = 0; y < height; y++ ) {
-				for( int x = 0; x < width; x++ ) {
-					dstToSrc.compute(x,y,map[index++]);
-				}
-			}
+			computeMap();
 			dirty = false;
 		} else if( dstImg.width != width || dstImg.height != height )
 			throw new IllegalArgumentException("Unexpected dstImg dimension");
@@ -128,33 +124,73 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 		interp.setImage(srcImg);
 	}
 
+	/**
+	 * Computes the location of every pixel in the destination image inside the source image
+	 */
+	protected void computeMap() {
+		computeMap(0,height,dstToSrc,new Point2D_F32());
+	}
+
+	/**
+	 * Computes the source location of pixels inside the specified rows
+	 */
+	protected void computeMap( int y0 , int y1 , PixelTransform<Point2D_F32> dstToSrc , Point2D_F32 work ) {
+		int indexMap = y0*width*2;
+		for( int y = y0; y < y1; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				dstToSrc.compute(x,y,work);
+				map[indexMap++] = work.x;
+				map[indexMap++] = work.y;
+			}
+		}
+	}
+
 	public void renderAll() {
+		renderAll(y0,y1,interp);
+	}
 
+	public void renderAll( GrayU8 mask ) {
+		renderAll(y0,y1,interp,mask);
+	}
+
+	public void applyOnlyInside() {
+		applyOnlyInside(y0,y1,interp);
+	}
+
+	public void applyOnlyInside( GrayU8 mask ) {
+		applyOnlyInside(y0,y1,interp,mask);
+	}
+
+	protected void renderAll( int y0 , int y1 , InterpolatePixelS<Input> interp ) {
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				assign(indexDst,interp.get(s.x, s.y));
+				assign(indexDst,interp.get(sx, sy));
 			}
 		}
 	}
 
-	public void renderAll( GrayU8 mask ) {
+	protected void renderAll( int y0 , int y1 , InterpolatePixelS<Input> interp , GrayU8 mask ) {
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 
 			for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				assign(indexDst,interp.get(s.x, s.y));
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
+				assign(indexDst,interp.get(sx, sy));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
 					mask.data[indexMsk] = 1;
 				} else {
 					mask.data[indexMsk] = 0;
@@ -163,35 +199,39 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 		}
 	}
 
-	public void applyOnlyInside() {
+	protected void applyOnlyInside( int y0 , int y1 , InterpolatePixelS<Input> interp ) {
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-					assign(indexDst,interp.get(s.x, s.y));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assign(indexDst,interp.get(sx, sy));
 				}
 			}
 		}
 	}
 
-	public void applyOnlyInside( GrayU8 mask ) {
+	protected void applyOnlyInside( int y0 , int y1 , InterpolatePixelS<Input> interp , GrayU8 mask ) {
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
 			int indexMsk = mask.startIndex + mask.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 
 			for( int x = x0; x < x1; x++ , indexDst++ , indexMsk++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-					assign(indexDst,interp.get(s.x, s.y));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assign(indexDst,interp.get(sx, sy));
 					mask.data[indexMsk] = 1;
 				} else {
 					mask.data[indexMsk] = 0;
@@ -202,7 +242,11 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 	protected abstract void assign( int indexDst , float value );
 
-	public Point2D_F32[] getMap() {
+	/**
+	 * Returns the cached distortion. The (x,y) location in the source image of destination pixel (i,j) is
+	 * stored at index 2*(j*width+i) and the following element.
+	 */
+	public float[] getMap() {
 		return map;
 	}
 
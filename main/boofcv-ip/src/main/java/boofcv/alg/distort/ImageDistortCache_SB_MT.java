@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.lists.RecycleStack;
+import georegression.struct.point.Point2D_F32;
+
+/**
+ * Concurrent implementation of {@link ImageDistortCache_SB}. Rows are split up between threads when the
+ * map is computed and when the image is rendered. The cached map is only read from while rendering, so
+ * each thread just needs its own copy of the interpolation algorithm.
+ *
+ * @author Peter Abeles
+ */
+public class ImageDistortCache_SB_MT<Input extends ImageGray<Input>,Output extends ImageGray<Output>>
+		extends ImageDistortCache_SB<Input,Output> {
+
+	// writes the pixel value into the output image
+	AssignPixelValue_SB<Output> assigner;
+
+	// interpolation algorithm for each thread
+	RecycleStack<InterpolatePixelS<Input>> interpolators =
+			new RecycleStack<>(()->ImageDistortBasic_SB_MT.copyForThread(interp));
+
+	/**
+	 * Specifies configuration parameters
+	 *
+	 * @param assigner Writes pixel values into the output image
+	 * @param interp Interpolation algorithm
+	 */
+	public ImageDistortCache_SB_MT(AssignPixelValue_SB<Output> assigner, InterpolatePixelS<Input> interp) {
+		super(interp);
+		this.assigner = assigner;
+	}
+
+	@Override
+	protected void init(Input srcImg, Output dstImg) {
+		super.init(srcImg, dstImg);
+		assigner.setImage(dstImg);
+	}
+
+	@Override
+	protected void computeMap() {
+		BoofConcurrency.loopBlocks(0,height,(idx0,idx1)->
+				computeMap(idx0,idx1,ImageDistortBasic_SB_MT.copyForThread(dstToSrc),new Point2D_F32()));
+	}
+
+	@Override
+	public void renderAll() {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			InterpolatePixelS<Input> interp = popInterp();
+			renderAll(idx0,idx1,interp);
+			interpolators.recycle(interp);
+		});
+	}
+
+	@Override
+	public void renderAll( GrayU8 mask ) {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			InterpolatePixelS<Input> interp = popInterp();
+			renderAll(idx0,idx1,interp,mask);
+			interpolators.recycle(interp);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside() {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			InterpolatePixelS<Input> interp = popInterp();
+			applyOnlyInside(idx0,idx1,interp);
+			interpolators.recycle(interp);
+		});
+	}
+
+	@Override
+	public void applyOnlyInside( GrayU8 mask ) {
+		BoofConcurrency.loopBlocks(y0,y1,(idx0,idx1)->{
+			InterpolatePixelS<Input> interp = popInterp();
+			applyOnlyInside(idx0,idx1,interp,mask);
+			interpolators.recycle(interp);
+		});
+	}
+
+	private InterpolatePixelS<Input> popInterp() {
+		InterpolatePixelS<Input> interp = interpolators.pop();
+		interp.setImage(srcImg);
+		return interp;
+	}
+
+	@Override
+	protected void assign(int indexDst, float value) {
+		assigner.assign(indexDst,value);
+	}
+}
@@ -18,6 +18,8 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.binary.impl.ImplThresholdByteBuffer;
+import boofcv.alg.filter.binary.impl.ImplThresholdByteBuffer_MT;
 import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
 import boofcv.alg.filter.binary.impl.ImplThresholdImageOps_MT;
 import boofcv.concurrency.BoofConcurrency;
@@ -113,6 +115,37 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
+	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
+	 * to 'threshold' are set to 1 and the others set to 0. The pixels are read straight from the buffer, which
+	 * can be direct, without copying it into an array first.
+	 *
+	 * @param input Gray scale input image. Not modified.
+	 * @param output (Optional) Binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static GrayU8 threshold( ByteBufferImageU8 input , @Nullable GrayU8 output ,
+									int threshold , boolean down )
+	{
+		if( input.numBands != 1 )
+			throw new IllegalArgumentException("Input must be gray scale");
+		if( output == null )
+			output = new GrayU8(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		if(BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdByteBuffer_MT.threshold(input, output, threshold, down);
+		} else {
+			ImplThresholdByteBuffer.threshold(input, output, threshold, down);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
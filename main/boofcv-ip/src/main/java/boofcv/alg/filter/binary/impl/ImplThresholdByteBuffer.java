@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.ByteBufferImageU8;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * Global threshold applied directly to pixels stored inside a {@link java.nio.ByteBuffer}.
+ *
+ * @author Peter Abeles
+ * @see ImplThresholdByteBuffer_MT
+ */
+public class ImplThresholdByteBuffer {
+
+	public static GrayU8 threshold( ByteBufferImageU8 input , GrayU8 output ,
+									int threshold , boolean down )
+	{
+		for (int y = 0; y < input.height; y++) {
+			thresholdRow(input, output, y, threshold, down);
+		}
+		return output;
+	}
+
+	static void thresholdRow( ByteBufferImageU8 input , GrayU8 output , int y ,
+							  int threshold , boolean down )
+	{
+		int indexIn = input.startIndex + y*input.stride;
+		int indexOut = output.startIndex + y*output.stride;
+
+		// absolute gets so that rows can be processed by different threads at the same time
+		if( down ) {
+			for( int i = input.width; i>0; i-- ) {
+				output.data[indexOut++] = (byte)((input.data.get(indexIn++)& 0xFF) <= threshold ? 1 : 0);
+			}
+		} else {
+			for( int i = input.width; i>0; i-- ) {
+				output.data[indexOut++] = (byte)((input.data.get(indexIn++)& 0xFF) > threshold ? 1 : 0);
+			}
+		}
+	}
+}
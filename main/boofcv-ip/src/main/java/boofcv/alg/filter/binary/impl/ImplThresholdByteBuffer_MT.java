@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ByteBufferImageU8;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * Concurrent implementation of {@link ImplThresholdByteBuffer}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplThresholdByteBuffer_MT {
+
+	public static GrayU8 threshold( ByteBufferImageU8 input , GrayU8 output ,
+									int threshold , boolean down )
+	{
+		BoofConcurrency.loopForWork(0, input.height, input.width, y ->
+				ImplThresholdByteBuffer.thresholdRow(input, output, y, threshold, down));
+		return output;
+	}
+}
@@ -52,5 +52,11 @@ public interface InterpolateRectangle<T extends ImageGray<T>> {
 	 * @param dest Where the interpolated region is to be copied into
 	 */
 	public void region(float tl_x, float tl_y, GrayF32 dest );
+
+	/**
+	 * Creates a new instance of this interpolation algorithm with the same configuration. The image is not copied.
+	 * Useful when the same image needs to be interpolated by multiple threads.
+	 */
+	public InterpolateRectangle<T> copy();
 //	public void region(float tl_x, float tl_y, float[] results, int regWidth, int regHeight);
 }
@@ -41,6 +41,11 @@ public class NearestNeighborRectangle_F32 implements InterpolateRectangle<GrayF3
 		return image;
 	}
 
+	@Override
+	public InterpolateRectangle<GrayF32> copy() {
+		return new NearestNeighborRectangle_F32();
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, GrayF32 dest) {
 
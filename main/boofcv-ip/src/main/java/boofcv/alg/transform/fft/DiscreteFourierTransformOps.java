@@ -22,6 +22,7 @@ import boofcv.abst.transform.fft.DiscreteFourierTransform;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F32;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F64;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -34,23 +35,31 @@ public class DiscreteFourierTransformOps {
 	/**
 	 * Creates a {@link DiscreteFourierTransform} for images of type {@link GrayF32}.
 	 *
+	 * If {@link BoofConcurrency#USE_CONCURRENT} is true then the rows and columns are transformed using
+	 * multiple threads.
+	 *
 	 * @see GeneralPurposeFFT_F32_2D
+	 * @see GeneralPurposeFFT_F32_2D_MT
 	 *
 	 * @return {@link DiscreteFourierTransform}
 	 */
 	public static DiscreteFourierTransform<GrayF32,InterleavedF32>  createTransformF32() {
-		return new GeneralFft_to_DiscreteFourierTransform_F32();
+		return new GeneralFft_to_DiscreteFourierTransform_F32(BoofConcurrency.USE_CONCURRENT);
 	}
 
 	/**
 	 * Creates a {@link DiscreteFourierTransform} for images of type {@link GrayF64}.
 	 *
+	 * If {@link BoofConcurrency#USE_CONCURRENT} is true then the rows and columns are transformed using
+	 * multiple threads.
+	 *
 	 * @see GeneralPurposeFFT_F64_2D
+	 * @see GeneralPurposeFFT_F64_2D_MT
 	 *
 	 * @return {@link DiscreteFourierTransform}
 	 */
 	public static DiscreteFourierTransform<GrayF64,InterleavedF64>  createTransformF64() {
-		return new GeneralFft_to_DiscreteFourierTransform_F64();
+		return new GeneralFft_to_DiscreteFourierTransform_F64(BoofConcurrency.USE_CONCURRENT);
 	}
 
 	/**
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.lists.RecycleStack;
+
+/**
+ * Concurrent implementation of {@link GeneralPurposeFFT_F32_2D}. The 1D transforms along each row and then
+ * along each column are independent of each other, so they are split up between threads. Each thread has
+ * its own 1D transforms and column storage. These are recycled between calls, so after the first call no
+ * memory is declared. Steps which are bound by memory access, e.g. filling in the symmetric half of
+ * a real transform, are still processed in the calling thread.
+ *
+ * @author Peter Abeles
+ */
+public class GeneralPurposeFFT_F32_2D_MT extends GeneralPurposeFFT_F32_2D {
+
+	// 1D transforms and storage for each thread
+	RecycleStack<Workspace> workspaces = new RecycleStack<>(()->new Workspace(work));
+
+	/**
+	 * @see GeneralPurposeFFT_F32_2D#GeneralPurposeFFT_F32_2D(int, int)
+	 */
+	public GeneralPurposeFFT_F32_2D_MT(int rows, int columns) {
+		super(rows, columns);
+	}
+
+	@Override
+	protected void loop(int start, int endExclusive, RangeOperation op) {
+		BoofConcurrency.loopBlocks(start,endExclusive,(idx0,idx1)->{
+			Workspace w = workspaces.pop();
+			op.process(w,idx0,idx1);
+			workspaces.recycle(w);
+		});
+	}
+}
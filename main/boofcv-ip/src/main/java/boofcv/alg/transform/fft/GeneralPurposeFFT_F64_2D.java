@@ -26,8 +26,8 @@ package boofcv.alg.transform.fft;
  * <p></p>
  * This code has a bit of a history.  Originally from General Purpose FFT.  Which was then ported into
  * JFFTPack written by Baoshe Zhang (http://jfftpack.sourceforge.net/), and then into JTransforms by Piotr Wendykier.
- * The major modification from JTransforms is that the SMP code has been stripped out.  It might be added back in
- * once an SMP strategy has been finalized in BoofCV.
+ * The major modification from JTransforms is that the SMP code has been stripped out.  A concurrent implementation
+ * which uses BoofCV's threading strategy is provided by {@link GeneralPurposeFFT_F64_2D_MT}.
  * <p></p>
  * Code License:  The original license of General Purpose FFT Package is shown below.  This file will fall
  * under the same license:
@@ -48,14 +48,12 @@ public class GeneralPurposeFFT_F64_2D {
 
 	private int columns;
 
-	private double[] t;
-
-	private GeneralPurposeFFT_F64_1D fftColumns, fftRows;
-
 	private boolean isPowerOfTwo = false;
 
+	// 1D transforms and storage used when processing in the calling thread
+	protected Workspace work;
+
 	// local storage pre-declared
-	private double[] temp;
 	private double[][] temp2;
 
 	/**
@@ -70,30 +68,33 @@ public class GeneralPurposeFFT_F64_2D {
 		if (rows < 1 || columns < 1 ) {
 			throw new IllegalArgumentException("rows and columns must be greater than 0");
 		}
+
 		this.rows = rows;
 		this.columns = columns;
 
+		int nt = 0;
 		if (DiscreteFourierTransformOps.isPowerOf2(rows) && DiscreteFourierTransformOps.isPowerOf2(columns)) {
 			isPowerOfTwo = true;
 
 			int oldNthreads = 1;
-			int nt = 8 * oldNthreads * rows;
+			nt = 8 * oldNthreads * rows;
 			if (2 * columns == 4 * oldNthreads) {
 				nt >>= 1;
 			} else if (2 * columns < 4 * oldNthreads) {
 				nt >>= 2;
 			}
-			t = new double[nt];
 		}
 
-		fftRows = new GeneralPurposeFFT_F64_1D(rows);
-		if (rows == columns) {
-			fftColumns = fftRows;
-		} else {
-			fftColumns = new GeneralPurposeFFT_F64_1D(columns);
-		}
+		work = new Workspace(rows, columns, nt);
+	}
 
-		temp = new double[2 * rows];
+	/**
+	 * Applies the operation to every index from start to endExclusive. Everything is processed in the calling
+	 * thread using {@link #work}. The concurrent implementation overrides this function and splits the range
+	 * between threads.
+	 */
+	protected void loop(int start, int endExclusive, RangeOperation op) {
+		op.process(work, start, endExclusive);
 	}
 
 	/**
@@ -115,43 +116,50 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.complexForward(a);
+				work.fftRows.complexForward(a);
 			else
-				fftColumns.complexForward(a);
+				work.fftColumns.complexForward(a);
 			return;
 		}
 
 		if (isPowerOfTwo) {
 			int oldn2 = columns;
 			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * columns);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.complexForward(a, r * columns);
+				}
+			});
 			cdft2d_sub(-1, a, true);
 			columns = oldn2;
 		} else {
 			final int rowStride = 2 * columns;
 
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * rowStride);
-			}
-
-			for (int c = 0; c < columns; c++) {
-				int idx0 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					temp[idx1] = a[idx2];
-					temp[idx1 + 1] = a[idx2 + 1];
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.complexForward(a, r * rowStride);
 				}
-				fftRows.complexForward(temp);
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					a[idx2] = temp[idx1];
-					a[idx2 + 1] = temp[idx1 + 1];
+			});
+
+			loop(0, columns, (w, start, end) -> {
+				final double[] temp = w.temp;
+				for (int c = start; c < end; c++) {
+					int idx0 = 2 * c;
+					for (int r = 0; r < rows; r++) {
+						int idx1 = 2 * r;
+						int idx2 = r * rowStride + idx0;
+						temp[idx1] = a[idx2];
+						temp[idx1 + 1] = a[idx2 + 1];
+					}
+					w.fftRows.complexForward(temp);
+					for (int r = 0; r < rows; r++) {
+						int idx1 = 2 * r;
+						int idx2 = r * rowStride + idx0;
+						a[idx2] = temp[idx1];
+						a[idx2 + 1] = temp[idx1 + 1];
+					}
 				}
-			}
+			});
 		}
 	}
 
@@ -178,42 +186,49 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.complexInverse(a, scale);
+				work.fftRows.complexInverse(a, scale);
 			else
-				fftColumns.complexInverse(a, scale);
+				work.fftColumns.complexInverse(a, scale);
 			return;
 		}
 
 		if (isPowerOfTwo) {
 			int oldn2 = columns;
 			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * columns, scale);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.complexInverse(a, r * columns, scale);
+				}
+			});
 			cdft2d_sub(1, a, scale);
 			columns = oldn2;
 		} else {
 			final int rowspan = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * rowspan, scale);
-			}
-
-			for (int c = 0; c < columns; c++) {
-				int idx1 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					temp[idx2] = a[idx3];
-					temp[idx2 + 1] = a[idx3 + 1];
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.complexInverse(a, r * rowspan, scale);
 				}
-				fftRows.complexInverse(temp, scale);
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					a[idx3] = temp[idx2];
-					a[idx3 + 1] = temp[idx2 + 1];
+			});
+
+			loop(0, columns, (w, start, end) -> {
+				final double[] temp = w.temp;
+				for (int c = start; c < end; c++) {
+					int idx1 = 2 * c;
+					for (int r = 0; r < rows; r++) {
+						int idx2 = 2 * r;
+						int idx3 = r * rowspan + idx1;
+						temp[idx2] = a[idx3];
+						temp[idx2 + 1] = a[idx3 + 1];
+					}
+					w.fftRows.complexInverse(temp, scale);
+					for (int r = 0; r < rows; r++) {
+						int idx2 = 2 * r;
+						int idx3 = r * rowspan + idx1;
+						a[idx3] = temp[idx2];
+						a[idx3 + 1] = temp[idx2 + 1];
+					}
 				}
-			}
+			});
 		}
 	}
 
@@ -253,18 +268,20 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.realForward(a);
+				work.fftRows.realForward(a);
 			else
-				fftColumns.realForward(a);
+				work.fftColumns.realForward(a);
 			return;
 		}
 
 		if (isPowerOfTwo == false) {
 			throw new IllegalArgumentException("rows and columns must be power of two numbers");
 		} else {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.realForward(a, r * columns);
+				}
+			});
 			cdft2d_sub(-1, a, true);
 			rdft2d_sub(1, a);
 		}
@@ -286,16 +303,18 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.realForwardFull(a);
+				work.fftRows.realForwardFull(a);
 			else
-				fftColumns.realForwardFull(a);
+				work.fftColumns.realForwardFull(a);
 			return;
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.realForward(a, r * columns);
+				}
+			});
 			cdft2d_sub(-1, a, true);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
@@ -343,9 +362,9 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.realInverse(a, scale);
+				work.fftRows.realInverse(a, scale);
 			else
-				fftColumns.realInverse(a, scale);
+				work.fftColumns.realInverse(a, scale);
 			return;
 		}
 
@@ -354,9 +373,11 @@ public class GeneralPurposeFFT_F64_2D {
 		} else {
 			rdft2d_sub(-1, a);
 			cdft2d_sub(1, a, scale);
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse(a, r * columns, scale);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.realInverse(a, r * columns, scale);
+				}
+			});
 		}
 	}
 
@@ -378,16 +399,18 @@ public class GeneralPurposeFFT_F64_2D {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
-				fftRows.realInverseFull(a, scale);
+				work.fftRows.realInverseFull(a, scale);
 			else
-				fftColumns.realInverseFull(a, scale);
+				work.fftColumns.realInverseFull(a, scale);
 			return;
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse2(a, r * columns, scale);
-			}
+			loop(0, rows, (w, start, end) -> {
+				for (int r = start; r < end; r++) {
+					w.fftColumns.realInverse2(a, r * columns, scale);
+				}
+			});
 			cdft2d_sub(1, a, scale);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
@@ -409,31 +432,35 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realForward(a, r * columns);
-		}
+		loop(0, rows, (w, start, end) -> {
+			for (int r = start; r < end; r++) {
+				w.fftColumns.realForward(a, r * columns);
+			}
+		});
 		for (int r = 0; r < rows; r++) {
 			temp[0][r] = a[r * columns]; //first column is always real
 		}
-		fftRows.realForwardFull(temp[0]);
+		work.fftRows.realForwardFull(temp[0]);
 
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
+		loop(1, n2d2 - 1, (w, start, end) -> {
+			for (int c = start; c < end; c++) {
+				int idx0 = 2 * c;
+				for (int r = 0; r < rows; r++) {
+					int idx1 = 2 * r;
+					int idx2 = r * columns + idx0;
+					temp[c][idx1] = a[idx2];
+					temp[c][idx1 + 1] = a[idx2 + 1];
+				}
+				w.fftRows.complexForward(temp[c]);
 			}
-			fftRows.complexForward(temp[c]);
-		}
+		});
 
 		if ((columns % 2) == 0) {
 			for (int r = 0; r < rows; r++) {
 				temp[n2d2 - 1][r] = a[r * columns + 1];
 				//imaginary part = 0;
 			}
-			fftRows.realForwardFull(temp[n2d2 - 1]);
+			work.fftRows.realForwardFull(temp[n2d2 - 1]);
 
 		} else {
 			for (int r = 0; r < rows; r++) {
@@ -443,7 +470,7 @@ public class GeneralPurposeFFT_F64_2D {
 				temp[idx3][idx1] = a[idx2 + 2 * idx3];
 				temp[idx3][idx1 + 1] = a[idx2 + 1];
 			}
-			fftRows.complexForward(temp[n2d2 - 1]);
+			work.fftRows.complexForward(temp[n2d2 - 1]);
 		}
 
 		for (int r = 0; r < rows; r++) {
@@ -478,31 +505,35 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realInverse2(a, r * columns, scale);
-		}
+		loop(0, rows, (w, start, end) -> {
+			for (int r = start; r < end; r++) {
+				w.fftColumns.realInverse2(a, r * columns, scale);
+			}
+		});
 		for (int r = 0; r < rows; r++) {
 			temp[0][r] = a[r * columns]; //first column is always real
 		}
-		fftRows.realInverseFull(temp[0], scale);
+		work.fftRows.realInverseFull(temp[0], scale);
 
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
+		loop(1, n2d2 - 1, (w, start, end) -> {
+			for (int c = start; c < end; c++) {
+				int idx0 = 2 * c;
+				for (int r = 0; r < rows; r++) {
+					int idx1 = 2 * r;
+					int idx2 = r * columns + idx0;
+					temp[c][idx1] = a[idx2];
+					temp[c][idx1 + 1] = a[idx2 + 1];
+				}
+				w.fftRows.complexInverse(temp[c], scale);
 			}
-			fftRows.complexInverse(temp[c], scale);
-		}
+		});
 
 		if ((columns % 2) == 0) {
 			for (int r = 0; r < rows; r++) {
 				temp[n2d2 - 1][r] = a[r * columns + 1];
 				//imaginary part = 0;
 			}
-			fftRows.realInverseFull(temp[n2d2 - 1], scale);
+			work.fftRows.realInverseFull(temp[n2d2 - 1], scale);
 
 		} else {
 			for (int r = 0; r < rows; r++) {
@@ -512,7 +543,7 @@ public class GeneralPurposeFFT_F64_2D {
 				temp[idx3][idx1] = a[idx2 + 2 * idx3];
 				temp[idx3][idx1 + 1] = a[idx2 + 1];
 			}
-			fftRows.complexInverse(temp[n2d2 - 1], scale);
+			work.fftRows.complexInverse(temp[n2d2 - 1], scale);
 		}
 
 		for (int r = 0; r < rows; r++) {
@@ -574,46 +605,51 @@ public class GeneralPurposeFFT_F64_2D {
 	}
 
 	private void cdft2d_sub(int isgn, double[] a, boolean scale) {
-		int idx1, idx2, idx3, idx4, idx5;
 		if (isgn == -1) {
 			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[idx1];
-						t[idx2 + 1] = a[idx1 + 1];
-						t[idx3] = a[idx1 + 2];
-						t[idx3 + 1] = a[idx1 + 3];
-						t[idx4] = a[idx1 + 4];
-						t[idx4 + 1] = a[idx1 + 5];
-						t[idx5] = a[idx1 + 6];
-						t[idx5 + 1] = a[idx1 + 7];
+				loop(0, columns / 8, (w, start, end) -> {
+					final double[] t = w.t;
+					int idx1, idx2, idx3, idx4, idx5;
+					for (int c = start * 8; c < end * 8; c += 8) {
+						for (int r = 0; r < rows; r++) {
+							idx1 = r * columns + c;
+							idx2 = 2 * r;
+							idx3 = 2 * rows + 2 * r;
+							idx4 = idx3 + 2 * rows;
+							idx5 = idx4 + 2 * rows;
+							t[idx2] = a[idx1];
+							t[idx2 + 1] = a[idx1 + 1];
+							t[idx3] = a[idx1 + 2];
+							t[idx3 + 1] = a[idx1 + 3];
+							t[idx4] = a[idx1 + 4];
+							t[idx4 + 1] = a[idx1 + 5];
+							t[idx5] = a[idx1 + 6];
+							t[idx5 + 1] = a[idx1 + 7];
+						}
+						w.fftRows.complexForward(t, 0);
+						w.fftRows.complexForward(t, 2 * rows);
+						w.fftRows.complexForward(t, 4 * rows);
+						w.fftRows.complexForward(t, 6 * rows);
+						for (int r = 0; r < rows; r++) {
+							idx1 = r * columns + c;
+							idx2 = 2 * r;
+							idx3 = 2 * rows + 2 * r;
+							idx4 = idx3 + 2 * rows;
+							idx5 = idx4 + 2 * rows;
+							a[idx1] = t[idx2];
+							a[idx1 + 1] = t[idx2 + 1];
+							a[idx1 + 2] = t[idx3];
+							a[idx1 + 3] = t[idx3 + 1];
+							a[idx1 + 4] = t[idx4];
+							a[idx1 + 5] = t[idx4 + 1];
+							a[idx1 + 6] = t[idx5];
+							a[idx1 + 7] = t[idx5 + 1];
+						}
 					}
-					fftRows.complexForward(t, 0);
-					fftRows.complexForward(t, 2 * rows);
-					fftRows.complexForward(t, 4 * rows);
-					fftRows.complexForward(t, 6 * rows);
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[idx1] = t[idx2];
-						a[idx1 + 1] = t[idx2 + 1];
-						a[idx1 + 2] = t[idx3];
-						a[idx1 + 3] = t[idx3 + 1];
-						a[idx1 + 4] = t[idx4];
-						a[idx1 + 5] = t[idx4 + 1];
-						a[idx1 + 6] = t[idx5];
-						a[idx1 + 7] = t[idx5 + 1];
-					}
-				}
+				});
 			} else if (columns == 4) {
+				final double[] t = work.t;
+				int idx1, idx2, idx3;
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -623,8 +659,8 @@ public class GeneralPurposeFFT_F64_2D {
 					t[idx3] = a[idx1 + 2];
 					t[idx3 + 1] = a[idx1 + 3];
 				}
-				fftRows.complexForward(t, 0);
-				fftRows.complexForward(t, 2 * rows);
+				work.fftRows.complexForward(t, 0);
+				work.fftRows.complexForward(t, 2 * rows);
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -635,13 +671,15 @@ public class GeneralPurposeFFT_F64_2D {
 					a[idx1 + 3] = t[idx3 + 1];
 				}
 			} else if (columns == 2) {
+				final double[] t = work.t;
+				int idx1, idx2;
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
 					t[idx2] = a[idx1];
 					t[idx2 + 1] = a[idx1 + 1];
 				}
-				fftRows.complexForward(t, 0);
+				work.fftRows.complexForward(t, 0);
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -651,43 +689,49 @@ public class GeneralPurposeFFT_F64_2D {
 			}
 		} else {
 			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[idx1];
-						t[idx2 + 1] = a[idx1 + 1];
-						t[idx3] = a[idx1 + 2];
-						t[idx3 + 1] = a[idx1 + 3];
-						t[idx4] = a[idx1 + 4];
-						t[idx4 + 1] = a[idx1 + 5];
-						t[idx5] = a[idx1 + 6];
-						t[idx5 + 1] = a[idx1 + 7];
-					}
-					fftRows.complexInverse(t, 0, scale);
-					fftRows.complexInverse(t, 2 * rows, scale);
-					fftRows.complexInverse(t, 4 * rows, scale);
-					fftRows.complexInverse(t, 6 * rows, scale);
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[idx1] = t[idx2];
-						a[idx1 + 1] = t[idx2 + 1];
-						a[idx1 + 2] = t[idx3];
-						a[idx1 + 3] = t[idx3 + 1];
-						a[idx1 + 4] = t[idx4];
-						a[idx1 + 5] = t[idx4 + 1];
-						a[idx1 + 6] = t[idx5];
-						a[idx1 + 7] = t[idx5 + 1];
+				loop(0, columns / 8, (w, start, end) -> {
+					final double[] t = w.t;
+					int idx1, idx2, idx3, idx4, idx5;
+					for (int c = start * 8; c < end * 8; c += 8) {
+						for (int r = 0; r < rows; r++) {
+							idx1 = r * columns + c;
+							idx2 = 2 * r;
+							idx3 = 2 * rows + 2 * r;
+							idx4 = idx3 + 2 * rows;
+							idx5 = idx4 + 2 * rows;
+							t[idx2] = a[idx1];
+							t[idx2 + 1] = a[idx1 + 1];
+							t[idx3] = a[idx1 + 2];
+							t[idx3 + 1] = a[idx1 + 3];
+							t[idx4] = a[idx1 + 4];
+							t[idx4 + 1] = a[idx1 + 5];
+							t[idx5] = a[idx1 + 6];
+							t[idx5 + 1] = a[idx1 + 7];
+						}
+						w.fftRows.complexInverse(t, 0, scale);
+						w.fftRows.complexInverse(t, 2 * rows, scale);
+						w.fftRows.complexInverse(t, 4 * rows, scale);
+						w.fftRows.complexInverse(t, 6 * rows, scale);
+						for (int r = 0; r < rows; r++) {
+							idx1 = r * columns + c;
+							idx2 = 2 * r;
+							idx3 = 2 * rows + 2 * r;
+							idx4 = idx3 + 2 * rows;
+							idx5 = idx4 + 2 * rows;
+							a[idx1] = t[idx2];
+							a[idx1 + 1] = t[idx2 + 1];
+							a[idx1 + 2] = t[idx3];
+							a[idx1 + 3] = t[idx3 + 1];
+							a[idx1 + 4] = t[idx4];
+							a[idx1 + 5] = t[idx4 + 1];
+							a[idx1 + 6] = t[idx5];
+							a[idx1 + 7] = t[idx5 + 1];
+						}
 					}
-				}
+				});
 			} else if (columns == 4) {
+				final double[] t = work.t;
+				int idx1, idx2, idx3;
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -697,8 +741,8 @@ public class GeneralPurposeFFT_F64_2D {
 					t[idx3] = a[idx1 + 2];
 					t[idx3 + 1] = a[idx1 + 3];
 				}
-				fftRows.complexInverse(t, 0, scale);
-				fftRows.complexInverse(t, 2 * rows, scale);
+				work.fftRows.complexInverse(t, 0, scale);
+				work.fftRows.complexInverse(t, 2 * rows, scale);
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -709,13 +753,15 @@ public class GeneralPurposeFFT_F64_2D {
 					a[idx1 + 3] = t[idx3 + 1];
 				}
 			} else if (columns == 2) {
+				final double[] t = work.t;
+				int idx1, idx2;
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
 					t[idx2] = a[idx1];
 					t[idx2 + 1] = a[idx1 + 1];
 				}
-				fftRows.complexInverse(t, 0, scale);
+				work.fftRows.complexInverse(t, 0, scale);
 				for (int r = 0; r < rows; r++) {
 					idx1 = r * columns;
 					idx2 = 2 * r;
@@ -726,147 +772,6 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
-	private void cdft2d_sub(int isgn, double[][] a, boolean scale) {
-		int idx2, idx3, idx4, idx5;
-		if (isgn == -1) {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[r][c];
-						t[idx2 + 1] = a[r][c + 1];
-						t[idx3] = a[r][c + 2];
-						t[idx3 + 1] = a[r][c + 3];
-						t[idx4] = a[r][c + 4];
-						t[idx4 + 1] = a[r][c + 5];
-						t[idx5] = a[r][c + 6];
-						t[idx5 + 1] = a[r][c + 7];
-					}
-					fftRows.complexForward(t, 0);
-					fftRows.complexForward(t, 2 * rows);
-					fftRows.complexForward(t, 4 * rows);
-					fftRows.complexForward(t, 6 * rows);
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[r][c] = t[idx2];
-						a[r][c + 1] = t[idx2 + 1];
-						a[r][c + 2] = t[idx3];
-						a[r][c + 3] = t[idx3 + 1];
-						a[r][c + 4] = t[idx4];
-						a[r][c + 5] = t[idx4 + 1];
-						a[r][c + 6] = t[idx5];
-						a[r][c + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-					t[idx3] = a[r][2];
-					t[idx3 + 1] = a[r][3];
-				}
-				fftRows.complexForward(t, 0);
-				fftRows.complexForward(t, 2 * rows);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-					a[r][2] = t[idx3];
-					a[r][3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-				}
-				fftRows.complexForward(t, 0);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-				}
-			}
-		} else {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[r][c];
-						t[idx2 + 1] = a[r][c + 1];
-						t[idx3] = a[r][c + 2];
-						t[idx3 + 1] = a[r][c + 3];
-						t[idx4] = a[r][c + 4];
-						t[idx4 + 1] = a[r][c + 5];
-						t[idx5] = a[r][c + 6];
-						t[idx5 + 1] = a[r][c + 7];
-					}
-					fftRows.complexInverse(t, 0, scale);
-					fftRows.complexInverse(t, 2 * rows, scale);
-					fftRows.complexInverse(t, 4 * rows, scale);
-					fftRows.complexInverse(t, 6 * rows, scale);
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[r][c] = t[idx2];
-						a[r][c + 1] = t[idx2 + 1];
-						a[r][c + 2] = t[idx3];
-						a[r][c + 3] = t[idx3 + 1];
-						a[r][c + 4] = t[idx4];
-						a[r][c + 5] = t[idx4 + 1];
-						a[r][c + 6] = t[idx5];
-						a[r][c + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-					t[idx3] = a[r][2];
-					t[idx3 + 1] = a[r][3];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				fftRows.complexInverse(t, 2 * rows, scale);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-					a[r][2] = t[idx3];
-					a[r][3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-				}
-			}
-		}
-	}
-
 	private void fillSymmetric(final double[] a) {
 		final int twon2 = 2 * columns;
 		int idx1, idx2, idx3, idx4;
@@ -915,4 +820,48 @@ public class GeneralPurposeFFT_F64_2D {
 		a[idx1 + 1] = 0;
 		a[idx1 + columns + 1] = 0;
 	}
+
+	/**
+	 * Processes the rows or columns from start to endExclusive using the provided workspace
+	 */
+	protected interface RangeOperation {
+		void process(Workspace work, int start, int endExclusive);
+	}
+
+	/**
+	 * 1D transforms and storage used to process a subset of the rows or columns. The 1D transforms have
+	 * internal storage, so each thread needs its own workspace.
+	 */
+	protected static class Workspace {
+		final int rows, columns;
+
+		GeneralPurposeFFT_F64_1D fftColumns, fftRows;
+
+		// storage for one column of complex data
+		double[] temp;
+		// storage for four columns of complex data. Only used when the size is a power of two
+		double[] t;
+
+		Workspace(int rows, int columns, int lengthT) {
+			this.rows = rows;
+			this.columns = columns;
+
+			fftRows = new GeneralPurposeFFT_F64_1D(rows);
+			if (rows == columns) {
+				fftColumns = fftRows;
+			} else {
+				fftColumns = new GeneralPurposeFFT_F64_1D(columns);
+			}
+
+			temp = new double[2 * rows];
+			t = new double[lengthT];
+		}
+
+		/**
+		 * Creates a new workspace with the same shape as the original
+		 */
+		Workspace(Workspace original) {
+			this(original.rows, original.columns, original.t.length);
+		}
+	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.ii;
+
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Integral image for very large images, where {@link boofcv.struct.image.GrayS32} would overflow and a single
+ * array can't hold every pixel. The integral image is stored in a grid of square {@link GrayS64} tiles. Each tile
+ * holds the integral image's actual value, not just the sum inside the tile, so a look up only needs to read from
+ * one tile.
+ * </p>
+ *
+ * <p>
+ * An image which is too large to fit in memory can be added one horizontal strip at a time, from top to bottom,
+ * using {@link #append(GrayU8)}. Only the integral image's last row is needed to add the next strip. Tiles are
+ * saved between calls to {@link #reset(int)} and are only declared again when the width changes.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TiledIntegralImage_S64 {
+
+	// width and height of each tile
+	int tileSize;
+
+	// shape of the integral image
+	int width = -1;
+	int height;
+
+	// Grid of tiles. Each element in the list is a row of tiles
+	List<GrayS64[]> tiles = new ArrayList<>();
+
+	// integral image's values along the last row which has been added
+	long[] lastRow = new long[0];
+
+	/**
+	 * @param tileSize Width and height of each tile. Must be at least 1.
+	 */
+	public TiledIntegralImage_S64( int tileSize ) {
+		if( tileSize < 1 )
+			throw new IllegalArgumentException("Tile size must be at least 1");
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Computes the integral image of an image which is stored in a single array.
+	 *
+	 * @param image Input image. Not modified.
+	 */
+	public void process( GrayU8 image ) {
+		reset(image.width);
+		append(image);
+	}
+
+	/**
+	 * Discards the previous image and prepares for a new image with the specified width.
+	 *
+	 * @param width Width of the input image
+	 */
+	public void reset( int width ) {
+		if( this.width != width ) {
+			this.width = width;
+			tiles.clear();
+			lastRow = new long[width];
+		} else {
+			for (int x = 0; x < width; x++) {
+				lastRow[x] = 0;
+			}
+		}
+		height = 0;
+	}
+
+	/**
+	 * Adds the rows in the strip to the bottom of the integral image.
+	 *
+	 * @param strip Input image's rows which are below the last appended row. Not modified.
+	 */
+	public void append( GrayU8 strip ) {
+		if( strip.width != width )
+			throw new IllegalArgumentException("Width of strip doesn't match. "+strip.width+" != "+width);
+
+		for (int y = 0; y < strip.height; y++, height++) {
+			GrayS64[] row = lookupTileRow(height/tileSize);
+			int tileY = height%tileSize;
+
+			int indexSrc = strip.startIndex + y*strip.stride;
+			int x = 0;
+			long total = 0;
+			for (int i = 0; i < row.length; i++) {
+				GrayS64 tile = row[i];
+				int indexDst = tile.startIndex + tileY*tile.stride;
+				int end = indexDst + tile.width;
+				for( ; indexDst < end; indexDst++ , x++ ) {
+					total += strip.data[indexSrc++] & 0xFF;
+					tile.data[indexDst] = lastRow[x] += total;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the row of tiles, declaring it if needed
+	 */
+	private GrayS64[] lookupTileRow( int tileRow ) {
+		if( tileRow < tiles.size() )
+			return tiles.get(tileRow);
+
+		int numTileCols = (width+tileSize-1)/tileSize;
+		GrayS64[] row = new GrayS64[numTileCols];
+		for (int i = 0; i < numTileCols; i++) {
+			row[i] = new GrayS64(Math.min(tileSize,width-i*tileSize),tileSize);
+		}
+		tiles.add(row);
+		return row;
+	}
+
+	/**
+	 * Returns the integral image's value at the specified pixel. Bounds are not checked.
+	 */
+	public long get( int x , int y ) {
+		GrayS64 tile = tiles.get(y/tileSize)[x/tileSize];
+		return tile.data[tile.startIndex + (y%tileSize)*tile.stride + x%tileSize];
+	}
+
+	/**
+	 * <p>
+	 * Computes the value of a block inside the integral image without bounds checking.  The block is
+	 * defined as follows: x0 &lt; x &le; x1 and y0 &lt; y &le; y1.
+	 * </p>
+	 *
+	 * @see IntegralImageOps#block_unsafe(GrayS64, int, int, int, int)
+	 */
+	public long block_unsafe( int x0 , int y0 , int x1 , int y1 ) {
+		return get(x1,y1) - get(x1,y0) - get(x0,y1) + get(x0,y0);
+	}
+
+	/**
+	 * <p>
+	 * Computes the value of a block inside the integral image and treats pixels outside of the
+	 * image as zero.  The block is defined as follows: x0 &lt; x &le; x1 and y0 &lt; y &le; y1.
+	 * </p>
+	 *
+	 * @see IntegralImageOps#block_zero(GrayS64, int, int, int, int)
+	 */
+	public long block_zero( int x0 , int y0 , int x1 , int y1 ) {
+		x0 = Math.min(x0,width-1);
+		y0 = Math.min(y0,height-1);
+		x1 = Math.min(x1,width-1);
+		y1 = Math.min(y1,height-1);
+
+		long br=0,tr=0,bl=0,tl=0;
+
+		if( x1 >= 0 && y1 >= 0)
+			br = get(x1,y1);
+		if( y0 >= 0 && x1 >= 0)
+			tr = get(x1,y0);
+		if( x0 >= 0 && y1 >= 0)
+			bl = get(x0,y1);
+		if( x0 >= 0 && y0 >= 0)
+			tl = get(x0,y0);
+
+		return br-tr-bl+tl;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
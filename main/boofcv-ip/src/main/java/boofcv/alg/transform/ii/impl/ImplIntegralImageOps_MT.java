@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplIntegralImageOps}. The integral image is computed in two passes. In
+ * the first pass the rows are split between threads and the sum along each row is computed. In the second pass
+ * columns are split between threads and each row has the row above it added. Output is identical to the
+ * single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageOps_MT {
+
+	public static void transform( final GrayF32 input , final GrayF32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				float total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc];
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayF64 input , final GrayF64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				double total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc];
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU8 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				int total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU8 input , final GrayS64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				long total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS32 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				int total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc];
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS64 input , final GrayS64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(idx0,idx1)->{
+			for( int y = idx0; y < idx1; y++ ) {
+				int indexSrc = input.startIndex + input.stride*y;
+				int indexDst = transformed.startIndex + transformed.stride*y;
+				int end = indexSrc + input.width;
+
+				long total = 0;
+				for( ; indexSrc < end; indexSrc++ ) {
+					transformed.data[indexDst++] = total += input.data[indexSrc];
+				}
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,(idx0,idx1)->{
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + idx0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + idx1 - idx0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] += transformed.data[indexPrev++];
+				}
+			}
+		});
+	}
+}
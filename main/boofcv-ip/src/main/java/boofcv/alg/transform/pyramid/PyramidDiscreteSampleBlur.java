@@ -23,6 +23,7 @@ import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
 
@@ -55,6 +56,9 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	// amount of blur applied to each layer
 	double sigmas[];
 
+	// If not null then temporary images are borrowed from this pool instead of being owned
+	ImagePool pool;
+
 	/**
 	 *
 	 * @param kernel A blur kernel
@@ -88,41 +92,64 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	public void process(T input) {
 		super.initialize(input.width,input.height);
 
-		if( temp == null ) {
+		if( pool != null ) {
+			// request the largest shape it could need so that it won't grow when reshaped below
+			temp = pool.borrow(input.getImageType(),input.width,input.height);
+		} else if( temp == null ) {
 			// declare it to be the latest image that it might need to be, resize below
 			temp = (T)input.createNew(1,1);
 		}
 
-		if (scale[0] == 1) {
-			if (isSaveOriginalReference()) {
-				setFirstLayer(input);
+		try {
+			if (scale[0] == 1) {
+				if (isSaveOriginalReference()) {
+					setFirstLayer(input);
+				} else {
+					getLayer(0).setTo(input);
+				}
 			} else {
-				getLayer(0).setTo(input);
-			}
-		} else {
-			int skip = scale[0];
+				int skip = scale[0];
 
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
+				horizontal.setSkip(skip);
+				vertical.setSkip(skip);
 
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
-		}
+				temp.reshape(input.width/skip,input.height);
+				horizontal.process(input,temp);
+				vertical.process(temp,getLayer(0));
+			}
 
-		for (int index = 1; index < getNumLayers(); index++) {
-			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			for (int index = 1; index < getNumLayers(); index++) {
+				int skip = scale[index]/scale[index-1];
+				T prev = getLayer(index-1);
+				temp.reshape(prev.width/skip,prev.height);
 
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
+				horizontal.setSkip(skip);
+				vertical.setSkip(skip);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
+				horizontal.process(prev,temp);
+				vertical.process(temp,getLayer(index));
+			}
+		} finally {
+			if( pool != null ) {
+				pool.recycle(temp);
+				temp = null;
+			}
 		}
 	}
 
+	/**
+	 * Specifies a pool that temporary images are borrowed from while processing. If null then the
+	 * temporary images are owned by this class.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		this.pool = pool;
+		this.temp = null;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
 	/**
 	 * There is no offset since a symmetric kernel is applied starting at pixel (0,0)
 	 *
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.FWorkArrays;
+import boofcv.concurrency.IWorkArrays;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link PyramidDiscreteSampleBlur}. For {@link GrayF32} and {@link GrayU8} the blur
+ * and down sampling are fused into a single pass for each layer. Rows in a layer are split up between threads.
+ * Each thread horizontally convolves only the input rows it needs and saves them into a ring buffer, which holds
+ * as many rows as the kernel is wide. For integer images the ring buffer has an extra row for the vertical sum. The vertical convolution is then computed from the ring buffer. This
+ * avoids writing and then reading back a full resolution temporary image. Ring buffers are recycled between
+ * calls, so once the pyramid has been initialized no memory is declared. Other image types are processed
+ * using the single threaded implementation.
+ * </p>
+ *
+ * <p>
+ * Output is identical to {@link PyramidDiscreteSampleBlur}, including how the kernel is re-normalized
+ * along the image border, with the exception of floating point round off errors.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PyramidDiscreteSampleBlur_MT<T extends ImageBase<T>> extends PyramidDiscreteSampleBlur<T> {
+
+	Kernel1D kernel;
+
+	// storage for each thread's ring buffer
+	FWorkArrays workF32 = new FWorkArrays();
+	IWorkArrays workS32 = new IWorkArrays();
+
+	/**
+	 * @see PyramidDiscreteSampleBlur#PyramidDiscreteSampleBlur
+	 */
+	public PyramidDiscreteSampleBlur_MT(Kernel1D kernel, double sigma, ImageType<T> imageType,
+										boolean saveOriginalReference, int... scaleFactors)
+	{
+		super(kernel, sigma, imageType, saveOriginalReference, scaleFactors);
+		this.kernel = kernel;
+	}
+
+	@Override
+	public void process(T input) {
+		boolean isF32 = input instanceof GrayF32 && kernel instanceof Kernel1D_F32;
+		boolean isU8 = input instanceof GrayU8 && kernel instanceof Kernel1D_S32;
+		if( !isF32 && !isU8 ) {
+			super.process(input);
+			return;
+		}
+
+		super.initialize(input.width,input.height);
+
+		// Allocate ring buffers large enough for every layer so that they are not declared again
+		int maxWidth = 0;
+		for (int index = 0; index < getNumLayers(); index++) {
+			maxWidth = Math.max(maxWidth, getWidth(index));
+		}
+		if( isF32 )
+			workF32.reset(kernel.width*maxWidth);
+		else
+			workS32.reset((kernel.width+1)*maxWidth);
+
+		if (scale[0] == 1) {
+			if (isSaveOriginalReference()) {
+				setFirstLayer(input);
+			} else {
+				getLayer(0).setTo(input);
+			}
+		} else {
+			blurDown(input, scale[0], getLayer(0));
+		}
+
+		for (int index = 1; index < getNumLayers(); index++) {
+			int skip = scale[index]/scale[index-1];
+			blurDown(getLayer(index-1), skip, getLayer(index));
+		}
+	}
+
+	private void blurDown( T input , int skip , T output ) {
+		if( input instanceof GrayF32 ) {
+			blurDown((Kernel1D_F32)kernel,(GrayF32)input,skip,(GrayF32)output);
+		} else {
+			blurDown((Kernel1D_S32)kernel,(GrayU8)input,skip,(GrayU8)output);
+		}
+	}
+
+	/**
+	 * Blurs and down samples the input image in a single pass
+	 */
+	void blurDown( Kernel1D_F32 kernel , GrayF32 input , int skip , GrayF32 output ) {
+		final int radius = kernel.getRadius();
+		final int widthOut = input.width/skip;
+		final int heightOut = input.height/skip;
+
+		BoofConcurrency.loopBlocks(0,heightOut,(idx0,idx1)->{
+			float[] rows = workF32.pop();
+
+			// first input row which has not been added to the ring buffer
+			int nextRow = 0;
+			for (int yo = idx0; yo < idx1; yo++) {
+				int y = yo*skip;
+				int i0 = Math.max(0,y-radius);
+				int i1 = Math.min(input.height-1,y+radius);
+
+				for (int i = Math.max(i0,nextRow); i <= i1; i++) {
+					horizontal(kernel,input,i,skip,widthOut,rows,(i%kernel.width)*widthOut);
+				}
+				nextRow = i1+1;
+
+				// vertical convolution from the ring buffer. The output row is used to accumulate the sum
+				int indexOut = output.startIndex + yo*output.stride;
+				float weight = 0;
+				for (int i = i0; i <= i1; i++) {
+					float k = kernel.data[i-y+radius];
+					int indexRows = (i%kernel.width)*widthOut;
+					if( i == i0 ) {
+						for (int xo = 0; xo < widthOut; xo++) {
+							output.data[indexOut+xo] = rows[indexRows+xo]*k;
+						}
+					} else {
+						for (int xo = 0; xo < widthOut; xo++) {
+							output.data[indexOut+xo] += rows[indexRows+xo]*k;
+						}
+					}
+					weight += k;
+				}
+				// inside the image the kernel is assumed to be normalized
+				if( i1-i0+1 != kernel.width ) {
+					for (int xo = 0; xo < widthOut; xo++) {
+						output.data[indexOut+xo] /= weight;
+					}
+				}
+			}
+
+			workF32.recycle(rows);
+		});
+	}
+
+	/**
+	 * Horizontally convolves and down samples a single row
+	 */
+	static void horizontal( Kernel1D_F32 kernel , GrayF32 input , int row , int skip , int widthOut ,
+							float[] rows , int indexRows ) {
+		final int radius = kernel.getRadius();
+		final int indexRow = input.startIndex + row*input.stride;
+
+		for (int xo = 0; xo < widthOut; xo++) {
+			int x = xo*skip;
+			if( x >= radius && x+radius < input.width ) {
+				float total = 0;
+				int indexSrc = indexRow + x - radius;
+				for (int k = 0; k < kernel.width; k++) {
+					total += input.data[indexSrc+k]*kernel.data[k];
+				}
+				rows[indexRows+xo] = total;
+			} else {
+				int j0 = Math.max(0,x-radius);
+				int j1 = Math.min(input.width-1,x+radius);
+				float total = 0;
+				float weight = 0;
+				for (int j = j0; j <= j1; j++) {
+					float v = kernel.data[j-x+radius];
+					total += input.data[indexRow+j]*v;
+					weight += v;
+				}
+				rows[indexRows+xo] = total/weight;
+			}
+		}
+	}
+
+	/**
+	 * Blurs and down samples the input image in a single pass
+	 */
+	void blurDown( Kernel1D_S32 kernel , GrayU8 input , int skip , GrayU8 output ) {
+		final int radius = kernel.getRadius();
+		final int widthOut = input.width/skip;
+		final int heightOut = input.height/skip;
+
+		BoofConcurrency.loopBlocks(0,heightOut,(idx0,idx1)->{
+			int[] rows = workS32.pop();
+
+			// first input row which has not been added to the ring buffer
+			int nextRow = 0;
+			for (int yo = idx0; yo < idx1; yo++) {
+				int y = yo*skip;
+				int i0 = Math.max(0,y-radius);
+				int i1 = Math.min(input.height-1,y+radius);
+
+				for (int i = Math.max(i0,nextRow); i <= i1; i++) {
+					horizontal(kernel,input,i,skip,widthOut,rows,(i%kernel.width)*widthOut);
+				}
+				nextRow = i1+1;
+
+				// vertical convolution from the ring buffer. The sum is accumulated after the ring buffer's rows
+				int indexSum = kernel.width*widthOut;
+				int weight = 0;
+				for (int i = i0; i <= i1; i++) {
+					int k = kernel.data[i-y+radius];
+					int indexRows = (i%kernel.width)*widthOut;
+					if( i == i0 ) {
+						for (int xo = 0; xo < widthOut; xo++) {
+							rows[indexSum+xo] = rows[indexRows+xo]*k;
+						}
+					} else {
+						for (int xo = 0; xo < widthOut; xo++) {
+							rows[indexSum+xo] += rows[indexRows+xo]*k;
+						}
+					}
+					weight += k;
+				}
+				int halfWeight = weight/2;
+				int indexOut = output.startIndex + yo*output.stride;
+				for (int xo = 0; xo < widthOut; xo++) {
+					output.data[indexOut+xo] = (byte)((rows[indexSum+xo]+halfWeight)/weight);
+				}
+			}
+
+			workS32.recycle(rows);
+		});
+	}
+
+	/**
+	 * Horizontally convolves and down samples a single row. Values are rounded to the nearest integer,
+	 * just like they would be if saved into a temporary image.
+	 */
+	static void horizontal( Kernel1D_S32 kernel , GrayU8 input , int row , int skip , int widthOut ,
+							int[] rows , int indexRows ) {
+		final int radius = kernel.getRadius();
+		final int indexRow = input.startIndex + row*input.stride;
+
+		for (int xo = 0; xo < widthOut; xo++) {
+			int x = xo*skip;
+			int j0 = Math.max(0,x-radius);
+			int j1 = Math.min(input.width-1,x+radius);
+			int total = 0;
+			int weight = 0;
+			for (int j = j0; j <= j1; j++) {
+				int v = kernel.data[j-x+radius];
+				total += (input.data[indexRow+j] & 0xFF)*v;
+				weight += v;
+			}
+			rows[indexRows+xo] = (total+weight/2)/weight;
+		}
+	}
+}
@@ -21,16 +21,198 @@ package boofcv.core.image;
 import boofcv.struct.image.*;
 import org.ddogleg.struct.GrowQueue_I8;
 
+import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 /**
- * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types and performs
- * a local copy when the raw array can't be accessed
+ * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types. A heap buffer can be
+ * referenced by a {@link GrayU8} or {@link InterleavedU8} without a copy using wrap(). Direct buffers have no Java
+ * array, so they are wrapped by {@link ByteBufferImageU8} and read by the convert functions below, or by operations
+ * such as ThresholdImageOps, without first copying the frame into an array.
  *
  * @author Peter Abeles
  */
 public class ConvertByteBufferImage {
 
+	/**
+	 * Makes the gray scale image reference the pixels in a heap buffer, i.e. one where {@link ByteBuffer#hasArray()}
+	 * is true. No data is copied and the image becomes a sub-image of the buffer's array. Whatever dst was
+	 * referencing before is replaced and not modified. For a direct buffer use {@link ByteBufferImageU8}.
+	 *
+	 * @param src Heap buffer containing 8-bit gray scale pixels
+	 * @param srcOffset Index of the first pixel in the buffer, relative to its start
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param dst (Output) Image which will reference the pixels
+	 * @throws IllegalArgumentException If the buffer is direct or the image extends past its limit
+	 */
+	public static void wrap( ByteBuffer src , int srcOffset , int srcStride , int width , int height ,
+							 GrayU8 dst )
+	{
+		checkHeap(src,srcOffset,srcStride,width,height,1);
+
+		dst.data = src.array();
+		dst.startIndex = src.arrayOffset() + srcOffset;
+		dst.stride = srcStride;
+		dst.width = width;
+		dst.height = height;
+		// the array is owned by the buffer so it must not be reshaped
+		dst.subImage = true;
+	}
+
+	/**
+	 * Makes the interleaved image reference the pixels in a heap buffer. See
+	 * {@link #wrap(ByteBuffer, int, int, int, int, GrayU8)}.
+	 *
+	 * @param src Heap buffer containing 8-bit interleaved pixels
+	 * @param srcOffset Index of the first pixel in the buffer, relative to its start
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of interleaved bands in each pixel
+	 * @param dst (Output) Image which will reference the pixels
+	 * @throws IllegalArgumentException If the buffer is direct or the image extends past its limit
+	 */
+	public static void wrap( ByteBuffer src , int srcOffset , int srcStride , int width , int height ,
+							 int numBands , InterleavedU8 dst )
+	{
+		checkHeap(src,srcOffset,srcStride,width,height,numBands);
+
+		dst.data = src.array();
+		dst.startIndex = src.arrayOffset() + srcOffset;
+		dst.stride = srcStride;
+		dst.width = width;
+		dst.height = height;
+		dst.numBands = numBands;
+		// the array is owned by the buffer so it must not be reshaped
+		dst.subImage = true;
+	}
+
+	private static void checkHeap( ByteBuffer src , int srcOffset , int srcStride , int width , int height ,
+								   int numBands ) {
+		if( !src.hasArray() )
+			throw new IllegalArgumentException("Buffer isn't backed by an accessible array. Use ByteBufferImageU8");
+		ByteBufferImageU8.checkBounds(src.limit(),srcOffset,srcStride,width,height,numBands);
+	}
+
+	/**
+	 * Converts a buffer image into a gray scale image. If the input has more than one band then the bands are
+	 * averaged together.
+	 *
+	 * @param src Input image
+	 * @param dst (Optional) Output image. Reshaped to match the input. If null a new image is declared.
+	 * @return Output image
+	 */
+	public static GrayU8 convert( ByteBufferImageU8 src , @Nullable GrayU8 dst ) {
+		if( dst == null )
+			dst = new GrayU8(src.width,src.height);
+		else
+			dst.reshape(src.width,src.height);
+
+		if( src.numBands == 1 ) {
+			// bulk copy each row. the duplicate is needed so that the input's position isn't modified
+			ByteBuffer view = src.data.duplicate();
+			for (int y = 0; y < src.height; y++) {
+				view.position(src.startIndex + y*src.stride);
+				view.get(dst.data,dst.startIndex + y*dst.stride,src.width);
+			}
+		} else {
+			int numBands = src.numBands;
+			for (int y = 0; y < src.height; y++) {
+				int indexSrc = src.startIndex + y*src.stride;
+				int indexDst = dst.startIndex + y*dst.stride;
+				for (int x = 0; x < src.width; x++) {
+					int total = 0;
+					for (int band = 0; band < numBands; band++) {
+						total += src.data.get(indexSrc++) & 0xFF;
+					}
+					dst.data[indexDst++] = (byte)(total/numBands);
+				}
+			}
+		}
+		return dst;
+	}
+
+	/**
+	 * Converts a buffer image into a floating point gray scale image. If the input has more than one band then
+	 * the bands are averaged together.
+	 *
+	 * @param src Input image
+	 * @param dst (Optional) Output image. Reshaped to match the input. If null a new image is declared.
+	 * @return Output image
+	 */
+	public static GrayF32 convert( ByteBufferImageU8 src , @Nullable GrayF32 dst ) {
+		if( dst == null )
+			dst = new GrayF32(src.width,src.height);
+		else
+			dst.reshape(src.width,src.height);
+
+		int numBands = src.numBands;
+		for (int y = 0; y < src.height; y++) {
+			int indexSrc = src.startIndex + y*src.stride;
+			int indexDst = dst.startIndex + y*dst.stride;
+			if( numBands == 1 ) {
+				for (int x = 0; x < src.width; x++) {
+					dst.data[indexDst++] = src.data.get(indexSrc++) & 0xFF;
+				}
+			} else {
+				for (int x = 0; x < src.width; x++) {
+					int total = 0;
+					for (int band = 0; band < numBands; band++) {
+						total += src.data.get(indexSrc++) & 0xFF;
+					}
+					dst.data[indexDst++] = total/(float)numBands;
+				}
+			}
+		}
+		return dst;
+	}
+
+	/**
+	 * Copies a buffer image into an interleaved image with the same number of bands
+	 *
+	 * @param src Input image
+	 * @param dst (Optional) Output image. Reshaped to match the input. If null a new image is declared.
+	 * @return Output image
+	 */
+	public static InterleavedU8 convert( ByteBufferImageU8 src , @Nullable InterleavedU8 dst ) {
+		if( dst == null )
+			dst = new InterleavedU8(src.width,src.height,src.numBands);
+		else
+			dst.reshape(src.width,src.height,src.numBands);
+
+		int rowLength = src.width*src.numBands;
+		ByteBuffer view = src.data.duplicate();
+		for (int y = 0; y < src.height; y++) {
+			view.position(src.startIndex + y*src.stride);
+			view.get(dst.data,dst.startIndex + y*dst.stride,rowLength);
+		}
+		return dst;
+	}
+
+	/**
+	 * Converts 8-bit gray scale pixels inside a buffer directly into a floating point image. Avoids creating
+	 * an intermediate {@link GrayU8} when the buffer is direct.
+	 */
+	public static void from_1BU8_to_F32(ByteBuffer src , int srcOffset , int srcStride ,
+										GrayF32 dst , GrowQueue_I8 work )
+	{
+		work.resize(dst.width);
+
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(work.data,0,work.size);
+
+			int indexDst = dst.startIndex + dst.stride * y;
+			for (int i = 0; i < work.size; i++) {
+				dst.data[indexDst++] = work.data[i] & 0xFF;
+			}
+			indexSrc += srcStride;
+		}
+	}
+
 	public static void from_3BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride ,
 									   GrayU8 dst , GrowQueue_I8 work )
 	{
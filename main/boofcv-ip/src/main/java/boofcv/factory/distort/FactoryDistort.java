@@ -21,13 +21,14 @@ package boofcv.factory.distort;
 import boofcv.abst.distort.ConfigDeformPointMLS;
 import boofcv.abst.distort.PointDeformKeyPoints;
 import boofcv.abst.distort.PointDeform_MLS;
-import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.*;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.distort.mls.ImageDeformPointMLS_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.InterpolationType;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.image.*;
@@ -85,7 +86,8 @@ public class FactoryDistort {
 
 	/**
 	 * Creates a {@link boofcv.alg.distort.ImageDistort} for the specified image type, transformation
-	 * and interpolation instance.
+	 * and interpolation instance. If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent
+	 * implementation is returned.
 	 *
 	 * @param cached If true the distortion is only computed one.  False for recomputed each time, but less memory.
 	 * @param interp Which interpolation algorithm should be used.
@@ -94,6 +96,15 @@ public class FactoryDistort {
 	public static <Input extends ImageGray<Input>, Output extends ImageGray<Output>>
 	ImageDistort<Input, Output> distortSB(boolean cached, InterpolatePixelS<Input> interp, Class<Output> outputType)
 	{
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			AssignPixelValue_SB<Output> assigner = assignerSB(outputType);
+			if( cached ) {
+				return new ImageDistortCache_SB_MT<>(assigner,interp);
+			} else {
+				return new ImageDistortBasic_SB_MT<>(assigner,interp);
+			}
+		}
+
 		if( cached ) {
 			if( outputType == GrayF32.class ) {
 				return (ImageDistort<Input,Output>)new ImplImageDistortCache_F32(interp);
@@ -143,6 +154,17 @@ public class FactoryDistort {
 	{
 		if( cached ) {
 			throw new IllegalArgumentException("Cached not supported yet");
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			switch( outputType.getDataType() ) {
+				case F32:
+					return new ImageDistortBasic_IL_MT(new AssignPixelValue_MB.F32(),interp);
+
+				case U8:
+					return new ImageDistortBasic_IL_MT(new AssignPixelValue_MB.U8(),interp);
+
+				default:
+					throw new IllegalArgumentException("Not supported yet");
+			}
 		} else {
 			switch( outputType.getDataType() ) {
 				case F32:
@@ -157,6 +179,24 @@ public class FactoryDistort {
 		}
 	}
 
+	/**
+	 * Creates a class which will assign pixel values to a single band image of the specified type
+	 */
+	public static <T extends ImageGray<T>>
+	AssignPixelValue_SB<T> assignerSB( Class<T> imageType ) {
+		if( imageType == GrayF32.class ) {
+			return (AssignPixelValue_SB<T>)new AssignPixelValue_SB.F32();
+		} else if( GrayS32.class.isAssignableFrom(imageType) ) {
+			return (AssignPixelValue_SB<T>)new AssignPixelValue_SB.S32();
+		} else if( GrayI16.class.isAssignableFrom(imageType) ) {
+			return new AssignPixelValue_SB.I16();
+		} else if( GrayI8.class.isAssignableFrom(imageType) ) {
+			return new AssignPixelValue_SB.I8();
+		} else {
+			throw new IllegalArgumentException("Output type not supported: "+imageType.getSimpleName());
+		}
+	}
+
 	public static PointDeformKeyPoints deformMls(ConfigDeformPointMLS config ) {
 		if( config == null )
 			config = new ConfigDeformPointMLS();
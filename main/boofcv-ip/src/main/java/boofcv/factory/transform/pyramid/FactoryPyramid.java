@@ -20,7 +20,9 @@ package boofcv.factory.transform.pyramid;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.transform.pyramid.PyramidDiscreteSampleBlur;
+import boofcv.alg.transform.pyramid.PyramidDiscreteSampleBlur_MT;
 import boofcv.alg.transform.pyramid.PyramidFloatGaussianScale;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.interpolate.FactoryInterpolation;
@@ -28,6 +30,7 @@ import boofcv.struct.border.BorderType;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
@@ -42,7 +45,8 @@ public class FactoryPyramid {
 
 	/**
 	 * Creates an updater for discrete pyramids where a Gaussian is convolved across the input
-	 * prior to sub-sampling.
+	 * prior to sub-sampling. If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent
+	 * implementation is returned.
 	 *
 	 * @param imageType Type of input image.
 	 * @param sigma Gaussian sigma.  If < 0 then a sigma is selected using the radius.  Try -1.
@@ -57,7 +61,28 @@ public class FactoryPyramid {
 
 		Kernel1D kernel = FactoryKernelGaussian.gaussian(kernelType,sigma,radius);
 
-		return new PyramidDiscreteSampleBlur<>(kernel, sigma, imageType, saveOriginalReference, scaleFactors);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new PyramidDiscreteSampleBlur_MT<>(kernel, sigma, imageType, saveOriginalReference, scaleFactors);
+		} else {
+			return new PyramidDiscreteSampleBlur<>(kernel, sigma, imageType, saveOriginalReference, scaleFactors);
+		}
+	}
+
+	/**
+	 * Same as {@link #discreteGaussian(int[], double, int, boolean, ImageType)} but temporary images are borrowed
+	 * from the pool instead of being owned by the pyramid.
+	 *
+	 * @param pool Pool which temporary images are borrowed from. Can be shared with other algorithms.
+	 */
+	public static <T extends ImageBase<T>>
+	PyramidDiscrete<T> discreteGaussian( int[] scaleFactors , double sigma , int radius ,
+										 boolean saveOriginalReference, ImageType<T> imageType ,
+										 ImagePool pool )
+	{
+		PyramidDiscreteSampleBlur<T> pyramid = (PyramidDiscreteSampleBlur<T>)discreteGaussian(
+				scaleFactors,sigma,radius,saveOriginalReference,imageType);
+		pyramid.setImagePool(pool);
+		return pyramid;
 	}
 
 	/**
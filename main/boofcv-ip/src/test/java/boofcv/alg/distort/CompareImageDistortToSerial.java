@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Compares the output of a concurrent {@link ImageDistort} against its single threaded counterpart
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareImageDistortToSerial<T extends ImageBase<T>> {
+	Random rand = new Random(234);
+
+	int width = 60;
+	int height = 45;
+
+	ImageType<T> imageType;
+
+	protected CompareImageDistortToSerial( ImageType<T> imageType ) {
+		this.imageType = imageType;
+	}
+
+	protected abstract ImageDistort<T,T> createSerial( InterpolatePixel<T> interp );
+
+	protected abstract ImageDistort<T,T> createConcurrent( InterpolatePixel<T> interp );
+
+	@Test
+	void apply() {
+		for( boolean renderAll : new boolean[]{true,false}) {
+			T src = createSource();
+			T expected = imageType.createImage(width, height);
+			T found = imageType.createImage(width, height);
+			GImageMiscOps.fill(expected,2);
+			GImageMiscOps.fill(found,2);
+
+			createDistort(false,renderAll).apply(src,expected);
+			createDistort(true,renderAll).apply(src,found);
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	@Test
+	void apply_mask() {
+		for( boolean renderAll : new boolean[]{true,false}) {
+			T src = createSource();
+			T expected = imageType.createImage(width, height);
+			T found = imageType.createImage(width, height);
+			GrayU8 maskExpected = new GrayU8(width,height);
+			GrayU8 maskFound = new GrayU8(width,height);
+
+			createDistort(false,renderAll).apply(src,expected,maskExpected);
+			createDistort(true,renderAll).apply(src,found,maskFound);
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+			BoofTesting.assertEquals(maskExpected,maskFound,0);
+		}
+	}
+
+	@Test
+	void apply_crop() {
+		for( boolean renderAll : new boolean[]{true,false}) {
+			T src = createSource();
+			T expected = imageType.createImage(width, height);
+			T found = imageType.createImage(width, height);
+
+			createDistort(false,renderAll).apply(src,expected,5,7,width-3,height-10);
+			createDistort(true,renderAll).apply(src,found,5,7,width-3,height-10);
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	/**
+	 * The transform is modified after the first call. Make sure the concurrent implementation doesn't use
+	 * a stale copy of it
+	 */
+	@Test
+	void modifiedTransform() {
+		T src = createSource();
+		T expected = imageType.createImage(width, height);
+		T found = imageType.createImage(width, height);
+
+		ImageDistort<T,T> serial = createDistort(false,true);
+		ImageDistort<T,T> concurrent = createDistort(true,true);
+		concurrent.apply(src,found);
+
+		Affine2D_F32 affine = new Affine2D_F32(0.9f,-0.1f,0.2f,1.1f,-4,3);
+		((PixelTransformAffine_F32)serial.getModel()).set(affine);
+		((PixelTransformAffine_F32)concurrent.getModel()).set(affine);
+
+		// the cached implementation needs to be told the model has changed
+		serial.setModel(serial.getModel());
+		concurrent.setModel(concurrent.getModel());
+
+		serial.apply(src,expected);
+		concurrent.apply(src,found);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	private T createSource() {
+		T src = imageType.createImage(width,height);
+		GImageMiscOps.fillUniform(src,rand,0,200);
+		return src;
+	}
+
+	private ImageDistort<T,T> createDistort( boolean concurrent , boolean renderAll ) {
+		InterpolatePixel<T> interp = FactoryInterpolation.createPixel(0,255,
+				InterpolationType.BILINEAR, BorderType.ZERO,imageType);
+
+		ImageDistort<T,T> alg = concurrent ? createConcurrent(interp) : createSerial(interp);
+		alg.setModel(new PixelTransformAffine_F32(new Affine2D_F32(1.1f,0.15f,-0.2f,0.95f,3,-2)));
+		alg.setRenderAll(renderAll);
+		return alg;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.ImplImageDistort_IL_U8;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImageDistortBasic_IL_MT extends CompareImageDistortToSerial<InterleavedU8> {
+	TestImageDistortBasic_IL_MT() {
+		super(ImageType.il(3,InterleavedU8.class));
+	}
+
+	@Override
+	protected ImageDistort<InterleavedU8, InterleavedU8> createSerial(InterpolatePixel<InterleavedU8> interp) {
+		return new ImplImageDistort_IL_U8((InterpolatePixelMB<InterleavedU8>)interp);
+	}
+
+	@Override
+	protected ImageDistort<InterleavedU8, InterleavedU8> createConcurrent(InterpolatePixel<InterleavedU8> interp) {
+		return new ImageDistortBasic_IL_MT<>(new AssignPixelValue_MB.U8(),(InterpolatePixelMB<InterleavedU8>)interp);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.ImplImageDistort_F32;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImageDistortBasic_SB_MT extends CompareImageDistortToSerial<GrayF32> {
+	TestImageDistortBasic_SB_MT() {
+		super(ImageType.single(GrayF32.class));
+	}
+
+	@Override
+	protected ImageDistort<GrayF32, GrayF32> createSerial(InterpolatePixel<GrayF32> interp) {
+		return new ImplImageDistort_F32<>((InterpolatePixelS<GrayF32>)interp);
+	}
+
+	@Override
+	protected ImageDistort<GrayF32, GrayF32> createConcurrent(InterpolatePixel<GrayF32> interp) {
+		return new ImageDistortBasic_SB_MT<>(new AssignPixelValue_SB.F32(),(InterpolatePixelS<GrayF32>)interp);
+	}
+}
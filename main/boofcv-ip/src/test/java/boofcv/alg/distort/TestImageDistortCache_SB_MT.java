@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.ImplImageDistortCache_I8;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImageDistortCache_SB_MT extends CompareImageDistortToSerial<GrayU8> {
+	TestImageDistortCache_SB_MT() {
+		super(ImageType.single(GrayU8.class));
+	}
+
+	@Override
+	protected ImageDistort<GrayU8, GrayU8> createSerial(InterpolatePixel<GrayU8> interp) {
+		return new ImplImageDistortCache_I8<>((InterpolatePixelS<GrayU8>)interp);
+	}
+
+	@Override
+	protected ImageDistort<GrayU8, GrayU8> createConcurrent(InterpolatePixel<GrayU8> interp) {
+		return new ImageDistortCache_SB_MT<>(new AssignPixelValue_SB.I8<>(),(InterpolatePixelS<GrayU8>)interp);
+	}
+}
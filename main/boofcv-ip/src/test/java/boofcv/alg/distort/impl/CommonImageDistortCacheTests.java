@@ -35,6 +35,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 /**
  * @author Peter Abeles
  */
@@ -95,6 +98,49 @@ public abstract class CommonImageDistortCacheTests<T extends ImageGray<T>> {
 		BoofTesting.assertEquals(dst0, dst1, 1e-4);
 	}
 	
+	/**
+	 * The output image is a sub-image. The map is indexed by pixel coordinate and not by the image's array index
+	 */
+	@Test
+	public void compareSubimage() {
+		ImageDistort<T,T> standard = FactoryDistort.distortSB(false, interp, imageType);
+		ImageDistortCache_SB<T,T> alg = create(interp,imageType);
+
+		standard.setModel(tran);
+		alg.setModel(tran);
+
+		T larger = GeneralizedImageOps.createSingleBand(imageType,220,310);
+		T sub = larger.subimage(5,7,205,307);
+
+		standard.apply(src,dst0);
+		alg.apply(src,sub);
+
+		BoofTesting.assertEquals(dst0, sub, 1e-4);
+	}
+
+	/**
+	 * The packed map should only be declared again if the output image grows
+	 */
+	@Test
+	public void mapReused() {
+		ImageDistortCache_SB<T,T> alg = create(interp,imageType);
+		alg.setModel(tran);
+
+		alg.apply(src,dst1);
+		float[] map = alg.getMap();
+		assertEquals(2*dst1.width*dst1.height, map.length);
+
+		T smaller = GeneralizedImageOps.createSingleBand(imageType,100,120);
+		alg.apply(src,smaller);
+		assertSame(map,alg.getMap());
+
+		ImageDistort<T,T> standard = FactoryDistort.distortSB(false, interp, imageType);
+		standard.setModel(tran);
+		T expected = GeneralizedImageOps.createSingleBand(imageType,100,120);
+		standard.apply(src,expected);
+		BoofTesting.assertEquals(expected, smaller, 1e-4);
+	}
+
 	public abstract ImageDistortCache_SB<T,T>
 	create(InterpolatePixelS<T> interp, Class<T> imageType );
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.struct.image.ByteBufferImageU8;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImplThresholdByteBuffer {
+	Random rand = new Random(234);
+	int width = 100, height = 110;
+	int offset = 7, stride = width + 5;
+
+	/**
+	 * Compare against thresholding a copy of the image stored in an array
+	 */
+	@Test
+	void threshold() {
+		for( boolean direct : new boolean[]{false,true}) {
+			ByteBuffer buffer = createBuffer(direct);
+			ByteBufferImageU8 input = new ByteBufferImageU8(buffer,offset,stride,width,height);
+			GrayU8 copy = toGray(buffer);
+
+			for( boolean down : new boolean[]{false,true}) {
+				GrayU8 expected = ThresholdImageOps.threshold(copy,null,110,down);
+				GrayU8 found = ImplThresholdByteBuffer.threshold(input,new GrayU8(width,height),110,down);
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+
+	@Test
+	void thresholdImageOps() {
+		ByteBuffer buffer = createBuffer(true);
+		ByteBufferImageU8 input = new ByteBufferImageU8(buffer,offset,stride,width,height);
+		GrayU8 expected = ThresholdImageOps.threshold(toGray(buffer),null,90,true);
+		BoofTesting.assertEquals(expected,ThresholdImageOps.threshold(input,null,90,true),0);
+
+		// only gray scale is supported
+		input.wrap(buffer,offset,stride,width/2,height,2);
+		assertThrows(IllegalArgumentException.class,()->ThresholdImageOps.threshold(input,null,90,true));
+	}
+
+	ByteBuffer createBuffer( boolean direct ) {
+		int length = offset + stride*height;
+		ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+		for (int i = 0; i < length; i++) {
+			buffer.put(i,(byte)rand.nextInt(256));
+		}
+		return buffer;
+	}
+
+	GrayU8 toGray( ByteBuffer buffer ) {
+		GrayU8 gray = new GrayU8(width,height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				gray.data[gray.getIndex(x,y)] = buffer.get(offset+y*stride+x);
+			}
+		}
+		return gray;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.ByteBufferImageU8;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImplThresholdByteBuffer_MT {
+	TestImplThresholdByteBuffer helper = new TestImplThresholdByteBuffer();
+	int width = helper.width, height = helper.height;
+
+	@Test
+	void compareToSingle() {
+		ByteBuffer buffer = helper.createBuffer(true);
+		ByteBufferImageU8 input = new ByteBufferImageU8(buffer,helper.offset,helper.stride,width,height);
+
+		for( boolean down : new boolean[]{false,true}) {
+			GrayU8 expected = ImplThresholdByteBuffer.threshold(input,new GrayU8(width,height),120,down);
+			GrayU8 found = ImplThresholdByteBuffer_MT.threshold(input,new GrayU8(width,height),120,down);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
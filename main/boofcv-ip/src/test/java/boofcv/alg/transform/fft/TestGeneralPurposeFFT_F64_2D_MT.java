@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Compares the concurrent implementation against the single threaded one
+ *
+ * @author Peter Abeles
+ */
+class TestGeneralPurposeFFT_F64_2D_MT {
+
+	Random rand = new Random(234);
+
+	int sizes[] = new int[]{1,2,3,4,16,32,100,103};
+
+	@Test
+	void complex() {
+		for( int numRows : sizes ) {
+			for( int numColumns : sizes ) {
+				compare(numRows, numColumns, 2, Operation.COMPLEX_FORWARD);
+				compare(numRows, numColumns, 2, Operation.COMPLEX_INVERSE);
+				compare(numRows, numColumns, 2, Operation.COMPLEX_INVERSE_NO_SCALE);
+			}
+		}
+	}
+
+	@Test
+	void realFull() {
+		for( int numRows : sizes ) {
+			for( int numColumns : sizes ) {
+				compare(numRows, numColumns, 2, Operation.REAL_FORWARD_FULL);
+				compare(numRows, numColumns, 2, Operation.REAL_INVERSE_FULL);
+			}
+		}
+		compare(323, 768, 2, Operation.REAL_FORWARD_FULL);
+	}
+
+	/**
+	 * The half real transforms only support images which are a power of two
+	 */
+	@Test
+	void real_powerOfTwo() {
+		int[] sizes = new int[]{2,4,16,64};
+		for( int numRows : sizes ) {
+			for( int numColumns : sizes ) {
+				compare(numRows, numColumns, 1, Operation.REAL_FORWARD);
+				compare(numRows, numColumns, 1, Operation.REAL_INVERSE);
+			}
+		}
+	}
+
+	/**
+	 * Multiple calls should produce the same results since the workspaces are recycled
+	 */
+	@Test
+	void multipleCalls() {
+		GeneralPurposeFFT_F64_2D expected = new GeneralPurposeFFT_F64_2D(64, 100);
+		GeneralPurposeFFT_F64_2D_MT found = new GeneralPurposeFFT_F64_2D_MT(64, 100);
+
+		for (int trial = 0; trial < 3; trial++) {
+			double[] a = random(64*100*2);
+			double[] b = a.clone();
+			expected.complexForward(a);
+			found.complexForward(b);
+			assertArrayEquals(a, b, 1e-8);
+		}
+	}
+
+	private void compare( int numRows , int numColumns , int elements , Operation op ) {
+		double[] a = random(numRows*numColumns*elements);
+		double[] b = a.clone();
+
+		GeneralPurposeFFT_F64_2D expected = new GeneralPurposeFFT_F64_2D(numRows, numColumns);
+		GeneralPurposeFFT_F64_2D_MT found = new GeneralPurposeFFT_F64_2D_MT(numRows, numColumns);
+
+		op.apply(expected, a);
+		op.apply(found, b);
+
+		assertArrayEquals(a, b, 1e-8);
+	}
+
+	private double[] random( int length ) {
+		double[] data = new double[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = rand.nextGaussian();
+		}
+		return data;
+	}
+
+	enum Operation {
+		COMPLEX_FORWARD, COMPLEX_INVERSE, COMPLEX_INVERSE_NO_SCALE,
+		REAL_FORWARD_FULL, REAL_INVERSE_FULL, REAL_FORWARD, REAL_INVERSE;
+
+		void apply( GeneralPurposeFFT_F64_2D alg , double[] data ) {
+			switch( this ) {
+				case COMPLEX_FORWARD: alg.complexForward(data); break;
+				case COMPLEX_INVERSE: alg.complexInverse(data, true); break;
+				case COMPLEX_INVERSE_NO_SCALE: alg.complexInverse(data, false); break;
+				case REAL_FORWARD_FULL: alg.realForwardFull(data); break;
+				case REAL_INVERSE_FULL: alg.realInverseFull(data, true); break;
+				case REAL_FORWARD: alg.realForward(data); break;
+				case REAL_INVERSE: alg.realInverse(data, true); break;
+			}
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTiledIntegralImage_S64 {
+
+	Random rand = new Random(234);
+	int width = 45, height = 38;
+
+	@Test
+	void process() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		for( int tileSize : new int[]{1,7,16,50} ) {
+			TiledIntegralImage_S64 alg = new TiledIntegralImage_S64(tileSize);
+			alg.process(input);
+			compare(input,alg);
+		}
+	}
+
+	/**
+	 * Add the image in strips which don't line up with the tiles
+	 */
+	@Test
+	void append_strips() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		TiledIntegralImage_S64 alg = new TiledIntegralImage_S64(8);
+		alg.reset(width);
+		int[] stripHeights = new int[]{5,1,13,19};
+		int y = 0;
+		for( int h : stripHeights ) {
+			alg.append(input.subimage(0,y,width,y+h));
+			y += h;
+		}
+		assertEquals(height,alg.getHeight());
+		compare(input,alg);
+	}
+
+	/**
+	 * Tiles should be reused and the previous image should not change the results
+	 */
+	@Test
+	void reset_reuse() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		TiledIntegralImage_S64 alg = new TiledIntegralImage_S64(8);
+		alg.process(input);
+		GrayS64 tile = alg.tiles.get(0)[0];
+
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		alg.process(input);
+		assertSame(tile,alg.tiles.get(0)[0]);
+		compare(input,alg);
+
+		// different width so new tiles are needed
+		GrayU8 wider = new GrayU8(width+3,height);
+		ImageMiscOps.fillUniform(wider,rand,0,256);
+		alg.process(wider);
+		compare(wider,alg);
+	}
+
+	@Test
+	void append_wrongWidth() {
+		TiledIntegralImage_S64 alg = new TiledIntegralImage_S64(8);
+		alg.reset(width);
+		assertThrows(IllegalArgumentException.class,()->alg.append(new GrayU8(width+1,5)));
+	}
+
+	/**
+	 * The sum of a large image doesn't fit inside of an int
+	 */
+	@Test
+	void noOverflow() {
+		GrayU8 input = new GrayU8(4000,3000);
+		ImageMiscOps.fill(input,255);
+
+		TiledIntegralImage_S64 alg = new TiledIntegralImage_S64(512);
+		alg.process(input);
+
+		assertEquals(4000L*3000L*255L,alg.get(3999,2999));
+		assertEquals(4000L*3000L*255L,alg.block_zero(-1,-1,3999,2999));
+	}
+
+	private void compare( GrayU8 input , TiledIntegralImage_S64 alg ) {
+		GrayS64 expected = IntegralImageOps.transform(input,(GrayS64)null);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				assertEquals(expected.get(x,y),alg.get(x,y));
+			}
+		}
+
+		for (int i = 0; i < 50; i++) {
+			int x0 = rand.nextInt(input.width+4)-3;
+			int y0 = rand.nextInt(input.height+4)-3;
+			int x1 = x0 + rand.nextInt(10);
+			int y1 = y0 + rand.nextInt(10);
+
+			assertEquals(IntegralImageOps.block_zero(expected,x0,y0,x1,y1),alg.block_zero(x0,y0,x1,y1));
+
+			if( x0 >= 0 && y0 >= 0 && x1 < input.width && y1 < input.height ) {
+				assertEquals(IntegralImageOps.block_unsafe(expected,x0,y0,x1,y1),alg.block_unsafe(x0,y0,x1,y1));
+			}
+		}
+	}
+}
@@ -55,7 +55,7 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void transform() {
 		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps.class,"transform");
-		assertEquals(5, numFound);
+		assertEquals(6, numFound);
 	}
 
 	public void transform( Method m ) {
@@ -19,15 +19,19 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.misc.GImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Peter Abeles
@@ -109,6 +113,67 @@ public class TestPyramidDiscreteSampleBlur extends GenericPyramidTests<GrayF32>
 		assertEquals(6,alg.getSigma(1),1e-8);
 	}
 
+	/**
+	 * The output should be the same with and without a pool and the temporary image should be returned to it
+	 */
+	@Test
+	public void setImagePool() {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
+		PyramidDiscreteSampleBlur<GrayF32> expected =
+				new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,new int[]{1,2,4});
+		PyramidDiscreteSampleBlur<GrayF32> alg =
+				new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,new int[]{1,2,4});
+
+		ImagePool pool = new ImagePool();
+		alg.setImagePool(pool);
+		assertSame(pool,alg.getImagePool());
+
+		expected.process(input);
+		alg.process(input);
+		assertEquals(0,pool.sizeBorrowed());
+		assertEquals(1,pool.sizeAvailable());
+		for (int i = 0; i < expected.getNumLayers(); i++) {
+			BoofTesting.assertEquals(expected.getLayer(i), alg.getLayer(i), 1e-4f);
+		}
+
+		// the recycled image should be reused and not a new one declared
+		alg.process(input);
+		assertEquals(0,pool.sizeBorrowed());
+		assertEquals(1,pool.sizeAvailable());
+
+		// going back to owning its own temporary image
+		alg.setImagePool(null);
+		alg.process(input);
+		assertEquals(1,pool.sizeAvailable());
+		for (int i = 0; i < expected.getNumLayers(); i++) {
+			BoofTesting.assertEquals(expected.getLayer(i), alg.getLayer(i), 1e-4f);
+		}
+	}
+
+	/**
+	 * If processing fails the temporary image should still be returned to the pool
+	 */
+	@Test
+	public void setImagePool_exception() {
+		GrayF32 input = new GrayF32(width,height);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
+		PyramidDiscreteSampleBlur<GrayF32> alg =
+				new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,new int[]{1,2,4});
+
+		ImagePool pool = new ImagePool();
+		alg.setImagePool(pool);
+
+		// cause it to fail after the temporary image has been borrowed
+		alg.horizontal = null;
+		assertThrows(NullPointerException.class,()->alg.process(input));
+		assertEquals(0,pool.sizeBorrowed());
+		assertEquals(1,pool.sizeAvailable());
+	}
+
 	@Override
 	protected ImagePyramid<GrayF32> createPyramid(int... scales) {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPyramidDiscreteSampleBlur_MT {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToSingleThread() {
+		for( Class type : new Class[]{GrayF32.class, GrayU8.class} ) {
+			// odd shapes so that the last row and column are not sampled
+			compare(type,3,101,77,1,2,4);
+			compare(type,2,101,77,2,4,8);
+			compare(type,3,90,120,1,3,9);
+			// the skip is larger than the kernel so some input rows are never used
+			compare(type,2,140,133,1,8,16);
+			// the kernel is wider than the upper layers
+			compare(type,4,40,35,1,2,4,8);
+		}
+	}
+
+	private <T extends ImageGray<T>>
+	void compare( Class<T> type , int radius , int width , int height , int ...scales ) {
+		ImageType<T> imageType = ImageType.single(type);
+		Kernel1D kernel = FactoryKernelGaussian.gaussian(FactoryKernel.getKernelType(imageType.getDataType(),1),-1,radius);
+
+		PyramidDiscreteSampleBlur<T> expected = new PyramidDiscreteSampleBlur<>(kernel,2,imageType,false,scales);
+		PyramidDiscreteSampleBlur_MT<T> found = new PyramidDiscreteSampleBlur_MT<>(kernel,2,imageType,false,scales);
+
+		// process multiple images to make sure the reused storage is handled correctly
+		for (int trial = 0; trial < 2; trial++) {
+			T input = imageType.createImage(width,height);
+			GImageMiscOps.fillUniform(input,rand,0,200);
+			input = BoofTesting.createSubImageOf(input);
+
+			expected.process(input);
+			found.process(input);
+
+			assertEquals(expected.getNumLayers(),found.getNumLayers());
+			for (int i = 0; i < expected.getNumLayers(); i++) {
+				BoofTesting.assertEquals(expected.getLayer(i),found.getLayer(i),1e-4);
+			}
+		}
+	}
+
+	@Test
+	void checkSigmas() {
+		Kernel1D kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
+		PyramidDiscreteSampleBlur<GrayF32> expected =
+				new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,2,4,8);
+		PyramidDiscreteSampleBlur_MT<GrayF32> found =
+				new PyramidDiscreteSampleBlur_MT<>(kernel,3, ImageType.single(GrayF32.class),true,2,4,8);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(expected.getSigma(i),found.getSigma(i));
+		}
+	}
+}
@@ -23,6 +23,9 @@ import org.ddogleg.struct.GrowQueue_I32;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -47,6 +50,165 @@ class TestBoofConcurrency {
 		assertEquals(90,counter.value);
 	}
 
+	@Test
+	void loopFor_step() {
+		GrowQueue_I32 found = new GrowQueue_I32();
+		BoofConcurrency.loopFor(10,100,20,i->{
+			synchronized (found) {
+				found.add(i);
+			}
+		});
+
+		assertEquals(4,found.size);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(found.indexOf(10+i*20) >= 0);
+		}
+	}
+
+	/**
+	 * Loops with fewer iterations than the threshold should be run in the calling thread
+	 */
+	@Test
+	void loopFor_minimumIterations() {
+		int original = BoofConcurrency.getMinimumIterations();
+		try {
+			Thread caller = Thread.currentThread();
+
+			BoofConcurrency.setMinimumIterations(101);
+			Counter counter = new Counter();
+			BoofConcurrency.loopFor(0,100,i->{
+				assertSame(caller,Thread.currentThread());
+				counter.increment();
+			});
+			assertEquals(100,counter.value);
+			Counter counterStep = new Counter();
+			BoofConcurrency.loopFor(0,100,2,i->{
+				assertSame(caller,Thread.currentThread());
+				counterStep.increment();
+			});
+			assertEquals(50,counterStep.value);
+
+			// At the threshold it should be processed in the pool
+			BoofConcurrency.setMinimumIterations(8);
+			Counter others = new Counter();
+			BoofConcurrency.loopFor(0,8,i->{
+				BoofMiscOps.sleep(20);
+				if( Thread.currentThread() != caller )
+					others.increment();
+			});
+			assertTrue(others.value > 0);
+		} finally {
+			BoofConcurrency.setMinimumIterations(original);
+		}
+	}
+
+	@Test
+	void setMinimumIterations_invalid() {
+		assertThrows(IllegalArgumentException.class,()->BoofConcurrency.setMinimumIterations(0));
+		assertThrows(IllegalArgumentException.class,()->BoofConcurrency.setMinimumIterations(-1));
+	}
+
+	@Test
+	void setMinimumWork_invalid() {
+		assertThrows(IllegalArgumentException.class,()->BoofConcurrency.setMinimumWork(0));
+		assertThrows(IllegalArgumentException.class,()->BoofConcurrency.setMinimumWork(-1));
+	}
+
+	/**
+	 * A 160x120 image should be processed in the calling thread with the default minimum work while a larger
+	 * image is split into blocks which each have at least the minimum work
+	 */
+	@Test
+	void loopForWork() {
+		int original = BoofConcurrency.getMinimumWork();
+		try {
+			BoofConcurrency.setMinimumWork(50_000);
+			Thread caller = Thread.currentThread();
+
+			Counter counter = new Counter();
+			BoofConcurrency.loopForWork(0,120,160,y->{
+				assertSame(caller,Thread.currentThread());
+				counter.increment();
+			});
+			assertEquals(120,counter.value);
+
+			// each row has 1/400 of the minimum work, so blocks must have at least 400 rows
+			GrowQueue_I32 found = new GrowQueue_I32();
+			BoofConcurrency.loopBlocksWork(0,1200,125,(y0,y1)->{
+				BoofMiscOps.sleep(20);
+				synchronized (found) {
+					found.add(y1-y0);
+				}
+			});
+			assertEquals(3,found.size);
+			for (int i = 0; i < found.size; i++) {
+				assertTrue(found.get(i) >= 400);
+			}
+
+			Counter others = new Counter();
+			BoofConcurrency.loopForWork(0,1200,125,y->{
+				if( y%400 == 0 )
+					BoofMiscOps.sleep(20);
+				if( Thread.currentThread() != caller )
+					others.increment();
+			});
+			assertTrue(others.value > 0);
+		} finally {
+			BoofConcurrency.setMinimumWork(original);
+		}
+	}
+
+	@Test
+	void minimumBlock() {
+		int original = BoofConcurrency.getMinimumWork();
+		try {
+			BoofConcurrency.setMinimumWork(1000);
+			assertEquals(10,BoofConcurrency.minimumBlock(100));
+			assertEquals(11,BoofConcurrency.minimumBlock(99));
+			assertEquals(1,BoofConcurrency.minimumBlock(5000));
+			assertEquals(1,BoofConcurrency.minimumBlock(0));
+		} finally {
+			BoofConcurrency.setMinimumWork(original);
+		}
+	}
+
+	@Test
+	void calibrateMinimumWork() {
+		int original = BoofConcurrency.getMinimumWork();
+		try {
+			int found = BoofConcurrency.calibrateMinimumWork();
+			assertTrue(found >= 1);
+			assertEquals(found,BoofConcurrency.getMinimumWork());
+		} finally {
+			BoofConcurrency.setMinimumWork(original);
+		}
+	}
+
+	/**
+	 * Exceptions thrown inside of a worker should be rethrown in the calling thread, the same as when the loop
+	 * is run in the calling thread
+	 */
+	@Test
+	void exceptions_rethrown() {
+		int original = BoofConcurrency.getMinimumIterations();
+		try {
+			for( int minimum : new int[]{1,1000}) {
+				BoofConcurrency.setMinimumIterations(minimum);
+				assertThrows(IllegalStateException.class, () -> BoofConcurrency.loopFor(0, 50, i -> {
+					if (i == 49) throw new IllegalStateException("bad");
+				}));
+				assertThrows(IllegalStateException.class, () -> BoofConcurrency.loopFor(0, 50, 2, i -> {
+					if (i == 48) throw new IllegalStateException("bad");
+				}));
+			}
+			assertThrows(IllegalStateException.class,()->BoofConcurrency.loopBlocks(0,50,(i0,i1)->{
+				if( i1 == 50 ) throw new IllegalStateException("bad");
+			}));
+		} finally {
+			BoofConcurrency.setMinimumIterations(original);
+		}
+	}
+
 	@Test
 	void loopBlocks() {
 		GrowQueue_I32 found = new GrowQueue_I32();
@@ -71,6 +233,47 @@ class TestBoofConcurrency {
 		fail("Couldn't find pair "+val0+" "+val1);
 	}
 
+	/**
+	 * If there's only one block it should be processed in the calling thread
+	 */
+	@Test
+	void loopBlocks_inline() {
+		Thread caller = Thread.currentThread();
+		Counter counter = new Counter();
+		BoofConcurrency.loopBlocks(10,20,50,(i0,i1)->{
+			assertSame(caller,Thread.currentThread());
+			assertEquals(10,i0);
+			assertEquals(20,i1);
+			counter.increment();
+		});
+		assertEquals(1,counter.value);
+	}
+
+	@Test
+	void runWith() {
+		ForkJoinPool custom = new ForkJoinPool(2);
+
+		GrowQueue_I32 found = new GrowQueue_I32();
+		BoofConcurrency.runWith(custom,()->{
+			assertSame(custom,BoofConcurrency.getPool());
+			assertEquals(2,BoofConcurrency.getMaxThreads());
+			BoofConcurrency.loopBlocks(0,100,10,(i0,i1)->{
+				assertSame(custom,ForkJoinTask.getPool());
+				// nested calls should stay inside the same pool
+				assertSame(custom,BoofConcurrency.getPool());
+				synchronized (found) {
+					found.add(i0);
+				}
+			});
+		});
+		assertEquals(2,found.size);
+
+		// the global pool should be restored
+		assertNotSame(custom,BoofConcurrency.getPool());
+		assertEquals(numThreads,BoofConcurrency.getMaxThreads());
+		custom.shutdown();
+	}
+
 	@Test
 	void selectBlockSize() {
 		assertEquals(10,BoofConcurrency.selectBlockSize(100,5,10));
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.struct.image.ByteBufferImageU8;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import org.ddogleg.struct.GrowQueue_I8;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestConvertByteBufferImage {
+	Random rand = new Random(234);
+	int width = 20, height = 15;
+	int offset = 7;
+
+	@Test
+	void wrap_gray() {
+		int stride = width+3;
+		ByteBuffer buffer = createBuffer(false,stride);
+
+		GrayU8 found = new GrayU8(1,1);
+		ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,found);
+		assertSame(buffer.array(),found.data);
+		assertTrue(found.isSubimage());
+		checkGray(buffer,stride,found);
+	}
+
+	/**
+	 * Direct buffers can't be referenced by an array based image
+	 */
+	@Test
+	void wrap_direct() {
+		int stride = width*3+3;
+		ByteBuffer buffer = createBuffer(true,stride);
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,new GrayU8(1,1)));
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,3,new InterleavedU8(1,1,1)));
+	}
+
+	/**
+	 * The image must not extend past the buffer's limit
+	 */
+	@Test
+	void wrap_outOfBounds() {
+		int stride = width+3;
+		ByteBuffer buffer = createBuffer(false,stride);
+		GrayU8 found = new GrayU8(1,1);
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset,stride,width,height+1,found));
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset+4,stride,width,height,found));
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,2,new InterleavedU8(1,1,1)));
+
+		// the limit is used and not the capacity
+		buffer.limit(buffer.limit()-4);
+		assertThrows(IllegalArgumentException.class,()->
+				ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,found));
+
+		// last row only needs to contain the width and not the entire stride
+		ConvertByteBufferImage.wrap(buffer,offset-2,stride,width,height,found);
+		assertEquals(width,found.width);
+	}
+
+	@Test
+	void wrap_interleaved() {
+		int numBands = 3;
+		int stride = width*numBands+2;
+		ByteBuffer buffer = createBuffer(false,stride);
+		InterleavedU8 found = new InterleavedU8(1,1,1);
+		ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,numBands,found);
+		assertSame(buffer.array(),found.data);
+		assertTrue(found.isSubimage());
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+		assertEquals(numBands,found.numBands);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < numBands; band++) {
+					int expected = buffer.get(offset+y*stride+x*numBands+band)&0xFF;
+					assertEquals(expected,found.getBand(x,y,band));
+				}
+			}
+		}
+	}
+
+	@Test
+	void convert_gray_U8() {
+		int stride = width+3;
+		ByteBuffer buffer = createBuffer(true,stride);
+		ByteBufferImageU8 src = new ByteBufferImageU8(buffer,offset,stride,width,height);
+
+		// output is a sub-image to make sure stride and start index are handled
+		GrayU8 found = new GrayU8(width+2,height+3).subimage(1,2,width+1,height+2);
+		ConvertByteBufferImage.convert(src,found);
+		checkGray(buffer,stride,found);
+		assertEquals(0,buffer.position());
+		assertNotNull(ConvertByteBufferImage.convert(src,(GrayU8)null));
+	}
+
+	@Test
+	void convert_gray_F32() {
+		int stride = width+3;
+		ByteBuffer buffer = createBuffer(true,stride);
+		GrayF32 found = ConvertByteBufferImage.convert(
+				new ByteBufferImageU8(buffer,offset,stride,width,height),(GrayF32)null);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y),1e-8);
+			}
+		}
+	}
+
+	/**
+	 * Multiple bands should be averaged when converted into a gray image
+	 */
+	@Test
+	void convert_interleaved_average() {
+		int numBands = 3;
+		int stride = width*numBands+2;
+		ByteBuffer buffer = createBuffer(true,stride);
+		ByteBufferImageU8 src = new ByteBufferImageU8();
+		src.wrap(buffer,offset,stride,width,height,numBands);
+
+		GrayU8 foundU8 = ConvertByteBufferImage.convert(src,new GrayU8(1,1));
+		GrayF32 foundF32 = ConvertByteBufferImage.convert(src,new GrayF32(1,1));
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int total = 0;
+				for (int band = 0; band < numBands; band++) {
+					total += src.getBand(x,y,band);
+				}
+				assertEquals(total/numBands,foundU8.get(x,y));
+				assertEquals(total/3.0f,foundF32.get(x,y),1e-4f);
+			}
+		}
+	}
+
+	@Test
+	void convert_interleaved() {
+		int numBands = 3;
+		int stride = width*numBands+2;
+		ByteBuffer buffer = createBuffer(true,stride);
+		ByteBufferImageU8 src = new ByteBufferImageU8();
+		src.wrap(buffer,offset,stride,width,height,numBands);
+
+		InterleavedU8 found = ConvertByteBufferImage.convert(src,new InterleavedU8(1,1,1));
+		assertEquals(numBands,found.numBands);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < numBands; band++) {
+					assertEquals(src.getBand(x,y,band),found.getBand(x,y,band));
+				}
+			}
+		}
+	}
+
+	@Test
+	void from_1BU8_to_F32() {
+		int stride = width+3;
+		ByteBuffer buffer = createBuffer(true,stride);
+
+		GrayF32 found = new GrayF32(width,height);
+		ConvertByteBufferImage.from_1BU8_to_F32(buffer,offset,stride,found,new GrowQueue_I8());
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y),1e-8);
+			}
+		}
+	}
+
+	private void checkGray( ByteBuffer buffer , int stride , GrayU8 found ) {
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y));
+			}
+		}
+	}
+
+	private ByteBuffer createBuffer( boolean direct , int stride ) {
+		int length = offset + stride*height;
+		ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+		for (int i = 0; i < length; i++) {
+			buffer.put(i,(byte)rand.nextInt(256));
+		}
+		return buffer;
+	}
+}
@@ -28,6 +28,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 
 /**
  * Common tests for implementers of {@link ImageBorder}.
@@ -101,6 +104,30 @@ public abstract class GenericImageBorderTests<T extends ImageBase<T>> {
 		checkEquals(width - 1, height + 1, image, border);
 	}
 
+	/**
+	 * The copy should behave the same but be independent of the original
+	 */
+	@Test
+	public void copy() {
+		for( ImageType<T> imageType : imageTypes ) {
+			init(imageType);
+
+			T imgA = imageType.createImage(width, height);
+			T imgB = imageType.createImage(width, height);
+			GImageMiscOps.fillUniform(imgA, rand, 0, 100);
+			GImageMiscOps.fillUniform(imgB, rand, 0, 100);
+
+			ImageBorder<T> border = wrap(imgA);
+			ImageBorder<T> copy = border.copy();
+			assertNotSame(border,copy);
+			copy.setImage(imgB);
+
+			assertSame(imgA,border.getImage());
+			checkGet(imgA, border);
+			checkGet(imgB, copy);
+		}
+	}
+
 	private void checkEquals( int x , int y , T orig, ImageBorder<T> border ) {
 		border.getGeneral(x, y, tmp0);
 		checkBorderGet(x,y,orig,tmp0);
@@ -19,9 +19,11 @@
 package boofcv.deepboof;
 
 import boofcv.abst.scene.ImageClassifier;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.Planar;
+import boofcv.struct.lists.RecycleStack;
 import deepboof.Function;
 import deepboof.graph.FunctionSequence;
 import deepboof.tensors.Tensor_F32;
@@ -32,6 +34,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import static deepboof.misc.TensorOps.WI;
+
 /**
  * Base class for ImageClassifiers which implements common elements
  *
@@ -46,23 +50,32 @@ public abstract class BaseImageClassifier implements ImageClassifier<Planar<Gray
 
 	protected ImageType<Planar<GrayF32>> imageType = ImageType.pl(3,GrayF32.class);
 
-	// Resizes input image for the network
-	protected ClipAndReduce<Planar<GrayF32>> massage = new ClipAndReduce<>(true,imageType);
-
 	// size of square image
 	protected int imageSize;
 
-	//  Input image adjusted to network input size
-	protected Planar<GrayF32> imageRgb;
+	// Used to preprocess images when a single image is classified
+	protected Preprocessing preprocessing;
+	// Used to preprocess images in parallel when a batch is classified
+	protected RecycleStack<Preprocessing> batchPreprocessing = new RecycleStack<>(this::createPreprocessing);
 
 	// Storage for the tensor into the image
 	protected Tensor_F32 tensorInput;
 	protected Tensor_F32 tensorOutput;
 
+	// Storage for the tensors when a batch of images is classified
+	protected Tensor_F32 tensorBatchInput;
+	protected Tensor_F32 tensorBatchOutput;
+
+	// maximum number of images passed to the network at once
+	protected int batchSize = 16;
+
 	// storage for the final output
 	protected FastQueue<Score> categoryScores = new FastQueue<>(Score.class,true);
 	protected int categoryBest;
 
+	// storage for the results from each image in a batch
+	protected FastQueue<BatchResult> batchResults = new FastQueue<>(BatchResult.class,true);
+
 	Comparator<Score> comparator = new Comparator<Score>() {
 		@Override
 		public int compare(Score o1, Score o2) {
@@ -77,8 +90,8 @@ public abstract class BaseImageClassifier implements ImageClassifier<Planar<Gray
 
 	public BaseImageClassifier( int imageSize ) {
 		this.imageSize = imageSize;
-		imageRgb = new Planar<>(GrayF32.class,imageSize,imageSize,3);
 		tensorInput = new Tensor_F32(1,3,imageSize,imageSize);
+		tensorBatchInput = new Tensor_F32(1,3,imageSize,imageSize);
 	}
 
 	@Override
@@ -98,41 +111,96 @@ public abstract class BaseImageClassifier implements ImageClassifier<Planar<Gray
 		innerProcess(tensorInput);
 	}
 
+	/**
+	 * Classifies a batch of images. Images are preprocessed in parallel and then passed to the network
+	 * together, up to {@link #getBatchSize()} at a time. Results are retrieved using {@link #getBestResult(int)}
+	 * and {@link #getAllResults(int)}.
+	 *
+	 * @param images Images being processed. Same requirements as {@link #classify(Planar)}.
+	 */
+	public void classify( List<Planar<GrayF32>> images ) {
+		batchResults.reset();
+
+		for (int start = 0; start < images.size(); start += batchSize) {
+			final int offset = start;
+			final int length = Math.min(batchSize,images.size()-start);
+
+			tensorBatchInput.reshape(length,3,imageSize,imageSize);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopFor(0,length,i->preprocessBatch(images.get(offset+i),i));
+			} else {
+				for (int i = 0; i < length; i++) {
+					preprocessBatch(images.get(offset+i),i);
+				}
+			}
+
+			if( tensorBatchOutput == null )
+				tensorBatchOutput = new Tensor_F32(WI(length,network.getOutputShape()));
+			else
+				tensorBatchOutput.reshape(WI(length,network.getOutputShape()));
+			network.process(tensorBatchInput,tensorBatchOutput);
+
+			for (int i = 0; i < length; i++) {
+				BatchResult result = batchResults.grow();
+				result.best = sortScores(tensorBatchOutput,i,result.scores);
+			}
+		}
+	}
+
+	private void preprocessBatch( Planar<GrayF32> image , int miniBatch ) {
+		Preprocessing p = batchPreprocessing.pop();
+		DataManipulationOps.imageToTensor(p.process(image),tensorBatchInput,miniBatch);
+		batchPreprocessing.recycle(p);
+	}
+
 	/**
 	 * Massage the input image into a format recognized by the network
 	 */
 	protected Planar<GrayF32> preprocess(Planar<GrayF32> image) {
-		// Shrink the image to input size
-		if( image.width == imageSize && image.height == imageSize ) {
-			this.imageRgb.setTo(image);
-		} else if( image.width < imageSize || image.height < imageSize ) {
-			throw new IllegalArgumentException("Image width or height is too small");
-		} else {
-			massage.massage(image,imageRgb);
-		}
-		return imageRgb;
+		if( preprocessing == null )
+			preprocessing = createPreprocessing();
+		return preprocessing.process(image);
 	}
 
+	/**
+	 * Creates the storage and algorithms needed to preprocess an image. Called after the model has been loaded.
+	 */
+	protected Preprocessing createPreprocessing() {
+		return new Preprocessing();
+	}
 
 	protected void innerProcess( Tensor_F32 tensorInput ) {
 		// process the tensor
 		network.process(tensorInput,tensorOutput);
 
+		categoryBest = sortScores(tensorOutput,0,categoryScores);
+	}
+
+	/**
+	 * Extracts the score for each category from the network's output then sorts them
+	 *
+	 * @param output Output from the network
+	 * @param miniBatch Which image in the mini-batch the scores are extracted from
+	 * @param scores (Output) scores ordered from most to least likely
+	 * @return The most likely category
+	 */
+	protected int sortScores( Tensor_F32 output , int miniBatch , FastQueue<Score> scores ) {
 		// now find the best score and sort them
-		categoryScores.reset();
+		scores.reset();
 		double scoreBest = -Double.MAX_VALUE;
-		categoryBest = -1;
-		for (int category = 0; category < tensorOutput.length(1); category++) {
-			double score = tensorOutput.get(0,category);
-			categoryScores.grow().set(score,category);
+		int best = -1;
+		for (int category = 0; category < output.length(1); category++) {
+			double score = output.get(miniBatch,category);
+			scores.grow().set(score,category);
 			if( score > scoreBest ) {
 				scoreBest = score;
-				categoryBest = category;
+				best = category;
 			}
 		}
 
 		// order the categories by most to least likely
-		Collections.sort(categoryScores.toList(),comparator);
+		Collections.sort(scores.toList(),comparator);
+		return best;
 	}
 
 	@Override
@@ -150,7 +218,74 @@ public abstract class BaseImageClassifier implements ImageClassifier<Planar<Gray
 		return categories;
 	}
 
+	/**
+	 * Returns the category which was the best fit for an image in the last batch
+	 * @param index Index of the image in the list passed to {@link #classify(List)}
+	 * @return best fit category
+	 */
+	public int getBestResult( int index ) {
+		return batchResults.get(index).best;
+	}
+
+	/**
+	 * Returns the score of each category for an image in the last batch, ordered from most to least likely
+	 * @param index Index of the image in the list passed to {@link #classify(List)}
+	 * @return List of categories and scores
+	 */
+	public List<Score> getAllResults( int index ) {
+		return batchResults.get(index).scores.toList();
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Specifies the maximum number of images which are passed to the network at once. Larger batches
+	 * reduce overhead but require more memory.
+	 */
+	public void setBatchSize(int batchSize) {
+		if( batchSize <= 0 )
+			throw new IllegalArgumentException("Batch size must be at least 1");
+		this.batchSize = batchSize;
+	}
+
 	public Planar<GrayF32> getImageRgb() {
-		return imageRgb;
+		return preprocessing == null ? null : preprocessing.imageRgb;
+	}
+
+	/**
+	 * Storage and algorithms needed to convert an input image into the network's format. Each thread has
+	 * its own instance so that images in a batch can be preprocessed in parallel.
+	 */
+	protected class Preprocessing {
+		// Resizes input image for the network
+		protected ClipAndReduce<Planar<GrayF32>> massage = new ClipAndReduce<>(true,imageType);
+
+		//  Input image adjusted to network input size
+		protected Planar<GrayF32> imageRgb = new Planar<>(GrayF32.class,imageSize,imageSize,3);
+
+		/**
+		 * Massage the input image into a format recognized by the network
+		 */
+		public Planar<GrayF32> process( Planar<GrayF32> image ) {
+			// Shrink the image to input size
+			if( image.width == imageSize && image.height == imageSize ) {
+				this.imageRgb.setTo(image);
+			} else if( image.width < imageSize || image.height < imageSize ) {
+				throw new IllegalArgumentException("Image width or height is too small");
+			} else {
+				massage.massage(image,imageRgb);
+			}
+			return imageRgb;
+		}
+	}
+
+	/**
+	 * Results for a single image in a batch
+	 */
+	public static class BatchResult {
+		public int best;
+		public FastQueue<Score> scores = new FastQueue<>(Score.class,true);
 	}
 }
@@ -54,9 +54,6 @@ public class ImageClassifierNiNImageNet extends BaseImageClassifier {
 //	int imageSize = 256;
 	static final int imageCrop = 224;
 
-	// Input image with the bands in the correct order
-	Planar<GrayF32> imageBgr = new Planar<>(GrayF32.class,imageCrop,imageCrop,3);
-
 	public ImageClassifierNiNImageNet() {
 		super(imageCrop);
 	}
@@ -97,25 +94,36 @@ public class ImageClassifierNiNImageNet extends BaseImageClassifier {
 	}
 
 
+	@Override
+	protected Preprocessing createPreprocessing() {
+		return new PreprocessingBgr();
+	}
+
 	/**
-	 * Massage the input image into a format recognized by the network
+	 * Converts the image into BGR format and normalizes it
 	 */
-	protected Planar<GrayF32> preprocess(Planar<GrayF32> image) {
-		super.preprocess(image);
+	class PreprocessingBgr extends Preprocessing {
+		// Input image with the bands in the correct order
+		Planar<GrayF32> imageBgr = new Planar<>(GrayF32.class,imageCrop,imageCrop,3);
 
-		// image net is BGR color order
-		imageBgr.bands[0] = imageRgb.bands[2];
-		imageBgr.bands[1] = imageRgb.bands[1];
-		imageBgr.bands[2] = imageRgb.bands[0];
+		@Override
+		public Planar<GrayF32> process(Planar<GrayF32> image) {
+			super.process(image);
 
-		// image needs to be between 0 and 1
-		GPixelMath.divide(imageBgr,255,imageBgr);
+			// image net is BGR color order
+			imageBgr.bands[0] = imageRgb.bands[2];
+			imageBgr.bands[1] = imageRgb.bands[1];
+			imageBgr.bands[2] = imageRgb.bands[0];
 
-		// Normalize the image's statistics
-		for (int band = 0; band < 3; band++) {
-			DataManipulationOps.normalize(imageBgr.getBand(band),mean[band],stdev[band]);
-		}
+			// image needs to be between 0 and 1
+			GPixelMath.divide(imageBgr,255,imageBgr);
+
+			// Normalize the image's statistics
+			for (int band = 0; band < 3; band++) {
+				DataManipulationOps.normalize(imageBgr.getBand(band),mean[band],stdev[band]);
+			}
 
-		return imageBgr;
+			return imageBgr;
+		}
 	}
 }
@@ -49,9 +49,8 @@ public class ImageClassifierVggCifar10 extends BaseImageClassifier {
 
 	static final int inputSize = 32;
 
-	Planar<GrayF32> imageYuv = new Planar<>(GrayF32.class,inputSize,inputSize,3);
-
-	ImageLocalNormalization<GrayF32> localNorm;
+	// border used when locally normalizing the image
+	BorderType borderType;
 	YuvStatistics stats;
 	Kernel1D_F32 kernel;
 
@@ -79,22 +78,34 @@ public class ImageClassifierVggCifar10 extends BaseImageClassifier {
 		network = sequence.createForward(3,inputSize,inputSize);
 		tensorOutput = new Tensor_F32(WI(1,network.getOutputShape()));
 
-		BorderType type = BorderType.valueOf(stats.border);
-		localNorm = new ImageLocalNormalization<>(GrayF32.class, type);
+		borderType = BorderType.valueOf(stats.border);
 		kernel = DataManipulationOps.create1D_F32(stats.kernel);
 	}
 
 	@Override
-	protected Planar<GrayF32> preprocess(Planar<GrayF32> image) {
-		super.preprocess(image);
+	protected Preprocessing createPreprocessing() {
+		return new PreprocessingYuv();
+	}
+
+	/**
+	 * Converts the image into YUV and normalizes it
+	 */
+	class PreprocessingYuv extends Preprocessing {
+		Planar<GrayF32> imageYuv = new Planar<>(GrayF32.class,inputSize,inputSize,3);
+		ImageLocalNormalization<GrayF32> localNorm = new ImageLocalNormalization<>(GrayF32.class, borderType);
+
+		@Override
+		public Planar<GrayF32> process(Planar<GrayF32> image) {
+			super.process(image);
 
-		ColorYuv.rgbToYuv(imageRgb, imageYuv);
+			ColorYuv.rgbToYuv(imageRgb, imageYuv);
 
-		// Normalize the image
-		localNorm.zeroMeanStdOne(kernel, imageYuv.getBand(0),255.0,1e-4, imageYuv.getBand(0));
-		DataManipulationOps.normalize(imageYuv.getBand(1), (float)stats.meanU, (float)stats.stdevU);
-		DataManipulationOps.normalize(imageYuv.getBand(2), (float)stats.meanV, (float)stats.stdevV);
+			// Normalize the image
+			localNorm.zeroMeanStdOne(kernel, imageYuv.getBand(0),255.0,1e-4, imageYuv.getBand(0));
+			DataManipulationOps.normalize(imageYuv.getBand(1), (float)stats.meanU, (float)stats.stdevU);
+			DataManipulationOps.normalize(imageYuv.getBand(2), (float)stats.meanV, (float)stats.stdevV);
 
-		return imageYuv;
+			return imageYuv;
+		}
 	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.deepboof;
 
+import boofcv.abst.scene.ImageClassifier;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.Planar;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.Random;
 
 import static deepboof.misc.TensorOps.WI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -64,6 +66,46 @@ public abstract class CheckBaseImageClassifier {
 		assertTrue(best>=0 && best < numCategories);
 	}
 
+	/**
+	 * Classifying a batch should produce the same results as classifying each image individually
+	 */
+	@Test
+	public void classifyBatch() {
+		List<Planar<GrayF32>> images = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Planar<GrayF32> input = createImage();
+			GImageMiscOps.fillUniform(input,rand,0,255);
+			images.add(input);
+		}
+
+		BaseImageClassifier classifier = createClassifier();
+		createDummyNetwork(classifier, images.get(0).width, images.get(0).height);
+
+		// make sure multiple batches are processed
+		classifier.setBatchSize(2);
+		classifier.classify(images);
+
+		for (int i = 0; i < images.size(); i++) {
+			int expectedBest = classifier.getBestResult(i);
+			List<ImageClassifier.Score> expectedAll = new ArrayList<>();
+			for( ImageClassifier.Score s : classifier.getAllResults(i) ) {
+				ImageClassifier.Score c = new ImageClassifier.Score();
+				c.set(s.score,s.category);
+				expectedAll.add(c);
+			}
+
+			classifier.classify(images.get(i));
+			assertEquals(expectedBest,classifier.getBestResult());
+
+			List<ImageClassifier.Score> found = classifier.getAllResults();
+			assertEquals(expectedAll.size(),found.size());
+			for (int j = 0; j < found.size(); j++) {
+				assertEquals(expectedAll.get(j).category,found.get(j).category);
+				assertEquals(expectedAll.get(j).score,found.get(j).score,1e-4);
+			}
+		}
+	}
+
 	public abstract Planar<GrayF32> createImage();
 
 	public abstract BaseImageClassifier createClassifier();
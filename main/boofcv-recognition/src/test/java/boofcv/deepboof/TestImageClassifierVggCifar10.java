@@ -18,7 +18,6 @@
 
 package boofcv.deepboof;
 
-import boofcv.alg.filter.stat.ImageLocalNormalization;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.Planar;
@@ -50,7 +49,7 @@ public class TestImageClassifierVggCifar10 extends CheckBaseImageClassifier {
 		alg.stats.kernel = new double[]{0.1,0.5,0.1};
 		alg.stats.kernelOffset = 1;
 
-		alg.localNorm = new ImageLocalNormalization<>(GrayF32.class, BorderType.EXTENDED);
+		alg.borderType = BorderType.EXTENDED;
 		alg.kernel = DataManipulationOps.create1D_F32(alg.stats.kernel);
 
 		return alg;
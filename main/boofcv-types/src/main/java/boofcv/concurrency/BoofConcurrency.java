@@ -18,14 +18,25 @@
 
 package boofcv.concurrency;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
  * Location of controls for turning on and off concurrent (i.e. threaded) algorithms.
  *
+ * Loops with fewer iterations than {@link #setMinimumIterations(int) minimum iterations} are processed in the
+ * calling thread. Kernels which know how much work each index is, e.g. the number of pixels in a row, should use
+ * {@link #loopForWork} or {@link #loopBlocksWork} instead. These process loops with less than
+ * {@link #setMinimumWork(int) minimum work} in the calling thread and never split a loop into blocks with less
+ * work than that, so small images skip the overhead of the thread pool while large images are still split. The
+ * minimum work can be measured once at startup by {@link #calibrateMinimumWork()}. In all cases the decision only
+ * depends on the size of the loop so the same loop is always processed the same way.
+ *
  * -Djava.util.concurrent.ForkJoinPool.common.parallelism=16
  *
  * @author Peter Abeles
@@ -39,6 +50,15 @@ public class BoofConcurrency {
 	// Custom thread pool for streams so that the number of threads can be controlled
 	private static ForkJoinPool pool = new ForkJoinPool();
 
+	// Pool which has been assigned to the calling thread by runWith(). Overrides the global pool.
+	private static final ThreadLocal<ForkJoinPool> localPool = new ThreadLocal<>();
+
+	// Loops with fewer iterations than this are run in the calling thread
+	private static volatile int minimumIterations = 2;
+
+	// Minimum amount of work, in elementary operations such as processing one pixel, a block must have
+	private static volatile int minimumWork = 50_000;
+
 	public static void setMaxThreads( int maxThreads ) {
 		pool = new ForkJoinPool(maxThreads);
 	}
@@ -47,38 +67,246 @@ public class BoofConcurrency {
 	 * Returns the maximum number of threads which can be run at once in this pool
 	 */
 	public static int getMaxThreads() {
-		return pool.getParallelism();
+		return getPool().getParallelism();
+	}
+
+	/**
+	 * Specifies the minimum number of iterations a loop in {@link #loopFor} needs to have before it's split across
+	 * threads. Loops with fewer iterations are run in the calling thread. The default of 2 only runs a single
+	 * iteration in the calling thread, which is safe for loops with expensive iterations. Applications which
+	 * process small images, where each row is cheap, can increase it, e.g. to 200, so that rows loops skip the
+	 * overhead of the thread pool. Kernels which know their own cost should use
+	 * {@link #loopBlocks(int, int, int, IntRangeConsumer)} with a minimum block size instead.
+	 */
+	public static void setMinimumIterations( int iterations ) {
+		if( iterations < 1 )
+			throw new IllegalArgumentException("Minimum iterations must be at least 1");
+		minimumIterations = iterations;
+	}
+
+	public static int getMinimumIterations() {
+		return minimumIterations;
+	}
+
+	/**
+	 * Specifies the minimum amount of work a block needs to have in {@link #loopForWork} and {@link #loopBlocksWork}.
+	 * Work is measured in elementary operations, e.g. processing a single pixel in a convert or threshold.
+	 * The default of 50,000 means a 160x120 image is processed in the calling thread while a 640x480 image
+	 * is split into several blocks.
+	 *
+	 * @see #calibrateMinimumWork()
+	 */
+	public static void setMinimumWork( int work ) {
+		if( work < 1 )
+			throw new IllegalArgumentException("Minimum work must be at least 1");
+		minimumWork = work;
+	}
+
+	public static int getMinimumWork() {
+		return minimumWork;
+	}
+
+	/**
+	 * Measures the overhead of dispatching blocks to the thread pool and how long an elementary operation takes,
+	 * then selects the {@link #setMinimumWork(int) minimum work} so that a block is only created when it's worth
+	 * more than the overhead. Should be called once at startup after the number of threads has been specified.
+	 * Afterwards the selected value is fixed, so the same loop is always processed the same way.
+	 *
+	 * @return The selected minimum work
+	 */
+	public static int calibrateMinimumWork() {
+		final ForkJoinPool pool = getPool();
+		int numThreads = pool.getParallelism();
+		if( numThreads <= 1 ) {
+			// there's nothing to gain
+			minimumWork = Integer.MAX_VALUE;
+			return minimumWork;
+		}
+
+		// Reference operation. Comparable to a convert or threshold of a single pixel
+		byte[] data = new byte[100_000];
+		int[] sum = new int[1];
+		IntRangeConsumer reference = (i0,i1) -> {
+			int total = 0;
+			for (int i = i0; i < i1; i++) {
+				total += data[i] & 0xFF;
+			}
+			sum[0] += total;
+		};
+
+		// warm up the JIT and the pool's threads, then use the median
+		int warmup = 20, trials = 51;
+		long[] overhead = new long[trials];
+		long[] serial = new long[trials];
+		for (int trial = 0; trial < warmup+trials; trial++) {
+			long time0 = System.nanoTime();
+			invoke(pool,new IntRangeTask(0,numThreads,1,(i0,i1)->{}));
+			long time1 = System.nanoTime();
+			reference.accept(0,data.length);
+			long time2 = System.nanoTime();
+			if( trial >= warmup ) {
+				overhead[trial-warmup] = time1-time0;
+				serial[trial-warmup] = time2-time1;
+			}
+		}
+		Arrays.sort(overhead);
+		Arrays.sort(serial);
+		double nanoPerWork = Math.max(1,serial[trials/2])/(double)data.length;
+
+		// A loop that takes T in the calling thread takes approximately T/numThreads + overhead in the pool.
+		// Require twice the break even point so that noise doesn't make it slower.
+		double breakEven = overhead[trials/2]*numThreads/(double)(numThreads-1);
+		minimumWork = (int)Math.max(1,Math.min(Integer.MAX_VALUE,2.0*breakEven/nanoPerWork));
+		return minimumWork;
+	}
+
+	/**
+	 * Returns the pool which concurrent algorithms invoked from the current thread will run inside of.
+	 * Selected in the following order: 1) pool assigned by {@link #runWith}, 2) if the current thread is a
+	 * worker inside of a custom pool then that pool, 3) the global pool.
+	 */
+	public static ForkJoinPool getPool() {
+		ForkJoinPool local = localPool.get();
+		if( local != null )
+			return local;
+
+		// Nested calls from inside a scoped pool's worker threads should stay inside that pool
+		if( Thread.currentThread() instanceof ForkJoinWorkerThread ) {
+			ForkJoinPool current = ForkJoinTask.getPool();
+			if( current != null && current != ForkJoinPool.commonPool() )
+				return current;
+		}
+		return pool;
+	}
+
+	/**
+	 * Runs the task in the calling thread with all concurrent algorithms invoked by it using the specified pool
+	 * instead of the global one. This allows independent pipelines to run their concurrent algorithms in
+	 * isolated pools. Calls can be nested and the previous pool is restored once the task finishes.
+	 *
+	 * @param pool The pool which concurrent algorithms should use while the task is running
+	 * @param task The task which is to be run
+	 */
+	public static void runWith( ForkJoinPool pool , Runnable task ) {
+		ForkJoinPool previous = localPool.get();
+		localPool.set(pool);
+		try {
+			task.run();
+		} finally {
+			if( previous == null )
+				localPool.remove();
+			else
+				localPool.set(previous);
+		}
+	}
+
+	/**
+	 * Runs the task inside the pool. If the calling thread is already a worker in the pool then the task is
+	 * invoked directly, which lets the worker help process it instead of blocking while it waits. An exception
+	 * thrown by a worker is rethrown in the calling thread.
+	 */
+	private static <T> T invoke( ForkJoinPool pool , ForkJoinTask<T> task ) {
+		if( ForkJoinTask.getPool() == pool ) {
+			return task.invoke();
+		}
+		try {
+			return pool.submit(task).get();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			// throw the same exception as when the task is invoked directly
+			Throwable cause = e.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException)cause;
+			if( cause instanceof Error )
+				throw (Error)cause;
+			throw new RuntimeException(cause);
+		}
 	}
 
 	/**
 	 * Concurrent for loop. Each loop with spawn as a thread up to the maximum number of threads.
 	 *
+	 * Loops with fewer than {@link #getMinimumIterations() minimum iterations} are processed in the calling thread.
+	 * Exceptions thrown by the consumer are rethrown in the calling thread either way.
+	 *
 	 * @param start starting value, inclusive
 	 * @param endExclusive ending value, exclusive
 	 * @param consumer The consumer
 	 */
 	public static void loopFor(int start , int endExclusive , IntConsumer consumer ) {
-		try {
-			pool.submit(() ->IntStream.range(start, endExclusive).parallel().forEach(consumer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+		if( endExclusive-start < minimumIterations ) {
+			for (int i = start; i < endExclusive; i++) {
+				consumer.accept(i);
+			}
+			return;
 		}
+
+		invoke(getPool(),ForkJoinTask.adapt(() ->IntStream.range(start, endExclusive).parallel().forEach(consumer)));
 	}
 
 	/**
 	 * Concurrent for loop. Each loop with spawn as a thread up to the maximum number of threads.
 	 *
+	 * Small loops are processed in the calling thread. See {@link #loopFor(int, int, IntConsumer)}.
+	 *
 	 * @param start starting value, inclusive
 	 * @param endExclusive ending value, exclusive
 	 * @param consumer The consumer
 	 */
 	public static void loopFor(int start , int endExclusive , int step , IntConsumer consumer ) {
-		try {
-			int range = endExclusive-start;
-			pool.submit(() ->IntStream.range(0, range/step).parallel().forEach(i-> consumer.accept(start+i*step))).get();
-		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+		int N = (endExclusive-start)/step;
+		if( N < minimumIterations ) {
+			for (int i = 0; i < N; i++) {
+				consumer.accept(start+i*step);
+			}
+			return;
 		}
+
+		invoke(getPool(),ForkJoinTask.adapt(() ->IntStream.range(0, N).parallel().forEach(i-> consumer.accept(start+i*step))));
+	}
+
+	/**
+	 * Concurrent for loop where the amount of work for each index is known. Consecutive indexes are grouped into
+	 * blocks with at least {@link #getMinimumWork() minimum work} and the blocks are processed by the thread pool.
+	 * If the whole loop has less work than that it's processed in the calling thread.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param workPerIndex Approximate work for a single index, e.g. the number of pixels in a row
+	 * @param consumer The consumer
+	 */
+	public static void loopForWork(int start , int endExclusive , int workPerIndex , IntConsumer consumer ) {
+		loopBlocksWork(start,endExclusive,workPerIndex,(i0,i1)->{
+			for (int i = i0; i < i1; i++) {
+				consumer.accept(i);
+			}
+		});
+	}
+
+	/**
+	 * Same as {@link #loopBlocks(int, int, int, IntRangeConsumer)} but the minimum block size is selected so that
+	 * each block has at least {@link #getMinimumWork() minimum work}. If the whole range has less work than
+	 * that it's processed in the calling thread.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param workPerIndex Approximate work for a single index, e.g. the number of pixels in a row
+	 * @param consumer The consumer
+	 */
+	public static void loopBlocksWork(int start , int endExclusive , int workPerIndex ,
+									  IntRangeConsumer consumer ) {
+		loopBlocks(start,endExclusive,minimumBlock(workPerIndex),consumer);
+	}
+
+	/**
+	 * Number of indexes a block needs to have to reach the minimum work
+	 */
+	static int minimumBlock( int workPerIndex ) {
+		int work = minimumWork;
+		if( workPerIndex <= 0 )
+			return 1;
+		return Math.max(1,(int)((work + (long)workPerIndex - 1)/workPerIndex));
 	}
 
 	/**
@@ -100,7 +328,7 @@ public class BoofConcurrency {
 	 */
 	public static void loopBlocks(int start , int endExclusive , int minBlock,
 								  IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = getPool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -111,11 +339,13 @@ public class BoofConcurrency {
 
 		int block = selectBlockSize(range,minBlock,numThreads);
 
-		try {
-			pool.submit(new IntRangeTask(start,endExclusive,block,consumer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			e.printStackTrace();
+		// Only one block. Process it in the calling thread and skip the overhead of the pool
+		if( block >= range ) {
+			consumer.accept(start,endExclusive);
+			return;
 		}
+
+		invoke(pool,new IntRangeTask(start,endExclusive,block,consumer));
 	}
 
 	static int selectBlockSize( int range , int minBlock , int numThreads ) {
@@ -134,7 +364,7 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static void loopBlocks(int start , int endExclusive , IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = getPool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -147,11 +377,13 @@ public class BoofConcurrency {
 		// exactly seemed to do better in the test cases
 		int blockSize = Math.max(1,range/numThreads);
 
-		try {
-			pool.submit(new IntRangeTask(start,endExclusive,blockSize,consumer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+		// Only one block. Process it in the calling thread and skip the overhead of the pool
+		if( blockSize >= range ) {
+			consumer.accept(start,endExclusive);
+			return;
 		}
+
+		invoke(pool,new IntRangeTask(start,endExclusive,blockSize,consumer));
 	}
 
 	/**
@@ -164,11 +396,7 @@ public class BoofConcurrency {
 	 * @return The sum
 	 */
 	public static Number sum(int start , int endExclusive , Class type, IntProducerNumber producer ) {
-		try {
-			return pool.submit(new IntOperatorTask.Sum(start,endExclusive,type,producer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
-		}
+		return invoke(getPool(),new IntOperatorTask.Sum(start,endExclusive,type,producer));
 	}
 
 	/**
@@ -181,11 +409,7 @@ public class BoofConcurrency {
 	 * @return The sum
 	 */
 	public static Number max(int start , int endExclusive , Class type, IntProducerNumber producer ) {
-		try {
-			return pool.submit(new IntOperatorTask.Max(start,endExclusive,type,producer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
-		}
+		return invoke(getPool(),new IntOperatorTask.Max(start,endExclusive,type,producer));
 	}
 
 	/**
@@ -198,11 +422,7 @@ public class BoofConcurrency {
 	 * @return The sum
 	 */
 	public static Number min(int start , int endExclusive , Class type, IntProducerNumber producer ) {
-		try {
-			return pool.submit(new IntOperatorTask.Min(start,endExclusive,type,producer)).get();
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
-		}
+		return invoke(getPool(),new IntOperatorTask.Min(start,endExclusive,type,producer));
 	}
 
 }
@@ -48,4 +48,9 @@ public abstract class ImageBorder<T extends ImageBase<T>> {
 	public abstract void getGeneral(int x, int y, double[] pixel);
 
 	public abstract void setGeneral(int x, int y, double[] pixel);
+
+	/**
+	 * Creates a copy of the border which can be used independently of this one. The image is not copied.
+	 */
+	public abstract ImageBorder<T> copy();
 }
@@ -68,4 +68,9 @@ public class ImageBorder1D_F32 extends ImageBorder_F32 implements ImageBorder1D
 	public void setOutside(int x, int y, float val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_F32 copy() {
+		return new ImageBorder1D_F32(rowWrap.copy(),colWrap.copy());
+	}
 }
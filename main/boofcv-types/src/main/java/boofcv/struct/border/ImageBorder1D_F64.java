@@ -68,4 +68,9 @@ public class ImageBorder1D_F64 extends ImageBorder_F64 implements ImageBorder1D
 	public void setOutside(int x, int y, double val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_F64 copy() {
+		return new ImageBorder1D_F64(rowWrap.copy(),colWrap.copy());
+	}
 }
@@ -70,4 +70,9 @@ public class ImageBorder1D_IL_S64 extends ImageBorder_IL_S64
 	public void setOutside(int x, int y, long[] pixel) {
 		image.unsafe_set(colWrap.getIndex(x), rowWrap.getIndex(y), pixel);
 	}
+
+	@Override
+	public ImageBorder1D_IL_S64 copy() {
+		return new ImageBorder1D_IL_S64(rowWrap.copy(),colWrap.copy());
+	}
 }
@@ -76,4 +76,9 @@ public class ImageBorder1D_S64
 	public void setOutside(int x, int y, long val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_S64 copy() {
+		return new ImageBorder1D_S64(rowWrap.copy(),colWrap.copy());
+	}
 }
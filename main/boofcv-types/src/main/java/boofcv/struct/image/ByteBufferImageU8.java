@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * 8-bit unsigned image, gray scale or interleaved, whose pixels are stored inside a {@link ByteBuffer} instead of
+ * a Java array. Frames from ffmpeg, javacv or webcam drivers are typically in direct buffers, which can't be
+ * referenced by {@link GrayU8} or {@link InterleavedU8}. Wrapping the frame with this class lets operations which
+ * support it, e.g. ConvertByteBufferImage and ThresholdImageOps, read the pixels without first copying the frame.
+ * </p>
+ *
+ * <p>
+ * Pixels are read with absolute gets, so the buffer's position and limit are never modified and the image
+ * can be read by multiple threads at once. The buffer is not owned by this class and must not be modified
+ * while an operation is reading it.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ByteBufferImageU8 {
+	/**
+	 * Buffer containing the pixels
+	 */
+	public ByteBuffer data;
+	/**
+	 * Index of the first pixel in the buffer
+	 */
+	public int startIndex;
+	/**
+	 * Number of bytes between the start of each row
+	 */
+	public int stride;
+	public int width;
+	public int height;
+	/**
+	 * Number of interleaved bands in each pixel. 1 for gray scale.
+	 */
+	public int numBands = 1;
+
+	public ByteBufferImageU8() {
+	}
+
+	/**
+	 * Wraps a gray scale frame. See {@link #wrap(ByteBuffer, int, int, int, int, int)}
+	 */
+	public ByteBufferImageU8( ByteBuffer data , int startIndex , int stride , int width , int height ) {
+		wrap(data,startIndex,stride,width,height,1);
+	}
+
+	/**
+	 * References the pixels inside the buffer. Nothing is copied.
+	 *
+	 * @param data Buffer containing 8-bit pixels
+	 * @param startIndex Index of the first pixel in the buffer, relative to its start
+	 * @param stride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of interleaved bands in each pixel
+	 * @throws IllegalArgumentException If the stride is too small or the image extends past the buffer's limit
+	 */
+	public void wrap( ByteBuffer data , int startIndex , int stride , int width , int height , int numBands ) {
+		checkBounds(data.limit(),startIndex,stride,width,height,numBands);
+		this.data = data;
+		this.startIndex = startIndex;
+		this.stride = stride;
+		this.width = width;
+		this.height = height;
+		this.numBands = numBands;
+	}
+
+	/**
+	 * Makes sure that every pixel of an image with the specified layout is inside an array or buffer of
+	 * the specified length.
+	 *
+	 * @param length Number of elements in the array or the buffer's limit
+	 * @throws IllegalArgumentException If the stride is too small or the image extends past the end
+	 */
+	public static void checkBounds( int length , int startIndex , int stride , int width , int height , int numBands ) {
+		if( width < 0 || height < 0 || numBands < 1 )
+			throw new IllegalArgumentException("Invalid shape. "+width+"x"+height+" bands="+numBands);
+		if( stride < width*numBands )
+			throw new IllegalArgumentException("Stride must be at least the width times the number of bands");
+		if( startIndex < 0 )
+			throw new IllegalArgumentException("Negative start index");
+		if( height == 0 || width == 0 )
+			return;
+		long last = startIndex + (long)stride*(height-1) + (long)width*numBands;
+		if( last > length )
+			throw new IllegalArgumentException("Image extends past the end of the buffer. "+last+" > "+length);
+	}
+
+	/**
+	 * Returns the value of a pixel in a gray scale image
+	 */
+	public int get( int x , int y ) {
+		if( !isInBounds(x,y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: ( " + x + " , " + y + " )");
+		return data.get(startIndex + y*stride + x) & 0xFF;
+	}
+
+	/**
+	 * Returns the value of one band in a pixel
+	 */
+	public int getBand( int x , int y , int band ) {
+		if( !isInBounds(x,y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: ( " + x + " , " + y + " )");
+		if( band < 0 || band >= numBands )
+			throw new ImageAccessException("Invalid band requested.");
+		return data.get(startIndex + y*stride + x*numBands + band) & 0xFF;
+	}
+
+	public final boolean isInBounds( int x , int y ) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * True if the pixels are inside a direct buffer and can't be accessed as a Java array
+	 */
+	public boolean isDirect() {
+		return data.isDirect();
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getNumBands() {
+		return numBands;
+	}
+}
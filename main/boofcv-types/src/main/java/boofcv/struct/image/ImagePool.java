@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.util.*;
+
+/**
+ * Thread safe pool of images which can be shared between algorithms. Instead of each algorithm owning its own
+ * scratch images they are borrowed at the start of processing and recycled once finished. Images are recycled
+ * by type and shape. If no image with the exact shape is available then an image of the same type whose
+ * memory is large enough is reshaped, avoiding an allocation when the resolution decreases.
+ *
+ * <p>At most {@link #setMaxAvailable(int) maxAvailable} recycled images are kept. Once that's exceeded the image
+ * which has gone unused the longest is discarded, so memory doesn't grow without bound when the requested
+ * shapes keep changing.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+	// recycled images for each image type
+	Map<Key,List<Entry>> available = new HashMap<>();
+
+	// number of pixels each borrowed image can hold without declaring new memory
+	Map<ImageBase,Integer> borrowed = new IdentityHashMap<>();
+
+	// maximum number of recycled images which are kept
+	int maxAvailable = 20;
+
+	// incremented each time an image is recycled. Used to find the image which has been unused the longest
+	long recycleCount = 0;
+
+	/**
+	 * Returns an image with the specified type and shape. A recycled image is returned if one is available,
+	 * otherwise a new one is created.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Image with the requested shape. Pixel values are not defined.
+	 */
+	public synchronized <T extends ImageBase<T>> T borrow( ImageType<T> type , int width , int height ) {
+		List<Entry> list = available.get(new Key(type));
+
+		Entry best = null;
+		if( list != null ) {
+			int pixels = width*height;
+			for (int i = 0; i < list.size(); i++) {
+				Entry e = list.get(i);
+				if( e.image.width == width && e.image.height == height ) {
+					best = e;
+					break;
+				}
+				// select the smallest image which doesn't need to declare more memory
+				if( e.capacity >= pixels && (best == null || e.capacity < best.capacity ) ) {
+					best = e;
+				}
+			}
+		}
+
+		T image;
+		int capacity;
+		if( best == null ) {
+			image = type.createImage(width,height);
+			capacity = width*height;
+		} else {
+			list.remove(best);
+			image = (T)best.image;
+			image.reshape(width,height);
+			capacity = best.capacity;
+		}
+		borrowed.put(image,capacity);
+		return image;
+	}
+
+	/**
+	 * Returns an image to the pool so that it can be borrowed again. Images which were not created by
+	 * the pool can also be recycled, as long as they are not sub-images.
+	 *
+	 * @param image The image which is being returned. Must not be used after being recycled.
+	 * @throws IllegalArgumentException If it's a sub-image or the image has already been recycled
+	 */
+	public synchronized void recycle( ImageBase image ) {
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be recycled");
+
+		Key key = new Key(image.getImageType());
+		Integer capacity = borrowed.remove(image);
+		if( capacity == null && contains(available.get(key),image) )
+			throw new IllegalArgumentException("Image has already been recycled");
+
+		int pixels = image.width*image.height;
+
+		Entry e = new Entry();
+		e.image = image;
+		e.capacity = capacity == null ? pixels : Math.max(pixels,capacity);
+		e.order = recycleCount++;
+		available.computeIfAbsent(key,k->new ArrayList<>()).add(e);
+
+		trim(maxAvailable);
+	}
+
+	private static boolean contains( List<Entry> list , ImageBase image ) {
+		if( list == null )
+			return false;
+		for (int i = 0; i < list.size(); i++) {
+			if( list.get(i).image == image )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Recycles all the images
+	 */
+	public void recycle( ImageBase ...images ) {
+		for( ImageBase image : images ) {
+			recycle(image);
+		}
+	}
+
+	/**
+	 * Discards all the recycled images so that their memory can be freed. Images which are currently
+	 * borrowed can still be recycled.
+	 */
+	public synchronized void purge() {
+		available = new HashMap<>();
+	}
+
+	/**
+	 * Discards recycled images until no more than the specified number remain. The images which have gone unused
+	 * the longest are discarded first.
+	 *
+	 * @param maxAvailable Maximum number of recycled images which are kept
+	 */
+	public synchronized void trim( int maxAvailable ) {
+		int total = sizeAvailable();
+		while( total > maxAvailable ) {
+			List<Entry> oldestList = null;
+			int oldestIndex = -1;
+			for( List<Entry> list : available.values() ) {
+				for (int i = 0; i < list.size(); i++) {
+					if( oldestList == null || list.get(i).order < oldestList.get(oldestIndex).order ) {
+						oldestList = list;
+						oldestIndex = i;
+					}
+				}
+			}
+			oldestList.remove(oldestIndex);
+			total--;
+		}
+	}
+
+	/**
+	 * Specifies the maximum number of recycled images which are kept. If more are currently available then the
+	 * excess is discarded.
+	 */
+	public synchronized void setMaxAvailable( int maxAvailable ) {
+		if( maxAvailable < 0 )
+			throw new IllegalArgumentException("maxAvailable must be >= 0");
+		this.maxAvailable = maxAvailable;
+		trim(maxAvailable);
+	}
+
+	public synchronized int getMaxAvailable() {
+		return maxAvailable;
+	}
+
+	/**
+	 * Number of images which are available to be borrowed
+	 */
+	public synchronized int sizeAvailable() {
+		int total = 0;
+		for( List<Entry> list : available.values() ) {
+			total += list.size();
+		}
+		return total;
+	}
+
+	/**
+	 * Number of images which have been borrowed and not yet recycled
+	 */
+	public synchronized int sizeBorrowed() {
+		return borrowed.size();
+	}
+
+	private static class Entry {
+		ImageBase image;
+		int capacity;
+		long order;
+	}
+
+	/**
+	 * {@link ImageType} doesn't implement equals so a key is created from its fields
+	 */
+	private static class Key {
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands;
+
+		Key( ImageType type ) {
+			this.family = type.getFamily();
+			this.dataType = type.getDataType();
+			this.numBands = family == ImageType.Family.GRAY ? 1 : type.getNumBands();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if( !(o instanceof Key) )
+				return false;
+			Key k = (Key)o;
+			return family == k.family && dataType == k.dataType && numBands == k.numBands;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(family,dataType,numBands);
+		}
+	}
+}
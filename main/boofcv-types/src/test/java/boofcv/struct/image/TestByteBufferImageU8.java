@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestByteBufferImageU8 {
+	@Test
+	void wrap_get() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+		for (int i = 0; i < 100; i++) {
+			buffer.put(i,(byte)(i+200));
+		}
+		buffer.position(50);
+
+		ByteBufferImageU8 alg = new ByteBufferImageU8();
+		alg.wrap(buffer,5,14,4,6,3);
+		assertTrue(alg.isDirect());
+		assertEquals(4,alg.getWidth());
+		assertEquals(6,alg.getHeight());
+		assertEquals(3,alg.getNumBands());
+		assertEquals((5+14*2+3*3+1+200)&0xFF,alg.getBand(3,2,1));
+
+		// reading should not modify the buffer's position
+		assertEquals(50,buffer.position());
+
+		alg = new ByteBufferImageU8(buffer,5,14,4,6);
+		assertEquals((5+14*2+3+200)&0xFF,alg.get(3,2));
+	}
+
+	@Test
+	void get_outOfBounds() {
+		ByteBufferImageU8 alg = new ByteBufferImageU8(ByteBuffer.allocate(100),0,10,10,10);
+		assertThrows(ImageAccessException.class,()->alg.get(10,0));
+		assertThrows(ImageAccessException.class,()->alg.get(0,-1));
+		assertThrows(ImageAccessException.class,()->alg.getBand(0,0,1));
+	}
+
+	@Test
+	void checkBounds() {
+		// exactly fits. last row doesn't need the full stride
+		ByteBufferImageU8.checkBounds(5+12*3+10,5,12,10,4,1);
+		ByteBufferImageU8.checkBounds(0,0,12,0,0,1);
+
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageU8.checkBounds(5+12*3+9,5,12,10,4,1));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageU8.checkBounds(100,0,9,10,4,1));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageU8.checkBounds(100,0,10,5,4,3));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageU8.checkBounds(100,-1,10,5,4,1));
+		assertThrows(IllegalArgumentException.class,()->ByteBufferImageU8.checkBounds(100,0,10,5,4,0));
+
+		// wrap should check the limit
+		ByteBuffer buffer = ByteBuffer.allocate(100);
+		buffer.limit(50);
+		assertThrows(IllegalArgumentException.class,()->new ByteBufferImageU8(buffer,0,10,10,6));
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImagePool {
+	@Test
+	void borrow_new() {
+		ImagePool alg = new ImagePool();
+
+		GrayU8 a = alg.borrow(ImageType.single(GrayU8.class),10,20);
+		assertEquals(10,a.width);
+		assertEquals(20,a.height);
+		assertEquals(1,alg.sizeBorrowed());
+		assertEquals(0,alg.sizeAvailable());
+
+		Planar<GrayF32> b = alg.borrow(ImageType.pl(3,GrayF32.class),10,20);
+		assertEquals(3,b.getNumBands());
+		assertEquals(2,alg.sizeBorrowed());
+	}
+
+	@Test
+	void borrow_recycled() {
+		ImagePool alg = new ImagePool();
+
+		GrayU8 a = alg.borrow(ImageType.single(GrayU8.class),10,20);
+		alg.recycle(a);
+		assertEquals(0,alg.sizeBorrowed());
+		assertEquals(1,alg.sizeAvailable());
+
+		// different type so a new image should be created
+		GrayF32 b = alg.borrow(ImageType.single(GrayF32.class),10,20);
+		assertEquals(1,alg.sizeAvailable());
+
+		assertSame(a,alg.borrow(ImageType.single(GrayU8.class),10,20));
+		assertEquals(0,alg.sizeAvailable());
+		assertNotNull(b);
+	}
+
+	/**
+	 * A smaller image should reuse the memory of a larger image and not declare new memory
+	 */
+	@Test
+	void borrow_smaller() {
+		ImagePool alg = new ImagePool();
+
+		GrayU8 a = alg.borrow(ImageType.single(GrayU8.class),10,20);
+		byte[] data = a.data;
+		alg.recycle(a);
+
+		GrayU8 b = alg.borrow(ImageType.single(GrayU8.class),5,8);
+		assertSame(a,b);
+		assertSame(data,b.data);
+		assertEquals(5,b.width);
+		assertEquals(8,b.height);
+
+		// it should remember the original capacity after being recycled at the smaller shape
+		alg.recycle(b);
+		GrayU8 c = alg.borrow(ImageType.single(GrayU8.class),20,10);
+		assertSame(data,c.data);
+
+		// too large. new image
+		alg.recycle(c);
+		GrayU8 d = alg.borrow(ImageType.single(GrayU8.class),30,10);
+		assertNotSame(c,d);
+	}
+
+	@Test
+	void recycle_subimage() {
+		ImagePool alg = new ImagePool();
+		GrayU8 a = new GrayU8(10,20);
+		assertThrows(IllegalArgumentException.class,()->alg.recycle(a.subimage(0,0,5,5)));
+	}
+
+	@Test
+	void recycle_twice() {
+		ImagePool alg = new ImagePool();
+		GrayU8 a = alg.borrow(ImageType.single(GrayU8.class),10,20);
+		alg.recycle(a);
+		assertThrows(IllegalArgumentException.class,()->alg.recycle(a));
+		assertEquals(1,alg.sizeAvailable());
+
+		// same for an image which wasn't created by the pool
+		GrayU8 b = new GrayU8(5,5);
+		alg.recycle(b);
+		assertThrows(IllegalArgumentException.class,()->alg.recycle(b));
+		assertEquals(2,alg.sizeAvailable());
+
+		// once borrowed again it can be recycled
+		assertSame(a,alg.borrow(ImageType.single(GrayU8.class),10,20));
+		alg.recycle(a);
+		assertEquals(2,alg.sizeAvailable());
+	}
+
+	/**
+	 * The number of available images should never exceed the maximum and the oldest should be discarded
+	 */
+	@Test
+	void maxAvailable() {
+		ImagePool alg = new ImagePool();
+		alg.setMaxAvailable(3);
+
+		GrayU8 a = new GrayU8(10,20);
+		GrayF32 b = new GrayF32(10,20);
+		GrayU8 c = new GrayU8(10,20);
+		GrayU8 d = new GrayU8(10,20);
+		alg.recycle(a,b,c,d);
+		assertEquals(3,alg.sizeAvailable());
+
+		// a was recycled first so it should have been discarded
+		ImageType<GrayU8> type = ImageType.single(GrayU8.class);
+		GrayU8 found0 = alg.borrow(type,10,20);
+		GrayU8 found1 = alg.borrow(type,10,20);
+		assertTrue((found0==c && found1==d) || (found0==d && found1==c));
+		assertSame(b,alg.borrow(ImageType.single(GrayF32.class),10,20));
+		assertEquals(0,alg.sizeAvailable());
+
+		// lowering the maximum should trim right away
+		alg.recycle(found0,found1,b);
+		alg.setMaxAvailable(1);
+		assertEquals(1,alg.sizeAvailable());
+		assertSame(b,alg.borrow(ImageType.single(GrayF32.class),10,20));
+	}
+
+	@Test
+	void trim() {
+		ImagePool alg = new ImagePool();
+		GrayU8 a = new GrayU8(10,20);
+		GrayU8 b = new GrayU8(10,20);
+		alg.recycle(a,b);
+		alg.trim(5);
+		assertEquals(2,alg.sizeAvailable());
+		alg.trim(1);
+		assertEquals(1,alg.sizeAvailable());
+		assertSame(b,alg.borrow(ImageType.single(GrayU8.class),10,20));
+		alg.trim(0);
+		assertEquals(0,alg.sizeAvailable());
+	}
+
+	@Test
+	void purge() {
+		ImagePool alg = new ImagePool();
+		alg.recycle(new GrayU8(10,20), new GrayU8(5,2));
+		assertEquals(2,alg.sizeAvailable());
+		alg.purge();
+		assertEquals(0,alg.sizeAvailable());
+	}
+}